@@ -29,12 +29,16 @@ public interface AbstractLanguage{
 	public String saveFail();
 	/** Get the text for displaying when saving to a file succeeds */
 	public String saveSuccess();
+	/** Get the text for displaying while a file is being saved */
+	public String saving();
 	/** Get the text for displaying a title label which means to load something */
 	public String load();
 	/** Get the text for displaying when loading from a file fails */
 	public String loadFail();
 	/** Get the text for displaying when loading from a file succeeds */
 	public String loadSuccess();
+	/** Get the text for displaying while a file is being loaded */
+	public String loading();
 	/** Get the text for displaying a title label which means to export something */
 	public String export();
 	/** Get the text for displaying when exporting to a file fails */
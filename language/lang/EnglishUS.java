@@ -21,12 +21,16 @@ public class EnglishUS implements AbstractLanguage{
 	@Override
 	public String saveSuccess(){ return this.save().concat(" successful"); }
 	@Override
+	public String saving(){ return "Saving..."; }
+	@Override
 	public String load(){ return "Load"; }
 	@Override
 	public String loadFail(){ return this.load().concat(" failed"); }
 	@Override
 	public String loadSuccess(){ return this.load().concat(" successful"); }
 	@Override
+	public String loading(){ return "Loading..."; }
+	@Override
 	public String export(){ return "Export"; }
 	@Override
 	public String exportFail(){ return this.export().concat(" failed"); }
@@ -5,14 +5,22 @@ import javax.swing.JFrame;
 import appMain.gui.ZabGui;
 import appUtils.ZabAppSettings;
 import appUtils.ZabConstants;
+import appUtils.ZabConverter;
 
 /**
- * The main file used to start up the primary Zab GUI application
+ * The main file used to start up the primary Zab GUI application.<br>
+ * If the first argument is {@link ZabConverter#CONVERT_ARG}, files are converted without starting the gui, see {@link ZabConverter}
  * @author zrona
  */
 public final class Main{
 
 	public static void main(String[] args){
+		// Convert files without the gui if asked for on the command line
+		if(ZabConverter.isConvert(args)){
+			ZabConverter.main(args);
+			return;
+		}
+		
 		// Initialize settings before doing anything else
 		ZabAppSettings.init();
 
@@ -270,9 +270,14 @@ public class ZabGui extends JFrame{
 				if(!ConfirmNotSavedPopup.show()){
 					return;
 				}
+				// The user chose to throw away the changes, so they must not be recovered from the journal when the file is opened again
+				getEditorFrame().getTabScreen().getUndoStack().discardJournal();
+			}
+			// Otherwise, terminate the program, only if this is a normal build, once every save and compaction waiting on the file worker has been written
+			if(ZabConstants.BUILD_NORMAL){
+				getEditorFrame().getFileWorker().waitForAll();
+				System.exit(0);
 			}
-			// Otherwise, terminate the program, only if this is a normal build
-			if(ZabConstants.BUILD_NORMAL) System.exit(0);
 		}
 		@Override
 		public void windowClosed(WindowEvent e){}
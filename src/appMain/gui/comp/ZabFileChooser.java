@@ -110,9 +110,18 @@ public class ZabFileChooser extends JFileChooser{
 	
 	/**
 	 * Save the {@link Tab} of {@link #getGui()} to the file selected by the user
-	 * @return true if the save was successful, false otherwise
+	 * @return true if the save was successful, or was started in the background, false otherwise
 	 */
 	public boolean saveTab(){
+		return this.saveTab((Runnable)null);
+	}
+	
+	/**
+	 * Save the {@link Tab} of {@link #getGui()} to the file selected by the user
+	 * @param onSaved Run on the gui thread if the save is successful, can be null
+	 * @return true if the save was successful, or was started in the background, false otherwise
+	 */
+	public boolean saveTab(Runnable onSaved){
 		this.filePrep(this.getLastLocation());
 		// Set the filter to only use .zab files
 		this.setFileFilter(this.getZabFileFilter());
@@ -132,28 +141,49 @@ public class ZabFileChooser extends JFileChooser{
 		this.saveCurrentLocation();
 		
 		// Save the file
-		return this.saveTab(file);
+		return this.saveTab(file, onSaved);
 	}
 	
 	/**
 	 * Save the tab currently loaded by the {@link EditorFrame} of {@link #getGui()} to the given file. 
 	 * This method assumes the file is a valid file, if anything goes wrong with saving the file, this method returns false.
 	 * @param f The {@link File} to use
-	 * @return true if the save was successful, false otherwise
+	 * @return true if the save was successful, or was started in the background, false otherwise
 	 */
 	public boolean saveTab(File f){
+		return this.saveTab(f, null);
+	}
+	
+	/**
+	 * Save the tab currently loaded by the {@link EditorFrame} of {@link #getGui()} to the given file, 
+	 * 	see {@link EditorFrame#saveInBackground(File, Runnable)}. 
+	 * This method assumes the file is a valid file, if anything goes wrong with saving the file, this method returns false.
+	 * @param f The {@link File} to use
+	 * @param onSaved Run on the gui thread if the save is successful, can be null
+	 * @return true if the save was successful, or was started in the background, false otherwise
+	 */
+	public boolean saveTab(File f, Runnable onSaved){
 		// Ensure the file has an appropriate extension
 		f = FileUtils.extendToZab(f);
 
 		// Save the tab
-		return this.getGui().getEditorFrame().save(f);
+		return this.getGui().getEditorFrame().saveInBackground(f, onSaved);
 	}
 
 	/**
 	 * Load the {@link Tab} of {@link #gui} from the file selected by the user
-	 * @return true if the load was successful, false otherwise
+	 * @return true if the load was successful, or was started in the background, false otherwise
 	 */
 	public boolean loadTab(){
+		return this.loadTab(null);
+	}
+	
+	/**
+	 * Load the {@link Tab} of {@link #gui} from the file selected by the user, see {@link EditorFrame#loadInBackground(File, Runnable)}
+	 * @param onLoaded Run on the gui thread if the load is successful, can be null
+	 * @return true if the load was successful, or was started in the background, false otherwise
+	 */
+	public boolean loadTab(Runnable onLoaded){
 		this.filePrep(this.getLastLocation());
 		// Set the filter to only use .zab files
 		this.setFileFilter(this.getZabFileFilter());
@@ -169,7 +199,7 @@ public class ZabFileChooser extends JFileChooser{
 		this.saveCurrentLocation();
 		
 		// Perform the load
-		return this.getGui().getEditorFrame().load(this.getSelectedFile());
+		return this.getGui().getEditorFrame().loadInBackground(this.getSelectedFile(), onLoaded);
 	}
 	
 	/**
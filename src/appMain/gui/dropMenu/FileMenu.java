@@ -7,6 +7,7 @@ import java.io.File;
 import appMain.gui.ZabGui;
 import appMain.gui.comp.ZabFileChooser;
 import appMain.gui.editor.paint.TabPainter;
+import appMain.gui.editor.paint.event.EditorEventStack;
 import appMain.gui.export.ExportDialog;
 import gui.ConfirmNotSavedPopup;
 import gui.GuiGenerator;
@@ -171,8 +172,11 @@ public class FileMenu extends ZabMenu{
 	private boolean confirmFileNotSaved(){
 		// If the editor is not saved, first confirm that the user wants to continue and delete their old work
 		// If the do not continue, fail the load
-		if(!this.getGui().getEditorFrame().getTabScreen().getUndoStack().isSaved()){
+		EditorEventStack stack = this.getGui().getEditorFrame().getTabScreen().getUndoStack();
+		if(!stack.isSaved()){
 			if(!ConfirmNotSavedPopup.show()) return false;
+			// The user chose to throw away the changes, so they must not be recovered from the journal when the file is opened again
+			stack.discardJournal();
 		}
 		return true;
 	}
@@ -196,8 +200,8 @@ public class FileMenu extends ZabMenu{
 	
 	/**
 	 * Quickly save the current {@link Tab} to the current loaded file. 
-	 * Or, if no file is loaded, save the file as.
-	 * @return true on a successful save, false otherwise
+	 * Or, if no file is loaded, save the file as. The file is saved in the background, see {@link appMain.gui.editor.frame.EditorFrame#saveInBackground(File, Runnable)}
+	 * @return true on a successful save, or a save started in the background, false otherwise
 	 */
 	public boolean save(){
 		ZabFileChooser choose = getFileChooser();
@@ -210,32 +214,38 @@ public class FileMenu extends ZabMenu{
 	}
 	
 	/**
-	 * Save the current {@link Tab} as a file, opening the dialog and saving the file
-	 * @return true on a successful save, false otherwise
+	 * Save the current {@link Tab} as a file, opening the dialog and saving the file. 
+	 * The file becomes the loaded file once the save finishes successfully
+	 * @return true on a successful save, or a save started in the background, false otherwise
 	 */
 	public boolean saveAs(){
 		// If the file is saved successfully, grab the file and use it as the one to load
-		ZabFileChooser choose = this.getFileChooser();
-		boolean success = choose.saveTab();
-		if(success) this.setLoadedFile(choose.getSelectedFile());
-		
-		return success;
+		final ZabFileChooser choose = this.getFileChooser();
+		return choose.saveTab(new Runnable(){
+			@Override
+			public void run(){
+				setLoadedFile(choose.getSelectedFile());
+			}
+		});
 	}
 	
 	/**
 	 * Load a tab from a file by opening the dialog box and prompting the user to select a file. 
-	 * If the load succeeds, the loaded file will be used as the file to save to
-	 * @return true if the load succeeded, false otherwise
+	 * If the load succeeds, the loaded file will be used as the file to save to. 
+	 * The file is loaded in the background, see {@link appMain.gui.editor.frame.EditorFrame#loadInBackground(File, Runnable)}
+	 * @return true if the load succeeded, or was started in the background, false otherwise
 	 */
 	public boolean load(){
 		 // Don't load if the user decides not to after asking for confirmation
 		if(!this.confirmFileNotSaved()) return false;
 		
-		boolean success = this.getFileChooser().loadTab();
 		// If the load was successful, set the saved file
-		if(success) this.setLoadedFile(this.getFileChooser().getSelectedFile());
-		
-		return success;
+		return this.getFileChooser().loadTab(new Runnable(){
+			@Override
+			public void run(){
+				setLoadedFile(getFileChooser().getSelectedFile());
+			}
+		});
 	}
 	
 	/**
@@ -1,19 +1,36 @@
 package appMain.gui.editor.frame;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import javax.swing.SwingUtilities;
 
 import appMain.gui.ZabGui;
 import appMain.gui.comp.GuiFrame;
 import appMain.gui.comp.ZabFrame;
 import appMain.gui.comp.ZabPanel;
+import appMain.gui.editor.paint.Selection;
+import appMain.gui.editor.paint.SelectionList;
 import appMain.gui.editor.paint.TabPainter;
+import appMain.gui.editor.paint.event.EditorEventStack;
+import appMain.gui.editor.paint.event.RemovePlaceNotesEvent;
 import appMain.gui.layout.ZabLayoutHandler;
 import appUtils.ZabAppSettings;
+import appUtils.ZabBinaryFormat;
+import appUtils.ZabConstants;
 import appUtils.ZabFileSaver;
+import appUtils.ZabFileWorker;
+import appUtils.ZabJournal;
 import appUtils.settings.ZabSettings;
 import tab.InstrumentFactory;
 import tab.Tab;
+import tab.TabPosition;
+import tab.TabString;
+import tab.TabTextCache;
 import tab.TabTextExporter;
+import util.FileUtils;
 
 /**
  * A class holding the information for the primary editor for the Zab application
@@ -33,6 +50,12 @@ public class EditorFrame extends ZabFrame{
 	/** The {@link Tab} which is currently being edited by this {@link EditorFrame} */
 	private Tab openedTab;
 	
+	/** The {@link ZabFileWorker} which saves and loads {@link #openedTab} without freezing the gui */
+	private ZabFileWorker fileWorker;
+	
+	/** The {@link TabTextCache} used to export {@link #openedTab}, or null if it has not been exported yet */
+	private TabTextCache exportCache;
+	
 	/**
 	 * Create an {@link EditorFrame} at a default state
 	 * @param gui The {@link ZabGui} which this {@link EditorFrame} will be a part of
@@ -42,6 +65,8 @@ public class EditorFrame extends ZabFrame{
 		
 		// Set up the tab
 		this.openedTab = InstrumentFactory.guitarStandard();
+		this.fileWorker = new ZabFileWorker(ZabConstants.BACKGROUND_FILES);
+		this.exportCache = null;
 
 		// Set up the layout
 		ZabLayoutHandler.createVerticalLayout(this);
@@ -104,12 +129,22 @@ public class EditorFrame extends ZabFrame{
 	public Tab getOpenedTab(){
 		return this.openedTab;
 	}
-	/** @param tab See {@link #openedTab} */
+	/**
+	 * Replace {@link #openedTab}. If the tab is a different tab, the journal of the undo stack is closed,
+	 * 	as the journal records changes for the file of the old tab, see {@link EditorEventStack#closeJournal()}
+	 * @param tab See {@link #openedTab}
+	 */
 	public void setOpenedTab(Tab tab){
+		if(tab != this.openedTab) this.getTabScreen().getUndoStack().closeJournal();
 		this.openedTab = tab;
 		this.getTabScreen().setTab(tab);
 	}
 	
+	/** @return See {@link #fileWorker} */
+	public ZabFileWorker getFileWorker(){
+		return this.fileWorker;
+	}
+	
 	/**
 	 * Called when the {@link ZabGui} holding this {@link EditorFrame} 
 	 */
@@ -126,17 +161,25 @@ public class EditorFrame extends ZabFrame{
 	 */
 	public boolean save(File file){
 		boolean success;
+		ByteBuffer bytes = null;
 		
 		// Don't save the tab if it is null
 		Tab tab = this.getOpenedTab();
-		if(tab == null) success = false;
+		if(tab == null || file == null) success = false;
 		else{
-			// Perform the save
-			success = ZabFileSaver.save(file, tab, true);
+			// Perform the save, in the binary format so that it loads quickly, once any compaction of the journal on the worker has finished writing the journal
+			this.getFileWorker().waitForAll();
+			bytes = ZabBinaryFormat.encode(tab, true);
+			success = ZabBinaryFormat.write(file, bytes);
 		}
 
-		// If the save was successful, mark the editor as saved
-		if(success) this.getTabScreen().getUndoStack().markSaved();
+		// If the save was successful, mark the editor as saved, and start recording changes made after the save, from the bytes which were saved
+		if(success){
+			this.getTabScreen().getUndoStack().markSaved();
+			ZabJournal journal = new ZabJournal(file);
+			journal.start(bytes);
+			this.useJournal(journal);
+		}
 		
 		// Update the save status
 		this.getEditorBar().getFileStatusLab().updateSaveStatus(success);
@@ -157,11 +200,27 @@ public class EditorFrame extends ZabFrame{
 			tab = this.getOpenedTab();
 		}
 		
-		// Load the tab from the file
-		boolean success = ZabFileSaver.load(file, tab, true);
+		// Load the tab from the file, reading the file only once for both the tab and its journal
+		ByteBuffer bytes;
+		try{
+			bytes = FileUtils.read(file);
+		}
+		catch(IOException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			bytes = null;
+		}
+		boolean success = ZabFileSaver.decode(bytes, tab, ZabAppSettings.get());
 		
-		// If the load succeeded, mark the editor as saved
-		if(success) this.getTabScreen().getUndoStack().markSaved();
+		// If the load succeeded, mark the editor as saved, and then recover any changes which were not saved from the journal
+		if(success){
+			EditorEventStack stack = this.getTabScreen().getUndoStack();
+			stack.closeJournal();
+			stack.markSaved();
+			ZabJournal journal = new ZabJournal(file);
+			journal.replay(bytes, tab);
+			this.recover(journal);
+			this.useJournal(journal);
+		}
 		
 		// Update the load status
 		this.getEditorBar().getFileStatusLab().updateLoadStatus(success);
@@ -175,6 +234,154 @@ public class EditorFrame extends ZabFrame{
 		return success;
 	}
 	
+	/**
+	 * Save {@link #openedTab} along with the current instance of {@link ZabSettings} in {@link ZabAppSettings} to the given file using {@link #fileWorker}, 
+	 * so the gui can keep being used while the file is written. The save status is displayed while the save happens, and updated when it finishes
+	 * @param file The file to use for saving, which should already have the correct extension
+	 * @param onSaved Run on the gui thread if the save is successful, can be null
+	 * @return true if the save was started, false otherwise, or, if {@link #fileWorker} does not use a background thread, true if the save was successful
+	 */
+	public boolean saveInBackground(final File file, final Runnable onSaved){
+		final Tab tab = this.getOpenedTab();
+		EditorEventStack stack = this.getTabScreen().getUndoStack();
+		final long modifications = stack.getModifications();
+		// Saving to the file of the journal keeps the journal, so that changes made while the file is written are kept in it
+		ZabJournal current = stack.getJournal();
+		final ZabJournal journal = (current != null && current.isOpen() && current.getBase().equals(file)) ? current : new ZabJournal(file);
+		this.getEditorBar().getFileStatusLab().updateSavingStatus();
+		return this.getFileWorker().save(file, tab, true, journal, new ZabFileWorker.SaveListener(){
+			@Override
+			public void saved(File f, final boolean success){
+				runOnGui(new Runnable(){
+					@Override
+					public void run(){
+						finishSave(tab, journal, success, modifications, onSaved);
+					}
+				});
+			}
+		});
+	}
+	
+	/**
+	 * Update the editor after a save started by {@link #saveInBackground(File, Runnable)} finishes
+	 * @param tab The tab which was saved
+	 * @param journal The journal which was started for the saved file on the thread of {@link #fileWorker}
+	 * @param success true if the save was successful, false otherwise
+	 * @param modifications The number of modifications of the undo stack when the save was started
+	 * @param onSaved Run if the save is successful, and the saved tab is still opened, can be null
+	 */
+	private void finishSave(Tab tab, ZabJournal journal, boolean success, long modifications, Runnable onSaved){
+		EditorEventStack stack = this.getTabScreen().getUndoStack();
+		// If a new tab was made or loaded while the old one was being saved, the file does not belong to the opened tab
+		if(success && this.getOpenedTab() == tab){
+			// If the tab was changed while it was being saved, the file does not have those changes, so the editor is still not saved
+			if(stack.getModifications() == modifications){
+				stack.markSaved();
+				if(journal.isOpen()) this.useJournal(journal);
+			}
+			if(onSaved != null) onSaved.run();
+		}
+		// A new journal which the undo stack does not use would never have changes appended to it
+		if(journal != stack.getJournal()) journal.close();
+		this.getEditorBar().getFileStatusLab().updateSaveStatus(success);
+	}
+	
+	/**
+	 * Load {@link #openedTab} along with the current instance of {@link ZabSettings} in {@link ZabAppSettings} from the given file using {@link #fileWorker}, 
+	 * so the gui can keep being used while the file is read. The load status is displayed while the load happens, and updated when it finishes. 
+	 * The loaded tab replaces {@link #openedTab} once it is fully loaded
+	 * @param file The file to use for loading
+	 * @param onLoaded Run on the gui thread if the load is successful, can be null
+	 * @return true if the load was started, false otherwise, or, if {@link #fileWorker} does not use a background thread, true if the load was successful
+	 */
+	public boolean loadInBackground(final File file, final Runnable onLoaded){
+		this.getEditorBar().getFileStatusLab().updateLoadingStatus();
+		final boolean[] success = new boolean[]{false};
+		// The journal is replayed by the worker, so the changes it recovers are found before the tab is given to the gui
+		final ZabJournal journal = new ZabJournal(file);
+		boolean started = this.getFileWorker().load(file, journal, new ZabFileWorker.LoadListener(){
+			@Override
+			public void loaded(File f, final Tab tab, final ZabSettings settings){
+				runOnGui(new Runnable(){
+					@Override
+					public void run(){
+						success[0] = finishLoad(journal, tab, settings, onLoaded);
+					}
+				});
+			}
+		});
+		return this.getFileWorker().isBackground() ? started : success[0];
+	}
+	
+	/**
+	 * Update the editor after a load started by {@link #loadInBackground(File, Runnable)} finishes
+	 * @param journal The journal of the loaded file, which was replayed on the loaded tab, see {@link #recover(ZabJournal)}
+	 * @param tab The loaded tab, or null if the load failed
+	 * @param settings The settings loaded from the file, or null if the file has no settings
+	 * @param onLoaded Run if the load is successful, can be null
+	 * @return true if the load was successful, false otherwise
+	 */
+	private boolean finishLoad(ZabJournal journal, Tab tab, ZabSettings settings, Runnable onLoaded){
+		boolean success = tab != null;
+		if(success){
+			// Settings are only changed on the gui thread, as the gui reads them while painting
+			if(settings != null) ZabAppSettings.get().copy(settings);
+			EditorEventStack stack = this.getTabScreen().getUndoStack();
+			// The events on the stack refer to the strings of the old tab, so they cannot be undone on the loaded tab
+			stack.clearStack();
+			this.setOpenedTab(tab);
+			stack.markSaved();
+			this.recover(journal);
+			this.useJournal(journal);
+			if(onLoaded != null) onLoaded.run();
+		}
+		this.getEditorBar().getFileStatusLab().updateLoadStatus(success);
+		this.getTabScreen().updateLineTabCount();
+		getGui().repaint();
+		return success;
+	}
+	
+	/**
+	 * Run the given task on the gui thread, after a save or load of {@link #fileWorker} finishes
+	 * @param r The task, run straight away if {@link #fileWorker} does not use a background thread
+	 */
+	private void runOnGui(Runnable r){
+		if(this.getFileWorker().isBackground()) SwingUtilities.invokeLater(r);
+		else r.run();
+	}
+	
+	/**
+	 * Apply the changes which were recovered by the given journal to {@link #openedTab}, as a single event on the undo stack, 
+	 * so the user can undo them if they were not wanted. The recovered changes are not in the file, so the tab is then not saved 
+	 * until the user saves it. Must be called before the journal is used by the undo stack, so the changes are not written to it again
+	 * @param journal The journal, which was just replayed on {@link #openedTab}
+	 */
+	private void recover(ZabJournal journal){
+		ZabJournal.Recovery recovery = journal.getRecovered();
+		if(recovery.isEmpty()) return;
+		List<TabString> strings = this.getOpenedTab().getStrings();
+		SelectionList removed = new SelectionList();
+		SelectionList placed = new SelectionList();
+		for(int s = 0; s < recovery.getStringCount(); s++){
+			TabString str = strings.get(s);
+			for(TabPosition p : recovery.getRemoved(s)) removed.add(new Selection(p, str, s));
+			for(TabPosition p : recovery.getPlaced(s)) placed.add(new Selection(p, str, s));
+		}
+		RemovePlaceNotesEvent e = new RemovePlaceNotesEvent(placed, removed);
+		e.redo(this.getTabScreen());
+		this.getTabScreen().getUndoStack().addEvent(e);
+	}
+	
+	/**
+	 * Replace the {@link ZabJournal} of the undo stack with the given journal, which was just started or replayed for the file of {@link #openedTab}
+	 * @param journal The journal
+	 */
+	private void useJournal(ZabJournal journal){
+		EditorEventStack stack = this.getTabScreen().getUndoStack();
+		if(stack.getJournal() != journal) stack.closeJournal();
+		stack.setJournal(journal);
+	}
+	
 	/**
 	 * Export {@link #openedTab} to the given file
 	 * This method also handles all visual and update related events with exporting.
@@ -182,7 +389,9 @@ public class EditorFrame extends ZabFrame{
 	 * @return true if the export was successful, false otherwise
 	 */
 	public boolean export(File file){
-		boolean success = TabTextExporter.exportToFile(this.getOpenedTab(), file);
+		// Only the lines which changed since the last export of the same tab need to be made again
+		if(this.exportCache == null || this.exportCache.getTab() != this.getOpenedTab()) this.exportCache = new TabTextCache(this.getOpenedTab());
+		boolean success = TabTextExporter.exportToFile(this.exportCache, file);
 		this.getEditorBar().getFileStatusLab().updateExportStatus(success); 
 		return success;
 	}
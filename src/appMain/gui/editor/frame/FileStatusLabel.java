@@ -55,13 +55,23 @@ public class FileStatusLabel extends ZabLabel{
 	 * @param status The new status, null to clear the status
 	 */
 	public void updateFileStatus(String status){
+		this.updateFileStatus(status, true);
+	}
+	
+	/**
+	 * Set the string to display for the status of {@link #fileStatusLab}
+	 * @param status The new status, null to clear the status
+	 * @param clear true to clear the status after {@link #DISP_TIME}, 
+	 * 	false to keep displaying it until the status is next updated, i.e. for a status describing something still happening
+	 */
+	public void updateFileStatus(String status, boolean clear){
 		// Cancel whatever the last status was
 		if(this.fileStatusTask != null) this.fileStatusTask.cancel();
 		if(this.fileStatusTimer != null) this.fileStatusTimer.cancel();
 		
-		// If there status should be cleared, then also set the timer related objects to null
-		if(status == null){
-			this.setText(" ");
+		// If there status should be cleared, or should not be cleared later, then also set the timer related objects to null
+		if(status == null || !clear){
+			this.setText((status == null) ? " " : status);
 			this.fileStatusTask = null;
 			this.fileStatusTimer = null;
 		}
@@ -97,6 +107,13 @@ public class FileStatusLabel extends ZabLabel{
 		this.updateFileStatus(success, lang.saveSuccess(), lang.saveFail());
 	}
 	
+	/**
+	 * Update the text of this label to the text for a save which has started, but not yet finished
+	 */
+	public void updateSavingStatus(){
+		this.updateFileStatus(Language.get().saving(), false);
+	}
+	
 	/**
 	 * Update the text of this label to the text for loading
 	 * @param success true if the load was successful, false otherwise
@@ -106,6 +123,13 @@ public class FileStatusLabel extends ZabLabel{
 		this.updateFileStatus(success, lang.loadSuccess(), lang.loadFail());
 	}
 	
+	/**
+	 * Update the text of this label to the text for a load which has started, but not yet finished
+	 */
+	public void updateLoadingStatus(){
+		this.updateFileStatus(Language.get().loading(), false);
+	}
+	
 	/**
 	 * Update the text of this label to the text for exporting
 	 * @param success true if the load was successful, false otherwise
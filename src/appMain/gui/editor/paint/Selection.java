@@ -3,6 +3,7 @@ package appMain.gui.editor.paint;
 import music.NotePosition;
 import tab.TabPosition;
 import tab.TabString;
+import tab.symbol.SymbolPool;
 import util.Copyable;
 import util.ObjectUtils;
 
@@ -32,7 +33,8 @@ public class Selection implements Comparable<Selection>, Copyable<Selection>{
 		if(pos == null) throw new IllegalArgumentException("The TabPosition of a selection cannot be null");
 		if(string == null) throw new IllegalArgumentException("The TabString of a selection cannot be null");
 		
-		this.pos = pos.copy();
+		// The symbol is never modified, so the shared version of it can be used in place of a copy
+		this.pos = new TabPosition(SymbolPool.intern(pos.getSymbol()), pos.getPosition().copy());
 		this.string = string;
 		this.stringIndex = stringIndex;
 	}
@@ -49,7 +51,7 @@ public class Selection implements Comparable<Selection>, Copyable<Selection>{
 	 * @return The position, or null if it is not on the string
 	 */
 	public TabPosition getStringPos(){
-		TabPosition p = this.getString().findPosition(this.getPosition());
+		TabPosition p = this.getString().findPositionTicks(this.getPos().getTicks());
 		if(this.getPos().equals(p)) return p;
 		else return null;
 	}
@@ -71,7 +73,7 @@ public class Selection implements Comparable<Selection>, Copyable<Selection>{
 	}
 	
 	/**
-	 * First compare the string indexes, sort by that, otherwise compare the positions
+	 * First compare the string indexes, sort by that, otherwise compare the positions, using their ticks
 	 */
 	@Override
 	public int compareTo(Selection s){
@@ -82,7 +84,7 @@ public class Selection implements Comparable<Selection>, Copyable<Selection>{
 		if(thisI < sI) return -1;
 		else if(thisI > sI) return 1;
 		
-		return this.getPos().compareTo(s.getPos());
+		return Long.compare(this.getPos().getTicks(), s.getPos().getTicks());
 	}
 	
 	@Override
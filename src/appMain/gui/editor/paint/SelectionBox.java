@@ -3,14 +3,13 @@ package appMain.gui.editor.paint;
 import java.awt.Graphics2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
-import java.util.ArrayList;
 
 import appMain.gui.ZabTheme;
 import appMain.gui.util.Camera;
 import appUtils.ZabAppSettings;
+import tab.MeasureIndex;
 import tab.Tab;
 import tab.TabPosition;
-import tab.TabString;
 
 /**
  * A helper object used by TabPainter to track a box used to select an area of notes
@@ -109,7 +108,6 @@ public class SelectionBox extends TabPaintController{
 		if(t == null) return false;
 		
 		this.getContents().clear();
-		ArrayList<TabString> strs = t.getStrings();
 		Rectangle2D.Double bounds = this.getBounds();
 		
 		// The following only checks the symbols on the lines of tab which the selection box currently contains
@@ -125,18 +123,15 @@ public class SelectionBox extends TabPaintController{
 		double startPos = Math.max(0, Math.min(maxPos, paint.lineNumberMeasures(startLine)));
 		double endPos = Math.max(0, Math.min(maxPos, paint.lineNumberMeasures(endLine + 1)));
 		
-		for(int i = 0; i < strs.size(); i++){
-			TabString s = strs.get(i);
-			// Find the indexes of the start and end positions for the particular line
-			int startIndex = s.findIndex(startPos);
-			int endIndex = s.findIndex(endPos);
-			
+		// Find the notes of each string on the selected lines, only the measures at each end of the lines are searched
+		Rectangle2D pixelBounds = cam.camToPixelBounds(bounds);
+		MeasureIndex notes = t.getMeasureIndex().notesInRange(startPos, endPos, true);
+		while(notes.next()){
+			int i = notes.stringIndex();
+			TabPosition p = notes.position();
 			// Add the each note to the list of TabPositions contained by this SelectionBox
-			for(int j = startIndex; j <= endIndex && j < s.size(); j++){
-				TabPosition p = s.get(j);
-				if(cam.camToPixelBounds(bounds).intersects(cam.stringCamToPixelBounds(paint.symbolBounds(p, i)))){
-					this.contents.add(new Selection(p, s, i));
-				}
+			if(pixelBounds.intersects(cam.stringCamToPixelBounds(paint.symbolBounds(p, i)))){
+				this.contents.add(new Selection(p, notes.string(), i));
 			}
 		}
 		return true;
@@ -79,10 +79,15 @@ public class SelectionPlacer extends TabPaintController{
 		if(pTab == null) return false;
 
 		// Copy over all the given TabPositions to the selected tab
+		// The list is sorted by string, so all of the notes of each string are added together in one pass
 		this.selectedTab = pTab.copyWithoutSymbols();
 		ArrayList<TabString> strs = this.selectedTab.getStrings();
-		for(Selection sel : list){
-			strs.get(sel.getStringIndex()).add(sel.getPos());
+		int i = 0;
+		while(i < list.size()){
+			int stringIndex = list.get(i).getStringIndex();
+			ArrayList<TabPosition> positions = new ArrayList<TabPosition>();
+			for(; i < list.size() && list.get(i).getStringIndex() == stringIndex; i++) positions.add(list.get(i).getPos());
+			strs.get(stringIndex).addAllSorted(positions);
 		}
 		
 		// Return success depending on if the tab selected any notes
@@ -220,9 +225,6 @@ public class SelectionPlacer extends TabPaintController{
 		}
 		// Otherwise, create an event holding the notes which were placed and removed
 		else event = new RemovePlaceNotesEvent(added, removed);
-		
-		// Ensure the correct number of tab lines is updated
-		paint.updateLineTabCount();
 
 		// If notes were removed or added, return the event, otherwise return null
 		if(!removed.isEmpty() || !added.isEmpty()) return event;
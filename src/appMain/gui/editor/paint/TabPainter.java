@@ -12,6 +12,7 @@ import java.awt.Stroke;
 import java.awt.event.KeyAdapter;
 import java.awt.geom.Rectangle2D;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import appMain.gui.ZabGui;
@@ -26,7 +27,9 @@ import appMain.gui.util.Camera;
 import appUtils.ZabAppSettings;
 import appUtils.settings.TabPaintSettings;
 import appUtils.settings.TabSettings;
+import tab.MeasureIndex;
 import tab.Tab;
+import tab.TabExtentListener;
 import tab.TabFactory;
 import tab.TabPosition;
 import tab.TabString;
@@ -40,7 +43,7 @@ import util.ObjectUtils;
  * A class used to handle drawing a {@link Tab} with a graphics object. Additionally, handles storing objects for input and output.
  * @author zrona
  */
-public class TabPainter extends ZabPanel{
+public class TabPainter extends ZabPanel implements TabExtentListener{
 	private static final long serialVersionUID = 1L;
 	
 	/** The font of symbols drawn for a tab */
@@ -584,14 +587,31 @@ public class TabPainter extends ZabPanel{
 	public SelectionList removeSelections(List<Selection> list, boolean recordUndo){
 		SelectionList removed = new SelectionList();
 		if(list == null) return removed;
-		for(int i = 0; i < list.size(); i++){
-			Selection s = list.get(i);
-			if(this.removeSelection(s)){
-				removed.add(s);
-				i--;
+		
+		// Sort the selections by string, so that the notes of each string can be removed together in one pass over the string
+		ArrayList<Selection> sorted = new ArrayList<Selection>(list);
+		Collections.sort(sorted);
+		int i = 0;
+		while(i < sorted.size()){
+			TabString str = sorted.get(i).getString();
+			ArrayList<TabPosition> positions = new ArrayList<TabPosition>();
+			for(; i < sorted.size() && sorted.get(i).getString() == str; i++){
+				Selection s = sorted.get(i);
+				// A note selected more than once is next to its other selections after sorting, and is only removed once
+				if(i > 0 && s.equals(sorted.get(i - 1))) continue;
+				if(str.contains(s.getPos())){
+					positions.add(s.getPos());
+					removed.add(s);
+				}
 			}
+			str.removeAllSorted(positions);
 		}
 		
+		// Every given selection is deselected, if the selected notes were removed, they can all be deselected at once
+		SelectionList selected = this.getSelected();
+		if(list == selected) selected.clear();
+		else for(Selection s : sorted) selected.deselect(s);
+		
 		// If recording undo, and at least one item was removed, record the undo
 		if(recordUndo && !removed.isEmpty()){
 			this.getUndoStack().addEvent(new RemoveNotesEvent(removed));
@@ -833,7 +853,8 @@ public class TabPainter extends ZabPanel{
 	}
 	
 	/**
-	 * Based on the current state of this {@link TabPainter} determine how many lines should be displayed
+	 * Based on the current state of this {@link TabPainter} determine how many lines should be displayed.<br>
+	 * The length of the tab is kept up to date by the tab itself, so this does not need to look at the notes of the tab
 	 */
 	public void updateLineTabCount(){
 		this.tabLineCount = 0;
@@ -1146,8 +1167,6 @@ public class TabPainter extends ZabPanel{
 		if(placed){
 			this.selectOne(p, str);
 		}
-		
-		this.updateLineTabCount();
 		return placed;
 	}
 	
@@ -1201,7 +1220,6 @@ public class TabPainter extends ZabPanel{
 		
 		// If the note was placed, and recording undo, then record this placement action
 		if(success && recordUndo) this.getUndoStack().addEvent(new PlaceNotesEvent(s));
-		this.updateLineTabCount();
 		
 		return success;
 	}
@@ -1223,8 +1241,23 @@ public class TabPainter extends ZabPanel{
 	 */
 	public boolean placeNotes(List<Selection> list, boolean recordUndo){
 		SelectionList placed = new SelectionList();
-		for(Selection s : list){
-			if(this.placeNote(s)) placed.add(s);
+		
+		// Sort the selections by string, so that the notes of each string can be placed together in one pass over the string
+		ArrayList<Selection> sorted = new ArrayList<Selection>(list);
+		Collections.sort(sorted);
+		int i = 0;
+		while(i < sorted.size()){
+			TabString str = sorted.get(i).getString();
+			ArrayList<TabPosition> positions = new ArrayList<TabPosition>();
+			for(; i < sorted.size() && sorted.get(i).getString() == str; i++){
+				Selection s = sorted.get(i);
+				TabPosition p = s.getPos();
+				// A note can only be placed if there is no note at its position, either on the string, or earlier in the list
+				if(str.findPositionTicks(p.getTicks()) != null || !positions.isEmpty() && positions.get(positions.size() - 1).getTicks() == p.getTicks()) continue;
+				positions.add(p);
+				placed.add(s);
+			}
+			str.addAllSorted(positions);
 		}
 		
 		// If recording undo, record the placed notes as an action in the undo
@@ -1294,11 +1327,25 @@ public class TabPainter extends ZabPanel{
 		return this.tab;
 	}
 	/**
-	 * Set the {@link Tab} used by this {@link TabPainter}
+	 * Set the {@link Tab} used by this {@link TabPainter}. 
+	 * This painter listens to the length of the tab, so that the number of lines is updated whenever the length changes.
+	 * Setting the tab which is already used does nothing
 	 * @param tab See {@link #tab}
 	 */
 	public void setTab(Tab tab){
+		if(this.tab == tab) return;
+		if(this.tab != null) this.tab.removeExtentListener(this);
 		this.tab = tab;
+		if(this.tab != null) this.tab.addExtentListener(this);
+		// The new tab has not changed its length, so its number of lines must be found once here
+		this.updateLineTabCount();
+	}
+	
+	/**
+	 * Update the number of lines of tab when the length of {@link #tab} changes
+	 */
+	@Override
+	public void extentChanged(Tab tab, double oldLength, double newLength){
 		this.updateLineTabCount();
 	}
 	
@@ -1827,36 +1874,42 @@ public class TabPainter extends ZabPanel{
 		// The current color is that which should be used for drawing symbols
 		Color symbolColor = g.getColor();
 		
-		ArrayList<TabString> strs = tab.getStrings();
-		for(int i = 0; i < strs.size(); i++){
-			TabString s = strs.get(i);
-			
-			// Draw symbols on that string
-			for(int j = 0; j < s.size(); j++){
-				TabPosition p = s.get(j);
+		// Find the range of measures to draw, if only symbols in the camera are drawn, only the lines in the camera, and one line on either side, need to be drawn
+		double startPos = Double.NEGATIVE_INFINITY;
+		double endPos = Double.POSITIVE_INFINITY;
+		if(cam.isDrawOnlyInBounds()){
+			startPos = this.lineNumberMeasures(this.lineNumber(cam.toCamY(0) - yOff) - 1);
+			endPos = this.lineNumberMeasures(this.lineNumber(cam.toCamY(cam.getHeight()) - yOff) + 2);
+		}
+		
+		// Draw the symbols on each string
+		MeasureIndex notes = tab.getMeasureIndex().notesInRange(startPos, endPos, true);
+		while(notes.next()){
+			int i = notes.stringIndex();
+			TabString s = notes.string();
+			TabPosition p = notes.position();
 
-				// Get the symbol as a string
-				TabSymbol t = p.getSymbol();
-				str = t.getModifiedSymbol(s);
-				
-				// Finding the size of the space the symbol will take up
-				Rectangle2D bounds = this.symbolBounds(p, i);
-				double sX = bounds.getCenterX();
-				double sY = bounds.getCenterY();
-				
-				// Draw any applicable highlights
-				g.setColor(theme.tabSymbolHighlight());
-				this.drawSymbolHighlight(this.getSelected(), p, i, bounds);
-				g.setColor(theme.tabSymbolBoxHighlight());
-				this.drawSymbolHighlight(this.getSelectionBox().getContents(), p, i, bounds);
-				g.setColor(theme.tabSymbolHoverHighlight());
-				this.drawSymbolHighlight(this.getHoveredPosition(), p, bounds);
+			// Get the symbol as a string
+			TabSymbol t = p.getSymbol();
+			str = t.getModifiedSymbol(s);
+			
+			// Finding the size of the space the symbol will take up
+			Rectangle2D bounds = this.symbolBounds(p, i);
+			double sX = bounds.getCenterX();
+			double sY = bounds.getCenterY();
+			
+			// Draw any applicable highlights
+			g.setColor(theme.tabSymbolHighlight());
+			this.drawSymbolHighlight(this.getSelected(), p, i, bounds);
+			g.setColor(theme.tabSymbolBoxHighlight());
+			this.drawSymbolHighlight(this.getSelectionBox().getContents(), p, i, bounds);
+			g.setColor(theme.tabSymbolHoverHighlight());
+			this.drawSymbolHighlight(this.getHoveredPosition(), p, bounds);
 
-				
-				// Draw the symbol
-				g.setColor(symbolColor);
-				cam.drawString(str, sX + xOff, sY + yOff);
-			}
+			
+			// Draw the symbol
+			g.setColor(symbolColor);
+			cam.drawString(str, sX + xOff, sY + yOff);
 		}
 		// Restore the original color and return success
 		g.setColor(symbolColor);
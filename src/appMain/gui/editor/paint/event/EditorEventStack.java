@@ -2,9 +2,12 @@ package appMain.gui.editor.paint.event;
 
 import java.util.LinkedList;
 
+import appMain.gui.editor.paint.Selection;
+import appMain.gui.editor.paint.SelectionList;
 import appMain.gui.editor.paint.TabPaintController;
 import appMain.gui.editor.paint.TabPainter;
 import appUtils.ZabAppSettings;
+import appUtils.ZabJournal;
 
 /**
  * An object which keeps track of the changes made to a {@link TabPainter} for undo and redo actions
@@ -31,6 +34,19 @@ public class EditorEventStack extends TabPaintController{
 	 */
 	private boolean saved;
 	
+	/**
+	 * The journal which every event added, undone, or redone on this stack is written to, 
+	 * so that the changes are not lost if the editor closes before they are saved. 
+	 * Can be null to not write the events anywhere
+	 */
+	private ZabJournal journal;
+	
+	/**
+	 * The number of times an event has been added, undone, or redone on this stack. 
+	 * Used to tell if the tab was changed while a save of it was happening in the background
+	 */
+	private long modifications;
+	
 	/**
 	 * Create an empty stack which is used by the given painter
 	 * @param painter The painter using the stack
@@ -39,6 +55,8 @@ public class EditorEventStack extends TabPaintController{
 		super(painter);
 		
 		this.saved = false;
+		this.journal = null;
+		this.modifications = 0;
 		
 		this.undoStack = new LinkedList<>();
 		this.redoStack = new LinkedList<>();
@@ -63,6 +81,39 @@ public class EditorEventStack extends TabPaintController{
 		return this.saved;
 	}
 
+	/** @return See {@link #journal} */
+	public ZabJournal getJournal(){
+		return this.journal;
+	}
+	
+	/** @param journal See {@link #journal} */
+	public void setJournal(ZabJournal journal){
+		this.journal = journal;
+	}
+	
+	/**
+	 * Close {@link #journal}, and stop writing events anywhere. The file of the journal is kept, so its changes are still recovered 
+	 * when its saved file is opened again. Should be called whenever the tab of the painter is replaced by a tab which is not from that file
+	 */
+	public void closeJournal(){
+		if(this.journal != null) this.journal.close();
+		this.journal = null;
+	}
+	
+	/**
+	 * Discard {@link #journal}, deleting its files, and stop writing events anywhere. 
+	 * Should be called when the user chooses to throw away the changes which were not saved, so they are not recovered later
+	 */
+	public void discardJournal(){
+		if(this.journal != null) this.journal.discard();
+		this.journal = null;
+	}
+	
+	/** @return See {@link #modifications} */
+	public long getModifications(){
+		return this.modifications;
+	}
+	
 	/** @return true if the stack has no elements, false otherwise */
 	public boolean isEmpty(){
 		return this.undoStack.isEmpty() && this.redoStack.isEmpty();
@@ -139,6 +190,8 @@ public class EditorEventStack extends TabPaintController{
 		
 		// Mark the stack as not saved and return whether or not no events were removed
 		this.markNotSaved();
+		this.modifications++;
+		this.record(e, true);
 		return !maxed;
 	}
 	
@@ -157,7 +210,10 @@ public class EditorEventStack extends TabPaintController{
 		this.redoStack.push(e);
 		
 		// Perform the undo and return its success
-		return e.undo(this.getPainter());
+		boolean success = e.undo(this.getPainter());
+		this.modifications++;
+		this.record(e, false);
+		return success;
 	}
 	
 	/**
@@ -175,7 +231,76 @@ public class EditorEventStack extends TabPaintController{
 		this.undoStack.push(e);
 		
 		// Perform the redo and return its success
-		return e.redo(this.getPainter());
+		boolean success = e.redo(this.getPainter());
+		this.modifications++;
+		this.record(e, true);
+		return success;
+	}
+	
+	/**
+	 * Write the notes removed and placed by the given event to {@link #journal}. 
+	 * Does nothing if there is no journal. If the event is not one which the journal can record, 
+	 * the journal is discarded, as it can no longer be replayed to the current state of the tab
+	 * @param e The event
+	 * @param forward true if the event was done or redone, false if it was undone
+	 */
+	private void record(EditorEvent e, boolean forward){
+		ZabJournal j = this.getJournal();
+		if(j == null || !j.isOpen()) return;
+		
+		ZabJournal.Change change = new ZabJournal.Change();
+		boolean recorded;
+		// Undoing an event removes what it placed, and then places what it removed
+		if(e instanceof RemovePlaceNotesEvent){
+			RemovePlaceNotesEvent r = (RemovePlaceNotesEvent)e;
+			recorded = forward ? 
+					remove(change, r.getRemoved()) && place(change, r.getPlaced()) : 
+					remove(change, r.getPlaced()) && place(change, r.getRemoved());
+		}
+		else if(e instanceof RemoveNotesEvent){
+			SelectionList s = ((RemoveNotesEvent)e).getPlaced();
+			recorded = forward ? remove(change, s) : place(change, s);
+		}
+		else if(e instanceof PlaceNotesEvent){
+			SelectionList s = ((PlaceNotesEvent)e).getPlaced();
+			recorded = forward ? place(change, s) : remove(change, s);
+		}
+		else recorded = e instanceof DummyEditorEvent;
+		
+		if(!recorded){
+			j.discard();
+			return;
+		}
+		if(change.isEmpty()) return;
+		j.append(change);
+		// Compacted on the thread which saves the file, so a save and a compaction never write the file at the same time
+		if(j.shouldCompact()) j.compact(this.getPainter().getTab(), this.getPainter().getGui().getEditorFrame().getFileWorker());
+	}
+	
+	/**
+	 * Add every note in the given list to the given change as a removed note
+	 * @param change The change
+	 * @param list The notes
+	 * @return true if every note was added, false otherwise
+	 */
+	private static boolean remove(ZabJournal.Change change, SelectionList list){
+		for(Selection s : list){
+			if(!change.remove(s.getStringIndex(), s.getPos())) return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Add every note in the given list to the given change as a placed note
+	 * @param change The change
+	 * @param list The notes
+	 * @return true if every note was added, false otherwise
+	 */
+	private static boolean place(ZabJournal.Change change, SelectionList list){
+		for(Selection s : list){
+			if(!change.place(s.getStringIndex(), s.getPos())) return false;
+		}
+		return true;
 	}
 	
 }
@@ -8,11 +8,11 @@ import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import util.GuiUtils;
 import util.Saveable;
 import util.Size2D;
+import util.ZabTokenReader;
 
 /**
  * A class that handles camera movement for drawing graphics. This allows a single object to be used to keep track of all movements of a camera, 
@@ -1203,7 +1203,7 @@ public class Camera implements Saveable{
 
 	/***/
 	@Override
-	public boolean load(Scanner read){
+	public boolean load(ZabTokenReader read){
 		Double[] load = Saveable.loadDoubles(read, 11);
 		if(load == null) return false;
 		
@@ -0,0 +1,114 @@
+package appUtils;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import tab.TabString;
+import tab.symbol.TabModifier;
+import util.BinaryReader;
+
+/**
+ * A task for reading the string sections of a binary zab file, see {@link ZabBinaryFormat}, using the threads of the common {@link ForkJoinPool}.<br>
+ * Every string section only depends on the modifiers of the tab section, so each string is read by its own task, into its own {@link TabString}.
+ * The strings are only put on a tab once every string has been read, on the thread which started the read
+ * @author zrona
+ */
+final class ParallelStringReader extends RecursiveAction{
+	private static final long serialVersionUID = 1L;
+
+	/** The total number of bytes needed in the string sections before they are read in parallel. Below this, the strings are read on one thread */
+	static final int PARALLEL_THRESHOLD = 1 << 16;
+
+	/** The reader of each string section */
+	private BinaryReader[] sections;
+	/** The modifiers of the tab section */
+	private TabModifier[] mods;
+	/** For each string section, the string read, or null if the section is not a valid string */
+	private TabString[] results;
+	/** The index of the first section read by this task, inclusive */
+	private int low;
+	/** The index of the last section read by this task, exclusive */
+	private int high;
+
+	/**
+	 * Create a new {@link ParallelStringReader} reading the given sections
+	 * @param sections See {@link #sections}
+	 * @param mods See {@link #mods}
+	 * @param results See {@link #results}
+	 * @param low See {@link #low}
+	 * @param high See {@link #high}
+	 */
+	private ParallelStringReader(BinaryReader[] sections, TabModifier[] mods, TabString[] results, int low, int high){
+		this.sections = sections;
+		this.mods = mods;
+		this.results = results;
+		this.low = low;
+		this.high = high;
+	}
+
+	/***/
+	@Override
+	protected void compute(){
+		// Split the sections in half until only one is left
+		if(this.high - this.low > 1){
+			int mid = (this.low + this.high) >>> 1;
+			invokeAll(
+					new ParallelStringReader(this.sections, this.mods, this.results, this.low, mid),
+					new ParallelStringReader(this.sections, this.mods, this.results, mid, this.high));
+			return;
+		}
+		this.results[this.low] = readString(this.sections[this.low], this.mods);
+	}
+
+	/**
+	 * Read every given string section, in parallel if the sections have at least {@link #PARALLEL_THRESHOLD} bytes
+	 * @param sections The reader of each string section, in the order of the strings
+	 * @param mods The modifiers of the tab section
+	 * @return The strings, in the same order as the sections, or null if any section is not a valid string
+	 */
+	static TabString[] read(List<BinaryReader> sections, TabModifier[] mods){
+		BinaryReader[] readers = sections.toArray(new BinaryReader[sections.size()]);
+		TabString[] results = new TabString[readers.length];
+		if(readers.length == 0) return results;
+
+		if(parallel(readers)) ForkJoinPool.commonPool().invoke(new ParallelStringReader(readers, mods, results, 0, readers.length));
+		else{
+			for(int i = 0; i < readers.length; i++) results[i] = readString(readers[i], mods);
+		}
+		for(TabString s : results){
+			if(s == null) return null;
+		}
+		return results;
+	}
+
+	/**
+	 * Read one string section
+	 * @param r The reader of the section
+	 * @param mods The modifiers of the tab section
+	 * @return The string, or null if the section is not a valid string
+	 */
+	private static TabString readString(BinaryReader r, TabModifier[] mods){
+		try{
+			return ZabBinaryFormat.readString(r, mods);
+		}
+		catch(RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return null;
+		}
+	}
+
+	/**
+	 * Determine if the given string sections should be read in parallel
+	 * @param sections The sections
+	 * @return true if there is more than one section, the sections have at least {@link #PARALLEL_THRESHOLD} bytes in total,
+	 * 	and more than one thread can be used, false otherwise
+	 */
+	static boolean parallel(BinaryReader[] sections){
+		if(sections.length < 2 || ForkJoinPool.getCommonPoolParallelism() < 2) return false;
+		long total = 0;
+		for(BinaryReader r : sections) total += r.remaining();
+		return total >= PARALLEL_THRESHOLD;
+	}
+
+}
@@ -0,0 +1,712 @@
+package appUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import appUtils.settings.ZabSettings;
+import music.Pitch;
+import music.Rhythm;
+import music.Ticks;
+import music.TimeSignature;
+import tab.Tab;
+import tab.TabPosition;
+import tab.TabString;
+import tab.TabSummary;
+import tab.symbol.SymbolPool;
+import tab.symbol.SymbolType;
+import tab.symbol.TabModifier;
+import tab.symbol.TabNoteRhythm;
+import tab.symbol.TabPitch;
+import tab.symbol.TabSymbol;
+import util.BinaryReader;
+import util.BinaryWriter;
+import util.FileUtils;
+import util.ZabTokenReader;
+
+/**
+ * A class containing utility methods for saving and loading {@link Tab} objects and the {@link ZabSettings} associated with them
+ * 	in the binary version of the zab file format, read and written through a {@link FileChannel}.<br>
+ * A binary file begins with {@link #MAGIC}, then the version of the format as an int, then a table of sections.
+ * The table has the number of sections as an int, then, for each section, its id as an int,
+ * 	and its offset from the beginning of the file and its length in bytes as longs.<br>
+ * The summary section holds a {@link TabSummary} of the tab, and is the first section, so it can be read on its own, see {@link #readSummary(File)}.
+ * The settings section holds the settings in the text format, because they are small and change often.
+ * The tab section holds everything about the tab except its strings, and is followed by one string section for each string, in the order of the strings.
+ * Each string is stored with each note position as the number of {@link Ticks} since the note before it.
+ * Because every string has its own section, the strings are read in parallel, see {@link ParallelStringReader}.<br>
+ * Files of version 1 hold every string inside the tab section, one after another, and can still be loaded
+ * @author zrona
+ */
+public final class ZabBinaryFormat{
+
+	/** The bytes at the beginning of every binary zab file. The first byte cannot begin a text zab file */
+	private static final byte[] MAGIC = new byte[]{(byte)0x89, 'Z', 'A', 'B'};
+
+	/** The version of the binary format written by this class. Files with a greater version cannot be loaded */
+	public static final int VERSION = 2;
+
+	/** The first version which holds each string in its own section, rather than inside the tab section */
+	static final int VERSION_STRING_SECTIONS = 2;
+
+	/** The id of the section holding the settings */
+	public static final int SECTION_SETTINGS = 1;
+	/** The id of the section holding the tab */
+	public static final int SECTION_TAB = 2;
+	/** The id of each section holding one string of the tab */
+	public static final int SECTION_STRING = 3;
+	/** The id of the section holding a {@link TabSummary} of the tab, so it can be read without the rest of the file */
+	public static final int SECTION_SUMMARY = 4;
+
+	/** The number of bytes in the header before the section table, the magic bytes, the version, and the number of sections */
+	private static final int HEADER_SIZE = MAGIC.length + 8;
+	/** The number of bytes for each section in the section table */
+	private static final int SECTION_ENTRY_SIZE = 20;
+
+	/**
+	 * Determine if the given bytes begin with the binary format
+	 * @param bytes The bytes, from their position. The position is not moved
+	 * @return true if the bytes are in the binary format, false otherwise
+	 */
+	public static boolean isBinary(ByteBuffer bytes){
+		if(bytes.remaining() < MAGIC.length) return false;
+		for(int i = 0; i < MAGIC.length; i++){
+			if(bytes.get(bytes.position() + i) != MAGIC[i]) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Determine if the given file is in the binary format
+	 * @param file The file
+	 * @return true if the file is in the binary format, false if it is not, or cannot be read
+	 */
+	public static boolean isBinary(File file){
+		if(file == null || !file.isFile()) return false;
+		try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)){
+			ByteBuffer start = ByteBuffer.allocate(MAGIC.length);
+			while(start.hasRemaining() && channel.read(start) >= 0);
+			start.flip();
+			return isBinary(start);
+		}
+		catch(IOException | SecurityException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return false;
+		}
+	}
+
+	/**
+	 * Encode the static instance of settings, along with the given tab, in the binary format
+	 * @param tab The tab to encode, or null to not encode a tab
+	 * @param saveSettings true to encode the settings, false otherwise
+	 * @return The bytes, or null if tab is null and saveSettings is false, or if the tab has a symbol which cannot be encoded
+	 */
+	public static ByteBuffer encode(Tab tab, boolean saveSettings){
+		if(tab == null && !saveSettings) return null;
+		ArrayList<Integer> ids = new ArrayList<Integer>();
+		ArrayList<BinaryWriter> sections = new ArrayList<BinaryWriter>();
+
+		if(saveSettings){
+			BinaryWriter w = new BinaryWriter();
+			StringWriter text = new StringWriter();
+			PrintWriter writer = new PrintWriter(text);
+			if(!ZabAppSettings.get().save(writer)) return null;
+			writer.flush();
+			w.putString(text.toString());
+			ids.add(SECTION_SETTINGS);
+			sections.add(w);
+		}
+		if(tab != null){
+			BinaryWriter w = new BinaryWriter();
+			try{
+				// The summary comes first, so it is next to the section table
+				BinaryWriter summary = new BinaryWriter();
+				writeSummary(summary, new TabSummary(tab));
+				ids.add(0, SECTION_SUMMARY);
+				sections.add(0, summary);
+
+				HashMap<TabModifier, Integer> modIndexes = writeTabHeader(w, tab);
+				ids.add(SECTION_TAB);
+				sections.add(w);
+				for(TabString s : tab.getStrings()){
+					BinaryWriter sw = new BinaryWriter();
+					if(!writeString(sw, s, modIndexes)) return null;
+					ids.add(SECTION_STRING);
+					sections.add(sw);
+				}
+			}
+			catch(RuntimeException e){
+				if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+				return null;
+			}
+		}
+
+		// Write the header and section table, then every section after it
+		long offset = HEADER_SIZE + (long)SECTION_ENTRY_SIZE * sections.size();
+		BinaryWriter out = new BinaryWriter((int)offset);
+		out.putBytes(MAGIC);
+		out.putInt(VERSION);
+		out.putInt(sections.size());
+		for(int i = 0; i < sections.size(); i++){
+			long length = sections.get(i).size();
+			out.putInt(ids.get(i));
+			out.putLong(offset);
+			out.putLong(length);
+			offset += length;
+		}
+		for(BinaryWriter w : sections) out.putBytes(w.toBuffer());
+		return out.toBuffer();
+	}
+
+	/**
+	 * Decode the static instance of settings from the given bytes, along with the given tab.
+	 * This method does nothing and returns false if tab is null and loadSettings is false
+	 * @param bytes The bytes in the binary format, from their position
+	 * @param tab The tab to load, or null to not load a tab
+	 * @param loadSettings true if settings should also be loaded, false otherwise
+	 * @return true if the load was successful, false otherwise
+	 */
+	public static boolean decode(ByteBuffer bytes, Tab tab, boolean loadSettings){
+		return decode(bytes, tab, loadSettings ? ZabAppSettings.get() : null);
+	}
+
+	/**
+	 * Decode the given settings from the given bytes, along with the given tab.
+	 * This method does nothing and returns false if tab and settings are both null
+	 * @param bytes The bytes in the binary format, from their position
+	 * @param tab The tab to load, or null to not load a tab
+	 * @param settings The settings to load, or null to not load settings
+	 * @return true if the load was successful, false otherwise
+	 */
+	public static boolean decode(ByteBuffer bytes, Tab tab, ZabSettings settings){
+		if(tab == null && settings == null) return false;
+		if(!isBinary(bytes)) return false;
+		try{
+			boolean success = true;
+			if(settings != null){
+				BinaryReader settingsSection = findSection(bytes, SECTION_SETTINGS);
+				if(settingsSection == null) success = false;
+				else{
+					ZabTokenReader scan = new ZabTokenReader(settingsSection.getString());
+					try{
+						if(!settings.load(scan)) success = false;
+					}finally{
+						scan.close();
+					}
+				}
+			}
+			if(tab != null){
+				if(!readTab(bytes, tab)) success = false;
+			}
+			return success;
+		}
+		catch(RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return false;
+		}
+	}
+
+	/**
+	 * Find the version of the binary format of the given bytes
+	 * @param bytes The bytes, from their position. The position is not moved
+	 * @return The version, or -1 if the bytes are not in the binary format
+	 */
+	static int version(ByteBuffer bytes){
+		if(!isBinary(bytes) || bytes.remaining() < MAGIC.length + 4) return -1;
+		return bytes.getInt(bytes.position() + MAGIC.length);
+	}
+
+	/**
+	 * Find a section of the given bytes
+	 * @param bytes The bytes in the binary format, from their position. The position is not moved
+	 * @param id The id of the section
+	 * @return A reader of only the bytes of the section, or null if the bytes have no such section, or are from a later version.
+	 * 	If there is more than one section with the id, the last is found
+	 * @throws RuntimeException If the section table is not valid
+	 */
+	static BinaryReader findSection(ByteBuffer bytes, int id){
+		List<BinaryReader> found = findSections(bytes, id);
+		return (found == null || found.isEmpty()) ? null : found.get(found.size() - 1);
+	}
+
+	/**
+	 * Find every section of the given bytes with the given id
+	 * @param bytes The bytes in the binary format, from their position. The position is not moved
+	 * @param id The id of the sections
+	 * @return A reader of only the bytes of each section, in the order of the section table,
+	 * 	or null if the bytes are not in the binary format, or are from a later version
+	 * @throws RuntimeException If the section table is not valid
+	 */
+	static List<BinaryReader> findSections(ByteBuffer bytes, int id){
+		int version = version(bytes);
+		if(version < 0 || version > VERSION) return null;
+		BinaryReader reader = new BinaryReader(bytes);
+		reader.position(MAGIC.length + 4);
+
+		int count = reader.getInt();
+		ArrayList<BinaryReader> found = new ArrayList<BinaryReader>();
+		for(int i = 0; i < count; i++){
+			int sectionId = reader.getInt();
+			BinaryReader section = reader.section(reader.getLong(), reader.getLong());
+			if(sectionId == id) found.add(section);
+		}
+		return found;
+	}
+
+	/**
+	 * Save the static instance of settings to the given file in the binary format, along with the given tab.
+	 * The file is replaced in one step, see {@link FileUtils#writeAtomic(File, ByteBuffer)}.
+	 * This method does nothing and returns false if tab is null and saveSettings is false
+	 * @param file The {@link File} in which to save the settings and or tab
+	 * @param tab The tab to save, or null to not save a tab
+	 * @param saveSettings true to save the settings with the file, false otherwise
+	 * @return true if the save was successful, false otherwise
+	 */
+	public static boolean save(File file, Tab tab, boolean saveSettings){
+		if(file == null) return false;
+		return write(file, encode(tab, saveSettings));
+	}
+
+	/**
+	 * Replace the given file with the given bytes in one step, see {@link FileUtils#writeAtomic(File, ByteBuffer)}
+	 * @param file The file
+	 * @param bytes The bytes, made by {@link #encode(Tab, boolean)}, from their position. The position is not moved
+	 * @return true if the file was written, false if either is null or the file cannot be written
+	 */
+	public static boolean write(File file, ByteBuffer bytes){
+		if(file == null || bytes == null) return false;
+		try{
+			// Written to a temporary file first, so the old file is kept whole if the save is stopped part way
+			FileUtils.writeAtomic(file, bytes.duplicate());
+			return true;
+		}
+		catch(IOException | RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return false;
+		}
+	}
+
+	/**
+	 * Load the static instance of settings from the given file in the binary format, along with the given tab.
+	 * This method does nothing and returns false if tab is null and loadSettings is false, or if the file does not exist
+	 * @param file The file to load the tab or settings from
+	 * @param tab The tab to load, or null to not load a tab
+	 * @param loadSettings true if settings should also be loaded, false otherwise
+	 * @return true if the load was successful, false otherwise
+	 */
+	public static boolean load(File file, Tab tab, boolean loadSettings){
+		return load(file, tab, loadSettings ? ZabAppSettings.get() : null);
+	}
+
+	/**
+	 * Load the given settings from the given file in the binary format, along with the given tab.
+	 * This method does nothing and returns false if tab and settings are both null, or if the file does not exist
+	 * @param file The file to load the tab or settings from
+	 * @param tab The tab to load, or null to not load a tab
+	 * @param settings The settings to load, or null to not load settings
+	 * @return true if the load was successful, false otherwise
+	 */
+	public static boolean load(File file, Tab tab, ZabSettings settings){
+		if(file == null || !file.isFile()) return false;
+		ByteBuffer bytes;
+		try{
+			bytes = FileUtils.read(file);
+		}
+		catch(IOException | RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return false;
+		}
+		return bytes != null && decode(bytes, tab, settings);
+	}
+
+	/**
+	 * Read the {@link TabSummary} of the given file in the binary format, reading only the section table and the summary section
+	 * @param file The file
+	 * @return The summary, or null if the file has no summary section, or cannot be read
+	 */
+	public static TabSummary readSummary(File file){
+		if(file == null || !file.isFile()) return null;
+		try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)){
+			ByteBuffer header = read(channel, 0, HEADER_SIZE);
+			int version = version(header);
+			if(version < 0 || version > VERSION) return null;
+			int count = header.getInt(MAGIC.length + 4);
+			ByteBuffer table = read(channel, HEADER_SIZE, (long)SECTION_ENTRY_SIZE * count);
+			for(int i = 0; i < count; i++){
+				int entry = i * SECTION_ENTRY_SIZE;
+				if(table.getInt(entry) != SECTION_SUMMARY) continue;
+				ByteBuffer section = read(channel, table.getLong(entry + 4), table.getLong(entry + 12));
+				return readSummary(new BinaryReader(section));
+			}
+			return null;
+		}
+		catch(IOException | RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return null;
+		}
+	}
+
+	/**
+	 * Read some bytes of the given channel
+	 * @param channel The channel
+	 * @param offset The index of the first byte to read
+	 * @param length The number of bytes to read
+	 * @return The bytes, from position 0
+	 * @throws IOException If the bytes cannot be read, or the channel ends before them
+	 */
+	private static ByteBuffer read(FileChannel channel, long offset, long length) throws IOException{
+		if(offset < 0 || length < 0 || offset + length > channel.size()) throw new IOException("Section outside of the file");
+		ByteBuffer bytes = ByteBuffer.allocate((int)length);
+		while(bytes.hasRemaining()){
+			if(channel.read(bytes, offset + bytes.position()) < 0) throw new IOException("File ended early");
+		}
+		bytes.flip();
+		return bytes;
+	}
+
+	/**
+	 * Write the given {@link TabSummary} as a summary section
+	 * @param w The writer to write to
+	 * @param summary The summary
+	 */
+	static void writeSummary(BinaryWriter w, TabSummary summary){
+		w.putBoolean(summary.usesRhythm());
+		TimeSignature sig = summary.getTimeSignature();
+		w.putVarLong(sig.getUpper());
+		w.putVarLong(sig.getLower());
+		w.putDouble(summary.getLength());
+		w.putVarLong(summary.getNoteCount());
+		int[] tuning = summary.getTuning();
+		w.putVarLong(tuning.length);
+		for(int pitch : tuning) w.putSignedVarLong(pitch);
+	}
+
+	/**
+	 * Read a {@link TabSummary} written by {@link #writeSummary(BinaryWriter, TabSummary)}
+	 * @param r The reader
+	 * @return The summary, or null if the summary is not valid
+	 * @throws RuntimeException If the bytes end before the summary does
+	 */
+	static TabSummary readSummary(BinaryReader r){
+		boolean usesRhythm = r.getBoolean();
+		TimeSignature sig = new TimeSignature(r.getVarInt(), r.getVarInt());
+		double length = r.getDouble();
+		long notes = r.getVarLong();
+		int count = r.getVarInt();
+		if(count > r.remaining()) return null;
+		int[] tuning = new int[count];
+		for(int i = 0; i < count; i++) tuning[i] = (int)r.getSignedVarLong();
+		return new TabSummary(usesRhythm, sig, tuning, length, notes);
+	}
+
+	/**
+	 * Write everything about the given {@link Tab} except the notes of its strings, as a tab section
+	 * @param w The writer to write to
+	 * @param tab The tab
+	 * @return The index of each modifier used by the tab in the written section, used by {@link #writeString(BinaryWriter, TabString, HashMap)}
+	 */
+	static HashMap<TabModifier, Integer> writeTabHeader(BinaryWriter w, Tab tab){
+		w.putBoolean(tab.usesRhythm());
+		TimeSignature sig = tab.getTimeSignature();
+		w.putVarLong(sig.getUpper());
+		w.putVarLong(sig.getLower());
+
+		// Most notes use one of only a few modifiers, so each modifier is written once, and the notes refer to it by index
+		HashMap<TabModifier, Integer> modIndexes = new HashMap<TabModifier, Integer>();
+		ArrayList<TabModifier> mods = new ArrayList<TabModifier>();
+		for(TabString s : tab.getStrings()){
+			for(TabPosition p : s){
+				TabModifier m = p.getSymbol().getModifier();
+				if(!modIndexes.containsKey(m)){
+					modIndexes.put(m, mods.size());
+					mods.add(m);
+				}
+			}
+		}
+		w.putVarLong(mods.size());
+		for(TabModifier m : mods){
+			w.putString(m.getBefore());
+			w.putString(m.getAfter());
+		}
+
+		w.putVarLong(tab.getStrings().size());
+		return modIndexes;
+	}
+
+	/**
+	 * Write the given {@link TabString} as a string section
+	 * @param w The writer to write to
+	 * @param s The string
+	 * @param modIndexes The index of each modifier in the tab section, see {@link #writeTabHeader(BinaryWriter, Tab)}
+	 * @return true if the string was written, false if it has a symbol which cannot be written
+	 */
+	static boolean writeString(BinaryWriter w, TabString s, HashMap<TabModifier, Integer> modIndexes){
+		w.putSignedVarLong(s.getRootPitch().getNote());
+		w.putVarLong(s.size());
+		long ticks = 0;
+		for(TabPosition p : s){
+			ticks = writePosition(w, p, ticks);
+			if(!writeSymbol(w, p.getSymbol(), modIndexes)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Write the position of the given note, as the number of ticks since the note before it
+	 * @param w The writer to write to
+	 * @param p The note
+	 * @param ticks The ticks of the note before p, or 0 for the first note
+	 * @return The ticks of p
+	 */
+	static long writePosition(BinaryWriter w, TabPosition p, long ticks){
+		// The lowest bit marks a position which is not exactly on a tick, so its exact value follows
+		long t = p.getTicks();
+		long delta = t - ticks;
+		boolean exact = Ticks.toMeasures(t) == p.getPos();
+		w.putVarLong((((delta << 1) ^ (delta >> 63)) << 1) | (exact ? 0 : 1));
+		if(!exact) w.putDouble(p.getPos());
+		return t;
+	}
+
+	/**
+	 * Write one note on its own, with its whole position and its modifier written in full, read by {@link #readNote(BinaryReader)}
+	 * @param w The writer to write to
+	 * @param p The note
+	 * @return true if the note was written, false if it has a symbol which cannot be written
+	 */
+	static boolean writeNote(BinaryWriter w, TabPosition p){
+		writePosition(w, p, 0);
+		return writeSymbol(w, p.getSymbol(), null);
+	}
+
+	/**
+	 * Write the given {@link TabSymbol}
+	 * @param w The writer to write to
+	 * @param s The symbol
+	 * @param modIndexes The index of each modifier in the tab section, or null to write the modifier in full
+	 * @return true if the symbol was written, false if it cannot be written
+	 */
+	private static boolean writeSymbol(BinaryWriter w, TabSymbol s, HashMap<TabModifier, Integer> modIndexes){
+		int type = SymbolType.code(s);
+		if(type == SymbolType.DEAD_NOTE){
+			w.putByte(type);
+			return true;
+		}
+		if(type != SymbolType.NOTE && type != SymbolType.NOTE_RHYTHM) return false;
+
+		boolean rhythm = type == SymbolType.NOTE_RHYTHM;
+		w.putByte(type);
+		w.putSignedVarLong(((TabPitch)s).getPitch().getNote());
+		if(modIndexes == null){
+			w.putString(s.getModifier().getBefore());
+			w.putString(s.getModifier().getAfter());
+		}
+		else w.putVarLong(modIndexes.get(s.getModifier()));
+		if(rhythm){
+			Rhythm r = ((TabNoteRhythm)s).getRhythm();
+			w.putVarLong(r.getDuration());
+			w.putVarLong(r.getUnit());
+		}
+		return true;
+	}
+
+	/**
+	 * Read the tab in the given bytes into the given {@link Tab}, replacing its strings.
+	 * If the strings are in their own sections, they are read in parallel, see {@link ParallelStringReader}
+	 * @param bytes The bytes in the binary format, from their position. The position is not moved
+	 * @param tab The tab
+	 * @return true if the tab was read, false if the bytes have no valid tab
+	 * @throws RuntimeException If the bytes end before the tab does
+	 */
+	static boolean readTab(ByteBuffer bytes, Tab tab){
+		BinaryReader r = findSection(bytes, SECTION_TAB);
+		if(r == null) return false;
+		TabHeader header = readTabHeader(r);
+		if(header == null) return false;
+
+		TabString[] strings;
+		if(version(bytes) < VERSION_STRING_SECTIONS){
+			// Every string follows the header in the tab section
+			strings = new TabString[header.getStringCount()];
+			for(int i = 0; i < strings.length; i++){
+				strings[i] = readString(r, header.getModifiers());
+				if(strings[i] == null) return false;
+			}
+		}
+		else{
+			List<BinaryReader> sections = findSections(bytes, SECTION_STRING);
+			if(sections.size() != header.getStringCount()) return false;
+			strings = ParallelStringReader.read(sections, header.getModifiers());
+			if(strings == null) return false;
+		}
+
+		tab.setUsesRhythm(header.usesRhythm());
+		tab.setTimeSignature(header.getTimeSignature());
+		tab.setStrings(new ArrayList<TabString>(Arrays.asList(strings)));
+		return true;
+	}
+
+	/**
+	 * Read everything in a tab section before the strings
+	 * @param r The reader of the tab section, left after the header
+	 * @return The header, or null if the section is not valid
+	 * @throws RuntimeException If the section ends before the header does
+	 */
+	static TabHeader readTabHeader(BinaryReader r){
+		boolean usesRhythm = r.getBoolean();
+		TimeSignature sig = new TimeSignature(r.getVarInt(), r.getVarInt());
+
+		int modCount = r.getVarInt();
+		if(modCount > r.remaining()) return null;
+		TabModifier[] mods = new TabModifier[modCount];
+		for(int i = 0; i < modCount; i++) mods[i] = SymbolPool.intern(new TabModifier(r.getString(), r.getString()));
+
+		int stringCount = r.getVarInt();
+		if(stringCount < 0) return null;
+		return new TabHeader(usesRhythm, sig, mods, stringCount);
+	}
+
+	/**
+	 * Read one string written by {@link #writeString(BinaryWriter, TabString, HashMap)}
+	 * @param r The reader, left after the string
+	 * @param mods The modifiers of the tab section
+	 * @return The string, or null if it is not valid
+	 * @throws RuntimeException If the reader ends before the string does
+	 */
+	static TabString readString(BinaryReader r, TabModifier[] mods){
+		TabString s = new TabString(new Pitch((int)r.getSignedVarLong()));
+		int size = r.getVarInt();
+		if(size > r.remaining()) return null;
+		ArrayList<TabPosition> notes = new ArrayList<TabPosition>(size);
+		long ticks = 0;
+		for(int j = 0; j < size; j++){
+			long code = r.getVarLong();
+			ticks += deltaTicks(code);
+			double pos = isExact(code) ? Ticks.toMeasures(ticks) : r.getDouble();
+
+			TabSymbol sym = readSymbol(r, mods);
+			if(sym == null) return null;
+			notes.add(new TabPosition(sym, pos));
+		}
+		s.addAllSorted(notes);
+		return s;
+	}
+
+	/**
+	 * Get the number of ticks between a note and the note before it
+	 * @param code The code written before the note, see {@link #writeString(BinaryWriter, TabString, HashMap)}
+	 * @return The number of ticks
+	 */
+	static long deltaTicks(long code){
+		long zig = code >>> 1;
+		return (zig >>> 1) ^ -(zig & 1);
+	}
+
+	/**
+	 * Determine if a note is exactly on a tick
+	 * @param code The code written before the note, see {@link #writeString(BinaryWriter, TabString, HashMap)}
+	 * @return true if the note is exactly on a tick, false if its exact position is written as a double after the code
+	 */
+	static boolean isExact(long code){
+		return (code & 1) == 0;
+	}
+
+	/**
+	 * Read one note written by {@link #writeNote(BinaryWriter, TabPosition)}
+	 * @param r The reader
+	 * @return The note, or null if the note is not valid
+	 */
+	static TabPosition readNote(BinaryReader r){
+		long code = r.getVarLong();
+		double pos = isExact(code) ? Ticks.toMeasures(deltaTicks(code)) : r.getDouble();
+		TabSymbol sym = readSymbol(r, null);
+		return (sym == null) ? null : new TabPosition(sym, pos);
+	}
+
+	/**
+	 * Read a {@link TabSymbol}
+	 * @param r The reader
+	 * @param mods The modifiers of the tab section, or null if the modifier is written in full
+	 * @return The shared symbol, or null if the symbol is not valid
+	 */
+	static TabSymbol readSymbol(BinaryReader r, TabModifier[] mods){
+		int type = r.getByte();
+		if(type == SymbolType.DEAD_NOTE) return SymbolPool.deadNote();
+		if(type != SymbolType.NOTE && type != SymbolType.NOTE_RHYTHM) return null;
+
+		int pitch = (int)r.getSignedVarLong();
+		TabModifier mod;
+		if(mods == null) mod = SymbolPool.intern(new TabModifier(r.getString(), r.getString()));
+		else{
+			int m = r.getVarInt();
+			if(m >= mods.length) return null;
+			mod = mods[m];
+		}
+		if(type == SymbolType.NOTE) return SymbolPool.note(pitch, mod);
+		Rhythm rhythm = new Rhythm(r.getVarInt(), r.getVarInt());
+		return SymbolPool.intern(new TabNoteRhythm(new Pitch(pitch), rhythm, mod));
+	}
+
+	/**
+	 * Everything stored in a tab section before the strings
+	 * @author zrona
+	 */
+	static final class TabHeader{
+
+		/** true if the tab uses rhythm, false otherwise */
+		private final boolean usesRhythm;
+		/** The {@link TimeSignature} of the tab */
+		private final TimeSignature timeSignature;
+		/** The shared version of every {@link TabModifier} used by the tab, in the order of their indexes */
+		private final TabModifier[] modifiers;
+		/** The number of strings in the tab */
+		private final int stringCount;
+
+		/**
+		 * Create a new {@link TabHeader}
+		 * @param usesRhythm See {@link #usesRhythm}
+		 * @param timeSignature See {@link #timeSignature}
+		 * @param modifiers See {@link #modifiers}
+		 * @param stringCount See {@link #stringCount}
+		 */
+		TabHeader(boolean usesRhythm, TimeSignature timeSignature, TabModifier[] modifiers, int stringCount){
+			this.usesRhythm = usesRhythm;
+			this.timeSignature = timeSignature;
+			this.modifiers = modifiers;
+			this.stringCount = stringCount;
+		}
+
+		/** @return See {@link #usesRhythm} */
+		boolean usesRhythm(){
+			return this.usesRhythm;
+		}
+
+		/** @return See {@link #timeSignature} */
+		TimeSignature getTimeSignature(){
+			return this.timeSignature;
+		}
+
+		/** @return See {@link #modifiers} */
+		TabModifier[] getModifiers(){
+			return this.modifiers;
+		}
+
+		/** @return See {@link #stringCount} */
+		int getStringCount(){
+			return this.stringCount;
+		}
+
+	}
+
+	/** Cannot instantiate {@link ZabBinaryFormat} */
+	private ZabBinaryFormat(){}
+
+}
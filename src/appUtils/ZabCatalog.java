@@ -0,0 +1,243 @@
+package appUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import tab.TabSummary;
+import util.BinaryReader;
+import util.BinaryWriter;
+import util.FileUtils;
+
+/**
+ * A cache of the {@link TabSummary} of many zab files, used to list large folders of tabs without reading every file each time.<br>
+ * Each summary is stored with the path, size, and last modified time of its file. A summary is only read again, with {@link ZabFileSaver#readHeader(File)},
+ * 	if its file has changed size or modified time since it was stored. The cache is kept in a file of its own between runs, see {@link #load()} and {@link #save()}.<br>
+ * This class can be used by multiple threads at once
+ * @author zrona
+ */
+public class ZabCatalog{
+
+	/** The file where the catalog of the application is kept, when no other file is given */
+	public static final File DEFAULT_FILE = new File(ZabAppSettings.DATA_LOCATION, "Catalog.bin");
+
+	/** The bytes at the beginning of every catalog file */
+	private static final byte[] MAGIC = new byte[]{(byte)0x89, 'Z', 'A', 'L'};
+
+	/** The current version of the catalog file */
+	public static final int VERSION = 1;
+
+	/** The file where this catalog is kept */
+	private final File file;
+
+	/** Every stored entry, mapped by the absolute path of its file */
+	private final ConcurrentHashMap<String, Entry> entries;
+
+	/** true if an entry was added or removed since this catalog was last loaded or saved, false otherwise */
+	private volatile boolean changed;
+
+	/**
+	 * Create a new empty {@link ZabCatalog}
+	 * @param file See {@link #file}
+	 */
+	public ZabCatalog(File file){
+		this.file = file;
+		this.entries = new ConcurrentHashMap<String, Entry>();
+		this.changed = false;
+	}
+
+	/** @return See {@link #file} */
+	public File getFile(){
+		return this.file;
+	}
+
+	/** @return The number of entries stored */
+	public int size(){
+		return this.entries.size();
+	}
+
+	/** @return See {@link #changed} */
+	public boolean isChanged(){
+		return this.changed;
+	}
+
+	/** Remove every stored entry */
+	public void clear(){
+		if(this.entries.isEmpty()) return;
+		this.entries.clear();
+		this.changed = true;
+	}
+
+	/**
+	 * Get the summary of the given file, reading it only if the stored summary is missing or out of date
+	 * @param tabFile The file
+	 * @return The summary, or null if the file does not exist or has no valid tab
+	 */
+	public TabSummary get(File tabFile){
+		Entry e = this.entry(tabFile);
+		return (e == null) ? null : e.getSummary();
+	}
+
+	/**
+	 * Get the entry of the given file, reading it only if the stored entry is missing or out of date
+	 * @param tabFile The file
+	 * @return The entry, or null if the file does not exist or has no valid tab
+	 */
+	public Entry entry(File tabFile){
+		if(tabFile == null || !tabFile.isFile()) return null;
+		String path = tabFile.getAbsolutePath();
+		long size = tabFile.length();
+		long modified = tabFile.lastModified();
+		Entry e = this.entries.get(path);
+		if(e != null && e.size == size && e.modified == modified) return e;
+
+		TabSummary summary = ZabFileSaver.readHeader(tabFile);
+		if(summary == null){
+			if(this.entries.remove(path) != null) this.changed = true;
+			return null;
+		}
+		e = new Entry(path, size, modified, summary);
+		this.entries.put(path, e);
+		this.changed = true;
+		return e;
+	}
+
+	/**
+	 * Get the entry of every zab file directly inside the given folder
+	 * @param folder The folder
+	 * @return The entries, in the order of the paths of their files, not including files with no valid tab, or null if the folder cannot be read
+	 */
+	public List<Entry> scan(File folder){
+		if(folder == null) return null;
+		File[] files = folder.listFiles();
+		if(files == null) return null;
+		Arrays.sort(files);
+		ArrayList<Entry> found = new ArrayList<Entry>();
+		for(File f : files){
+			if(!f.isFile() || !ZabConverter.isZab(f)) continue;
+			Entry e = this.entry(f);
+			if(e != null) found.add(e);
+		}
+		return found;
+	}
+
+	/**
+	 * Replace the entries of this catalog with the ones kept in {@link #file}
+	 * @return true if the entries were loaded, false if the file does not exist or is not a valid catalog, in which case this catalog is not changed
+	 */
+	public boolean load(){
+		if(this.file == null || !this.file.isFile()) return false;
+		try{
+			BinaryReader r = new BinaryReader(ByteBuffer.wrap(Files.readAllBytes(this.file.toPath())));
+			for(int i = 0; i < MAGIC.length; i++){
+				if(r.getByte() != (MAGIC[i] & 0xFF)) return false;
+			}
+			if(r.getInt() != VERSION) return false;
+			int count = r.getVarInt();
+			ArrayList<Entry> loaded = new ArrayList<Entry>();
+			for(int i = 0; i < count; i++){
+				String path = r.getString();
+				long size = r.getVarLong();
+				long modified = r.getLong();
+				TabSummary summary = ZabBinaryFormat.readSummary(r);
+				if(summary == null) return false;
+				loaded.add(new Entry(path, size, modified, summary));
+			}
+			this.entries.clear();
+			for(Entry e : loaded) this.entries.put(e.path, e);
+			this.changed = false;
+			return true;
+		}
+		catch(IOException | RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return false;
+		}
+	}
+
+	/**
+	 * Keep every entry of this catalog in {@link #file}, replacing the file in one step, see {@link FileUtils#writeAtomic(File, ByteBuffer)}
+	 * @return true if the catalog was saved, false otherwise
+	 */
+	public boolean save(){
+		if(this.file == null) return false;
+		BinaryWriter w = new BinaryWriter();
+		w.putBytes(MAGIC);
+		w.putInt(VERSION);
+		ArrayList<Entry> saving = new ArrayList<Entry>(this.entries.values());
+		w.putVarLong(saving.size());
+		for(Entry e : saving){
+			w.putString(e.path);
+			w.putVarLong(e.size);
+			w.putLong(e.modified);
+			ZabBinaryFormat.writeSummary(w, e.summary);
+		}
+		try{
+			File parent = this.file.getAbsoluteFile().getParentFile();
+			if(parent != null) Files.createDirectories(parent.toPath());
+			FileUtils.writeAtomic(this.file, w.toBuffer());
+			this.changed = false;
+			return true;
+		}
+		catch(IOException | RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return false;
+		}
+	}
+
+	/**
+	 * One file stored in a {@link ZabCatalog}
+	 * @author zrona
+	 */
+	public static final class Entry{
+
+		/** The absolute path of the file */
+		private final String path;
+		/** The size of the file, in bytes, when its summary was read */
+		private final long size;
+		/** The last modified time of the file, when its summary was read */
+		private final long modified;
+		/** The summary of the tab in the file */
+		private final TabSummary summary;
+
+		/**
+		 * Create a new {@link Entry}
+		 * @param path See {@link #path}
+		 * @param size See {@link #size}
+		 * @param modified See {@link #modified}
+		 * @param summary See {@link #summary}
+		 */
+		private Entry(String path, long size, long modified, TabSummary summary){
+			this.path = path;
+			this.size = size;
+			this.modified = modified;
+			this.summary = summary;
+		}
+
+		/** @return The file of this entry */
+		public File getFile(){
+			return new File(this.path);
+		}
+
+		/** @return See {@link #size} */
+		public long getSize(){
+			return this.size;
+		}
+
+		/** @return See {@link #modified} */
+		public long getModified(){
+			return this.modified;
+		}
+
+		/** @return See {@link #summary} */
+		public TabSummary getSummary(){
+			return this.summary;
+		}
+
+	}
+
+}
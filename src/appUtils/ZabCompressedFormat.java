@@ -0,0 +1,223 @@
+package appUtils;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import appUtils.settings.ZabSettings;
+import tab.Tab;
+import util.FileUtils;
+import util.ZabTokenReader;
+
+/**
+ * A class containing utility methods for saving and loading {@link Tab} objects and the {@link ZabSettings} associated with them
+ * 	in a compressed container holding the text version of the zab file format.<br>
+ * A compressed file begins with {@link #MAGIC}, then the version of the container as one byte, then the text format compressed with a {@link Deflater}.
+ * The text is compressed while it is written and decompressed while it is read, so the whole text is never held in memory
+ * @author zrona
+ */
+public final class ZabCompressedFormat{
+
+	/** The bytes at the beginning of every compressed zab file. The first byte cannot begin a text zab file */
+	private static final byte[] MAGIC = new byte[]{(byte)0x89, 'Z', 'A', 'C'};
+
+	/** The current version of the container */
+	public static final int VERSION = 1;
+
+	/** The compression level used when no level is given, see {@link Deflater#setLevel(int)} */
+	public static final int DEFAULT_LEVEL = Deflater.DEFAULT_COMPRESSION;
+
+	/** The number of bytes buffered at a time while compressing or decompressing */
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * Determine if the given bytes begin with the compressed format
+	 * @param bytes The bytes, from their position. The position is not moved
+	 * @return true if the bytes are in the compressed format, false otherwise
+	 */
+	public static boolean isCompressed(ByteBuffer bytes){
+		if(bytes.remaining() < MAGIC.length) return false;
+		for(int i = 0; i < MAGIC.length; i++){
+			if(bytes.get(bytes.position() + i) != MAGIC[i]) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Determine if the given file is in the compressed format
+	 * @param file The file
+	 * @return true if the file is in the compressed format, false if it is not, or cannot be read
+	 */
+	public static boolean isCompressed(File file){
+		if(file == null || !file.isFile()) return false;
+		try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)){
+			ByteBuffer start = ByteBuffer.allocate(MAGIC.length);
+			while(start.hasRemaining() && channel.read(start) >= 0);
+			start.flip();
+			return isCompressed(start);
+		}
+		catch(IOException | SecurityException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return false;
+		}
+	}
+
+	/**
+	 * Determine if the given compression level can be used
+	 * @param level The level
+	 * @return true if level is {@link Deflater#DEFAULT_COMPRESSION}, or from {@link Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}, false otherwise
+	 */
+	public static boolean isLevel(int level){
+		return level == Deflater.DEFAULT_COMPRESSION || level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION;
+	}
+
+	/**
+	 * Save the static instance of settings to the given file in the compressed format, along with the given tab.
+	 * The file is written to a temporary file which is then moved in place of the file, see {@link FileUtils#tempFile(File)}.
+	 * This method does nothing and returns false if tab is null and saveSettings is false, or if the level cannot be used
+	 * @param file The {@link File} in which to save the settings and or tab
+	 * @param tab The tab to save, or null to not save a tab
+	 * @param saveSettings true to save the settings with the file, false otherwise
+	 * @param level The compression level, see {@link #isLevel(int)}
+	 * @return true if the save was successful, false otherwise
+	 */
+	public static boolean save(File file, Tab tab, boolean saveSettings, int level){
+		if(file == null || tab == null && !saveSettings || !isLevel(level)) return false;
+		File temp = FileUtils.tempFile(file);
+		Deflater deflater = new Deflater(level);
+		try{
+			boolean success;
+			try(FileOutputStream out = new FileOutputStream(temp)){
+				out.write(MAGIC);
+				out.write(VERSION);
+				DeflaterOutputStream deflate = new DeflaterOutputStream(out, deflater, BUFFER_SIZE);
+				PrintWriter writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(deflate, Charset.defaultCharset()), BUFFER_SIZE));
+				success = ZabFileSaver.save(writer, tab, saveSettings);
+				// Checking for an error also flushes the writer into the deflater
+				if(writer.checkError()) success = false;
+				deflate.finish();
+				out.getFD().sync();
+			}
+			// Written to a temporary file first, so the old file is kept whole if the save is stopped part way
+			if(success) FileUtils.move(temp, file);
+			return success;
+		}
+		catch(IOException | RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return false;
+		}
+		finally{
+			deflater.end();
+			try{
+				Files.deleteIfExists(temp.toPath());
+			}
+			catch(IOException e){
+				if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Save the static instance of settings to the given file in the compressed format with {@link #DEFAULT_LEVEL}, along with the given tab.
+	 * This method does nothing and returns false if tab is null and saveSettings is false
+	 * @param file The {@link File} in which to save the settings and or tab
+	 * @param tab The tab to save, or null to not save a tab
+	 * @param saveSettings true to save the settings with the file, false otherwise
+	 * @return true if the save was successful, false otherwise
+	 */
+	public static boolean save(File file, Tab tab, boolean saveSettings){
+		return save(file, tab, saveSettings, DEFAULT_LEVEL);
+	}
+
+	/**
+	 * Load the static instance of settings from the given file in the compressed format, along with the given tab.
+	 * This method does nothing and returns false if tab is null and loadSettings is false, or if the file does not exist
+	 * @param file The file to load the tab or settings from
+	 * @param tab The tab to load, or null to not load a tab
+	 * @param loadSettings true if settings should also be loaded, false otherwise
+	 * @return true if the load was successful, false otherwise
+	 */
+	public static boolean load(File file, Tab tab, boolean loadSettings){
+		return load(file, tab, loadSettings ? ZabAppSettings.get() : null);
+	}
+
+	/**
+	 * Load the given settings from the given file in the compressed format, along with the given tab.
+	 * This method does nothing and returns false if tab and settings are both null, or if the file does not exist
+	 * @param file The file to load the tab or settings from
+	 * @param tab The tab to load, or null to not load a tab
+	 * @param settings The settings to load, or null to not load settings
+	 * @return true if the load was successful, false otherwise
+	 */
+	public static boolean load(File file, Tab tab, ZabSettings settings){
+		if(file == null || !file.isFile()) return false;
+		try(FileInputStream in = new FileInputStream(file)){
+			return load(in, tab, settings);
+		}
+		catch(IOException | RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return false;
+		}
+	}
+
+	/**
+	 * Load the given settings from the given stream in the compressed format, along with the given tab.
+	 * This method does nothing and returns false if tab and settings are both null
+	 * @param in The stream, at the beginning of the compressed format. The stream is closed once it is read
+	 * @param tab The tab to load, or null to not load a tab
+	 * @param settings The settings to load, or null to not load settings
+	 * @return true if the load was successful, false otherwise
+	 */
+	public static boolean load(InputStream in, Tab tab, ZabSettings settings){
+		if(in == null) return false;
+		Inflater inflater = new Inflater();
+		try{
+			if(!readHeader(in)) return false;
+			ZabTokenReader reader = new ZabTokenReader(new InflaterInputStream(in, inflater, BUFFER_SIZE));
+			try{
+				return ZabFileSaver.load(reader, tab, settings);
+			}finally{
+				reader.close();
+			}
+		}
+		catch(IOException | RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return false;
+		}
+		finally{
+			inflater.end();
+		}
+	}
+
+	/**
+	 * Read {@link #MAGIC} and the version from the beginning of the given stream
+	 * @param in The stream, after this method it is at the beginning of the compressed text
+	 * @return true if the stream begins with a container of a version which can be read, false otherwise
+	 * @throws IOException If the stream cannot be read
+	 */
+	static boolean readHeader(InputStream in) throws IOException{
+		for(int i = 0; i < MAGIC.length; i++){
+			if(in.read() != (MAGIC[i] & 0xFF)) return false;
+		}
+		int version = in.read();
+		return version >= 1 && version <= VERSION;
+	}
+
+	/** Cannot instantiate {@link ZabCompressedFormat} */
+	private ZabCompressedFormat(){}
+
+}
@@ -21,6 +21,12 @@ public final class ZabConstants{
 	 */
 	public static final boolean ENABLE_DIALOG = BUILD_NORMAL;
 
+	/**
+	 * true if the editor should save and load files on a background thread, so the gui does not freeze while a large tab is written, false otherwise.
+	 * Should only be false during testing, so that a file is saved or loaded as soon as the method saving or loading it returns
+	 */
+	public static final boolean BACKGROUND_FILES = BUILD_NORMAL;
+
 	/**
 	 * Set to true to print error messages when the app runs into errors while running utility methods. 
 	 * Set to false to disable error messages
@@ -0,0 +1,399 @@
+package appUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import tab.Tab;
+import tab.TabTextExporter;
+import tab.TabTextImporter;
+import util.FileUtils;
+
+/**
+ * An object which converts zab files from the command line, without starting the gui, see {@link #main(String[])}.<br>
+ * Every zab file in a folder, and every folder inside it, is loaded and then exported as text, or saved again in one of the zab formats,
+ * 	keeping the same layout of folders in the output folder. Files are converted at the same time on a fixed number of threads.
+ * The threads only take a few files ahead of the one they are converting, so a large folder does not fill memory with waiting files.<br>
+ * A single text file, in the layout of {@link TabTextExporter}, can also be given as the input, and is read with {@link TabTextImporter}.<br>
+ * The settings in the files are not loaded, every file is exported with the static instance of settings
+ * @author zrona
+ */
+public final class ZabConverter{
+
+	/** The first command line argument which asks for files to be converted */
+	public static final String CONVERT_ARG = "--convert";
+	/** The command line argument followed by the format to convert to, see {@link #FORMATS} */
+	public static final String FORMAT_ARG = "--to";
+	/** The command line argument followed by the number of threads to convert on */
+	public static final String THREADS_ARG = "--threads";
+
+	/** The format for exporting tabs as plain text, see {@link TabTextExporter} */
+	public static final String FORMAT_TEXT = "txt";
+	/** The format for saving tabs as text zab files */
+	public static final String FORMAT_ZAB = "zab";
+	/** The format for saving tabs as binary zab files, see {@link ZabBinaryFormat} */
+	public static final String FORMAT_BINARY = "zab-binary";
+	/** The format for saving tabs as compressed zab files, see {@link ZabCompressedFormat} */
+	public static final String FORMAT_COMPRESSED = "zab-compressed";
+	/** Every format which can be converted to */
+	public static final String[] FORMATS = new String[]{FORMAT_TEXT, FORMAT_ZAB, FORMAT_BINARY, FORMAT_COMPRESSED};
+
+	/** The number of files which can wait for each thread before the thread finding files converts one itself */
+	private static final int QUEUE_PER_THREAD = 4;
+
+	/** The description of the command line arguments, shown when they are not valid */
+	public static final String USAGE = "Usage: " + CONVERT_ARG + " <input file or folder> <output folder> "
+			+ FORMAT_ARG + " " + String.join("|", FORMATS) + " [" + THREADS_ARG + " <count>]";
+
+	/** The file or folder holding the files to convert */
+	private final File input;
+	/** The folder to put the converted files in */
+	private final File output;
+	/** The format to convert to, one of {@link #FORMATS} */
+	private final String format;
+	/** The number of threads converting files */
+	private final int threads;
+
+	/**
+	 * Create a new {@link ZabConverter}
+	 * @param input See {@link #input}
+	 * @param output See {@link #output}
+	 * @param format See {@link #format}
+	 * @param threads See {@link #threads}, must be at least 1
+	 */
+	public ZabConverter(File input, File output, String format, int threads){
+		this.input = input;
+		this.output = output;
+		this.format = format;
+		this.threads = threads;
+	}
+
+	/** @return See {@link #input} */
+	public File getInput(){
+		return this.input;
+	}
+
+	/** @return See {@link #output} */
+	public File getOutput(){
+		return this.output;
+	}
+
+	/** @return See {@link #format} */
+	public String getFormat(){
+		return this.format;
+	}
+
+	/** @return See {@link #threads} */
+	public int getThreads(){
+		return this.threads;
+	}
+
+	/**
+	 * Find every file which this converter converts
+	 * @return The files, in the order of their paths, or null if {@link #input} cannot be read
+	 */
+	public List<File> findFiles(){
+		if(this.input == null || !this.input.exists()) return null;
+		ArrayList<File> files = new ArrayList<File>();
+		if(this.input.isFile()){
+			files.add(this.input);
+			return files;
+		}
+		if(!addZabFiles(this.input, files)) return null;
+		Collections.sort(files);
+		return files;
+	}
+
+	/**
+	 * Get the file which the given file is converted to
+	 * @param file The file being converted, either {@link #input}, or inside it
+	 * @return The converted file, in {@link #output}, in the same folders as file is inside {@link #input}, with the extension of {@link #format}
+	 */
+	public File outputFile(File file){
+		Path relative = this.input.isFile() ? file.toPath().getFileName() : this.input.toPath().relativize(file.toPath());
+		String name = relative.toString();
+		int dot = name.lastIndexOf('.');
+		int separator = name.lastIndexOf(File.separatorChar);
+		if(dot > separator + 1) name = name.substring(0, dot);
+		String extension = FORMAT_TEXT.equals(this.format) ? FORMAT_TEXT : FileUtils.ZAB_EXTENSION;
+		return new File(this.output, name.concat(".").concat(extension));
+	}
+
+	/**
+	 * Convert one file
+	 * @param file The file to convert
+	 * @return true if the file was converted, false otherwise
+	 */
+	public boolean convert(File file){
+		try{
+			Tab tab = new Tab();
+			// A text file is read as an exported tab, anything else as a zab file
+			boolean loaded = isText(file) ? TabTextImporter.load(file, tab) : ZabFileSaver.loadTab(file, tab);
+			if(!loaded) return false;
+			File out = this.outputFile(file);
+			Files.createDirectories(out.getParentFile().toPath());
+			switch(this.format){
+				case FORMAT_TEXT: return TabTextExporter.exportToFile(tab, out);
+				case FORMAT_ZAB: return ZabFileSaver.save(out, tab, false);
+				case FORMAT_BINARY: return ZabBinaryFormat.save(out, tab, false);
+				case FORMAT_COMPRESSED: return ZabCompressedFormat.save(out, tab, false);
+				default: return false;
+			}
+		}
+		catch(IOException | RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return false;
+		}
+	}
+
+	/**
+	 * Convert every file found by {@link #findFiles()}, on {@link #threads} threads
+	 * @return The result of the conversion, or null if the files could not be found
+	 */
+	public Result convert(){
+		long start = System.nanoTime();
+		List<File> files = this.findFiles();
+		if(files == null) return null;
+
+		final List<File> failed = Collections.synchronizedList(new ArrayList<File>());
+		final AtomicLong bytes = new AtomicLong();
+		final AtomicInteger threadCount = new AtomicInteger();
+		// When the queue is full, the thread finding files converts one itself, so only a few files are ever waiting
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(this.threads, this.threads, 0, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<Runnable>(this.threads * QUEUE_PER_THREAD), new ThreadFactory(){
+			@Override
+			public Thread newThread(Runnable r){
+				return new Thread(r, "Zab converter " + threadCount.incrementAndGet());
+			}
+		}, new ThreadPoolExecutor.CallerRunsPolicy());
+		try{
+			for(final File f : files){
+				executor.execute(new Runnable(){
+					@Override
+					public void run(){
+						if(convert(f)) bytes.addAndGet(f.length());
+						else failed.add(f);
+					}
+				});
+			}
+		}
+		finally{
+			executor.shutdown();
+		}
+		try{
+			while(!executor.awaitTermination(1, TimeUnit.SECONDS));
+		}
+		catch(InterruptedException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+		Collections.sort(failed);
+		return new Result(files.size(), failed, bytes.get(), System.nanoTime() - start);
+	}
+
+	/**
+	 * Determine if the given command line arguments ask for files to be converted
+	 * @param args The arguments
+	 * @return true if the first argument is {@link #CONVERT_ARG}, false otherwise
+	 */
+	public static boolean isConvert(String[] args){
+		return args != null && args.length > 0 && CONVERT_ARG.equals(args[0]);
+	}
+
+	/**
+	 * Create a {@link ZabConverter} from the given command line arguments, see {@link #USAGE}
+	 * @param args The arguments, beginning with {@link #CONVERT_ARG}
+	 * @return The converter, or null if the arguments are not valid
+	 */
+	public static ZabConverter parse(String[] args){
+		if(!isConvert(args) || args.length < 3) return null;
+		String format = null;
+		int threads = Runtime.getRuntime().availableProcessors();
+		for(int i = 3; i < args.length; i++){
+			if(i + 1 >= args.length) return null;
+			String value = args[++i];
+			if(FORMAT_ARG.equals(args[i - 1])) format = value;
+			else if(THREADS_ARG.equals(args[i - 1])){
+				try{
+					threads = Integer.parseInt(value);
+				}
+				catch(NumberFormatException e){
+					return null;
+				}
+			}
+			else return null;
+		}
+		if(!isFormat(format) || threads < 1) return null;
+		return new ZabConverter(new File(args[1]), new File(args[2]), format, threads);
+	}
+
+	/**
+	 * Convert files as asked for by the given command line arguments, and print a report of the conversion
+	 * @param args The arguments, see {@link #USAGE}
+	 * @param out The stream to print the report to
+	 * @param err The stream to print problems to
+	 * @return The status to exit with, 0 if every file was converted, 1 if any file failed, 2 if the arguments or input are not valid
+	 */
+	public static int run(String[] args, PrintStream out, PrintStream err){
+		ZabConverter converter = parse(args);
+		if(converter == null){
+			err.println(USAGE);
+			return 2;
+		}
+		Result result = converter.convert();
+		if(result == null){
+			err.println("Cannot read " + converter.getInput());
+			return 2;
+		}
+		result.report(out);
+		return result.getFailed().isEmpty() ? 0 : 1;
+	}
+
+	/**
+	 * Convert files as asked for by the given command line arguments, see {@link #run(String[], PrintStream, PrintStream)},
+	 * 	and exit with a status other than 0 if the conversion did not succeed
+	 * @param args The arguments, see {@link #USAGE}
+	 */
+	public static void main(String[] args){
+		ZabAppSettings.init();
+		int status = run(args, System.out, System.err);
+		if(status != 0) System.exit(status);
+	}
+
+	/**
+	 * Determine if the given string is a format which can be converted to
+	 * @param format The format
+	 * @return true if format is one of {@link #FORMATS}, false otherwise
+	 */
+	public static boolean isFormat(String format){
+		for(String f : FORMATS){
+			if(f.equals(format)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Determine if the given file has the zab extension
+	 * @param file The file
+	 * @return true if the name of the file ends with the zab extension, false otherwise
+	 */
+	public static boolean isZab(File file){
+		return file.getName().endsWith(".".concat(FileUtils.ZAB_EXTENSION));
+	}
+
+	/**
+	 * Determine if the given file has the text extension
+	 * @param file The file
+	 * @return true if the name of the file ends with the text extension, false otherwise
+	 */
+	public static boolean isText(File file){
+		return file.getName().endsWith(".".concat(FORMAT_TEXT));
+	}
+
+	/**
+	 * Add every zab file in the given folder, and every folder inside it, to the given list
+	 * @param folder The folder
+	 * @param files The list to add to
+	 * @return true if every folder could be read, false otherwise
+	 */
+	private static boolean addZabFiles(File folder, List<File> files){
+		File[] found = folder.listFiles();
+		if(found == null) return false;
+		for(File f : found){
+			if(f.isDirectory()){
+				if(!addZabFiles(f, files)) return false;
+			}
+			else if(isZab(f)) files.add(f);
+		}
+		return true;
+	}
+
+	/**
+	 * The outcome of converting files with {@link ZabConverter#convert()}
+	 * @author zrona
+	 */
+	public static final class Result{
+
+		/** The number of files found to convert */
+		private final int total;
+		/** Every file which could not be converted, in the order of their paths */
+		private final List<File> failed;
+		/** The total size, in bytes, of the files which were converted */
+		private final long bytes;
+		/** The time the conversion took, in nanoseconds */
+		private final long nanos;
+
+		/**
+		 * Create a new {@link Result}
+		 * @param total See {@link #total}
+		 * @param failed See {@link #failed}
+		 * @param bytes See {@link #bytes}
+		 * @param nanos See {@link #nanos}
+		 */
+		public Result(int total, List<File> failed, long bytes, long nanos){
+			this.total = total;
+			this.failed = failed;
+			this.bytes = bytes;
+			this.nanos = nanos;
+		}
+
+		/** @return See {@link #total} */
+		public int getTotal(){
+			return this.total;
+		}
+
+		/** @return See {@link #failed} */
+		public List<File> getFailed(){
+			return this.failed;
+		}
+
+		/** @return The number of files which were converted */
+		public int getConverted(){
+			return this.total - this.failed.size();
+		}
+
+		/** @return See {@link #bytes} */
+		public long getBytes(){
+			return this.bytes;
+		}
+
+		/** @return See {@link #nanos} */
+		public long getNanos(){
+			return this.nanos;
+		}
+
+		/** @return The number of files converted each second, or 0 if no time passed */
+		public double filesPerSecond(){
+			return (this.nanos <= 0) ? 0 : this.getConverted() * 1e9 / this.nanos;
+		}
+
+		/**
+		 * Print the number of files converted, the rate they were converted at, and every file which failed
+		 * @param out The stream to print to
+		 */
+		public void report(PrintStream out){
+			double seconds = this.nanos / 1e9;
+			double megabytes = this.bytes / (1024.0 * 1024.0);
+			out.println(String.format(Locale.ROOT, "Converted %d of %d files in %.3f s, %.1f files/s, %.2f MB/s",
+					this.getConverted(), this.total, seconds, this.filesPerSecond(), (seconds <= 0) ? 0 : megabytes / seconds));
+			if(this.failed.isEmpty()) return;
+			out.println(String.format("Failed %d files:", this.failed.size()));
+			for(File f : this.failed) out.println(f.getPath());
+		}
+
+	}
+
+}
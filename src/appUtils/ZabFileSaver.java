@@ -1,13 +1,17 @@
 package appUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.InputStream;
 import java.io.PrintWriter;
-import java.util.Scanner;
+import java.nio.ByteBuffer;
 
 import appUtils.settings.ZabSettings;
 import tab.Tab;
+import tab.TabSummary;
 import util.FileUtils;
+import util.ZabTokenReader;
 
 /**
  * A class containing utility methods for saving and loading {@link Tab} objects and the {@link ZabSettings} assiciated with them
@@ -26,21 +30,32 @@ public final class ZabFileSaver{
 	}
 	
 	/**
-	 * Load the static instance of settings from the given {@link Scanner}, along with the given tab. 
+	 * Load the static instance of settings from the given {@link ZabTokenReader}, along with the given tab. 
 	 * This method does nothing and returns false if tab is null and saveSettings is false
-	 * @param reader The {@link Scanner} to use for loading
+	 * @param reader The {@link ZabTokenReader} to use for loading
 	 * @param tab The tab to load, or null to not load a tab
 	 * @param loadSettings true if settings should also be loaded, false otherwise
 	 * @return true if the load was successful, false otherwise
 	 */
-	public static boolean load(Scanner reader, Tab tab, boolean loadSettings){
-		if(tab == null && !loadSettings) return false;
+	public static boolean load(ZabTokenReader reader, Tab tab, boolean loadSettings){
+		return load(reader, tab, loadSettings ? ZabAppSettings.get() : null);
+	}
+	
+	/**
+	 * Load the given settings from the given {@link ZabTokenReader}, along with the given tab. 
+	 * This method does nothing and returns false if tab and settings are both null
+	 * @param reader The {@link ZabTokenReader} to use for loading
+	 * @param tab The tab to load, or null to not load a tab
+	 * @param settings The settings to load, or null to not load settings
+	 * @return true if the load was successful, false otherwise
+	 */
+	public static boolean load(ZabTokenReader reader, Tab tab, ZabSettings settings){
+		if(tab == null && settings == null) return false;
 
 		boolean success = true;
-		ZabSettings settings = ZabAppSettings.get();
 		
 		try{
-			if(loadSettings){
+			if(settings != null){
 				if(!settings.load(reader)) success = false;
 			}
 			if(tab != null){
@@ -56,20 +71,36 @@ public final class ZabFileSaver{
 	
 	/**
 	 * Load the static instance of settings from the given file path and name, along with the given tab. 
-	 * This method does nothing and returns false if tab is null and saveSettings is false, or if the file does not exist
+	 * This method does nothing and returns false if tab is null and saveSettings is false, or if the file does not exist.<br>
+	 * The file can be in the text format, the binary format, see {@link ZabBinaryFormat}, or the compressed format, see {@link ZabCompressedFormat},
+	 * 	the format is found automatically
 	 * @param file The file to load the tab or settings from
 	 * @param tab The tab to load, or null to not load a tab
 	 * @param loadSettings true if settings should also be loaded, false otherwise
 	 * @return true if the save was successful, false otherwise
 	 */
 	public static boolean load(File file, Tab tab, boolean loadSettings){
+		return load(file, tab, loadSettings ? ZabAppSettings.get() : null);
+	}
+	
+	/**
+	 * Load the given settings from the given file, along with the given tab, in any format, the same as {@link #load(File, Tab, boolean)}.
+	 * This method does nothing and returns false if tab and settings are both null, or if the file does not exist
+	 * @param file The file to load the tab or settings from
+	 * @param tab The tab to load, or null to not load a tab
+	 * @param settings The settings to load, or null to not load settings
+	 * @return true if the load was successful, false otherwise
+	 */
+	public static boolean load(File file, Tab tab, ZabSettings settings){
 		if(file == null || !file.exists()) return false;
+		if(ZabBinaryFormat.isBinary(file)) return ZabBinaryFormat.load(file, tab, settings);
+		if(ZabCompressedFormat.isCompressed(file)) return ZabCompressedFormat.load(file, tab, settings);
 		
 		boolean success = true;
 		try{
-			Scanner reader = new Scanner(file);
+			ZabTokenReader reader = new ZabTokenReader(file);
 			try{
-				success = load(reader, tab, loadSettings);
+				success = load(reader, tab, settings);
 			}finally{
 				reader.close();
 			}
@@ -81,6 +112,72 @@ public final class ZabFileSaver{
 		return success;
 	}
 	
+	/**
+	 * Load the given settings from the given bytes of a file, along with the given tab, in any format, the same as {@link #load(File, Tab, ZabSettings)}.
+	 * This method does nothing and returns false if tab and settings are both null
+	 * @param bytes Every byte of the file, from their position. The position is not moved
+	 * @param tab The tab to load, or null to not load a tab
+	 * @param settings The settings to load, or null to not load settings
+	 * @return true if the load was successful, false otherwise
+	 */
+	public static boolean decode(ByteBuffer bytes, Tab tab, ZabSettings settings){
+		if(bytes == null || tab == null && settings == null) return false;
+		if(ZabBinaryFormat.isBinary(bytes)) return ZabBinaryFormat.decode(bytes.duplicate(), tab, settings);
+		InputStream in = new ByteArrayInputStream(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+		if(ZabCompressedFormat.isCompressed(bytes)) return ZabCompressedFormat.load(in, tab, settings);
+		
+		ZabTokenReader reader = new ZabTokenReader(in);
+		try{
+			return load(reader, tab, settings);
+		}finally{
+			reader.close();
+		}
+	}
+	
+	/**
+	 * Load only the tab from the given bytes of a file, in any format, the same as {@link #loadTab(File, Tab)}
+	 * @param bytes Every byte of the file, from their position. The position is not moved
+	 * @param tab The tab to load into
+	 * @return true if the tab was loaded, false otherwise
+	 */
+	public static boolean decodeTab(ByteBuffer bytes, Tab tab){
+		if(decode(bytes, tab, (ZabSettings)null)) return true;
+		if(bytes == null || ZabBinaryFormat.isBinary(bytes)) return false;
+		// The settings are loaded into an object which is thrown away, only to move past them
+		return decode(bytes, tab, new ZabSettings());
+	}
+	
+	/**
+	 * Load only the tab from the given file, in any format, without changing the static instance of settings.
+	 * Unlike {@link #load(File, Tab, boolean)}, if the file begins with settings, in the text or compressed format, the settings are read past
+	 * @param file The file
+	 * @param tab The tab to load into
+	 * @return true if the tab was loaded, false otherwise
+	 */
+	public static boolean loadTab(File file, Tab tab){
+		if(load(file, tab, (ZabSettings)null)) return true;
+		if(file == null || !file.isFile() || ZabBinaryFormat.isBinary(file)) return false;
+		// The settings are loaded into an object which is thrown away, only to move past them
+		return load(file, tab, new ZabSettings());
+	}
+	
+	/**
+	 * Read the {@link TabSummary} of the tab in the given file.
+	 * For a binary file, only its summary section is read, see {@link ZabBinaryFormat#readSummary(File)}.
+	 * Any other file, or a binary file saved before summaries were added, is loaded in full to make its summary
+	 * @param file The file
+	 * @return The summary, or null if the file has no valid tab
+	 */
+	public static TabSummary readHeader(File file){
+		if(file == null || !file.isFile()) return null;
+		if(ZabBinaryFormat.isBinary(file)){
+			TabSummary summary = ZabBinaryFormat.readSummary(file);
+			if(summary != null) return summary;
+		}
+		Tab tab = new Tab();
+		return loadTab(file, tab) ? new TabSummary(tab) : null;
+	}
+	
 	/**
 	 * Load the static instance of settings from the given file path and name, along with the given tab. 
 	 * This method does nothing and returns false if tab is null and saveSettings is false
@@ -165,6 +262,34 @@ public final class ZabFileSaver{
 		return success;
 	}
 	
+	/**
+	 * Save the static instance of settings to the given file, along with the given tab. 
+	 * This method does nothing and returns false if tab is null and saveSettings is false
+	 * @param file The {@link File} in which to save the settings and or tab
+	 * @param tab The tab to save, or null to not save a tab
+	 * @param saveSettings true to save the settings with the file, false otherwise
+	 * @param binary true to save in the binary format, see {@link ZabBinaryFormat}, false to save in the text format
+	 * @return true if the save was successful, false otherwise
+	 */
+	public static boolean save(File file, Tab tab, boolean saveSettings, boolean binary){
+		if(binary) return ZabBinaryFormat.save(file, tab, saveSettings);
+		return save(file, tab, saveSettings);
+	}
+	
+	/**
+	 * Save the static instance of settings to the given file in the text format compressed with the given level, along with the given tab,
+	 * 	see {@link ZabCompressedFormat}.
+	 * This method does nothing and returns false if tab is null and saveSettings is false
+	 * @param file The {@link File} in which to save the settings and or tab
+	 * @param tab The tab to save, or null to not save a tab
+	 * @param saveSettings true to save the settings with the file, false otherwise
+	 * @param level The compression level, see {@link ZabCompressedFormat#isLevel(int)}
+	 * @return true if the save was successful, false otherwise
+	 */
+	public static boolean saveCompressed(File file, Tab tab, boolean saveSettings, int level){
+		return ZabCompressedFormat.save(file, tab, saveSettings, level);
+	}
+	
 	/**
 	 * Save the static instance of settings with the given {@link PrintWriter}, along with the given tab
 	 * @param writer The {@link PrintWriter} to use for saving
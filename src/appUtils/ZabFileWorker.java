@@ -0,0 +1,325 @@
+package appUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import appUtils.settings.ZabSettings;
+import tab.Tab;
+import tab.TabSnapshot;
+import util.FileUtils;
+
+/**
+ * An object which saves and loads tabs on a single background thread, so that the thread asking for the save or load,
+ * 	usually the gui thread, does not wait while the file is written or read.<br>
+ * A save takes a {@link TabSnapshot} of the tab when it is asked for, so the tab can keep being edited while it is written.
+ * The file is written in the binary format, to a temporary file which is then moved in place of the file, see {@link ZabBinaryFormat#save(File, Tab, boolean)},
+ * 	so the file is never left part way written.<br>
+ * Saves and loads happen one at a time, in the order they were asked for, along with any other task which writes the same files, see {@link #execute(Runnable)}. If a save is asked for while a save of the same file is still waiting to start,
+ * 	the waiting save uses the newer snapshot instead of saving the file twice.<br>
+ * A save or load can also be given the {@link ZabJournal} of the file, which is started or replayed on the same thread, straight after the file is written or read,
+ * 	from the bytes of the file which are already in memory, so the thread asking for the save or load never reads or writes the journal.<br>
+ * A worker can also be made which does not use a background thread, in which case every save and load happens on the thread asking for it, before the method returns
+ * @author zrona
+ */
+public class ZabFileWorker{
+
+	/**
+	 * An object which is told when a save finishes
+	 * @author zrona
+	 */
+	public interface SaveListener{
+		/**
+		 * Called when a save finishes, on the thread which did the save
+		 * @param file The file which was saved
+		 * @param success true if the save was successful, false otherwise
+		 */
+		public void saved(File file, boolean success);
+	}
+
+	/**
+	 * An object which is told when a load finishes
+	 * @author zrona
+	 */
+	public interface LoadListener{
+		/**
+		 * Called when a load finishes, on the thread which did the load
+		 * @param file The file which was loaded
+		 * @param tab A new {@link Tab} holding the loaded tab, or null if the load failed
+		 * @param settings A new {@link ZabSettings} holding the settings saved in the file,
+		 * 	or null if the load failed or the file has no settings. The static instance of settings is never changed by the load
+		 */
+		public void loaded(File file, Tab tab, ZabSettings settings);
+	}
+
+	/** The amount of time, in seconds, which the background thread waits for more work before it ends */
+	public static final int IDLE_SECONDS = 5;
+
+	/** The executor running saves and loads on one background thread, or null if this worker does not use a background thread */
+	private final ThreadPoolExecutor executor;
+
+	/** The save which has been asked for, but has not yet started, or null if there is no such save */
+	private SaveTask pendingSave;
+
+	/**
+	 * Create a new {@link ZabFileWorker}
+	 * @param background true to save and load on a background thread, false to save and load on the thread asking for it
+	 */
+	public ZabFileWorker(boolean background){
+		if(background){
+			// The thread ends after it has nothing to do, so an idle worker does not keep the application running
+			this.executor = new ThreadPoolExecutor(1, 1, IDLE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory(){
+				@Override
+				public Thread newThread(Runnable r){
+					return new Thread(r, "Zab file worker");
+				}
+			});
+			this.executor.allowCoreThreadTimeOut(true);
+		}
+		else this.executor = null;
+		this.pendingSave = null;
+	}
+
+	/** @return true if this worker saves and loads on a background thread, false otherwise */
+	public boolean isBackground(){
+		return this.executor != null;
+	}
+
+	/** @return true if a save has been asked for but has not yet started, false otherwise */
+	public synchronized boolean hasPendingSave(){
+		return this.pendingSave != null;
+	}
+
+	/**
+	 * Save the given tab to the given file in the binary format
+	 * @param file The file to save to
+	 * @param tab The tab to save, a snapshot is taken before this method returns, so the tab can be modified straight away
+	 * @param saveSettings true to also save the static instance of settings, false otherwise
+	 * @param listener The object to tell when the save finishes, can be null
+	 * @return If this worker uses a background thread, true if the save was started, false otherwise.
+	 * 	If it does not, true if the save was successful, false otherwise
+	 */
+	public boolean save(File file, Tab tab, boolean saveSettings, SaveListener listener){
+		return this.save(file, tab, saveSettings, null, listener);
+	}
+
+	/**
+	 * Save the given tab to the given file in the binary format, and then start a new log in the given journal for the saved file,
+	 * 	see {@link ZabJournal#saved(java.nio.ByteBuffer, long)}, before the listener is told that the save finished
+	 * @param file The file to save to
+	 * @param tab The tab to save, a snapshot is taken before this method returns, so the tab can be modified straight away
+	 * @param saveSettings true to also save the static instance of settings, false otherwise
+	 * @param journal The journal of file, which records the changes made to tab, or null to not start a journal
+	 * @param listener The object to tell when the save finishes, can be null
+	 * @return If this worker uses a background thread, true if the save was started, false otherwise.
+	 * 	If it does not, true if the save was successful, false otherwise
+	 */
+	public boolean save(File file, Tab tab, boolean saveSettings, ZabJournal journal, SaveListener listener){
+		if(file == null || tab == null){
+			if(listener != null) listener.saved(file, false);
+			return false;
+		}
+		// The position is found with the snapshot, so the journal keeps every change made after the snapshot
+		TabSnapshot snapshot = tab.snapshot();
+		long position = (journal == null) ? 0 : journal.position();
+		SaveTask task;
+		synchronized(this){
+			// A save of the same file which has not started yet can save the newer snapshot instead
+			SaveTask pending = this.pendingSave;
+			if(pending != null && pending.file.equals(file) && pending.saveSettings == saveSettings && pending.journal == journal){
+				pending.snapshot = snapshot;
+				pending.position = position;
+				pending.listeners.add(listener);
+				return true;
+			}
+			task = new SaveTask(file, snapshot, saveSettings, journal, position, listener);
+			if(this.isBackground()) this.pendingSave = task;
+		}
+		if(!this.isBackground()) return task.save();
+		this.executor.execute(task);
+		return true;
+	}
+
+	/**
+	 * Load a new {@link Tab} from the given file, along with any settings saved in it, into a new {@link ZabSettings}
+	 * @param file The file to load from, can be in any format, with or without settings, see {@link ZabFileSaver#load(File, Tab, ZabSettings)}
+	 * @param listener The object to tell when the load finishes, can be null
+	 * @return If this worker uses a background thread, true if the load was started, false otherwise.
+	 * 	If it does not, true if the load was successful, false otherwise
+	 */
+	public boolean load(File file, LoadListener listener){
+		return this.load(file, null, listener);
+	}
+
+	/**
+	 * Load a new {@link Tab} from the given file, along with any settings saved in it, into a new {@link ZabSettings},
+	 * 	and then replay the given journal on the loaded tab, see {@link ZabJournal#replay(java.nio.ByteBuffer, Tab)}, before the listener is told that the load finished
+	 * @param file The file to load from, can be in any format, with or without settings, see {@link ZabFileSaver#load(File, Tab, ZabSettings)}
+	 * @param journal The journal of file, or null to not replay a journal
+	 * @param listener The object to tell when the load finishes, can be null
+	 * @return If this worker uses a background thread, true if the load was started, false otherwise.
+	 * 	If it does not, true if the load was successful, false otherwise
+	 */
+	public boolean load(final File file, final ZabJournal journal, final LoadListener listener){
+		if(file == null){
+			if(listener != null) listener.loaded(file, null, null);
+			return false;
+		}
+		if(!this.isBackground()) return loadAndTell(file, journal, listener);
+		this.executor.execute(new Runnable(){
+			@Override
+			public void run(){
+				loadAndTell(file, journal, listener);
+			}
+		});
+		return true;
+	}
+
+	/**
+	 * Run the given task on the thread of this worker, after every save and load asked for before it,
+	 * 	so the task never writes a file at the same time as a save of this worker
+	 * @param task The task
+	 * @return If this worker uses a background thread, true if the task was started, false otherwise.
+	 * 	If it does not, true once the task has run on this thread
+	 */
+	public boolean execute(Runnable task){
+		if(task == null) return false;
+		if(!this.isBackground()){
+			task.run();
+			return true;
+		}
+		this.executor.execute(task);
+		return true;
+	}
+
+	/**
+	 * Wait until every save and load asked for before this method was called has finished.
+	 * Does nothing if this worker does not use a background thread
+	 * @return true if every save and load finished, false if the waiting thread was interrupted
+	 */
+	public boolean waitForAll(){
+		if(!this.isBackground()) return true;
+		try{
+			this.executor.submit(new Runnable(){
+				@Override
+				public void run(){}
+			}).get();
+			return true;
+		}
+		catch(InterruptedException | ExecutionException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return false;
+		}
+	}
+
+	/**
+	 * Load a new {@link Tab} and its settings from the given file, replay the given journal on it, and tell the given listener when it finishes
+	 * @param file The file
+	 * @param journal The journal, can be null
+	 * @param listener The listener, can be null
+	 * @return true if the tab was loaded, false otherwise
+	 */
+	private static boolean loadAndTell(File file, ZabJournal journal, LoadListener listener){
+		ByteBuffer bytes;
+		try{
+			bytes = FileUtils.read(file);
+		}
+		catch(IOException | RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			bytes = null;
+		}
+		Tab tab = new Tab();
+		ZabSettings settings = new ZabSettings();
+		// A file without settings fails to load with them, so it is loaded again as only a tab
+		if(!ZabFileSaver.decode(bytes, tab, settings)){
+			settings = null;
+			tab = new Tab();
+			if(!ZabFileSaver.decodeTab(bytes, tab)) tab = null;
+		}
+		if(tab != null && journal != null) journal.replay(bytes, tab);
+		if(listener != null) listener.loaded(file, tab, settings);
+		return tab != null;
+	}
+
+	/**
+	 * A save which has been asked for, holding every listener asking for it
+	 * @author zrona
+	 */
+	private class SaveTask implements Runnable{
+
+		/** The file to save to */
+		private final File file;
+
+		/** The snapshot of the tab to save, replaced if another save of the same file is asked for before this one starts */
+		private TabSnapshot snapshot;
+
+		/** true to also save the static instance of settings, false otherwise */
+		private final boolean saveSettings;
+
+		/** The journal to start for the saved file, or null to not start a journal */
+		private final ZabJournal journal;
+
+		/** The position of {@link #journal} when {@link #snapshot} was taken, see {@link ZabJournal#position()} */
+		private long position;
+
+		/** Every object to tell when this save finishes, can hold null */
+		private final ArrayList<SaveListener> listeners;
+
+		/**
+		 * Create a new {@link SaveTask}
+		 * @param file See {@link #file}
+		 * @param snapshot See {@link #snapshot}
+		 * @param saveSettings See {@link #saveSettings}
+		 * @param journal See {@link #journal}
+		 * @param position See {@link #position}
+		 * @param listener The first object to add to {@link #listeners}
+		 */
+		private SaveTask(File file, TabSnapshot snapshot, boolean saveSettings, ZabJournal journal, long position, SaveListener listener){
+			this.file = file;
+			this.snapshot = snapshot;
+			this.saveSettings = saveSettings;
+			this.journal = journal;
+			this.position = position;
+			this.listeners = new ArrayList<SaveListener>();
+			this.listeners.add(listener);
+		}
+
+		/**
+		 * Save the newest snapshot of this task, and tell every listener when it finishes
+		 * @return true if the save was successful, false otherwise
+		 */
+		private boolean save(){
+			TabSnapshot s;
+			long p;
+			ArrayList<SaveListener> listening;
+			// Once started, later saves of the same file must become a new task, so they save their own snapshot
+			synchronized(ZabFileWorker.this){
+				if(pendingSave == this) pendingSave = null;
+				s = this.snapshot;
+				p = this.position;
+				listening = new ArrayList<SaveListener>(this.listeners);
+			}
+			ByteBuffer bytes = ZabBinaryFormat.encode(s.toTab(), this.saveSettings);
+			boolean success = ZabBinaryFormat.write(this.file, bytes);
+			if(success && this.journal != null) this.journal.saved(bytes, p);
+			for(SaveListener l : listening){
+				if(l != null) l.saved(this.file, success);
+			}
+			return success;
+		}
+
+		/***/
+		@Override
+		public void run(){
+			this.save();
+		}
+
+	}
+
+}
@@ -0,0 +1,728 @@
+package appUtils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import appUtils.settings.ZabSettings;
+import tab.Tab;
+import tab.TabPosition;
+import tab.TabSnapshot;
+import tab.TabString;
+import util.BinaryReader;
+import util.BinaryWriter;
+import util.FileUtils;
+
+/**
+ * A log of every note placed and removed in a {@link Tab} since it was last saved to a file, kept in a second file next to the saved file.<br>
+ * Each change is appended to the end of the log as soon as it is made, which only writes the notes of the change,
+ * 	so the changes are kept even if the application closes before the tab is saved.
+ * When the saved file is opened again, the changes in the log are replayed on top of it, see {@link #replay(ByteBuffer, Tab)},
+ * 	which finds the notes the changes remove from and place on the loaded tab, so they can be applied, and undone, as one edit, see {@link Recovery}.<br>
+ * The log begins with the length and checksum of the saved file it was started for, so a log is never replayed on top of a different file.
+ * Every change is written with its own length and checksum, so a change which was only partly written is ignored.<br>
+ * Once the log becomes large, it can be compacted on the thread of a {@link ZabFileWorker}, see {@link #compact(Tab, ZabFileWorker)},
+ * 	which saves the tab in the binary format to a compacted file next to the log, see {@link #compactedFile(File)},
+ * 	and starts a new log holding only the changes made while that file was written.
+ * The saved file itself is never written by the log, it only changes when the user saves the tab.
+ * After a compaction, the log also begins with the length and checksum of the compacted file, and its changes are replayed on top of the compacted file
+ * 	instead of the saved file.<br>
+ * Every file is written under a temporary name and then moved into place, so the compacted file and log always match, even if writing is stopped part way.<br>
+ * The saved file is never read by the log, it is given the bytes of the saved file which were just written or read,
+ * 	so a log can be started or replayed on the thread which saved or loaded the file, see {@link ZabFileWorker}.<br>
+ * The methods of this class are synchronized, so changes can be appended while a compaction is running
+ * @author zrona
+ */
+public class ZabJournal implements Closeable{
+
+	/** The extension added to the name of the saved file to get the name of its log */
+	public static final String EXTENSION = ".journal";
+
+	/** The extension added to the name of the log for the new log written while compacting */
+	private static final String NEXT_EXTENSION = ".next";
+
+	/** The extension added to the name of the log for the compacted file which its changes are replayed on top of */
+	private static final String COMPACTED_EXTENSION = ".base";
+
+	/** The bytes at the beginning of every log */
+	private static final byte[] MAGIC = new byte[]{(byte)0x89, 'Z', 'A', 'J'};
+
+	/** The version of the log format written by this class. Logs with a different version are not replayed */
+	public static final int VERSION = 1;
+
+	/** The number of bytes in the length and checksum of a file, see {@link #stamp(ByteBuffer)} */
+	private static final int STAMP_SIZE = 8 + 4;
+
+	/**
+	 * The number of bytes before the first change, the magic bytes, the version, the length and checksum of the saved file,
+	 * 	and the length and checksum of the file which the changes are replayed on top of
+	 */
+	private static final int HEADER_SIZE = MAGIC.length + 4 + STAMP_SIZE + STAMP_SIZE;
+
+	/** The size in bytes which the log must reach before {@link #shouldCompact()} is true */
+	public static final long COMPACT_SIZE = 1 << 20;
+
+	/** The code in a change for a removed note */
+	private static final int OP_REMOVE = 0;
+	/** The code in a change for a placed note */
+	private static final int OP_PLACE = 1;
+
+	/** The saved file which this log holds the changes for */
+	private final File base;
+
+	/** The length and checksum of {@link #base} when the log was opened, or null if it has not been opened */
+	private ByteBuffer origin;
+
+	/** The channel which changes are appended to, or null if the log is not open */
+	private FileChannel channel;
+
+	/** The number of bytes in the log */
+	private long size;
+
+	/** The position of the first byte of the log, counted over every log which this journal has written, see {@link #position()} */
+	private long offset;
+
+	/** The notes changed by the log when it was opened by {@link #replay(ByteBuffer, Tab)}, empty if it was not opened that way */
+	private Recovery recovered;
+
+	/** true if a compaction has been started and has not yet finished, false otherwise */
+	private boolean compacting;
+
+	/**
+	 * Create a new {@link ZabJournal} for the given saved file. The log is not opened, see {@link #start(ByteBuffer)} and {@link #replay(ByteBuffer, Tab)}
+	 * @param base See {@link #base}
+	 */
+	public ZabJournal(File base){
+		this.base = base;
+		this.origin = null;
+		this.channel = null;
+		this.size = 0;
+		this.offset = 0;
+		this.recovered = new Recovery();
+		this.compacting = false;
+	}
+
+	/** @return See {@link #base} */
+	public File getBase(){
+		return this.base;
+	}
+
+	/** @return The file holding the log of {@link #base} */
+	public File getFile(){
+		return journalFile(this.base);
+	}
+
+	/** @return true if the log is open and changes can be appended, false otherwise */
+	public synchronized boolean isOpen(){
+		return this.channel != null;
+	}
+
+	/** @return The number of bytes in the log, or 0 if it is not open */
+	public synchronized long size(){
+		return this.isOpen() ? this.size : 0;
+	}
+
+	/**
+	 * Get the position of the end of the log, which keeps increasing as changes are appended, even when the log is replaced by a compaction or a save.
+	 * Used to find the changes appended after a snapshot of the tab was taken, see {@link #saved(ByteBuffer, long)}
+	 * @return The position
+	 */
+	public synchronized long position(){
+		return this.offset + this.size;
+	}
+
+	/** @return See {@link #recovered} */
+	public synchronized Recovery getRecovered(){
+		return this.recovered;
+	}
+
+	/**
+	 * Start a new empty log for the saved file with the given bytes, replacing any existing log. Should be called after {@link #base} is saved
+	 * @param bytes Every byte of {@link #base}, as they were just written, from their position. The position is not moved
+	 * @return true if the log was started, false if bytes is null, or the log cannot be written
+	 */
+	public synchronized boolean start(ByteBuffer bytes){
+		if(bytes == null) return false;
+		try{
+			ByteBuffer origin = stamp(bytes);
+			return this.write(origin, origin, null, ByteBuffer.allocate(0), this.position());
+		}
+		catch(IOException | RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			this.closeChannel();
+			return false;
+		}
+	}
+
+	/**
+	 * Start a new log for the saved file with the given bytes, which were saved from a snapshot of the tab taken when this journal was at the given position.
+	 * Every change appended after the snapshot was taken is kept in the new log, as those changes are not in the saved file.<br>
+	 * If the log was never opened, this is the same as {@link #start(ByteBuffer)}.
+	 * If the log was opened and then closed, nothing is written, as the changes of its tab are no longer being recorded
+	 * @param bytes Every byte of {@link #base}, as they were just written, from their position. The position is not moved
+	 * @param position The value of {@link #position()} when the snapshot was taken
+	 * @return true if the new log was started, false otherwise
+	 */
+	public synchronized boolean saved(ByteBuffer bytes, long position){
+		if(bytes == null) return false;
+		if(this.origin == null) return this.start(bytes);
+		if(this.channel == null) return false;
+		try{
+			ByteBuffer tail = this.tail(position);
+			if(tail == null) return false;
+			ByteBuffer origin = stamp(bytes);
+			return this.write(origin, origin, null, tail, position);
+		}
+		catch(IOException | RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			this.closeChannel();
+			return false;
+		}
+	}
+
+	/**
+	 * Replay every change in the log of {@link #base} on top of the given {@link Tab}, which should have just been loaded from the given bytes of {@link #base}.
+	 * The changes are applied to a copy of the tab, or to the compacted file if the log was compacted,
+	 * 	and the notes which they change on the given tab are kept in {@link #recovered}. The given tab is not modified.
+	 * Afterwards, the log is left open, so new changes are added after the replayed ones.
+	 * If there is no log for the given bytes, a new log is started
+	 * @param bytes Every byte of {@link #base}, as they were just read, from their position. The position is not moved
+	 * @param tab The tab
+	 * @return The number of changes replayed, or -1 if no log could be opened or started
+	 */
+	public synchronized int replay(ByteBuffer bytes, Tab tab){
+		if(bytes == null || tab == null) return -1;
+		this.closeChannel();
+		this.recovered = new Recovery();
+		try{
+			ByteBuffer origin = stamp(bytes);
+
+			// A log left part way through a compaction may be the only one which matches the compacted file
+			File[] logs = new File[]{this.getFile(), nextFile(this.base)};
+			for(File log : logs){
+				ByteBuffer logBytes = FileUtils.read(log);
+				if(logBytes == null || logBytes.remaining() < HEADER_SIZE) continue;
+				ByteBuffer start = slice(logBytes, HEADER_SIZE - STAMP_SIZE, STAMP_SIZE);
+				if(!slice(logBytes, 0, HEADER_SIZE).equals(header(origin, start))) continue;
+				// A compacted log is replayed on top of its compacted file, which must be the one it was written for
+				Tab replayed;
+				if(start.equals(origin)) replayed = tab.copy();
+				else{
+					ByteBuffer compacted = FileUtils.read(compactedFile(this.base));
+					replayed = new Tab();
+					if(compacted == null || !stamp(compacted).equals(start) || !ZabBinaryFormat.decode(compacted, replayed, (ZabSettings)null)) continue;
+					if(replayed.getStrings().size() != tab.getStrings().size()) continue;
+				}
+
+				BinaryReader r = new BinaryReader(logBytes);
+				r.position(HEADER_SIZE);
+				int count = 0;
+				int end = HEADER_SIZE;
+				while(r.remaining() > 0 && applyChange(logBytes, r, replayed)){
+					count++;
+					end = r.position();
+				}
+
+				// Anything after the last whole change was only partly written, and is removed
+				if(!log.equals(this.getFile())) FileUtils.move(log, this.getFile());
+				try(FileChannel c = FileChannel.open(this.getFile().toPath(), StandardOpenOption.WRITE)){
+					c.truncate(end);
+				}
+				this.origin = origin;
+				this.offset = 0;
+				// The compacted file holds changes even when no changes were appended after it
+				if(count > 0 || !start.equals(origin)) this.recovered = new Recovery(tab, replayed);
+				if(!this.openChannel(end)) return -1;
+				return count;
+			}
+		}
+		catch(IOException | RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return -1;
+		}
+		return this.start(bytes) ? 0 : -1;
+	}
+
+	/**
+	 * Append the given change to the end of the log. Does nothing if the log is not open, or the change is empty
+	 * @param change The change
+	 * @return true if the change was appended, false otherwise. If the change could not be written, the log is closed
+	 */
+	public synchronized boolean append(Change change){
+		if(this.channel == null || change == null || change.isEmpty()) return false;
+		ByteBuffer body = change.getBytes().toBuffer();
+		BinaryWriter w = new BinaryWriter(body.remaining() + 16);
+		w.putVarLong(body.remaining());
+		w.putInt(checksum(body.duplicate()));
+		w.putBytes(body);
+		try{
+			w.writeTo(this.channel);
+			this.size += w.size();
+			return true;
+		}
+		catch(IOException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			// The end of the log can no longer be trusted, so no more changes are written to it
+			this.closeChannel();
+			return false;
+		}
+	}
+
+	/**
+	 * Close the log and delete it, so that it is not replayed. Used when a change is made which the log cannot record
+	 */
+	public synchronized void discard(){
+		this.closeChannel();
+		try{
+			Files.deleteIfExists(this.getFile().toPath());
+			Files.deleteIfExists(nextFile(this.base).toPath());
+			Files.deleteIfExists(compactedFile(this.base).toPath());
+		}
+		catch(IOException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+		}
+	}
+
+	/** @return true if the log is at least {@link #COMPACT_SIZE} bytes, and is not already being compacted, false otherwise */
+	public synchronized boolean shouldCompact(){
+		return this.isOpen() && !this.compacting && this.size >= COMPACT_SIZE;
+	}
+
+	/**
+	 * Start compacting the log on the thread of the given worker, saving the current state of the given {@link Tab} as the compacted file.
+	 * The compaction runs after every save and load already asked of the worker, so it never writes the log at the same time as a save starts a new one.
+	 * Changes can still be appended while the compaction runs
+	 * @param tab The tab, which must be in the state of {@link #base} with every change of the log applied
+	 * @param worker The worker which saves {@link #base}
+	 * @return true if the compaction was started, false if the log is not open, or is already being compacted
+	 */
+	public synchronized boolean compact(Tab tab, ZabFileWorker worker){
+		if(!this.isOpen() || this.compacting || worker == null) return false;
+		this.compacting = true;
+		final TabSnapshot snapshot = tab.snapshot();
+		final long position = this.position();
+		return worker.execute(new Runnable(){
+			@Override
+			public void run(){
+				compact(snapshot, position);
+			}
+		});
+	}
+
+	/**
+	 * Save the given snapshot as the compacted file, and start a new log holding every change appended after the snapshot was taken.
+	 * {@link #base} is not changed
+	 * @param snapshot The snapshot to save
+	 * @param position The value of {@link #position()} when the snapshot was taken
+	 * @return true if the log was compacted, false otherwise
+	 */
+	boolean compact(TabSnapshot snapshot, long position){
+		try{
+			// The compacted file is written without holding the lock, so that changes can still be appended
+			ByteBuffer bytes = ZabBinaryFormat.encode(snapshot.toTab(), false);
+			if(bytes == null) return false;
+			File compacted = compactedFile(this.base);
+			File temp = FileUtils.tempFile(compacted);
+			FileUtils.write(temp, bytes.duplicate());
+			ByteBuffer start = stamp(bytes);
+
+			synchronized(this){
+				// Copy the changes appended since the snapshot into a new log for the new compacted file
+				ByteBuffer tail = (this.channel == null) ? null : this.tail(position);
+				if(tail == null){
+					Files.deleteIfExists(temp.toPath());
+					return false;
+				}
+				return this.write(this.origin, start, temp, tail, position);
+			}
+		}
+		catch(IOException | RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return false;
+		}
+		finally{
+			synchronized(this){
+				this.compacting = false;
+			}
+		}
+	}
+
+	/**
+	 * Close the log, without deleting it
+	 */
+	@Override
+	public synchronized void close(){
+		this.closeChannel();
+	}
+
+	/**
+	 * Read the changes at the end of the log, appended after the given position
+	 * @param position A value of {@link #position()}
+	 * @return The bytes of the changes, or null if the position is not in the log
+	 * @throws IOException If the log cannot be read
+	 */
+	private ByteBuffer tail(long position) throws IOException{
+		long start = position - this.offset;
+		if(start < HEADER_SIZE || start > this.size) return null;
+		ByteBuffer tail = ByteBuffer.allocate((int)(this.size - start));
+		while(tail.hasRemaining() && this.channel.read(tail, start + tail.position()) >= 0);
+		tail.flip();
+		return tail;
+	}
+
+	/**
+	 * Replace the log with a new log, and open it for appending
+	 * @param origin The length and checksum of the saved file, see {@link #header(ByteBuffer, ByteBuffer)}
+	 * @param start The length and checksum of the file which the changes are replayed on top of
+	 * @param compacted A new compacted file to move in place of the compacted file, or null if the changes are replayed on top of the saved file,
+	 * 	in which case the compacted file is deleted
+	 * @param tail The changes of the new log
+	 * @param position The value of {@link #position()} at the first change of tail
+	 * @return true if the log was replaced, false otherwise
+	 * @throws IOException If a file cannot be written
+	 */
+	private boolean write(ByteBuffer origin, ByteBuffer start, File compacted, ByteBuffer tail, long position) throws IOException{
+		int length = HEADER_SIZE + tail.remaining();
+		ByteBuffer next = ByteBuffer.allocate(length);
+		next.put(header(origin, start)).put(tail).flip();
+		File nextFile = nextFile(this.base);
+		FileUtils.write(nextFile, next);
+
+		// Replacing the compacted file first means the new log matches it if writing stops before the log is moved, see replay
+		this.closeChannel();
+		if(compacted != null) FileUtils.move(compacted, compactedFile(this.base));
+		FileUtils.move(nextFile, this.getFile());
+		// The changes of an old compacted file are all in the saved file now
+		if(compacted == null) Files.deleteIfExists(compactedFile(this.base).toPath());
+		this.origin = origin;
+		this.offset = position - HEADER_SIZE;
+		return this.openChannel(length);
+	}
+
+	/**
+	 * Open {@link #channel} on the log for appending
+	 * @param length The number of bytes in the log
+	 * @return true if the log was opened, false otherwise
+	 * @throws IOException If the log cannot be opened
+	 */
+	private boolean openChannel(long length) throws IOException{
+		this.channel = FileChannel.open(this.getFile().toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.channel.position(length);
+		this.size = length;
+		return true;
+	}
+
+	/**
+	 * Close {@link #channel}, if it is open
+	 */
+	private void closeChannel(){
+		if(this.channel == null) return;
+		try{
+			this.channel.close();
+		}
+		catch(IOException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+		}
+		this.channel = null;
+	}
+
+	/**
+	 * Read one change from the log and apply it to the given tab
+	 * @param log Every byte of the log, with its position at zero
+	 * @param r A reader of log, at the start of the change
+	 * @param tab The tab
+	 * @return true if the change was applied, false if it is not a whole, valid change, in which case the tab is not modified
+	 */
+	private static boolean applyChange(ByteBuffer log, BinaryReader r, Tab tab){
+		ArrayList<TabPosition> notes = new ArrayList<TabPosition>();
+		ArrayList<Integer> ops = new ArrayList<Integer>();
+		try{
+			int length = r.getVarInt();
+			int check = r.getInt();
+			BinaryReader body = r.section(r.position(), length);
+			ByteBuffer bytes = log.duplicate();
+			bytes.position(r.position());
+			bytes.limit(r.position() + length);
+			if(checksum(bytes) != check) return false;
+			r.position(r.position() + length);
+
+			// Read the whole change before applying any of it
+			ArrayList<TabString> strings = tab.getStrings();
+			while(body.remaining() > 0){
+				int op = body.getByte();
+				int string = body.getVarInt();
+				TabPosition p = ZabBinaryFormat.readNote(body);
+				if(op != OP_REMOVE && op != OP_PLACE || string >= strings.size() || p == null) return false;
+				ops.add((string << 1) | op);
+				notes.add(p);
+			}
+		}
+		catch(RuntimeException e){
+			return false;
+		}
+		for(int i = 0; i < notes.size(); i++){
+			TabString s = tab.getStrings().get(ops.get(i) >> 1);
+			// Notes are placed the same way the editor places them, only if no note is already there
+			if((ops.get(i) & 1) == OP_PLACE) s.add(notes.get(i));
+			else s.remove(notes.get(i));
+		}
+		return true;
+	}
+
+	/**
+	 * Get the header of a log
+	 * @param origin The length and checksum of the saved file, see {@link #stamp(ByteBuffer)}
+	 * @param start The length and checksum of the file which the changes are replayed on top of, the same as origin for a log which was not compacted
+	 * @return The header
+	 */
+	private static ByteBuffer header(ByteBuffer origin, ByteBuffer start){
+		BinaryWriter w = new BinaryWriter(HEADER_SIZE);
+		w.putBytes(MAGIC);
+		w.putInt(VERSION);
+		w.putBytes(origin.duplicate());
+		w.putBytes(start.duplicate());
+		return w.toBuffer();
+	}
+
+	/**
+	 * Get the length and checksum of a file with the given bytes
+	 * @param bytes The bytes of the file, from their position. The position is not moved
+	 * @return The length and checksum, {@link #STAMP_SIZE} bytes
+	 */
+	private static ByteBuffer stamp(ByteBuffer bytes){
+		BinaryWriter w = new BinaryWriter(STAMP_SIZE);
+		w.putLong(bytes.remaining());
+		w.putInt(checksum(bytes.duplicate()));
+		return w.toBuffer();
+	}
+
+	/**
+	 * Get a view of part of the given bytes
+	 * @param bytes The bytes
+	 * @param start The index of the first byte of the view
+	 * @param length The number of bytes in the view
+	 * @return The view
+	 */
+	private static ByteBuffer slice(ByteBuffer bytes, int start, int length){
+		ByteBuffer view = bytes.duplicate();
+		view.position(start);
+		view.limit(start + length);
+		return view;
+	}
+
+	/**
+	 * Find the checksum of the given bytes
+	 * @param bytes The bytes, the position is moved to the limit
+	 * @return The checksum
+	 */
+	private static int checksum(ByteBuffer bytes){
+		CRC32 crc = new CRC32();
+		crc.update(bytes);
+		return (int)crc.getValue();
+	}
+
+	/**
+	 * Get the file holding the log of the given saved file
+	 * @param base The saved file
+	 * @return The file of the log
+	 */
+	public static File journalFile(File base){
+		return new File(base.getPath() + EXTENSION);
+	}
+
+	/**
+	 * Get the file holding the new log of the given saved file, written while compacting
+	 * @param base The saved file
+	 * @return The file of the new log
+	 */
+	static File nextFile(File base){
+		return new File(base.getPath() + EXTENSION + NEXT_EXTENSION);
+	}
+
+	/**
+	 * Get the file holding the compacted tab of the given saved file, see {@link #compact(Tab, ZabFileWorker)}
+	 * @param base The saved file
+	 * @return The compacted file
+	 */
+	public static File compactedFile(File base){
+		return new File(base.getPath() + EXTENSION + COMPACTED_EXTENSION);
+	}
+
+	/**
+	 * The notes which the changes of a log remove from and place on the tab loaded from its saved file, see {@link ZabJournal#replay(ByteBuffer, Tab)}.
+	 * Removing every removed note, and then placing every placed note, gives the tab with every change of the log applied
+	 * @author zrona
+	 */
+	public static class Recovery{
+
+		/** The notes of the loaded tab which are removed, in a list for each string, in the order of the string */
+		private ArrayList<ArrayList<TabPosition>> removed;
+
+		/** The notes which are placed on the loaded tab, in a list for each string, in the order of the string */
+		private ArrayList<ArrayList<TabPosition>> placed;
+
+		/**
+		 * Create a new {@link Recovery} which changes no notes
+		 */
+		private Recovery(){
+			this.removed = new ArrayList<ArrayList<TabPosition>>();
+			this.placed = new ArrayList<ArrayList<TabPosition>>();
+		}
+
+		/**
+		 * Create a new {@link Recovery} holding the notes which differ between the given tabs, in one pass over each string
+		 * @param loaded The tab loaded from the saved file
+		 * @param replayed The tab with every change of the log applied, with the same number of strings as loaded
+		 */
+		private Recovery(Tab loaded, Tab replayed){
+			this();
+			for(int s = 0; s < loaded.getStrings().size(); s++){
+				TabString from = loaded.getStrings().get(s);
+				TabString to = replayed.getStrings().get(s);
+				ArrayList<TabPosition> remove = new ArrayList<TabPosition>();
+				ArrayList<TabPosition> place = new ArrayList<TabPosition>();
+				// A string has at most one note at a position, so the notes of both strings can be matched by position
+				int i = 0;
+				int j = 0;
+				while(i < from.size() || j < to.size()){
+					TabPosition f = (i < from.size()) ? from.get(i) : null;
+					TabPosition t = (j < to.size()) ? to.get(j) : null;
+					if(t == null || f != null && f.getTicks() < t.getTicks()){
+						remove.add(f);
+						i++;
+					}
+					else if(f == null || t.getTicks() < f.getTicks()){
+						place.add(t);
+						j++;
+					}
+					else{
+						if(!f.equals(t)){
+							remove.add(f);
+							place.add(t);
+						}
+						i++;
+						j++;
+					}
+				}
+				this.removed.add(remove);
+				this.placed.add(place);
+			}
+		}
+
+		/** @return The number of strings which this recovery has notes for */
+		public int getStringCount(){
+			return this.removed.size();
+		}
+
+		/**
+		 * Get the notes removed from a string of the loaded tab
+		 * @param string The index of the string
+		 * @return The notes, which are the notes on the string of the loaded tab
+		 */
+		public List<TabPosition> getRemoved(int string){
+			return this.removed.get(string);
+		}
+
+		/**
+		 * Get the notes placed on a string of the loaded tab
+		 * @param string The index of the string
+		 * @return The notes
+		 */
+		public List<TabPosition> getPlaced(int string){
+			return this.placed.get(string);
+		}
+
+		/** @return true if this recovery removes and places no notes, false otherwise */
+		public boolean isEmpty(){
+			for(int s = 0; s < this.getStringCount(); s++){
+				if(!this.removed.get(s).isEmpty() || !this.placed.get(s).isEmpty()) return false;
+			}
+			return true;
+		}
+
+	}
+
+	/**
+	 * A single change made to a {@link Tab}, made of notes removed from and placed on its strings.
+	 * When replayed, the notes are removed and placed in the order they were added to the change
+	 * @author zrona
+	 */
+	public static class Change{
+
+		/** The notes of this change, see {@link ZabJournal#applyChange(ByteBuffer, BinaryReader, Tab)} */
+		private BinaryWriter bytes;
+
+		/** The number of notes in this change */
+		private int count;
+
+		/**
+		 * Create a new empty {@link Change}
+		 */
+		public Change(){
+			this.bytes = new BinaryWriter(64);
+			this.count = 0;
+		}
+
+		/** @return See {@link #bytes} */
+		BinaryWriter getBytes(){
+			return this.bytes;
+		}
+
+		/** @return true if this change has no notes, false otherwise */
+		public boolean isEmpty(){
+			return this.count == 0;
+		}
+
+		/** @return The number of notes removed or placed by this change */
+		public int size(){
+			return this.count;
+		}
+
+		/**
+		 * Add a removed note to this change
+		 * @param string The index of the string the note was removed from
+		 * @param p The note
+		 * @return true if the note was added, false if it has a symbol which cannot be written
+		 */
+		public boolean remove(int string, TabPosition p){
+			return this.add(OP_REMOVE, string, p);
+		}
+
+		/**
+		 * Add a placed note to this change
+		 * @param string The index of the string the note was placed on
+		 * @param p The note
+		 * @return true if the note was added, false if it has a symbol which cannot be written
+		 */
+		public boolean place(int string, TabPosition p){
+			return this.add(OP_PLACE, string, p);
+		}
+
+		/**
+		 * Add a note to this change
+		 * @param op {@link ZabJournal#OP_REMOVE} or {@link ZabJournal#OP_PLACE}
+		 * @param string The index of the string
+		 * @param p The note
+		 * @return true if the note was added, false if it has a symbol which cannot be written
+		 */
+		private boolean add(int op, int string, TabPosition p){
+			if(string < 0 || p == null) return false;
+			BinaryWriter w = new BinaryWriter(32);
+			w.putByte(op);
+			w.putVarLong(string);
+			if(!ZabBinaryFormat.writeNote(w, p)) return false;
+			this.bytes.putBytes(w.toBuffer());
+			this.count++;
+			return true;
+		}
+
+	}
+
+}
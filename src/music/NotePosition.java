@@ -1,11 +1,11 @@
 package music;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import util.Copyable;
 import util.ObjectUtils;
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
  * An object tracking the position of a musical note in a measure
@@ -19,6 +19,12 @@ public class NotePosition implements Copyable<NotePosition>, Comparable<NotePosi
 	 */
 	private double value;
 	
+	/**
+	 * The {@link #value} of this {@link NotePosition} in {@link Ticks}. 
+	 * Positions are compared and hashed by this value, so positions which differ by less than half a tick are the same position
+	 */
+	private long ticks;
+	
 	/**
 	 * Create a new {@link NotePosition} with the given value
 	 * @param value See {@link #value}
@@ -47,6 +53,12 @@ public class NotePosition implements Copyable<NotePosition>, Comparable<NotePosi
 	 */
 	private void setValue(double value){
 		this.value = value;
+		this.ticks = Ticks.fromMeasures(value);
+	}
+	
+	/** @return See {@link #ticks} */
+	public long getTicks(){
+		return this.ticks;
 	}
 	
 	/**
@@ -94,15 +106,7 @@ public class NotePosition implements Copyable<NotePosition>, Comparable<NotePosi
 	 * @return The new NotePosition
 	 */
 	public NotePosition retimeMeasure(TimeSignature newTime, TimeSignature oldTime){
-		double v = this.getValue();
-		
-		// Determine the measure of this position, as well as its position in the measure
-		int measure = (int)v;
-		double space = v - measure;
-		
-		// Find the rescaled position
-		double newSpace = newTime.retime(oldTime, space);
-		return new NotePosition(measure + newSpace);
+		return new NotePosition(newTime.retimeMeasure(oldTime, this.getValue()));
 	}
 	
 	/**
@@ -117,7 +121,7 @@ public class NotePosition implements Copyable<NotePosition>, Comparable<NotePosi
 	
 	/***/
 	@Override
-	public boolean load(Scanner reader){
+	public boolean load(ZabTokenReader reader){
 		// Load the position value
 		Double load = Saveable.loadDouble(reader);
 		// If the load failed, return false
@@ -144,10 +148,7 @@ public class NotePosition implements Copyable<NotePosition>, Comparable<NotePosi
 	/***/
 	@Override
 	public int compareTo(NotePosition p){
-		double v1 = this.getValue();
-		double v2 = p.getValue();
-		if(v1 < v2) return -1;
-		return v1 > v2 ? 1 : 0;
+		return Long.compare(this.getTicks(), p.getTicks());
 	}
 	
 	/***/
@@ -156,7 +157,13 @@ public class NotePosition implements Copyable<NotePosition>, Comparable<NotePosi
 		if(!ObjectUtils.isType(obj, this.getClass())) return false;
 		NotePosition p = (NotePosition)obj;
 		return 	super.equals(obj) ||
-				this.getValue() == p.getValue();
+				this.getTicks() == p.getTicks();
+	}
+	
+	/***/
+	@Override
+	public int hashCode(){
+		return Long.hashCode(this.getTicks());
 	}
 	
 	/***/
@@ -1,11 +1,11 @@
 package music;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import util.Copyable;
 import util.ObjectUtils;
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
  * An object representing an individual pitch in 12 tone equal temperament
@@ -77,7 +77,7 @@ public class Pitch implements Copyable<Pitch>, Saveable{
 	
 	/***/
 	@Override
-	public boolean load(Scanner reader){
+	public boolean load(ZabTokenReader reader){
 		// Load the integer for the pitch value
 		Integer load = Saveable.loadInt(reader);
 		// If the loading failed, return false
@@ -109,6 +109,12 @@ public class Pitch implements Copyable<Pitch>, Saveable{
 				this.getNote() == p.getNote();
 	}
 	
+	/***/
+	@Override
+	public int hashCode(){
+		return Integer.hashCode(this.getNote());
+	}
+	
 	/***/
 	@Override
 	public String toString(){
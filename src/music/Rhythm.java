@@ -1,12 +1,12 @@
 package music;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import util.Copyable;
 import util.MathUtils;
 import util.ObjectUtils;
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
  * An object representing a musical rhythm via a fraction of the duration and the number of units dividing up a whole note
@@ -83,10 +83,19 @@ public class Rhythm implements Copyable<Rhythm>, Saveable{
 	public double getLength(){
 		return (double)this.getDuration() / this.getUnit();
 	}
-	
+
+	/**
+	 * Determine the length of this {@link Rhythm} in {@link Ticks}
+	 * @param sig The {@link TimeSignature} deciding the length of a measure
+	 * @return The length in ticks, exact for any common rhythm and time signature
+	 */
+	public long getTicks(TimeSignature sig){
+		return Ticks.fromRhythm(this, sig);
+	}
+
 	/***/
 	@Override
-	public boolean load(Scanner reader){
+	public boolean load(ZabTokenReader reader){
 		// Load in the two values for a Rhythm
 		Integer[] load = Saveable.loadInts(reader, 2);
 		// Return false if loading caused an error
@@ -121,6 +130,12 @@ public class Rhythm implements Copyable<Rhythm>, Saveable{
 				this.getUnit() == r.getUnit();
 	}
 	
+	/***/
+	@Override
+	public int hashCode(){
+		return 31 * this.getDuration() + this.getUnit();
+	}
+	
 	/***/
 	@Override
 	public String toString(){
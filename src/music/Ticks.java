@@ -0,0 +1,101 @@
+package music;
+
+/**
+ * A utility class for positions measured in ticks, a fixed point count of a small, fixed fraction of a measure.<br>
+ * Positions in measures are stored as doubles, which can be slightly different for the same place in a measure depending on how they were found.
+ * Ticks are whole numbers, so two positions at the same place always have the same number of ticks,
+ * 	and they can be compared, hashed, and used as indexes exactly.<br>
+ * {@link #PER_MEASURE} is divisible by every number from 1 to 16, and by powers of 2 up to 256,
+ * 	so the length of any common {@link Rhythm} in any common {@link TimeSignature} is an exact number of ticks
+ * @author zrona
+ */
+public final class Ticks{
+
+	/** The number of ticks in one measure, 2^8 * 3^2 * 5 * 7 * 11 * 13 */
+	public static final long PER_MEASURE = 11531520L;
+
+	/** Cannot instantiate {@link Ticks} */
+	private Ticks(){}
+
+	/**
+	 * Convert the given position to ticks, rounding to the nearest tick
+	 * @param measures The position, in measures
+	 * @return The number of ticks
+	 */
+	public static long fromMeasures(double measures){
+		return Math.round(measures * PER_MEASURE);
+	}
+
+	/**
+	 * Convert the given number of ticks to a position
+	 * @param ticks The number of ticks
+	 * @return The position, in measures
+	 */
+	public static double toMeasures(long ticks){
+		return (double)ticks / PER_MEASURE;
+	}
+
+	/**
+	 * Get the measure which the given number of ticks is in
+	 * @param ticks The number of ticks
+	 * @return The measure number, rounded down, so negative positions are in negative measures
+	 */
+	public static long measure(long ticks){
+		return Math.floorDiv(ticks, PER_MEASURE);
+	}
+
+	/**
+	 * Convert a number of notes of the given unit to ticks in the given {@link TimeSignature}.<br>
+	 * The result is exact if the length divides evenly into ticks, otherwise it is rounded to the nearest tick
+	 * @param count The number of notes
+	 * @param unit The unit dividing up a whole note, i.e. 4 for quarter notes, must be greater than 0
+	 * @param sig The {@link TimeSignature} deciding the length of a measure
+	 * @return The number of ticks
+	 */
+	public static long fromWholeNotes(long count, long unit, TimeSignature sig){
+		// A whole note is lower / upper measures
+		return roundDiv(count * PER_MEASURE * sig.getLower(), unit * sig.getUpper());
+	}
+
+	/**
+	 * Get the length of the given {@link Rhythm} in ticks, in the given {@link TimeSignature}
+	 * @param r The {@link Rhythm}
+	 * @param sig The {@link TimeSignature} deciding the length of a measure
+	 * @return The number of ticks
+	 */
+	public static long fromRhythm(Rhythm r, TimeSignature sig){
+		return fromWholeNotes(r.getDuration(), r.getUnit(), sig);
+	}
+
+	/**
+	 * Quantize the given number of ticks to the nearest place in a measure, the same way as {@link TimeSignature#quantize(double, double)},
+	 * 	but using only whole numbers, so the same place in a measure always gives the same number of ticks
+	 * @param ticks The number of ticks
+	 * @param sig The {@link TimeSignature} to base the quantization off of
+	 * @param divisor The amount to divide up the units of a whole note, must be greater than 0.<br>
+	 * 	i.e. use 4 to quantize to quarter notes, 3 for whole note triplets, use 6 for dotted quarter notes, etc
+	 * @return The quantized number of ticks
+	 */
+	public static long quantize(long ticks, TimeSignature sig, int divisor){
+		// Each place is lower / (divisor * upper) measures apart
+		long num = PER_MEASURE * sig.getLower();
+		long den = (long)divisor * sig.getUpper();
+		// When the places are a whole number of ticks apart, only one division is needed
+		if(num % den == 0){
+			long step = num / den;
+			return roundDiv(ticks, step) * step;
+		}
+		return roundDiv(roundDiv(ticks * den, num) * num, den);
+	}
+
+	/**
+	 * Divide the given numbers, rounding to the nearest whole number, and rounding halves up, like {@link Math#round(double)}
+	 * @param n The numerator
+	 * @param d The denominator, must be greater than 0
+	 * @return The rounded quotient
+	 */
+	private static long roundDiv(long n, long d){
+		return Math.floorDiv(2 * n + d, 2 * d);
+	}
+
+}
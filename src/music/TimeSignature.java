@@ -1,11 +1,11 @@
 package music;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import util.Copyable;
 import util.ObjectUtils;
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
  * An object keeping track of a musical time signature
@@ -97,7 +97,7 @@ public class TimeSignature implements Copyable<TimeSignature>, Saveable{
 		double d = divisor * this.getRatio();
 		return Math.round(pos * d) / d;
 	}
-	
+
 	/**
 	 * Convert the given time value so that it is the same number of whole notes in the old time signature,
 	 * 	but now in this {@link TimeSignature}
@@ -109,6 +109,22 @@ public class TimeSignature implements Copyable<TimeSignature>, Saveable{
 		return oldTime.toWholeNotes(this.toMeasures(wholeNotes));
 	}
 	
+	/**
+	 * Convert the given position so that it stays in the same measure and same relative position in the measure, 
+	 * 	but now in this {@link TimeSignature}
+	 * @param oldTime The {@link TimeSignature} of the given position
+	 * @param measures The position to retime, in measures
+	 * @return The retimed position
+	 */
+	public double retimeMeasure(TimeSignature oldTime, double measures){
+		// Determine the measure of the position, as well as its position in the measure
+		int measure = (int)measures;
+		double space = measures - measure;
+		
+		// Find the rescaled position
+		return measure + this.retime(oldTime, space);
+	}
+	
 	/**
 	 * Determine the number of measures in the given number of whole notes
 	 * @param wholeNotes The number of whole notes
@@ -188,7 +204,7 @@ public class TimeSignature implements Copyable<TimeSignature>, Saveable{
 	
 	/***/
 	@Override
-	public boolean load(Scanner reader){
+	public boolean load(ZabTokenReader reader){
 		// Get the two integers for loading this TimeSignature
 		Integer[] load = Saveable.loadInts(reader, 2);
 		// Return false if the load fails
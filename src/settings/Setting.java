@@ -1,12 +1,12 @@
 package settings;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import appUtils.ZabConstants;
 import appUtils.settings.ZabSettings;
 import util.ObjectUtils;
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
  * A class representing a setting used by {@link ZabSettings}
@@ -75,6 +75,20 @@ public abstract class Setting<T> implements Saveable{
 		this.defaultValue = defaultValue;
 	}
 
+	/**
+	 * Set the value and default value of this {@link Setting} to those of the given {@link Setting}
+	 * @param s The setting to copy, must be of the same type as this setting
+	 * @return true if the values were copied, false if s is not of the same type, in which case nothing is changed
+	 */
+	@SuppressWarnings("unchecked")
+	public boolean copy(Setting<?> s){
+		// Settings of the same class always hold the same type of value
+		if(s == null || s.getClass() != this.getClass()) return false;
+		this.set((T)s.get());
+		this.setDefault((T)s.getDefault());
+		return true;
+	}
+	
 	/**
 	 * Set the value of this {@link Setting} to its default value
 	 */
@@ -86,7 +100,7 @@ public abstract class Setting<T> implements Saveable{
 	 * Load in the setting, handling error checking
 	 */
 	@Override
-	public final boolean load(Scanner reader){
+	public final boolean load(ZabTokenReader reader){
 		if(reader == null) return false;
 		try{
 			return this.loadValues(reader);
@@ -112,12 +126,12 @@ public abstract class Setting<T> implements Saveable{
 	
 	/**
 	 * Load the value and default value of this Setting
-	 * @param reader The {@link Scanner} object to use loading, do not close this object. 
+	 * @param reader The {@link ZabTokenReader} object to use loading, do not close this object. 
 	 * 	Can assume this object is not null, all calls to this method should never send a null parameter
 	 * @return True if the load was successful, false otherwise
 	 * @throws Exception Any exception which can happen in loading
 	 */
-	public abstract boolean loadValues(Scanner reader) throws Exception;
+	public abstract boolean loadValues(ZabTokenReader reader) throws Exception;
 	
 	/**
 	 * Save the value and default value of this Setting
@@ -1,9 +1,9 @@
 package settings;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
  * A class specifically for handling boolean settings, i.e. settings which either are or are not
@@ -20,7 +20,7 @@ public class SettingBoolean extends NotNullSetting<Boolean>{
 	}
 	/***/
 	@Override
-	public boolean loadValues(Scanner reader) throws Exception{
+	public boolean loadValues(ZabTokenReader reader) throws Exception{
 		this.set(reader.nextBoolean());
 		this.setDefault(reader.nextBoolean());
 		return Saveable.nextLine(reader);
@@ -1,9 +1,9 @@
 package settings;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
  * A {@link Setting} representing a character
@@ -37,7 +37,7 @@ public class SettingChar extends NotNullSetting<Character>{
 	
 	/***/
 	@Override
-	public boolean loadValues(Scanner reader) throws Exception{
+	public boolean loadValues(ZabTokenReader reader) throws Exception{
 		// Load the two lines, and if the load fails, return false
 		String[] load = Saveable.loadStrings(reader, 2);
 		if(load == null) return false;
@@ -1,9 +1,9 @@
 package settings;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
  * A {@link Setting} specifically designed for handling {@link Number} objects
@@ -141,7 +141,7 @@ public abstract class SettingNumber<T extends Number> extends NotNullSetting<T>{
 	public abstract void add(T toAdd);
 	
 	@Override
-	public boolean loadValues(Scanner reader) throws Exception{
+	public boolean loadValues(ZabTokenReader reader) throws Exception{
 		// Load the 4 values, if an issue happened, return false
 		Object[] load = Saveable.loadObjects(reader, 4, 6);
 		if(load == null) return false;
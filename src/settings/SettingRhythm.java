@@ -1,10 +1,10 @@
 package settings;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import music.Rhythm;
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
  * A {@link Setting} used to hold a {@link Rhythm}
@@ -53,7 +53,7 @@ public class SettingRhythm extends NotNullSetting<Rhythm>{
 	}
 
 	@Override
-	public boolean loadValues(Scanner reader) throws Exception{
+	public boolean loadValues(ZabTokenReader reader) throws Exception{
 		// Create objects to load
 		Rhythm v = new Rhythm(1, 1);
 		Rhythm d = new Rhythm(1, 1);
@@ -1,9 +1,9 @@
 package settings;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
  * A setting containing a String, the string cannot include new line characters
@@ -38,7 +38,7 @@ public class SettingString extends NotNullSetting<String>{
 	
 	/***/
 	@Override
-	public boolean loadValues(Scanner reader){
+	public boolean loadValues(ZabTokenReader reader){
 		String[] load = Saveable.loadStrings(reader, 2);
 		if(load == null) return false;
 		this.set(load[0]);
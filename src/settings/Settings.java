@@ -2,10 +2,10 @@ package settings;
 
 import java.io.PrintWriter;
 import java.util.ArrayList;
-import java.util.Scanner;
 
 import util.ObjectUtils;
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
  * An object used for containing settings used by an application.<br>
@@ -104,9 +104,26 @@ public abstract class Settings implements Saveable{
 		}
 	}
 	
+	/**
+	 * Set every setting of this object to the value of the setting at the same place in the given {@link Settings}
+	 * @param settings The settings to copy, must hold the same types of settings in the same order as this object
+	 * @return true if every setting was copied, false if the settings do not match, in which case nothing is changed
+	 */
+	public boolean copy(Settings settings){
+		if(settings == null) return false;
+		ArrayList<Setting<?>> thisSettings = this.getAll();
+		ArrayList<Setting<?>> copySettings = settings.getAll();
+		if(thisSettings.size() != copySettings.size()) return false;
+		for(int i = 0; i < thisSettings.size(); i++){
+			if(thisSettings.get(i).getClass() != copySettings.get(i).getClass()) return false;
+		}
+		for(int i = 0; i < thisSettings.size(); i++) thisSettings.get(i).copy(copySettings.get(i));
+		return true;
+	}
+	
 	/***/
 	@Override
-	public boolean load(Scanner reader){
+	public boolean load(ZabTokenReader reader){
 		for(Setting<?> s : this.getAll()){
 			if(!s.load(reader)) return false;
 		}
@@ -0,0 +1,209 @@
+package tab;
+
+import java.util.List;
+
+/**
+ * An object for going through the notes of a list of {@link TabString} objects in order of position,
+ * 	grouping together all of the notes at the same position into one column, like a chord.<br>
+ * The strings are merged as the columns are found, keeping one note of each string in a heap,
+ * 	so finding each note takes time for the log of the number of strings, and the notes are never copied or sorted.<br>
+ * The same arrays are reused for every column and every range, so going through the columns allocates no objects.
+ * Because of this, the current column is only valid until {@link #next()} is called again,
+ * 	and this object should only be used by one thread at a time
+ * @author zrona
+ */
+public class ColumnIterator{
+
+	/** The strings which this {@link ColumnIterator} goes through */
+	private List<TabString> strings;
+
+	/** For each string, the index of the next note on that string which is not yet in a column */
+	private int[] cursors;
+	/** For each string, the index of the first note after the current range */
+	private int[] stops;
+
+	/** A binary min heap of string indexes, ordered by the position of the next note on each string */
+	private int[] heap;
+	/** The number of strings in {@link #heap} */
+	private int heapSize;
+
+	/** For each string, the note of that string in the current column, or null if the string has no note in the column */
+	private TabPosition[] column;
+	/** The indexes of the strings which have a note in the current column */
+	private int[] columnStrings;
+	/** The number of strings which have a note in the current column */
+	private int columnSize;
+	/** The position of the current column */
+	private double position;
+	/** The position of the current column, in ticks */
+	private long ticks;
+
+	/**
+	 * Create a new {@link ColumnIterator} which goes through every note of the given strings.
+	 * The strings should not have notes added or removed between calls to {@link #range(double, double, boolean)} and {@link #next()}
+	 * @param strings See {@link #strings}
+	 */
+	public ColumnIterator(List<TabString> strings){
+		this.strings = strings;
+		this.columnSize = 0;
+		this.all();
+	}
+
+	/** @return See {@link #strings} */
+	public List<TabString> getStrings(){
+		return this.strings;
+	}
+
+	/**
+	 * Restart this {@link ColumnIterator} at the beginning of the strings, going through every note
+	 * @return This {@link ColumnIterator}
+	 */
+	public ColumnIterator all(){
+		return this.range(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, true);
+	}
+
+	/**
+	 * Restart this {@link ColumnIterator}, going through only the notes with a position greater than or equal to start,
+	 * 	and less than end, or equal to end if includeEnd is true.
+	 * Call {@link #next()} to move to the first column
+	 * @param start The lowest position to include
+	 * @param end The highest position of the range
+	 * @param includeEnd true to include notes at exactly the end position, false otherwise
+	 * @return This {@link ColumnIterator}
+	 */
+	public ColumnIterator range(double start, double end, boolean includeEnd){
+		int size = this.strings.size();
+		// Strings may have been added or removed since the last range, so the arrays must match the current number of strings
+		if(this.column == null || this.column.length != size){
+			this.cursors = new int[size];
+			this.stops = new int[size];
+			this.heap = new int[size];
+			this.column = new TabPosition[size];
+			this.columnStrings = new int[size];
+			this.columnSize = 0;
+		}
+		this.clearColumn();
+		this.heapSize = 0;
+		for(int i = 0; i < this.strings.size(); i++){
+			TabString s = this.strings.get(i);
+			this.cursors[i] = s.firstIndexFrom(start);
+			this.stops[i] = includeEnd ? s.firstIndexAfter(end) : s.firstIndexFrom(end);
+			if(this.cursors[i] < this.stops[i]) this.push(i);
+		}
+		return this;
+	}
+
+	/**
+	 * Move to the next column
+	 * @return true if there is another column, false if every note in the range has been gone through
+	 */
+	public boolean next(){
+		this.clearColumn();
+		if(this.heapSize == 0) return false;
+
+		int first = this.heap[0];
+		this.position = this.strings.get(first).get(this.cursors[first]).getPos();
+		this.ticks = this.nextTicks(first);
+		// Take the next note of every string whose next note is at the position of this column
+		while(this.heapSize > 0 && this.nextTicks(this.heap[0]) == this.ticks){
+			int s = this.pop();
+			// Only the first of any notes on the same string at the same position is used
+			if(this.column[s] == null){
+				this.column[s] = this.strings.get(s).get(this.cursors[s]);
+				this.columnStrings[this.columnSize++] = s;
+			}
+			this.cursors[s]++;
+			if(this.cursors[s] < this.stops[s]) this.push(s);
+		}
+		return true;
+	}
+
+	/** @return The position of the current column, in measures */
+	public double position(){
+		return this.position;
+	}
+
+	/** @return The position of the current column, in ticks */
+	public long ticks(){
+		return this.ticks;
+	}
+
+	/**
+	 * Get the note of the given string in the current column
+	 * @param string The index of the string
+	 * @return The note, or null if the string has no note in the current column
+	 */
+	public TabPosition get(int string){
+		return this.column[string];
+	}
+
+	/** @return The number of strings which have a note in the current column */
+	public int size(){
+		return this.columnSize;
+	}
+
+	/**
+	 * Get the index of a string which has a note in the current column
+	 * @param i The index of the note in the column, from 0 to {@link #size()}, the notes are in no particular order
+	 * @return The index of the string
+	 */
+	public int stringIndex(int i){
+		return this.columnStrings[i];
+	}
+
+	/** Remove every note from the current column */
+	private void clearColumn(){
+		for(int i = 0; i < this.columnSize; i++) this.column[this.columnStrings[i]] = null;
+		this.columnSize = 0;
+	}
+
+	/**
+	 * Get the position of the next note on the given string
+	 * @param s The index of the string, must have a next note
+	 * @return The position, in ticks
+	 */
+	private long nextTicks(int s){
+		return this.strings.get(s).get(this.cursors[s]).getTicks();
+	}
+
+	/**
+	 * Add the given string to {@link #heap}
+	 * @param s The index of the string, must have a next note
+	 */
+	private void push(int s){
+		long pos = this.nextTicks(s);
+		int i = this.heapSize++;
+		// Move the string up until its parent comes before it
+		while(i > 0){
+			int parent = (i - 1) >> 1;
+			if(this.nextTicks(this.heap[parent]) <= pos) break;
+			this.heap[i] = this.heap[parent];
+			i = parent;
+		}
+		this.heap[i] = s;
+	}
+
+	/**
+	 * Remove the string with the lowest next position from {@link #heap}
+	 * @return The index of the string
+	 */
+	private int pop(){
+		int top = this.heap[0];
+		int last = this.heap[--this.heapSize];
+		if(this.heapSize == 0) return top;
+		long pos = this.nextTicks(last);
+		int i = 0;
+		// Move the last string down until both of its children come after it
+		while(true){
+			int child = (i << 1) + 1;
+			if(child >= this.heapSize) break;
+			if(child + 1 < this.heapSize && this.nextTicks(this.heap[child + 1]) < this.nextTicks(this.heap[child])) child++;
+			if(pos <= this.nextTicks(this.heap[child])) break;
+			this.heap[i] = this.heap[child];
+			i = child;
+		}
+		this.heap[i] = last;
+		return top;
+	}
+
+}
@@ -0,0 +1,157 @@
+package tab;
+
+import java.util.List;
+
+/**
+ * An object for finding the notes of a list of {@link TabString} objects by measure, without searching every note.<br>
+ * Each {@link TabString} keeps track of the index of the first note in each of its measures,
+ * 	updating it as single notes are placed and removed, so finding the notes in a range only searches inside one measure for each end of the range.<br>
+ * This object is also a cursor over the notes found by {@link #notesInRange(double, double, boolean)},
+ * 	the same cursor is reused by every search, so searching allocates no objects.
+ * Because of this, only one search should be in use at a time, and this object should only be used by one thread at a time
+ * @author zrona
+ */
+public class MeasureIndex{
+
+	/** The strings which this {@link MeasureIndex} finds notes on */
+	private List<TabString> strings;
+
+	/** The lowest position included in the current search */
+	private double start;
+	/** The highest position of the current search */
+	private double end;
+	/** true if notes at exactly {@link #end} are included in the current search, false otherwise */
+	private boolean includeEnd;
+
+	/** The index in {@link #strings} of the string of the current note of the search */
+	private int string;
+	/** The index on its string of the current note of the search */
+	private int index;
+	/** The index on the current string of the first note after the current search */
+	private int stop;
+
+	/**
+	 * Create a new {@link MeasureIndex} for the given strings. No search is started
+	 * @param strings See {@link #strings}
+	 */
+	public MeasureIndex(List<TabString> strings){
+		this.strings = strings;
+		this.notesInRange(0, 0, false);
+		this.string = strings.size();
+	}
+
+	/** @return See {@link #strings} */
+	public List<TabString> getStrings(){
+		return this.strings;
+	}
+
+	/**
+	 * Get the index of the first note in the given measure on the given string
+	 * @param string The index of the string
+	 * @param measure The measure number
+	 * @return The index of the first note with a position greater than or equal to measure,
+	 * 	or the number of notes on the string if there is no such note
+	 */
+	public int measureStart(int string, int measure){
+		return this.strings.get(string).measureStart(measure);
+	}
+
+	/**
+	 * Get the index after the last note in the given measure on the given string
+	 * @param string The index of the string
+	 * @param measure The measure number
+	 * @return The index of the first note with a position greater than or equal to the next measure,
+	 * 	or the number of notes on the string if there is no such note
+	 */
+	public int measureEnd(int string, int measure){
+		return this.measureStart(string, measure + 1);
+	}
+
+	/**
+	 * Count the number of notes on all strings in the given range
+	 * @param start The lowest position to include
+	 * @param end The highest position of the range
+	 * @param includeEnd true to include notes at exactly the end position, false otherwise
+	 * @return The number of notes
+	 */
+	public int count(double start, double end, boolean includeEnd){
+		int total = 0;
+		for(TabString s : this.strings){
+			total += Math.max(0, (includeEnd ? s.firstIndexAfter(end) : s.firstIndexFrom(end)) - s.firstIndexFrom(start));
+		}
+		return total;
+	}
+
+	/**
+	 * Begin a new search for every note with a position greater than or equal to start, and less than end.
+	 * See {@link #notesInRange(double, double, boolean)}
+	 * @param start The lowest position to include
+	 * @param end The position after the range
+	 * @return This {@link MeasureIndex}, as a cursor over the found notes
+	 */
+	public MeasureIndex notesInRange(double start, double end){
+		return this.notesInRange(start, end, false);
+	}
+
+	/**
+	 * Begin a new search for every note with a position greater than or equal to start, and less than end, or equal to end if includeEnd is true.<br>
+	 * The notes are found string by string, in increasing order of position on each string.
+	 * Call {@link #next()} to move to the first note, and to each note after it.
+	 * This ends any search which was already in progress
+	 * @param start The lowest position to include
+	 * @param end The highest position of the range
+	 * @param includeEnd true to include notes at exactly the end position, false otherwise
+	 * @return This {@link MeasureIndex}, as a cursor over the found notes
+	 */
+	public MeasureIndex notesInRange(double start, double end, boolean includeEnd){
+		this.start = start;
+		this.end = end;
+		this.includeEnd = includeEnd;
+		this.string = -1;
+		this.index = 0;
+		this.stop = 0;
+		return this;
+	}
+
+	/**
+	 * Move to the next note of the current search
+	 * @return true if there is a next note, false if the search has ended
+	 */
+	public boolean next(){
+		this.index++;
+		while(this.index >= this.stop){
+			this.string++;
+			if(this.string >= this.strings.size()){
+				this.string = this.strings.size();
+				this.index = this.stop;
+				return false;
+			}
+			// Find the range of notes on the next string
+			TabString s = this.strings.get(this.string);
+			this.index = s.firstIndexFrom(this.start);
+			this.stop = this.includeEnd ? s.firstIndexAfter(this.end) : s.firstIndexFrom(this.end);
+		}
+		return true;
+	}
+
+	/** @return The index in {@link #getStrings()} of the string of the current note of the search */
+	public int stringIndex(){
+		return this.string;
+	}
+
+	/** @return The index of the current note of the search, on its string */
+	public int index(){
+		return this.index;
+	}
+
+	/** @return The {@link TabString} of the current note of the search */
+	public TabString string(){
+		return this.strings.get(this.string);
+	}
+
+	/** @return The current note of the search */
+	public TabPosition position(){
+		return this.string().get(this.index);
+	}
+
+}
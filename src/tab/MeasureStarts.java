@@ -0,0 +1,192 @@
+package tab;
+
+import java.util.Arrays;
+
+import music.Ticks;
+
+/**
+ * The measure bookkeeping kept by a {@link TabString}, used to find the index of the first note on the string at or after any measure.<br>
+ * The number of notes in each measure is kept in a Fenwick tree, so adding or removing a single note, and finding the start of a measure,
+ * 	each take time for the logarithm of the number of measures. This is kept up to date as notes are placed and removed.
+ * Any other change to the string marks these values as out of date, and they are rebuilt the next time they are needed.<br>
+ * The values are rebuilt into a new {@link Counts}, which is only published once it is complete, so any number of threads
+ * 	can find the starts of measures at the same time, as long as the string is not being modified
+ * @author zrona
+ */
+final class MeasureStarts{
+
+	/** The number of measures which can be tracked, a power of two. A note past this measure stops this object from being used, see {@link Counts#overflow} */
+	static final int MAX_MEASURES = 1 << 20;
+
+	/** The {@link TabString} which this object tracks */
+	private final TabString string;
+
+	/** The counts of the notes on {@link #string}, or null if they must be rebuilt before they are used */
+	private volatile Counts counts;
+
+	/**
+	 * Create a new set of measure starts for the given string. The values will be built the first time they are needed
+	 * @param string See {@link #string}
+	 */
+	MeasureStarts(TabString string){
+		this.string = string;
+		this.counts = null;
+	}
+
+	/**
+	 * Get the index of the first note on {@link #string} with a position greater than or equal to the given measure
+	 * @param measure The measure number
+	 * @return The index, at least zero, and at most the size of {@link #string}
+	 */
+	int start(int measure){
+		Counts c = this.counts;
+		if(c == null) c = this.rebuild();
+		// Negative measures are not stored, the notes before them must be searched for
+		if(c.overflow || measure < 0) return this.string.firstIndexFromTicks(measure * Ticks.PER_MEASURE, 0, this.string.size());
+		return c.before + c.prefix(Math.min(measure, c.tree.length - 1));
+	}
+
+	/**
+	 * Update these measures for a note which has just been added to {@link #string}
+	 * @param pos The position of the added note, in ticks
+	 */
+	void added(long pos){
+		Counts c = this.counts;
+		if(c != null) c.update(Ticks.measure(pos), 1);
+	}
+
+	/**
+	 * Update these measures for a note which has just been removed from {@link #string}
+	 * @param pos The position of the removed note, in ticks
+	 */
+	void removed(long pos){
+		Counts c = this.counts;
+		if(c != null) c.update(Ticks.measure(pos), -1);
+	}
+
+	/**
+	 * Update these measures for a note on {@link #string} which has just been replaced by a note at a different position
+	 * @param oldPos The position of the replaced note, in ticks
+	 * @param newPos The position of the new note, in ticks
+	 */
+	void moved(long oldPos, long newPos){
+		// Moving a note inside of its measure does not change where any measure starts
+		if(Ticks.measure(oldPos) == Ticks.measure(newPos)) return;
+		this.removed(oldPos);
+		this.added(newPos);
+	}
+
+	/** Mark these measures as no longer matching {@link #string}, so that they will be rebuilt when they are next used */
+	void invalidate(){
+		this.counts = null;
+	}
+
+	/**
+	 * Rebuild all of these measures from the notes on {@link #string}, in one pass over the string
+	 * @return The new counts, which are also stored in {@link #counts}
+	 */
+	private Counts rebuild(){
+		int size = this.string.size();
+		long last = (size == 0) ? 0 : Ticks.measure(this.string.get(size - 1).getTicks());
+		Counts c = new Counts(last >= MAX_MEASURES ? 1 : capacity(last + 1));
+		if(last >= MAX_MEASURES) c.overflow = true;
+		else{
+			int[] tree = c.tree;
+			for(int i = 0; i < size; i++){
+				long m = Ticks.measure(this.string.get(i).getTicks());
+				if(m < 0) c.before++;
+				else tree[(int)m + 1]++;
+			}
+			// Turn the count of each measure into the tree, by adding each node into the node above it
+			for(int i = 1; i < tree.length; i++){
+				int parent = i + (i & -i);
+				if(parent < tree.length) tree[parent] += tree[i];
+			}
+		}
+		this.counts = c;
+		return c;
+	}
+
+	/**
+	 * Find the number of measures to make room for, at least the given number of measures
+	 * @param measures The number of measures which must fit
+	 * @return The smallest power of two which is at least measures and at least one
+	 */
+	private static int capacity(long measures){
+		return (measures <= 1) ? 1 : Integer.highestOneBit((int)measures - 1) << 1;
+	}
+
+	/**
+	 * The number of notes in each measure of a {@link TabString}, stored as a Fenwick tree
+	 * @author zrona
+	 */
+	private static final class Counts{
+
+		/**
+		 * The Fenwick tree of the number of notes in each measure, the count of measure m is at index m + 1, index 0 is unused.<br>
+		 * The number of measures stored is always a power of two, so the last index holds the count of every stored measure
+		 */
+		private int[] tree;
+
+		/** The number of notes in a negative measure */
+		private int before;
+
+		/** true if the string has a note too far out to be tracked, meaning the index of a measure must be searched for */
+		private boolean overflow;
+
+		/**
+		 * Create a new set of counts with no notes
+		 * @param capacity The number of measures to store, must be a power of two
+		 */
+		private Counts(int capacity){
+			this.tree = new int[capacity + 1];
+			this.before = 0;
+			this.overflow = false;
+		}
+
+		/**
+		 * Find the number of notes in the stored measures before the given measure
+		 * @param measure The measure, at most the number of stored measures
+		 * @return The number of notes
+		 */
+		private int prefix(int measure){
+			int sum = 0;
+			for(int i = measure; i > 0; i -= i & -i) sum += this.tree[i];
+			return sum;
+		}
+
+		/**
+		 * Change the number of notes in the given measure, making room for the measure if it is not stored yet
+		 * @param measure The measure
+		 * @param change The number of notes to add to the measure
+		 */
+		private void update(long measure, int change){
+			if(this.overflow) return;
+			if(measure < 0){
+				this.before += change;
+				return;
+			}
+			if(measure >= MAX_MEASURES){
+				this.overflow = true;
+				return;
+			}
+			this.ensureCapacity((int)measure + 1);
+			for(int i = (int)measure + 1; i < this.tree.length; i += i & -i) this.tree[i] += change;
+		}
+
+		/**
+		 * Store room for at least the given number of measures
+		 * @param measures The number of measures
+		 */
+		private void ensureCapacity(int measures){
+			int capacity = this.tree.length - 1;
+			if(measures <= capacity) return;
+			int[] newTree = Arrays.copyOf(this.tree, capacity(measures) + 1);
+			// Every new measure is empty, so each new power of two node covers only the notes of the old tree
+			for(int c = capacity; c < newTree.length - 1; c <<= 1) newTree[c << 1] = newTree[capacity];
+			this.tree = newTree;
+		}
+
+	}
+
+}
@@ -0,0 +1,69 @@
+package tab;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import music.Ticks;
+
+/**
+ * The version of each measure of a {@link TabString}, a number which changes every time a note in that measure is added, removed, or replaced.<br>
+ * Every version is taken from one counter shared by every string, so a change to any measure of any string gives it a version greater than every version before it.
+ * Because of this, the greatest version of a range of measures, across many strings, changes exactly when a note in that range changes on any of them.<br>
+ * A change which is not to a single note, i.e. sorting or clearing the string, changes the version of every measure
+ * @author zrona
+ */
+final class MeasureVersions{
+
+	/** The counter used for every version */
+	private static final AtomicLong VERSIONS = new AtomicLong();
+
+	/** The version of every measure which does not have a greater version in {@link #versions} */
+	private long all;
+
+	/** The version of each measure, starting with measure zero, or zero for a measure which has not changed since {@link #all} was set */
+	private long[] versions;
+
+	/** Create a new set of versions, where every measure has a new version */
+	MeasureVersions(){
+		this.versions = new long[0];
+		this.changedAll();
+	}
+
+	/**
+	 * Get the version of the given range of measures
+	 * @param start The first measure, inclusive
+	 * @param end The last measure, exclusive
+	 * @return The greatest version of any of the measures
+	 */
+	long version(int start, int end){
+		long v = this.all;
+		int last = Math.min(end, this.versions.length);
+		for(int m = Math.max(0, start); m < last; m++){
+			if(this.versions[m] > v) v = this.versions[m];
+		}
+		return v;
+	}
+
+	/**
+	 * Give a new version to the measure of a note which has just been added, removed, or replaced
+	 * @param pos The position of the note, in ticks
+	 */
+	void changed(long pos){
+		long m = Ticks.measure(pos);
+		// Measures which cannot be stored change every measure
+		if(m < 0 || m >= MeasureStarts.MAX_MEASURES){
+			this.changedAll();
+			return;
+		}
+		int measure = (int)m;
+		if(measure >= this.versions.length) this.versions = Arrays.copyOf(this.versions, Math.max(measure + 1, this.versions.length * 2));
+		this.versions[measure] = VERSIONS.incrementAndGet();
+	}
+
+	/** Give every measure a new version */
+	void changedAll(){
+		this.all = VERSIONS.incrementAndGet();
+		Arrays.fill(this.versions, 0);
+	}
+
+}
@@ -0,0 +1,140 @@
+package tab;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import appUtils.ZabAppSettings;
+
+/**
+ * A task for exporting the lines of a {@link Tab} to text, see {@link TabTextExporter}, using the threads of a {@link ForkJoinPool}.<br>
+ * Every line of tab only depends on the notes in its own range of measures, so the lines are split into chunks of at most {@link #CHUNK_SIZE} lines,
+ * 	and each chunk is made by its own task. The chunks are written in order, on the thread which started the export,
+ * 	each one as soon as it and every chunk before it is done.
+ * At most {@link #WINDOW} chunks are made ahead of the last one written for each thread of the pool, so the full text of the tab is never held in memory.<br>
+ * The notes of the tab should not be changed during an export
+ * @author zrona
+ */
+final class ParallelTextExporter extends RecursiveTask<String>{
+	private static final long serialVersionUID = 1L;
+
+	/** The number of lines needed in a tab before it is exported in parallel. Below this, the tab is exported on one thread */
+	static final int PARALLEL_THRESHOLD = 1 << 6;
+
+	/** The greatest number of lines made by each task */
+	static final int CHUNK_SIZE = 1 << 3;
+
+	/** The number of chunks which can be made ahead of the last one written, for each thread of the pool */
+	static final int WINDOW = 4;
+
+	/** The tab to export */
+	private Tab tab;
+	/** The number of measures on each line */
+	private int measuresPerLine;
+	/** The position of the last note of the tab, in measures */
+	private double length;
+	/** The index of the first line made by this task, inclusive */
+	private int low;
+	/** The index of the last line made by this task, exclusive */
+	private int high;
+
+	/**
+	 * Create a new {@link ParallelTextExporter} making the given lines
+	 * @param tab See {@link #tab}
+	 * @param measuresPerLine See {@link #measuresPerLine}
+	 * @param length See {@link #length}
+	 * @param low See {@link #low}
+	 * @param high See {@link #high}
+	 */
+	private ParallelTextExporter(Tab tab, int measuresPerLine, double length, int low, int high){
+		this.tab = tab;
+		this.measuresPerLine = measuresPerLine;
+		this.length = length;
+		this.low = low;
+		this.high = high;
+	}
+
+	/***/
+	@Override
+	protected String compute(){
+		StringBuilder b = new StringBuilder();
+		StringBuilder[] lines = TabTextExporter.createLines(this.tab.getStrings().size());
+		try{
+			for(int i = this.low; i < this.high; i++){
+				int start = i * this.measuresPerLine;
+				TabTextExporter.writeLine(this.tab, start, start + this.measuresPerLine, false, lines, b);
+				// Add an extra new line if this is not the last line
+				if(start + this.measuresPerLine < this.length) b.append('\n');
+			}
+		}
+		catch(IOException e){
+			// Cannot happen, a StringBuilder does not throw an IOException
+			throw new IllegalStateException(e);
+		}
+		return b.toString();
+	}
+
+	/**
+	 * Export the given tab to text, in parallel if it has at least {@link #PARALLEL_THRESHOLD} lines, using the common {@link ForkJoinPool}
+	 * @param tab The tab to export, must not be null
+	 * @param out The place to write the exported text, must not be null
+	 * @throws IOException If out fails to write
+	 */
+	static void export(Tab tab, Appendable out) throws IOException{
+		if(parallel(tab)) export(tab, out, ForkJoinPool.commonPool());
+		else TabTextExporter.export(tab, out);
+	}
+
+	/**
+	 * Export the given tab to text, making the lines with the threads of the given pool
+	 * @param tab The tab to export, must not be null
+	 * @param out The place to write the exported text, must not be null
+	 * @param pool The pool to use
+	 * @throws IOException If out fails to write
+	 */
+	static void export(Tab tab, Appendable out, ForkJoinPool pool) throws IOException{
+		int measuresPerLine = ZabAppSettings.get().text().measuresPerLine();
+		double length = tab.length();
+		int count = lineCount(length, measuresPerLine);
+
+		int window = Math.max(1, pool.getParallelism() * WINDOW);
+		ArrayDeque<ParallelTextExporter> running = new ArrayDeque<ParallelTextExporter>(window);
+		try{
+			for(int i = 0; i < count; i += CHUNK_SIZE){
+				// Write the oldest chunk before starting another, once enough chunks are being made
+				if(running.size() >= window) out.append(running.removeFirst().join());
+				ParallelTextExporter task = new ParallelTextExporter(tab, measuresPerLine, length, i, Math.min(count, i + CHUNK_SIZE));
+				pool.execute(task);
+				running.addLast(task);
+			}
+			while(!running.isEmpty()) out.append(running.removeFirst().join());
+		}
+		finally{
+			// If writing failed, the remaining chunks are not needed
+			for(ParallelTextExporter task : running) task.cancel(false);
+		}
+	}
+
+	/**
+	 * Find the number of lines the given tab is exported to
+	 * @param length The position of the last note of the tab, in measures
+	 * @param measuresPerLine The number of measures on each line
+	 * @return The number of lines, one for each multiple of measuresPerLine which is at most length
+	 */
+	static int lineCount(double length, int measuresPerLine){
+		if(length < 0) return 0;
+		return (int)(length / measuresPerLine) + 1;
+	}
+
+	/**
+	 * Determine if the given tab should be exported in parallel
+	 * @param tab The tab
+	 * @return true if the tab has at least {@link #PARALLEL_THRESHOLD} lines, and more than one thread can be used, false otherwise
+	 */
+	static boolean parallel(Tab tab){
+		if(ForkJoinPool.getCommonPoolParallelism() < 2) return false;
+		return lineCount(tab.length(), ZabAppSettings.get().text().measuresPerLine()) >= PARALLEL_THRESHOLD;
+	}
+
+}
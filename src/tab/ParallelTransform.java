@@ -0,0 +1,148 @@
+package tab;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A task for finding the new versions of the notes of many {@link TabString} objects with a {@link TabTransform},
+ * 	using the threads of the common {@link ForkJoinPool}.<br>
+ * Every string is split into chunks of at most {@link #CHUNK_SIZE} notes, and the chunks are found in parallel, without modifying the strings.
+ * Once every chunk is found, the new notes are put on each string in one pass, one string at a time, on the thread which started the transform.
+ * Because of this, the strings end with exactly the same notes as when the transform is done on one thread,
+ * 	and any listeners of the strings are only told about the changes on that thread
+ * @author zrona
+ */
+final class ParallelTransform extends RecursiveAction{
+	private static final long serialVersionUID = 1L;
+
+	/** The total number of notes needed on the strings before a transform is done in parallel. Below this, the transform is done on one thread */
+	static final int PARALLEL_THRESHOLD = 1 << 14;
+
+	/** The greatest number of notes in each chunk of a string */
+	static final int CHUNK_SIZE = 1 << 12;
+
+	/** The {@link TabTransform} to use */
+	private TabTransform transform;
+	/** The strings to transform */
+	private TabString[] strings;
+	/** For each string, the new notes found, see {@link TabString#transformed(TabTransform, TabPosition[], int, int)} */
+	private TabPosition[][] results;
+	/** For each chunk, the index of its string */
+	private int[] chunkStrings;
+	/** For each chunk, the index of its first note */
+	private int[] chunkStarts;
+	/** The index of the first chunk found by this task, inclusive */
+	private int low;
+	/** The index of the last chunk found by this task, exclusive */
+	private int high;
+
+	/**
+	 * Create a new {@link ParallelTransform} finding the given chunks
+	 * @param transform See {@link #transform}
+	 * @param strings See {@link #strings}
+	 * @param results See {@link #results}
+	 * @param chunkStrings See {@link #chunkStrings}
+	 * @param chunkStarts See {@link #chunkStarts}
+	 * @param low See {@link #low}
+	 * @param high See {@link #high}
+	 */
+	private ParallelTransform(TabTransform transform, TabString[] strings, TabPosition[][] results, int[] chunkStrings, int[] chunkStarts, int low, int high){
+		this.transform = transform;
+		this.strings = strings;
+		this.results = results;
+		this.chunkStrings = chunkStrings;
+		this.chunkStarts = chunkStarts;
+		this.low = low;
+		this.high = high;
+	}
+
+	/***/
+	@Override
+	protected void compute(){
+		// Split the chunks in half until only one is left
+		if(this.high - this.low > 1){
+			int mid = (this.low + this.high) >>> 1;
+			invokeAll(
+					new ParallelTransform(this.transform, this.strings, this.results, this.chunkStrings, this.chunkStarts, this.low, mid),
+					new ParallelTransform(this.transform, this.strings, this.results, this.chunkStrings, this.chunkStarts, mid, this.high));
+			return;
+		}
+		int s = this.chunkStrings[this.low];
+		int from = this.chunkStarts[this.low];
+		TabString str = this.strings[s];
+		str.transformed(this.transform, this.results[s], from, Math.min(from + CHUNK_SIZE, str.size()));
+	}
+
+	/**
+	 * Find the new versions of the notes of the given strings, without modifying the strings
+	 * @param t The {@link TabTransform}
+	 * @param strings The strings
+	 * @return For each string, the new notes, see {@link TabString#transformed(TabTransform, TabPosition[], int, int)}
+	 */
+	static TabPosition[][] find(TabTransform t, TabString[] strings){
+		TabPosition[][] results = new TabPosition[strings.length][];
+		int chunks = 0;
+		for(int i = 0; i < strings.length; i++){
+			results[i] = new TabPosition[strings[i].size()];
+			chunks += (strings[i].size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		}
+		if(chunks == 0) return results;
+
+		// Split every string into chunks
+		int[] chunkStrings = new int[chunks];
+		int[] chunkStarts = new int[chunks];
+		int c = 0;
+		for(int i = 0; i < strings.length; i++){
+			for(int from = 0; from < strings[i].size(); from += CHUNK_SIZE){
+				chunkStrings[c] = i;
+				chunkStarts[c] = from;
+				c++;
+			}
+		}
+		ForkJoinPool.commonPool().invoke(new ParallelTransform(t, strings, results, chunkStrings, chunkStarts, 0, chunks));
+		return results;
+	}
+
+	/**
+	 * Replace every note of the given strings with its new version from the given {@link TabTransform},
+	 * 	finding the new notes in parallel if the strings have at least {@link #PARALLEL_THRESHOLD} notes
+	 * @param t The {@link TabTransform}
+	 * @param strings The strings
+	 */
+	static void transform(TabTransform t, List<TabString> strings){
+		TabString[] strs = strings.toArray(new TabString[strings.size()]);
+		if(!parallel(strs)){
+			for(TabString s : strs) s.transform(t);
+			return;
+		}
+		TabPosition[][] results = find(t, strs);
+		for(int i = 0; i < strs.length; i++) strs[i].applyTransformed(results[i]);
+	}
+
+	/**
+	 * Move every note of the given strings with the given {@link TabTransform}, removing the notes which leave their measure,
+	 * 	see {@link TabString#replaceRetimedInMeasure(TabTransform, TabPosition[])}.
+	 * The moved notes are found in parallel if the strings have at least {@link #PARALLEL_THRESHOLD} notes
+	 * @param t The {@link TabTransform}, made by {@link TabTransform#retimeMeasure(music.TimeSignature, music.TimeSignature)}
+	 * @param strings The strings
+	 */
+	static void retimeMeasure(TabTransform t, List<TabString> strings){
+		TabString[] strs = strings.toArray(new TabString[strings.size()]);
+		TabPosition[][] results = parallel(strs) ? find(t, strs) : null;
+		for(int i = 0; i < strs.length; i++) strs[i].replaceRetimedInMeasure(t, (results == null) ? null : results[i]);
+	}
+
+	/**
+	 * Determine if a transform of the given strings should be done in parallel
+	 * @param strings The strings
+	 * @return true if the strings have at least {@link #PARALLEL_THRESHOLD} notes in total, and more than one thread can be used, false otherwise
+	 */
+	static boolean parallel(TabString[] strings){
+		if(ForkJoinPool.getCommonPoolParallelism() < 2) return false;
+		long total = 0;
+		for(TabString s : strings) total += s.size();
+		return total >= PARALLEL_THRESHOLD;
+	}
+
+}
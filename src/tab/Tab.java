@@ -2,11 +2,9 @@ package tab;
 
 import java.io.PrintWriter;
 import java.util.ArrayList;
-import java.util.Scanner;
 
 import appUtils.ZabAppSettings;
 import appUtils.settings.TabSettings;
-import music.NotePosition;
 import music.Pitch;
 import music.Rhythm;
 import music.TimeSignature;
@@ -15,12 +13,13 @@ import tab.symbol.TabSymbol;
 import util.Copyable;
 import util.ObjectUtils;
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
  * An object representing a tablature diagram for a string instrument.
  * @author zrona
  */
-public class Tab implements Copyable<Tab>, Saveable{
+public class Tab implements Copyable<Tab>, Saveable, TabStringListener{
 	
 	/**
 	 * An ordered list of all of the strings in this tab.
@@ -40,6 +39,18 @@ public class Tab implements Copyable<Tab>, Saveable{
 	 */
 	private boolean usesRhythm;
 	
+	/** The strings which this {@link Tab} is currently listening to, used to find when a string is added to or removed from {@link #strings} */
+	private TabString[] tracked;
+	
+	/** The {@link TabPosition} with the greatest position in this {@link Tab}, only valid when {@link #tracked} matches {@link #strings} */
+	private TabPosition last;
+	
+	/** The objects which are told when the length of this {@link Tab} changes, or null if there are none */
+	private ArrayList<TabExtentListener> extentListeners;
+	
+	/** The {@link MeasureIndex} used to find the notes of {@link #strings} by measure, or null if it has not been needed yet */
+	private MeasureIndex measureIndex;
+	
 	/**
 	 * Create a Tab using the given list of Strings in 4/4 time
 	 * @param strings see {@link #strings}
@@ -112,6 +123,47 @@ public class Tab implements Copyable<Tab>, Saveable{
 		return copy;
 	}
 	
+	/**
+	 * Get a read only snapshot of the current state of this {@link Tab}.<br>
+	 * Unlike {@link #copy()}, this does not copy any notes, it only takes time for the number of strings. 
+	 * Each string only copies its list of notes the first time it is modified after the snapshot is taken
+	 * @return The {@link TabSnapshot}
+	 */
+	public TabSnapshot snapshot(){
+		return new TabSnapshot(this);
+	}
+	
+	/**
+	 * Get the {@link MeasureIndex} for finding the notes of this {@link Tab} by measure.<br>
+	 * The same object is returned each time, so only one search on it should be in use at a time
+	 * @return The {@link MeasureIndex}
+	 */
+	public MeasureIndex getMeasureIndex(){
+		// The strings can be replaced, so the index must be remade if they were
+		if(this.measureIndex == null || this.measureIndex.getStrings() != this.getStrings()) this.measureIndex = new MeasureIndex(this.getStrings());
+		return this.measureIndex;
+	}
+	
+	/**
+	 * Begin a search for every note on this {@link Tab} with a position greater than or equal to start, and less than end.
+	 * See {@link MeasureIndex#notesInRange(double, double, boolean)}
+	 * @param start The lowest position to include
+	 * @param end The position after the range
+	 * @return The {@link MeasureIndex} of this {@link Tab}, as a cursor over the found notes
+	 */
+	public MeasureIndex notesInRange(double start, double end){
+		return this.getMeasureIndex().notesInRange(start, end);
+	}
+	
+	/**
+	 * Create a {@link ColumnIterator} for going through every note of this {@link Tab} in order of position, 
+	 * 	with all of the notes at the same position grouped together
+	 * @return The {@link ColumnIterator}
+	 */
+	public ColumnIterator columns(){
+		return new ColumnIterator(this.getStrings());
+	}
+	
 	/**
 	 * Get the {@link TabString} objects used in this {@link Tab}
 	 * @return See {@link #strings}
@@ -126,6 +178,103 @@ public class Tab implements Copyable<Tab>, Saveable{
 	 */
 	public void setStrings(ArrayList<TabString> strings){
 		this.strings = strings;
+		this.track();
+	}
+	
+	/**
+	 * Add an object to be told when the length of this {@link Tab} changes.<br>
+	 * A listener is told right away when a note on one of the strings changes the length. 
+	 * If the length changes because a string is added to or removed from {@link #getStrings()}, 
+	 * 	the listener is told the next time the length is found, or when {@link #setStrings(ArrayList)} is called
+	 * @param listener The listener to add
+	 */
+	public void addExtentListener(TabExtentListener listener){
+		if(this.extentListeners == null) this.extentListeners = new ArrayList<TabExtentListener>();
+		this.extentListeners.add(listener);
+	}
+	
+	/**
+	 * Stop the given object from being told when the length of this {@link Tab} changes
+	 * @param listener The listener to remove
+	 * @return true if the listener was removed, false if it was not listening to this tab
+	 */
+	public boolean removeExtentListener(TabExtentListener listener){
+		return this.extentListeners != null && this.extentListeners.remove(listener);
+	}
+	
+	/**
+	 * Ensure this {@link Tab} is listening to exactly the strings in {@link #strings}, finding the last note again if the strings changed.<br>
+	 * This only compares the strings themselves, so it takes time for the number of strings, not the number of notes
+	 */
+	private void track(){
+		if(this.isTracking()) return;
+		
+		// Listen to the new strings instead of the old ones
+		if(this.tracked != null){
+			for(TabString s : this.tracked) s.removeListener(this);
+		}
+		ArrayList<TabString> strs = this.getStrings();
+		this.tracked = strs.toArray(new TabString[strs.size()]);
+		for(TabString s : this.tracked) s.addListener(this);
+		this.findLast();
+	}
+	
+	/**
+	 * Determine if {@link #tracked} holds exactly the strings in {@link #strings}, in the same order
+	 * @return true if the strings are the same, false if they must be tracked again
+	 */
+	private boolean isTracking(){
+		ArrayList<TabString> strs = this.getStrings();
+		int size = strs.size();
+		if(this.tracked == null || this.tracked.length != size) return false;
+		for(int i = 0; i < size; i++){
+			if(this.tracked[i] != strs.get(i)) return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Find the {@link TabPosition} with the greatest position value on any string, and tell the extent listeners if the length changed
+	 */
+	private void findLast(){
+		TabPosition p = null;
+		for(TabString s : this.tracked){
+			// The last note in the string is the farthest note, the first string with the farthest note is used
+			TabPosition sLast = s.last();
+			if(sLast != null && (p == null || sLast.getPos() > p.getPos())) p = sLast;
+		}
+		this.setLast(p);
+	}
+	
+	/**
+	 * Set the {@link TabPosition} with the greatest position value, telling the extent listeners if the length changed
+	 * @param p The new last position
+	 */
+	private void setLast(TabPosition p){
+		double oldLength = (this.last == null) ? -1 : this.last.getPos();
+		double newLength = (p == null) ? -1 : p.getPos();
+		this.last = p;
+		if(oldLength == newLength) return;
+		if(this.extentListeners == null) return;
+		for(int i = 0; i < this.extentListeners.size(); i++) this.extentListeners.get(i).extentChanged(this, oldLength, newLength);
+	}
+	
+	/**
+	 * Update the last note of this {@link Tab} after the last note of one of its strings changes. 
+	 * This only looks at the other strings if the changed string held the last note of this {@link Tab}, or ties with it.<br>
+	 * If the strings of this {@link Tab} changed since they were last tracked, they are tracked again instead, 
+	 * 	which stops this {@link Tab} from listening to any string which was removed from it
+	 */
+	@Override
+	public void lastChanged(TabString string, TabPosition oldLast){
+		if(!this.isTracking()){
+			this.track();
+			return;
+		}
+		TabPosition sLast = string.last();
+		if(this.last != null && oldLast != this.last && (sLast == null || sLast.getPos() < this.last.getPos())) return;
+		if(sLast != null && (this.last == null || sLast.getPos() > this.last.getPos())) this.setLast(sLast);
+		else this.findLast();
 	}
 	
 	/**
@@ -164,28 +313,13 @@ public class Tab implements Copyable<Tab>, Saveable{
 	}
 
 	/**
-	 * Find the {@link TabPosition} on this {@link Tab} with the greatest position value
+	 * Find the {@link TabPosition} on this {@link Tab} with the greatest position value.<br>
+	 * This is kept up to date as notes change, so it only takes time for the number of strings, to check if any strings were added or removed
 	 * @return The {@link TabPosition}, or null if this tab is empty
 	 */
 	public TabPosition lastPosition(){
-		double farPos = -1;
-		TabPosition p = null;
-		ArrayList<TabString> strs = this.getStrings();
-		
-		for(int i = 0; i < strs.size(); i++){
-			TabString s = strs.get(i);
-			double pos = s.tabLength();
-			// If the current string has no notes, don't check it
-			if(s.size() <= 0) continue;
-			
-			// If the last note in the string, which is the farthest note, is farther than the current farthest, it is the new farthest
-			if(pos > farPos){
-				TabString farStr = strs.get(i);
-				p = farStr.get(farStr.size() - 1);
-				farPos = pos;
-			}
-		}
-		return p;
+		this.track();
+		return this.last;
 	}
 
 	/**
@@ -219,44 +353,18 @@ public class Tab implements Copyable<Tab>, Saveable{
 		// Nothing needs to happen if rescale is true
 		if(rescale) return;
 		
-		if(deleteExtra){
-			// Go through every note on every string
-			for(TabString s : this.getStrings()){
-				// Make a list to store all of the symbols to be removed
-				ArrayList<TabPosition> toDelete = new ArrayList<TabPosition>();
-				for(int i = 0; i < s.size(); i++){
-					TabPosition p = s.get(i);
-					NotePosition oldPos = p.getPosition();
-					
-					// Retime the note
-					p = p.retimeMeasure(newTime, oldTime);
-					s.set(i, p);
-					boolean outside = !p.getPosition().sameMeasure(oldPos);
-					// If the position is outside the measure, remove it
-					if(outside) toDelete.add(p);
-				}
-				// Remove all symbols which were set to be removed
-				s.removeAll(toDelete);
-			}
-		}
-		else{
-			// Retime every note on every string
-			for(TabString s : this.getStrings()){
-				for(int i = 0; i < s.size(); i++){
-					TabPosition p = s.get(i);
-					s.set(i, p.retime(newTime, oldTime));
-				}
-			}
-		}
+		// Retime every note on every string, removing the notes outside their measure if applicable
+		if(deleteExtra) ParallelTransform.retimeMeasure(TabTransform.retimeMeasure(newTime, oldTime), this.getStrings());
+		else ParallelTransform.transform(TabTransform.retime(newTime, oldTime), this.getStrings());
 	}
 	
 	/**
-	 * Quantize all {@link TabString} objects in this {@link Tab}
+	 * Quantize all {@link TabString} objects in this {@link Tab}. Large tabs are quantized in parallel, see {@link ParallelTransform}
 	 * @param divisor The amount to divide up the units of a whole note.<br>
 	 * 	i.e. use 4 to quantize to quarter notes, use 6 to quantize to dotted quarter notes, etc
 	 */
 	public void quantize(int divisor){
-		for(TabString s : this.getStrings()) s.quantize(this.getTimeSignature(), divisor);
+		ParallelTransform.transform(TabTransform.quantize(this.getTimeSignature(), divisor), this.getStrings());
 	}
 	
 	/**
@@ -307,11 +415,7 @@ public class Tab implements Copyable<Tab>, Saveable{
 	 */
 	public void removeRhythms(){
 		this.usesRhythm = false;
-		for(TabString s : this.getStrings()){
-			for(int i = 0; i < s.size(); i++){
-				s.replace(i, s.symbol(i).removeRhythm());
-			}
-		}
+		ParallelTransform.transform(TabTransform.removeRhythms(), this.getStrings());
 	}
 	
 	/**
@@ -331,22 +435,7 @@ public class Tab implements Copyable<Tab>, Saveable{
 	public void guessRhythms(){
 		TabSettings settings = ZabAppSettings.get().tab();
 		this.usesRhythm = true;
-		for(TabString s : this.getStrings()){
-			int size = s.size();
-			
-			// Skip the string if there is not at least one note
-			if(size < 1) continue;
-			
-			// Going one less than the number of notes on the string
-			for(int i = 0; i < size - 1; i++){
-				// Guess and set the rhythm based on the space between the notes
-				TabPosition p = s.get(i);
-				Rhythm r = this.getTimeSignature().guessRhythmMeasures(s.get(i + 1).getPos() - p.getPos());
-				s.replace(i, p.getSymbol().convertToRhythm(r));
-			}
-			// Set the rhythm of the last note
-			s.replace(size - 1, s.symbol(size - 1).convertToRhythm(settings.rhythmConversionEndValue()));
-		}
+		ParallelTransform.transform(TabTransform.guessRhythms(this.getTimeSignature(), settings.rhythmConversionEndValue()), this.getStrings());
 	}
 	
 	/**
@@ -355,16 +444,12 @@ public class Tab implements Copyable<Tab>, Saveable{
 	 */
 	public void setRhythmAll(Rhythm r){
 		this.usesRhythm = true;
-		for(TabString s : this.getStrings()){
-			for(int i = 0; i < s.size(); i++){
-				s.replace(i, s.symbol(i).convertToRhythm(r));
-			}
-		}
+		ParallelTransform.transform(TabTransform.setRhythms(r), this.getStrings());
 	}
 	
 	/***/
 	@Override
-	public boolean load(Scanner reader){
+	public boolean load(ZabTokenReader reader){
 		// Load if the tab uses rhythm
 		Boolean loadBool = Saveable.loadBool(reader);
 		if(loadBool == null) return false;
@@ -0,0 +1,17 @@
+package tab;
+
+/**
+ * An object which is told when the length of a {@link Tab} changes, see {@link Tab#length()}
+ * @author zrona
+ */
+public interface TabExtentListener{
+	
+	/**
+	 * Called after the length of the given {@link Tab} changes
+	 * @param tab The tab which changed
+	 * @param oldLength The length of the tab before the change, or -1 if it was empty
+	 * @param newLength The length of the tab after the change, or -1 if it is now empty
+	 */
+	public void extentChanged(Tab tab, double oldLength, double newLength);
+	
+}
@@ -3,6 +3,7 @@ package tab;
 import music.Music;
 import music.Pitch;
 import music.Rhythm;
+import tab.symbol.SymbolPool;
 import tab.symbol.TabModifier;
 import tab.symbol.TabNote;
 import tab.symbol.TabNoteRhythm;
@@ -61,7 +62,7 @@ public final class TabFactory{
 	 * @return The {@link TabPosition}
 	 */
 	public static TabPosition modifiedFret(TabString string, int fret, double pos){
-		return modifiedFret(string, fret, pos, new TabModifier());
+		return sharedFret(string, fret, pos, new TabModifier());
 	}
 	
 	/**
@@ -86,7 +87,7 @@ public final class TabFactory{
 	 * @return The {@link TabPosition}
 	 */
 	public static TabPosition hammerOn(TabString string, int fret, double pos){
-		return modifiedFret(string, fret, pos, ModifierFactory.hammerOn());
+		return sharedFret(string, fret, pos, ModifierFactory.hammerOn());
 	}
 	
 	/**
@@ -97,7 +98,7 @@ public final class TabFactory{
 	 * @return The {@link TabPosition}
 	 */
 	public static TabPosition pullOff(TabString string, int fret, double pos){
-		return modifiedFret(string, fret, pos, ModifierFactory.pullOff());
+		return sharedFret(string, fret, pos, ModifierFactory.pullOff());
 	}
 	
 	/**
@@ -108,7 +109,19 @@ public final class TabFactory{
 	 * @return The note
 	 */
 	public static TabPosition harmonic(TabString string, int fret, double pos){
-		return modifiedFret(string, fret, pos, ModifierFactory.harmonic());
+		return sharedFret(string, fret, pos, ModifierFactory.harmonic());
+	}
+	
+	/**
+	 * Generate a {@link TabPosition} containing the {@link TabNote} from the {@link SymbolPool} based on the string and fret number
+	 * @param string The string to use to generate the note
+	 * @param fret The fret number on the string, can be zero for open string, or negative for a normally invalid fret position
+	 * @param pos The position value, see {@link TabPosition#position}
+	 * @param mod The modifier to use, this object is not used by the note
+	 * @return The {@link TabPosition}
+	 */
+	private static TabPosition sharedFret(TabString string, int fret, double pos, TabModifier mod){
+		return new TabPosition(SymbolPool.note(string.getRootNote() + fret, mod), pos);
 	}
 	
 	/** Cannot instantiate {@link TabFactory} */
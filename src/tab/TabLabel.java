@@ -1,11 +1,11 @@
 package tab;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import music.NotePosition;
 import music.TimeSignature;
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
  * An object representing a section of a tab with a particular label, could be a symbol or name for example
@@ -189,7 +189,7 @@ public class TabLabel implements Saveable{
 	
 	/***/
 	@Override
-	public boolean load(Scanner reader){
+	public boolean load(ZabTokenReader reader){
 		String loadStr = Saveable.loadString(reader);
 		if(loadStr == null) return false;
 		this.setText(loadStr);
@@ -1,18 +1,25 @@
 package tab;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
+import java.util.InputMismatchException;
 
+import appUtils.ZabConstants;
 import music.NotePosition;
 import music.TimeSignature;
+import tab.symbol.SymbolPool;
+import tab.symbol.SymbolType;
 import tab.symbol.TabSymbol;
 import util.Copyable;
 import util.ObjectUtils;
 import util.Saveable;
+import util.ZabTokenReader;
 
 
 /**
  * A class used to hold {@link TabSymbol} objects in a {@link TabString}, along with a position.<br>
+ * A {@link TabPosition} is never modified after it is created, other than by {@link #load(ZabTokenReader)}, 
+ * every other method which changes a value creates a new {@link TabPosition}. 
+ * This allows the same object to be shared by a {@link TabString} and its {@link TabStringSnapshot}
  * @author zrona
  */
 public class TabPosition implements Comparable<TabPosition>, Copyable<TabPosition>, Saveable{
@@ -58,14 +65,13 @@ public class TabPosition implements Comparable<TabPosition>, Copyable<TabPositio
 	}
 	
 	/**
-	 * Create a new {@link TabPosition} which is a copy of this one, but with the given {@link TabSymbol}
-	 * @param pos The new position
+	 * Create a new {@link TabPosition} with the same position as this one, but with the given {@link TabSymbol}.<br>
+	 * The {@link NotePosition} is never modified, so it is shared with the new {@link TabPosition} rather than copied
+	 * @param sym The new symbol
 	 * @return The {@link TabPosition}
 	 */
 	public TabPosition copySymbol(TabSymbol sym){
-		TabPosition p = this.copy();
-		p.symbol = sym;
-		return p;
+		return new TabPosition(sym, this.getPosition());
 	}
 	
 	/**
@@ -83,6 +89,14 @@ public class TabPosition implements Comparable<TabPosition>, Copyable<TabPositio
 	public double getPos(){
 		return this.getPosition().getValue();
 	}
+
+	/**
+	 * Get the position of this {@link TabSymbol} in ticks, see {@link NotePosition#getTicks()}
+	 * @return The position in ticks
+	 */
+	public long getTicks(){
+		return this.getPosition().getTicks();
+	}
 	
 	/**
 	 * Create a new {@link TabPosition} which is a copy of this one, but with the given position
@@ -94,14 +108,13 @@ public class TabPosition implements Comparable<TabPosition>, Copyable<TabPositio
 	}
 	
 	/**
-	 * Create a new {@link TabPosition} which is a copy of this one, but with the given position
+	 * Create a new {@link TabPosition} with the same symbol as this one, but with the given position.<br>
+	 * The {@link TabSymbol} is never modified, so it is shared with the new {@link TabPosition} rather than copied
 	 * @param pos The new position value
 	 * @return The {@link TabPosition}
 	 */
 	public TabPosition copyPosition(double pos){
-		TabPosition p = this.copy();
-		p.position = new NotePosition(pos);
-		return p;
+		return new TabPosition(this.getSymbol(), pos);
 	}
 	
 	/**
@@ -112,7 +125,7 @@ public class TabPosition implements Comparable<TabPosition>, Copyable<TabPositio
 	 * @return The new {@link TabPosition}
 	 */
 	public TabPosition quantize(TimeSignature sig, double divisor){
-		return this.copyPosition(this.getPosition().quantize(sig, divisor));
+		return this.copyPosition(sig.quantize(this.getPos(), divisor));
 	}
 	
 	/**
@@ -122,7 +135,7 @@ public class TabPosition implements Comparable<TabPosition>, Copyable<TabPositio
 	 * @return The new {@link TabPosition}
 	 */
 	public TabPosition retime(TimeSignature newTime, TimeSignature oldTime){
-		return this.copyPosition(this.getPosition().retime(newTime, oldTime));
+		return this.copyPosition(newTime.retime(oldTime, this.getPos()));
 	}
 	
 	/**
@@ -132,7 +145,7 @@ public class TabPosition implements Comparable<TabPosition>, Copyable<TabPositio
 	 * @return The new {@link TabPosition}
 	 */
 	public TabPosition retimeMeasure(TimeSignature newTime, TimeSignature oldTime){
-		return this.copyPosition(this.getPosition().retimeMeasure(newTime, oldTime));
+		return this.copyPosition(newTime.retimeMeasure(oldTime, this.getPos()));
 	}
 	
 	/***/
@@ -144,6 +157,7 @@ public class TabPosition implements Comparable<TabPosition>, Copyable<TabPositio
 	/***/
 	@Override
 	public boolean equals(Object obj){
+		if(this == obj) return true;
 		if(!ObjectUtils.isType(obj, this.getClass())) return false;
 		TabPosition t = ((TabPosition)obj);
 		return	t.getSymbol().equals(this.getSymbol()) && 
@@ -160,25 +174,40 @@ public class TabPosition implements Comparable<TabPosition>, Copyable<TabPositio
 	
 	/***/
 	@Override
-	public boolean load(Scanner reader){
-		// Load in the name of the symbol
-		String[] loadStr = Saveable.loadStrings(reader, 1);
-		if(loadStr == null) return false;
-		String type = loadStr[0];
+	public boolean load(ZabTokenReader reader){
+		// Load in the code for the kind of symbol
+		int code;
+		try{
+			code = reader.nextInt();
+		}
+		catch(InputMismatchException e){
+			// Files saved before symbols had codes hold the class name of the symbol
+			code = SymbolType.code(reader.next());
+		}
+		catch(RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return false;
+		}
+		if(!Saveable.nextLine(reader)) return false;
 		
-		TabSymbol s = TabUtils.stringToSymbol(type);
+		TabSymbol s = SymbolType.create(code);
 		if(s == null) return false;
 		this.symbol = s;
 		
 		// Load the symbol and position
-		return Saveable.loadMultiple(reader, this.getSaveObjects());
+		if(!Saveable.loadMultiple(reader, this.getSaveObjects())) return false;
+		
+		// Now that the symbol has its values, the shared version of it can be used instead
+		this.symbol = SymbolPool.intern(this.symbol);
+		return true;
 	}
 
 	/***/
 	@Override
 	public boolean save(PrintWriter writer){
-		// Save the type of note
-		if(!Saveable.saveToString(writer, this.getSymbol().getClass().getSimpleName(), true)) return false;
+		// Save the code for the kind of symbol
+		int code = SymbolType.code(this.getSymbol());
+		if(code < 0 || !Saveable.saveToString(writer, code, true)) return false;
 
 		// Load the symbol and position
 		return Saveable.saveMultiple(writer, getSaveObjects());
@@ -0,0 +1,80 @@
+package tab;
+
+import java.util.ArrayList;
+
+import music.TimeSignature;
+
+/**
+ * A read only view of a {@link Tab} at the moment the snapshot was taken, made of one {@link TabStringSnapshot} per string.<br>
+ * Taking a snapshot only costs time for the number of strings, not the number of notes, 
+ * so it can be used to hand the current state of a {@link Tab} to another thread, i.e. for saving or exporting, 
+ * while the original {@link Tab} continues to be edited
+ * @author zrona
+ */
+public class TabSnapshot{
+	
+	/** The snapshot of each string of the {@link Tab}, in the same order as {@link Tab#getStrings()} */
+	private final TabStringSnapshot[] strings;
+	
+	/** The {@link TimeSignature} of the {@link Tab} when this snapshot was taken */
+	private final TimeSignature timeSignature;
+	
+	/** true if the {@link Tab} used rhythmic information when this snapshot was taken, false otherwise */
+	private final boolean usesRhythm;
+	
+	/**
+	 * Create a new snapshot of the given {@link Tab}. Should only be called by {@link Tab#snapshot()}
+	 * @param tab The {@link Tab} to take a snapshot of
+	 */
+	TabSnapshot(Tab tab){
+		ArrayList<TabString> strs = tab.getStrings();
+		this.strings = new TabStringSnapshot[strs.size()];
+		for(int i = 0; i < this.strings.length; i++) this.strings[i] = strs.get(i).snapshot();
+		this.timeSignature = tab.getTimeSignature().copy();
+		this.usesRhythm = tab.usesRhythm();
+	}
+	
+	/**
+	 * Get the number of strings in this snapshot
+	 * @return The number of strings
+	 */
+	public int stringCount(){
+		return this.strings.length;
+	}
+	
+	/**
+	 * Get the snapshot of the string at the given index
+	 * @param i The index of the string
+	 * @return The {@link TabStringSnapshot}
+	 */
+	public TabStringSnapshot getString(int i){
+		return this.strings[i];
+	}
+	
+	/**
+	 * @return See {@link #timeSignature}
+	 */
+	public TimeSignature getTimeSignature(){
+		return this.timeSignature;
+	}
+	
+	/**
+	 * @return See {@link #usesRhythm}
+	 */
+	public boolean usesRhythm(){
+		return this.usesRhythm;
+	}
+	
+	/**
+	 * Create a new {@link Tab} holding the state of this snapshot.
+	 * The {@link TabPosition} objects are shared with the original {@link Tab}, everything else is new
+	 * @return The {@link Tab}
+	 */
+	public Tab toTab(){
+		// Set the rhythm before adding strings, so the notes are not modified
+		Tab tab = new Tab(new ArrayList<TabString>(), this.getTimeSignature().copy(), this.usesRhythm());
+		for(TabStringSnapshot s : this.strings) tab.getStrings().add(s.toTabString());
+		return tab;
+	}
+	
+}
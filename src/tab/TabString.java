@@ -2,15 +2,22 @@ package tab;
 
 import java.io.PrintWriter;
 import java.util.ArrayList;
-import java.util.Scanner;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import appUtils.ZabAppSettings;
 import appUtils.settings.TabSettings;
 import music.Music;
 import music.NotePosition;
 import music.Pitch;
+import music.Rhythm;
+import music.Ticks;
 import music.TimeSignature;
-import tab.symbol.TabDeadNote;
+import tab.symbol.SymbolPool;
 import tab.symbol.TabNote;
 import tab.symbol.TabPitch;
 import tab.symbol.TabSymbol;
@@ -18,9 +25,13 @@ import util.ArrayUtils;
 import util.Copyable;
 import util.ObjectUtils;
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
- * A class representing one string of a tablature
+ * A class representing one string of a tablature.<br>
+ * The {@link TabPosition} objects on a {@link TabString} are treated as immutable, 
+ * so that they can be shared with any {@link TabStringSnapshot} taken of this string.
+ * Every method which modifies the list first gives the current snapshot its own copy of the list, see {@link #snapshot()}
  * @author zrona
  */
 public class TabString extends ArrayList<TabPosition> implements Copyable<TabString>, Saveable{
@@ -29,6 +40,21 @@ public class TabString extends ArrayList<TabPosition> implements Copyable<TabStr
 	/** The {@link Pitch} which this {@link TabString} is tuned to, i.e. the note of this string when played open. */
 	private Pitch rootPitch;
 	
+	/** The most recent {@link TabStringSnapshot} of this string which still reads its notes directly from this string, or null if there is none */
+	private transient TabStringSnapshot snapshot;
+	
+	/** The number of times the notes or root pitch of this string have changed, see {@link #getVersion()} */
+	private transient long version;
+	
+	/** The objects which are told when the last note of this string changes, or null if there are none */
+	private transient ArrayList<TabStringListener> listeners;
+	
+	/** The index of the first note in each measure of this string, kept up to date as notes are added and removed, or null if it has not been needed yet */
+	private transient MeasureStarts measures;
+	
+	/** The version of each measure of this string, see {@link #getVersion(int, int)}, or null if it has not been needed yet */
+	private transient MeasureVersions measureVersions;
+	
 	/**
 	 * Create a new empty string for a tab with the given root
 	 * @param root See {@link #rootPitch}
@@ -47,16 +73,18 @@ public class TabString extends ArrayList<TabPosition> implements Copyable<TabStr
 		this(new Pitch(Music.createNote(note, octave)));
 	}
 	
-	/***/
+	/**
+	 * Create a copy of this string, with its own list of notes. 
+	 * The {@link TabPosition} objects are never modified, so they are shared with the copy rather than copied, 
+	 * 	meaning only the list holding them is copied
+	 */
 	@Override
 	public TabString copy(){
 		// Make a new TabString with the same root pitch
 		TabString string = new TabString(this.getRootPitch().copy());
 		
-		// Copy over each of the symbols
-		for(TabPosition p : this){
-			string.add(p.copy());
-		}
+		// The notes are already sorted, so they can be appended directly
+		string.addAll(this);
 		return string;
 	}
 	
@@ -73,9 +101,119 @@ public class TabString extends ArrayList<TabPosition> implements Copyable<TabStr
 	 * @param rootPitch See {@link #rootPitch}
 	 */
 	public void setRootPitch(Pitch rootPitch){
+		this.detachSnapshot();
+		this.version++;
+		if(this.measureVersions != null) this.measureVersions.changedAll();
 		this.rootPitch = rootPitch;
 	}
 	
+	/**
+	 * Get a read only snapshot of the current state of this string. 
+	 * This takes constant time, the notes are only copied into the snapshot when this string is next modified
+	 * @return The {@link TabStringSnapshot}
+	 */
+	public TabStringSnapshot snapshot(){
+		// If nothing has changed since the last snapshot, it can be reused
+		if(this.snapshot == null) this.snapshot = new TabStringSnapshot(this);
+		return this.snapshot;
+	}
+	
+	/**
+	 * Called before this string is modified, gives the current snapshot, if one exists, its own copy of the notes
+	 */
+	private void detachSnapshot(){
+		if(this.snapshot == null) return;
+		this.snapshot.freeze();
+		this.snapshot = null;
+	}
+	
+	/**
+	 * Get a number which changes every time the notes or root pitch of this string change, 
+	 * 	so that a value calculated from this string can be kept until the string changes
+	 * @return The version number
+	 */
+	public long getVersion(){
+		return this.version;
+	}
+	
+	/**
+	 * Get a number which changes every time a note in the given measures of this string changes, or the root pitch of this string changes.
+	 * The numbers of every string come from the same counter, and only increase, 
+	 * 	so the greatest version of a range on many strings changes exactly when that range changes on any of them, see {@link MeasureVersions}
+	 * @param start The first measure, inclusive
+	 * @param end The last measure, exclusive
+	 * @return The version number
+	 */
+	public long getVersion(int start, int end){
+		if(this.measureVersions == null) this.measureVersions = new MeasureVersions();
+		return this.measureVersions.version(start, end);
+	}
+	
+	/**
+	 * Add an object to be told when the last note of this string changes. 
+	 * The listener is kept until it is removed with {@link #removeListener(TabStringListener)}
+	 * @param listener The listener to add
+	 */
+	public void addListener(TabStringListener listener){
+		if(this.listeners == null) this.listeners = new ArrayList<TabStringListener>();
+		this.listeners.add(listener);
+	}
+	
+	/**
+	 * Stop the given object from being told when the last note of this string changes
+	 * @param listener The listener to remove
+	 * @return true if the listener was removed, false if it was not listening to this string
+	 */
+	public boolean removeListener(TabStringListener listener){
+		return this.listeners != null && this.listeners.remove(listener);
+	}
+	
+	/**
+	 * Called after this string is modified, updates the version of this string, 
+	 * 	and if the last note changed, tells all of the listeners of this string
+	 * @param oldLast The last note of this string before it was modified
+	 */
+	private void changed(TabPosition oldLast){
+		this.version++;
+		if(this.listeners == null || this.last() == oldLast) return;
+		for(int i = 0; i < this.listeners.size(); i++) this.listeners.get(i).lastChanged(this, oldLast);
+	}
+	
+	/**
+	 * Get the {@link MeasureStarts} of this string, creating it if it does not exist yet
+	 * @return See {@link #measures}
+	 */
+	private MeasureStarts measures(){
+		if(this.measures == null) this.measures = new MeasureStarts(this);
+		return this.measures;
+	}
+	
+	/**
+	 * Called after a single note is added to this string, updates the measures after that note
+	 * @param p The added note
+	 */
+	private void measureAdded(TabPosition p){
+		if(this.measures != null) this.measures.added(p.getTicks());
+		if(this.measureVersions != null) this.measureVersions.changed(p.getTicks());
+	}
+	
+	/**
+	 * Called after a single note is removed from this string, updates the measures after that note
+	 * @param p The removed note
+	 */
+	private void measureRemoved(TabPosition p){
+		if(this.measures != null) this.measures.removed(p.getTicks());
+		if(this.measureVersions != null) this.measureVersions.changed(p.getTicks());
+	}
+	
+	/**
+	 * Called after more than one note on this string may have changed, so the measures must be rebuilt when they are next used
+	 */
+	private void measuresChanged(){
+		if(this.measures != null) this.measures.invalidate();
+		if(this.measureVersions != null) this.measureVersions.changedAll();
+	}
+	
 	/**
 	 * Get the note integer, as defined in {@link Pitch#note} of the root note of this string
 	 * @return The note integer
@@ -185,34 +323,366 @@ public class TabString extends ArrayList<TabPosition> implements Copyable<TabStr
 	@Override
 	public boolean remove(Object o){
 		if(!ObjectUtils.isType(o, TabPosition.class)) return false;
-		int index = this.findIndex(((TabPosition)o).getPos());
+		int index = this.findIndexTicks(((TabPosition)o).getTicks());
 		if(index >= this.size() || !o.equals(this.get(index))) return false;
-		super.remove(index); // At this point, index is guaranteed to be valid
+		TabPosition last = this.last();
+		this.detachSnapshot();
+		this.measureRemoved(super.remove(index)); // At this point, index is guaranteed to be valid
+		this.changed(last);
 		return true;
 	}
 	
+	/***/
+	@Override
+	public void add(int index, TabPosition element){
+		TabPosition last = this.last();
+		this.detachSnapshot();
+		super.add(index, element);
+		this.measureAdded(element);
+		this.changed(last);
+	}
+	
+	/***/
+	@Override
+	public boolean addAll(Collection<? extends TabPosition> c){
+		TabPosition last = this.last();
+		this.detachSnapshot();
+		this.measuresChanged();
+		boolean added = super.addAll(c);
+		this.changed(last);
+		return added;
+	}
+	
+	/***/
+	@Override
+	public boolean addAll(int index, Collection<? extends TabPosition> c){
+		TabPosition last = this.last();
+		this.detachSnapshot();
+		this.measuresChanged();
+		boolean added = super.addAll(index, c);
+		this.changed(last);
+		return added;
+	}
+	
+	/***/
+	@Override
+	public TabPosition set(int index, TabPosition element){
+		TabPosition last = this.last();
+		this.detachSnapshot();
+		TabPosition old = super.set(index, element);
+		if(this.measures != null) this.measures.moved(old.getTicks(), element.getTicks());
+		if(this.measureVersions != null){
+			this.measureVersions.changed(old.getTicks());
+			this.measureVersions.changed(element.getTicks());
+		}
+		this.changed(last);
+		return old;
+	}
+	
+	/***/
+	@Override
+	public TabPosition remove(int index){
+		TabPosition last = this.last();
+		this.detachSnapshot();
+		TabPosition old = super.remove(index);
+		this.measureRemoved(old);
+		this.changed(last);
+		return old;
+	}
+	
+	/**
+	 * Remove every note on this string which is equal to a {@link TabPosition} in the given collection.<br>
+	 * This is done by sorting the notes to remove, and then going through both lists in one pass, see {@link #removeAllSorted(Collection)}
+	 */
+	@Override
+	public boolean removeAll(Collection<?> c){
+		return this.removeAllSorted(c) > 0;
+	}
+	
+	/***/
+	@Override
+	public boolean retainAll(Collection<?> c){
+		TabPosition last = this.last();
+		this.detachSnapshot();
+		this.measuresChanged();
+		boolean removed = super.retainAll(c);
+		this.changed(last);
+		return removed;
+	}
+	
+	/***/
+	@Override
+	public boolean removeIf(Predicate<? super TabPosition> filter){
+		TabPosition last = this.last();
+		this.detachSnapshot();
+		this.measuresChanged();
+		boolean removed = super.removeIf(filter);
+		this.changed(last);
+		return removed;
+	}
+	
+	/***/
+	@Override
+	protected void removeRange(int fromIndex, int toIndex){
+		TabPosition last = this.last();
+		this.detachSnapshot();
+		this.measuresChanged();
+		super.removeRange(fromIndex, toIndex);
+		this.changed(last);
+	}
+	
+	/***/
+	@Override
+	public void replaceAll(UnaryOperator<TabPosition> operator){
+		TabPosition last = this.last();
+		this.detachSnapshot();
+		this.measuresChanged();
+		super.replaceAll(operator);
+		this.changed(last);
+	}
+	
+	/***/
+	@Override
+	public void sort(Comparator<? super TabPosition> c){
+		TabPosition last = this.last();
+		this.detachSnapshot();
+		this.measuresChanged();
+		super.sort(c);
+		this.changed(last);
+	}
+	
+	/***/
+	@Override
+	public void clear(){
+		TabPosition last = this.last();
+		this.detachSnapshot();
+		this.measuresChanged();
+		super.clear();
+		this.changed(last);
+	}
+	
+	/**
+	 * A sub list can modify this string directly, so the current snapshot is given its own copy of the notes first.<br>
+	 * The measures of this string are also rebuilt when next used, but changing a note through the returned list 
+	 * 	does not update them, or tell the listeners of this string, so another method of this string must be used to change note positions
+	 */
+	@Override
+	public List<TabPosition> subList(int fromIndex, int toIndex){
+		this.detachSnapshot();
+		this.measuresChanged();
+		this.version++;
+		return super.subList(fromIndex, toIndex);
+	}
+	
+	/**
+	 * Add every {@link TabPosition} in the given collection to this string, keeping this string sorted, in one pass over the string.<br>
+	 * Like {@link #add(TabPosition)}, a note is not added if this string already has a note at its position. 
+	 * If the collection has more than one note at the same position, only the first is added.<br>
+	 * This takes time for the number of notes on the string plus the number of notes to add, 
+	 * 	if the collection is not sorted by position, it is sorted first
+	 * @param c The notes to add, ideally sorted in increasing order of position. Null elements are ignored
+	 * @return The number of notes which were added
+	 */
+	public int addAllSorted(Collection<? extends TabPosition> c){
+		TabPosition[] toAdd = sortedPositions(c);
+		if(toAdd.length == 0) return 0;
+		
+		// Merge the notes to add with the notes already on the string
+		int size = this.size();
+		TabPosition[] merged = new TabPosition[size + toAdd.length];
+		int i = 0;
+		int m = 0;
+		for(TabPosition p : toAdd){
+			long pos = p.getTicks();
+			while(i < size && this.get(i).getTicks() < pos) merged[m++] = this.get(i++);
+			// Skip a note at the same position as a note on this string, or as a note which was already added
+			if(i < size && this.get(i).getTicks() == pos || m > 0 && merged[m - 1].getTicks() == pos) continue;
+			merged[m++] = p;
+		}
+		while(i < size) merged[m++] = this.get(i++);
+		
+		int added = m - size;
+		if(added == 0) return 0;
+		
+		// Replace the notes of this string with the merged notes
+		TabPosition last = this.last();
+		this.detachSnapshot();
+		this.measuresChanged();
+		super.clear();
+		super.addAll(Arrays.asList(merged).subList(0, m));
+		this.changed(last);
+		return added;
+	}
+	
+	/**
+	 * Remove every note on this string which is equal to a {@link TabPosition} in the given collection, in one pass over the string.<br>
+	 * This takes time for the number of notes on the string plus the number of notes to remove, 
+	 * 	if the collection is not sorted by position, it is sorted first
+	 * @param c The notes to remove, ideally sorted in increasing order of position. Any element which is not a {@link TabPosition} is ignored
+	 * @return The number of notes which were removed
+	 */
+	public int removeAllSorted(Collection<?> c){
+		TabPosition[] toRemove = sortedPositions(c);
+		int size = this.size();
+		if(toRemove.length == 0 || size == 0) return 0;
+		
+		TabPosition last = this.last();
+		boolean modified = false;
+		int kept = 0;
+		int r = 0;
+		for(int i = 0; i < size; i++){
+			TabPosition p = this.get(i);
+			long pos = p.getTicks();
+			
+			// Find the notes to remove at the position of this note, and check if any of them are this note
+			while(r < toRemove.length && toRemove[r].getTicks() < pos) r++;
+			boolean remove = false;
+			for(int j = r; j < toRemove.length && toRemove[j].getTicks() == pos && !remove; j++) remove = p.equals(toRemove[j]);
+			if(remove) continue;
+			
+			// Move the kept note down to fill the space left by the removed notes
+			if(kept != i){
+				if(!modified){
+					this.detachSnapshot();
+					this.measuresChanged();
+					modified = true;
+				}
+				super.set(kept, p);
+			}
+			kept++;
+		}
+		if(kept == size) return 0;
+		
+		if(!modified){
+			this.detachSnapshot();
+			this.measuresChanged();
+		}
+		super.removeRange(kept, size);
+		this.changed(last);
+		return size - kept;
+	}
+	
 	/**
-	 * Find the index of the symbol at the exact given position
-	 * @param pos The position of the symbol to find, if the floating point positions do not match exactly, the position will not be found 
+	 * Get every {@link TabPosition} in the given collection, sorted in increasing order of position
+	 * @param c The collection
+	 * @return An array of the positions, if c was already sorted, the positions will be in the same order as c
+	 */
+	private static TabPosition[] sortedPositions(Collection<?> c){
+		TabPosition[] positions = new TabPosition[c.size()];
+		int n = 0;
+		boolean sorted = true;
+		for(Object o : c){
+			if(!ObjectUtils.isType(o, TabPosition.class)) continue;
+			TabPosition p = (TabPosition)o;
+			if(n > 0 && positions[n - 1].getTicks() > p.getTicks()) sorted = false;
+			positions[n++] = p;
+		}
+		if(n < positions.length) positions = Arrays.copyOf(positions, n);
+		if(!sorted) Arrays.sort(positions);
+		return positions;
+	}
+	
+	/**
+	 * Find the index of the symbol at the given position
+	 * @param pos The position of the symbol to find, positions are the same if they round to the same number of {@link Ticks} 
 	 * @return The index found, or the index to insert a note to insert it in a sorted order. 
 	 * 	This returned value will always be at least zero, and at most equal to the number of notes on the string
 	 */
 	public int findIndex(double pos){
-		// The TabDeadNote is used as a simple placeholder for the position, because TabPositions compare based on their NotePosition value
-		return ArrayUtils.binarySearch(this, new TabPosition(new TabDeadNote(), pos), true);
+		return this.findIndexTicks(Ticks.fromMeasures(pos));
+	}
+	
+	/**
+	 * Find the index of the symbol at the given position
+	 * @param ticks The position of the symbol to find, in {@link Ticks}
+	 * @return The index found, or the index to insert a note to insert it in a sorted order. 
+	 * 	This returned value will always be at least zero, and at most equal to the number of notes on the string
+	 */
+	public int findIndexTicks(long ticks){
+		return this.firstIndexFromTicks(ticks, 0, this.size());
 	}
 
 	/**
-	 * Find the {@link TabPosition} at the exact given position
-	 * @param pos The position of the symbol to find, if the floating point positions do not match exactly, the position will not be found
+	 * Get the index of the first note on this string in the given measure, or at the start of the next measure with notes.<br>
+	 * This takes constant time, except for the first call after a change other than placing or removing one note
+	 * @param measure The measure number
+	 * @return The index, at least zero, and at most equal to the number of notes on the string
+	 */
+	public int measureStart(int measure){
+		return this.measures().start(measure);
+	}
+	
+	/**
+	 * Find the index of the first note on this string with a position greater than or equal to the given position.<br>
+	 * This only searches the notes in the measure containing the position, and allocates no objects
+	 * @param pos The position, in measures
+	 * @return The index, at least zero, and at most equal to the number of notes on the string
+	 */
+	public int firstIndexFrom(double pos){
+		return this.firstIndexFromTicks(Ticks.fromMeasures(pos));
+	}
+	
+	/**
+	 * Find the index of the first note on this string with a position greater than or equal to the given position.<br>
+	 * This only searches the notes in the measure containing the position, and allocates no objects
+	 * @param ticks The position, in {@link Ticks}
+	 * @return The index, at least zero, and at most equal to the number of notes on the string
+	 */
+	public int firstIndexFromTicks(long ticks){
+		long m = Ticks.measure(ticks);
+		if(Math.abs(m) >= MeasureStarts.MAX_MEASURES) return this.firstIndexFromTicks(ticks, 0, this.size());
+		return this.firstIndexFromTicks(ticks, this.measureStart((int)m), this.measureStart((int)m + 1));
+	}
+	
+	/**
+	 * Find the index of the first note on this string with a position strictly greater than the given position.<br>
+	 * This only searches the notes in the measure containing the position, and allocates no objects
+	 * @param pos The position, in measures
+	 * @return The index, at least zero, and at most equal to the number of notes on the string
+	 */
+	public int firstIndexAfter(double pos){
+		long ticks = Ticks.fromMeasures(pos);
+		int i = this.firstIndexFromTicks(ticks);
+		while(i < this.size() && this.get(i).getTicks() == ticks) i++;
+		return i;
+	}
+	
+	/**
+	 * Find the index of the first note with a position greater than or equal to the given position, searching only between the given indexes
+	 * @param ticks The position, in {@link Ticks}
+	 * @param low The lowest index to search, inclusive
+	 * @param high The highest index to search, exclusive
+	 * @return The index, at least low, and at most high
+	 */
+	int firstIndexFromTicks(long ticks, int low, int high){
+		while(low < high){
+			int mid = (low + high) >> 1;
+			if(this.get(mid).getTicks() < ticks) low = mid + 1;
+			else high = mid;
+		}
+		return low;
+	}
+	
+	/**
+	 * Find the {@link TabPosition} at the given position
+	 * @param pos The position of the symbol to find, positions are the same if they round to the same number of {@link Ticks}
 	 * @return The found {@link TabPosition} or null if one was not found
 	 */
 	public TabPosition findPosition(double pos){
-		int index = this.findIndex(pos);
+		return this.findPositionTicks(Ticks.fromMeasures(pos));
+	}
+	
+	/**
+	 * Find the {@link TabPosition} at the given position
+	 * @param ticks The position of the symbol to find, in {@link Ticks}
+	 * @return The found {@link TabPosition} or null if one was not found
+	 */
+	public TabPosition findPositionTicks(long ticks){
+		int index = this.findIndexTicks(ticks);
 		if(index < this.size()){
 			// If the same position at the index is found, return it
 			TabPosition p = this.get(index);
-			if(p.getPos() == pos) return p;
+			if(p.getTicks() == ticks) return p;
 		}
 		
 		// Otherwise the exact position was not found, return null
@@ -226,7 +696,15 @@ public class TabString extends ArrayList<TabPosition> implements Copyable<TabStr
 	public boolean contains(Object obj){
 		if(!ObjectUtils.isType(obj, TabPosition.class)) return false;
 		TabPosition p = (TabPosition)obj;
-		return p.equals(this.findPosition(p.getPos()));
+		return p.equals(this.findPositionTicks(p.getTicks()));
+	}
+	
+	/**
+	 * Get the note on this string with the highest position
+	 * @return The last note, or null if this string is empty
+	 */
+	public TabPosition last(){
+		return this.isEmpty() ? null : this.get(this.size() - 1);
 	}
 	
 	/**
@@ -284,21 +762,159 @@ public class TabString extends ArrayList<TabPosition> implements Copyable<TabStr
 	}
 	
 	/**
-	 * Quantize all {@link TabPosition} objects on this {@link TabString}
+	 * Quantize all {@link TabPosition} objects on this {@link TabString}, in one pass over the string.<br>
+	 * {@link TabPosition} objects are never modified, as snapshots share them. Each note which moves is replaced by a new {@link TabPosition}
+	 * 	sharing its symbol, and notes which are already quantized are kept, so nothing is allocated for them
 	 * @param sig The time signature to base the quantization off of
 	 * @param divisor The amount to divide up the units of a whole note.<br>
 	 * 	i.e. use 4 to quantize to quarter notes, use 6 to quantize to dotted quarter notes, etc
 	 */
 	public void quantize(TimeSignature sig, int divisor){
+		this.transform(TabTransform.quantize(sig, divisor));
+	}
+	
+	/**
+	 * Replace every note on this {@link TabString} with a note which is the same number of whole notes from the start, but in the new time signature.<br>
+	 * This keeps the notes in the same order, so it is done in one pass over the string.
+	 * Each new note shares the symbol of the note it replaces, and notes which do not move are kept
+	 * @param newTime The {@link TimeSignature} to convert to
+	 * @param oldTime The {@link TimeSignature} which the notes were in
+	 */
+	public void replaceRetimed(TimeSignature newTime, TimeSignature oldTime){
+		this.transform(TabTransform.retime(newTime, oldTime));
+	}
+	
+	/**
+	 * Replace every note on this {@link TabString} with a note which stays in the same measure at the same relative position in the measure, 
+	 * 	but in the new time signature. Any note which would no longer begin in its original measure is removed, 
+	 * 	along with any note which is identical to it in its new position.<br>
+	 * This is done in one pass over the string, moving the kept notes down as the removed notes are skipped.
+	 * Each new note shares the symbol of the note it replaces, and notes which do not move are kept
+	 * @param newTime The {@link TimeSignature} to convert to
+	 * @param oldTime The {@link TimeSignature} which the notes were in
+	 * @return The number of notes which were removed
+	 */
+	public int replaceRetimedInMeasure(TimeSignature newTime, TimeSignature oldTime){
+		return this.replaceRetimedInMeasure(TabTransform.retimeMeasure(newTime, oldTime), null);
+	}
+	
+	/**
+	 * Replace every note on this {@link TabString} with its new version from the given {@link TabTransform}, removing the notes which leave their measure, 
+	 * 	see {@link #replaceRetimedInMeasure(TimeSignature, TimeSignature)}
+	 * @param t The {@link TabTransform} moving each note, made by {@link TabTransform#retimeMeasure(TimeSignature, TimeSignature)}
+	 * @param moved The moved notes which were already found, as given by {@link #transformed(TabTransform, TabPosition[], int, int)}, 
+	 * 	or null to find each moved note with t
+	 * @return The number of notes which were removed
+	 */
+	int replaceRetimedInMeasure(TabTransform t, TabPosition[] moved){
+		int size = this.size();
+		int kept = 0;
+		ArrayList<TabPosition> outside = null;
+		for(int i = 0; i < size; i++){
+			TabPosition p = this.get(i);
+			TabPosition r = (moved == null) ? t.apply(this, i) : (moved[i] == null) ? p : moved[i];
+			
+			// Skip any note which is now outside its measure
+			if((int)r.getPos() != (int)p.getPos()){
+				if(outside == null) outside = new ArrayList<TabPosition>();
+				outside.add(r);
+				continue;
+			}
+			this.set(kept, r);
+			kept++;
+		}
+		
+		// Everything after the kept notes was either moved down or removed
+		if(kept < size) this.removeRange(kept, size);
+		
+		// A note which left its measure also removes a kept note which is identical to it in its new position
+		if(outside != null) this.removeAllSorted(outside);
+		return size - this.size();
+	}
+	
+	/**
+	 * Replace every note on this {@link TabString} with a note of the given {@link Rhythm}, converting it to a rhythmic note where applicable.
+	 * Each new note keeps the position of the note it replaces, and uses the shared version of its symbol. Notes which already have the rhythm are kept
+	 * @param r The rhythm to use
+	 */
+	public void replaceRhythms(Rhythm r){
+		this.transform(TabTransform.setRhythms(r));
+	}
+	
+	/**
+	 * Replace every note on this {@link TabString} with a note with a rhythm based on the space between it and the next note.
+	 * Each new note keeps the position of the note it replaces, and uses the shared version of its symbol. Notes which already have the rhythm are kept
+	 * @param sig The {@link TimeSignature} used to guess the rhythms
+	 * @param end The {@link Rhythm} to give to the last note on the string
+	 */
+	public void replaceGuessedRhythms(TimeSignature sig, Rhythm end){
+		this.transform(TabTransform.guessRhythms(sig, end));
+	}
+	
+	/**
+	 * Replace every note on this {@link TabString} which has rhythmic information with a note without it.
+	 * Each new note keeps the position of the note it replaces, and uses the shared version of its symbol. Notes without a rhythm are kept
+	 */
+	public void replaceWithoutRhythms(){
+		this.transform(TabTransform.removeRhythms());
+	}
+	
+	/**
+	 * Replace every note on this {@link TabString} with its new version from the given {@link TabTransform}, in one pass over the string.
+	 * Only the notes which change are replaced
+	 * @param t The {@link TabTransform}
+	 */
+	void transform(TabTransform t){
 		for(int i = 0; i < this.size(); i++){
 			TabPosition p = this.get(i);
-			this.set(i, p.quantize(sig, divisor));
+			TabPosition n = t.apply(this, i);
+			if(n != p) this.set(i, n);
 		}
 	}
 	
+	/**
+	 * Find the new version of each note in the given range of this {@link TabString} with the given {@link TabTransform}, without modifying this string.<br>
+	 * This only reads this string, so different ranges can be found by different threads at the same time
+	 * @param t The {@link TabTransform}
+	 * @param into The array to store the new notes in, at the same indexes as the notes on this string. 
+	 * 	An index is left as null if the note does not change
+	 * @param from The first index to transform, inclusive
+	 * @param to The last index to transform, exclusive
+	 */
+	void transformed(TabTransform t, TabPosition[] into, int from, int to){
+		for(int i = from; i < to; i++){
+			TabPosition n = t.apply(this, i);
+			if(n != this.get(i)) into[i] = n;
+		}
+	}
+	
+	/**
+	 * Replace the notes of this {@link TabString} with the new notes found by {@link #transformed(TabTransform, TabPosition[], int, int)}, in one pass over the string
+	 * @param changed The new notes, at the same indexes as the notes on this string, null for each note which does not change
+	 * @return The number of notes which were replaced
+	 */
+	int applyTransformed(TabPosition[] changed){
+		TabPosition last = this.last();
+		int replaced = 0;
+		for(int i = 0; i < changed.length; i++){
+			if(changed[i] == null) continue;
+			if(replaced == 0){
+				this.detachSnapshot();
+				this.measuresChanged();
+			}
+			super.set(i, changed[i]);
+			replaced++;
+		}
+		if(replaced > 0) this.changed(last);
+		return replaced;
+	}
+	
 	/***/
 	@Override
-	public boolean load(Scanner reader){
+	public boolean load(ZabTokenReader reader){
+		// The root pitch is loaded in place, so the current snapshot must stop reading from this string
+		this.detachSnapshot();
+		
 		// Load the pitch of the string
 		if(!Saveable.load(reader, this.getRootPitch())) return false;
 
@@ -312,13 +928,18 @@ public class TabString extends ArrayList<TabPosition> implements Copyable<TabStr
 		// Ensure this TabString is empty
 		this.clear();
 		
-		// Load in each value
+		// Load in each value, the notes are saved in order, so they are all added together at the end
+		ArrayList<TabPosition> loaded = new ArrayList<TabPosition>(size);
 		for(int i = 0; i < size; i++){
-			// load the position and add it to this TabString
-			TabPosition p = new TabPosition(new TabNote(0), 0);
-			if(!Saveable.load(reader, p)) return false;
-			this.add(p);
+			// load the position and add it to the loaded notes, the placeholder symbol is replaced when the position loads
+			TabPosition p = new TabPosition(SymbolPool.deadNote(), 0);
+			if(!Saveable.load(reader, p)){
+				this.addAllSorted(loaded);
+				return false;
+			}
+			loaded.add(p);
 		}
+		this.addAllSorted(loaded);
 
 		// Loading was successful
 		return true;
@@ -0,0 +1,18 @@
+package tab;
+
+/**
+ * An object which is told when the last note of a {@link TabString} changes, 
+ * meaning the farthest out position of the string may have changed
+ * @author zrona
+ */
+public interface TabStringListener{
+	
+	/**
+	 * Called after the last note of the given {@link TabString} is replaced by a different note, 
+	 * 	or after the string gains its first note or loses its last note
+	 * @param string The string which changed
+	 * @param oldLast The note which was last on the string before the change, or null if the string was empty
+	 */
+	public void lastChanged(TabString string, TabPosition oldLast);
+	
+}
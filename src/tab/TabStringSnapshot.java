@@ -0,0 +1,90 @@
+package tab;
+
+import java.util.Arrays;
+
+import music.Pitch;
+
+/**
+ * A read only view of the notes of a {@link TabString} at the moment the snapshot was taken.<br>
+ * Taking a snapshot does not copy any notes. The snapshot reads from the {@link TabString} it was taken from,
+ * until the first time that string is modified, at which point the list of {@link TabPosition} objects is copied into the snapshot.
+ * Reading the snapshot never copies the list, so a snapshot which is read before the string is next modified costs no copy.
+ * The {@link TabPosition} objects themselves are never copied, they are shared between the snapshot and the string.<br>
+ * A snapshot can be read on a different thread than the one which modifies the {@link TabString}, 
+ * 	as the string is only modified after {@link #freeze()} has given this snapshot its own list
+ * @author zrona
+ */
+public class TabStringSnapshot{
+	
+	/** The {@link Pitch} which the {@link TabString} was tuned to when this snapshot was taken */
+	private final Pitch rootPitch;
+	
+	/** The {@link TabString} this snapshot reads from, or null once {@link #positions} has been created */
+	private TabString source;
+	
+	/** The notes of this snapshot, or null if they have not yet been copied from {@link #source} */
+	private TabPosition[] positions;
+	
+	/**
+	 * Create a new snapshot of the given {@link TabString}. Should only be called by {@link TabString#snapshot()}
+	 * @param source See {@link #source}
+	 */
+	TabStringSnapshot(TabString source){
+		this.rootPitch = source.getRootPitch().copy();
+		this.source = source;
+		this.positions = null;
+	}
+	
+	/**
+	 * Copy the current notes of {@link #source} into this snapshot, if they have not already been copied.<br>
+	 * Called by {@link TabString} before it is modified
+	 * @return See {@link #positions}
+	 */
+	synchronized TabPosition[] freeze(){
+		if(this.positions == null){
+			this.positions = this.source.toArray(new TabPosition[this.source.size()]);
+			this.source = null;
+		}
+		return this.positions;
+	}
+	
+	/**
+	 * @return See {@link #rootPitch}
+	 */
+	public Pitch getRootPitch(){
+		return this.rootPitch;
+	}
+	
+	/**
+	 * Get the number of notes in this snapshot
+	 * @return The number of notes
+	 */
+	public synchronized int size(){
+		return (this.positions == null) ? this.source.size() : this.positions.length;
+	}
+	
+	/**
+	 * Get the {@link TabPosition} at the given index of this snapshot
+	 * @param i The index
+	 * @return The {@link TabPosition}, this object is shared with the {@link TabString}, and must not be modified
+	 */
+	public synchronized TabPosition get(int i){
+		return (this.positions == null) ? this.source.get(i) : this.positions[i];
+	}
+	
+	/**
+	 * Create a new {@link TabString} holding the notes of this snapshot.
+	 * The {@link TabPosition} objects are shared, only the list holding them is new
+	 * @return The {@link TabString}
+	 */
+	public TabString toTabString(){
+		TabString s = new TabString(this.getRootPitch().copy());
+		// The positions are already sorted, so they can be appended directly
+		synchronized(this){
+			if(this.positions == null) s.addAll(this.source);
+			else s.addAll(Arrays.asList(this.positions));
+		}
+		return s;
+	}
+	
+}
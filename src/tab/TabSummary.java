@@ -0,0 +1,142 @@
+package tab;
+
+import java.util.Arrays;
+
+import music.Pitch;
+import music.TimeSignature;
+
+/**
+ * A small, read only description of a {@link Tab}, holding what is needed to list a tab in a catalog without loading its notes:
+ * 	its tuning, time signature, length, and number of notes.<br>
+ * A summary is saved at the beginning of every binary zab file, so it can be read without reading the rest of the file
+ * @author zrona
+ */
+public final class TabSummary{
+
+	/** true if the tab uses rhythm, false otherwise */
+	private final boolean usesRhythm;
+
+	/** The {@link TimeSignature} of the tab */
+	private final TimeSignature timeSignature;
+
+	/** The note value of the root {@link Pitch} of each string of the tab, in the order of the strings */
+	private final int[] tuning;
+
+	/** The position of the last note of the tab, in measures, or -1 if the tab has no notes */
+	private final double length;
+
+	/** The total number of notes on every string of the tab */
+	private final long noteCount;
+
+	/**
+	 * Create a new {@link TabSummary}
+	 * @param usesRhythm See {@link #usesRhythm}
+	 * @param timeSignature See {@link #timeSignature}
+	 * @param tuning See {@link #tuning}
+	 * @param length See {@link #length}
+	 * @param noteCount See {@link #noteCount}
+	 */
+	public TabSummary(boolean usesRhythm, TimeSignature timeSignature, int[] tuning, double length, long noteCount){
+		this.usesRhythm = usesRhythm;
+		this.timeSignature = timeSignature.copy();
+		this.tuning = tuning.clone();
+		this.length = length;
+		this.noteCount = noteCount;
+	}
+
+	/**
+	 * Create a new {@link TabSummary} describing the given tab
+	 * @param tab The tab
+	 */
+	public TabSummary(Tab tab){
+		this.usesRhythm = tab.usesRhythm();
+		this.timeSignature = tab.getTimeSignature().copy();
+		this.tuning = new int[tab.getStrings().size()];
+		long notes = 0;
+		for(int i = 0; i < this.tuning.length; i++){
+			TabString s = tab.getStrings().get(i);
+			this.tuning[i] = s.getRootPitch().getNote();
+			notes += s.size();
+		}
+		this.length = tab.length();
+		this.noteCount = notes;
+	}
+
+	/** @return See {@link #usesRhythm} */
+	public boolean usesRhythm(){
+		return this.usesRhythm;
+	}
+
+	/** @return A copy of {@link #timeSignature} */
+	public TimeSignature getTimeSignature(){
+		return this.timeSignature.copy();
+	}
+
+	/** @return A copy of {@link #tuning} */
+	public int[] getTuning(){
+		return this.tuning.clone();
+	}
+
+	/** @return The number of strings in the tab */
+	public int stringCount(){
+		return this.tuning.length;
+	}
+
+	/**
+	 * Get the root pitch of a string
+	 * @param string The index of the string
+	 * @return The pitch
+	 */
+	public Pitch getRootPitch(int string){
+		return new Pitch(this.tuning[string]);
+	}
+
+	/** @return See {@link #length} */
+	public double getLength(){
+		return this.length;
+	}
+
+	/** @return See {@link #noteCount} */
+	public long getNoteCount(){
+		return this.noteCount;
+	}
+
+	/***/
+	@Override
+	public boolean equals(Object obj){
+		if(this == obj) return true;
+		if(!(obj instanceof TabSummary)) return false;
+		TabSummary s = (TabSummary)obj;
+		return	this.usesRhythm == s.usesRhythm &&
+				this.timeSignature.equals(s.timeSignature) &&
+				Arrays.equals(this.tuning, s.tuning) &&
+				Double.compare(this.length, s.length) == 0 &&
+				this.noteCount == s.noteCount;
+	}
+
+	/***/
+	@Override
+	public int hashCode(){
+		int h = Arrays.hashCode(this.tuning);
+		h = 31 * h + this.timeSignature.getUpper();
+		h = 31 * h + this.timeSignature.getLower();
+		h = 31 * h + Double.hashCode(this.length);
+		return 31 * h + Long.hashCode(this.noteCount);
+	}
+
+	/***/
+	@Override
+	public String toString(){
+		StringBuilder b = new StringBuilder("[TabSummary, ");
+		b.append(this.stringCount());
+		b.append(" strings, ");
+		b.append(this.timeSignature);
+		b.append(", length: ");
+		b.append(this.length);
+		b.append(", notes: ");
+		b.append(this.noteCount);
+		b.append("]");
+		return b.toString();
+	}
+
+}
@@ -0,0 +1,188 @@
+package tab;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import appUtils.ZabAppSettings;
+import appUtils.ZabConstants;
+import appUtils.settings.ZabSettings;
+import settings.Setting;
+import settings.Settings;
+
+/**
+ * An object for exporting the same {@link Tab} to text many times, see {@link TabTextExporter},
+ * 	keeping the text of each line so that only the lines which changed since the last export are made again.<br>
+ * Each line is kept with the greatest version of its measures on every string, see {@link TabString#getVersion(int, int)},
+ * 	and is made again only when that version changes. Every line is made again if any of the settings used for exporting change,
+ * 	or if strings are added to or removed from the tab.<br>
+ * This object should only be used by one thread at a time, and only while the tab is not being changed
+ * @author zrona
+ */
+public class TabTextCache{
+
+	/** The {@link Tab} which this cache exports */
+	private Tab tab;
+
+	/** The strings of {@link #tab} when the kept lines were made */
+	private TabString[] strings;
+
+	/** The value of every setting used for exporting when the kept lines were made */
+	private Object[] settings;
+
+	/** The text of each kept line, by line number, or null if the line is not kept */
+	private String[] lines;
+
+	/** The version of each kept line, by line number */
+	private long[] versions;
+
+	/** The number of lines which were made again in the last export */
+	private int made;
+
+	/**
+	 * Create a new empty {@link TabTextCache} for the given tab
+	 * @param tab See {@link #tab}
+	 */
+	public TabTextCache(Tab tab){
+		this.tab = tab;
+		this.clear();
+	}
+
+	/** @return See {@link #tab} */
+	public Tab getTab(){
+		return this.tab;
+	}
+
+	/** @return See {@link #made} */
+	public int getMade(){
+		return this.made;
+	}
+
+	/** Remove every kept line, so that the next export makes every line again */
+	public void clear(){
+		this.strings = new TabString[0];
+		this.settings = null;
+		this.lines = new String[0];
+		this.versions = new long[0];
+		this.made = 0;
+	}
+
+	/**
+	 * Export the tab of this cache to a text String, using all of the values defined in the settings of {@link ZabAppSettings#get()}
+	 * @return The exported String, the same as {@link TabTextExporter#export(Tab)}, or null if an issue occurred with exporting
+	 */
+	public String export(){
+		StringBuilder b = new StringBuilder();
+		try{
+			if(!this.export(b)) return null;
+		}
+		catch(IOException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return null;
+		}
+		return b.toString();
+	}
+
+	/**
+	 * Export the tab of this cache as text, directly to the given {@link Appendable},
+	 * 	making again only the lines which changed since the last export, and keeping the new lines for the next export
+	 * @param out The place to write the exported text
+	 * @return true if the tab was exported, false if the tab or out is null, in which case nothing is written
+	 * @throws IOException If out fails to write
+	 */
+	public boolean export(Appendable out) throws IOException{
+		if(this.tab == null || out == null) return false;
+		this.made = 0;
+
+		// If anything other than the notes changed, no line can be used again
+		ArrayList<TabString> tabStrings = this.tab.getStrings();
+		Object[] currentSettings = settingsKey();
+		if(!Arrays.equals(currentSettings, this.settings) || !this.sameStrings(tabStrings)){
+			this.clear();
+			this.settings = currentSettings;
+			this.strings = tabStrings.toArray(new TabString[tabStrings.size()]);
+		}
+
+		int measuresPerLine = ZabAppSettings.get().text().measuresPerLine();
+		double length = this.tab.length();
+		int count = ParallelTextExporter.lineCount(length, measuresPerLine);
+		if(count != this.lines.length){
+			this.lines = Arrays.copyOf(this.lines, count);
+			this.versions = Arrays.copyOf(this.versions, count);
+		}
+
+		StringBuilder[] lineStrings = null;
+		StringBuilder line = null;
+		for(int i = 0; i < count; i++){
+			int start = i * measuresPerLine;
+			int end = start + measuresPerLine;
+			long version = this.version(start, end);
+
+			// Make the line again if it is not kept, or it changed
+			if(this.lines[i] == null || this.versions[i] != version){
+				if(line == null){
+					lineStrings = TabTextExporter.createLines(tabStrings.size());
+					line = new StringBuilder();
+				}
+				line.setLength(0);
+				TabTextExporter.writeLine(this.tab, start, end, false, lineStrings, line);
+				this.lines[i] = line.toString();
+				this.versions[i] = version;
+				this.made++;
+			}
+
+			out.append(this.lines[i]);
+			// Add an extra new line if this is not the last line
+			if(end < length) out.append('\n');
+		}
+		return true;
+	}
+
+	/**
+	 * Get the version of the given measures of the tab of this cache
+	 * @param start The first measure, inclusive
+	 * @param end The last measure, exclusive
+	 * @return The greatest version of the measures on any string
+	 */
+	private long version(int start, int end){
+		long v = 0;
+		for(TabString s : this.strings) v = Math.max(v, s.getVersion(start, end));
+		return v;
+	}
+
+	/**
+	 * Determine if the given strings are the same strings which the kept lines were made with
+	 * @param tabStrings The strings
+	 * @return true if each string is the same object as the kept string at the same index, false otherwise
+	 */
+	private boolean sameStrings(ArrayList<TabString> tabStrings){
+		if(tabStrings.size() != this.strings.length) return false;
+		for(int i = 0; i < this.strings.length; i++){
+			if(tabStrings.get(i) != this.strings[i]) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Get the value of every setting which can change the text of a line of tab
+	 * @return The values, in the same order every time
+	 */
+	private static Object[] settingsKey(){
+		ZabSettings app = ZabAppSettings.get();
+		ArrayList<Object> values = new ArrayList<Object>();
+		addValues(values, app.text());
+		addValues(values, app.symbol());
+		values.add(app.tab().quantizeDivisor());
+		return values.toArray();
+	}
+
+	/**
+	 * Add the value of every setting of the given {@link Settings} to a list
+	 * @param values The list
+	 * @param settings The settings
+	 */
+	private static void addValues(ArrayList<Object> values, Settings settings){
+		for(Setting<?> s : settings.getAll()) values.add(s.get());
+	}
+
+}
@@ -1,9 +1,11 @@
 package tab;
 
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.PrintWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
-import java.util.Collections;
 
 import appUtils.ZabAppSettings;
 import appUtils.ZabConstants;
@@ -11,7 +13,7 @@ import appUtils.settings.TabTextSettings;
 import appUtils.settings.ZabSettings;
 import gui.FileUtilsUntested;
 import music.Music;
-import tab.symbol.TabSymbol;
+import music.Ticks;
 import util.FileUtils;
 import util.StringUtils;
 
@@ -26,32 +28,68 @@ public final class TabTextExporter{
 	/** The number used for representing displaying the note names of a tab as all sharp notes, no flat notes */
 	public static final int NOTE_FORMAT_ALL_SHARP = 1;
 	
+	/** The size, in characters, of the buffer used when exporting to a file */
+	private static final int BUFFER_SIZE = 1 << 16;
+	
 	/**
 	 * Export a tab to a text String using all of the values defined in the {@link ZabSettings} of {@link ZabAppSettings#get()}
 	 * @param tab The {@link Tab} to export
 	 * @return The exported String, or null if an issue occurred with exporting. Should be viewed with a monospace font.
 	 */
 	public static String export(Tab tab){
-		if(tab == null) return null;
+		StringBuilder b = new StringBuilder();
+		try{
+			if(!export(tab, b)) return null;
+		}
+		catch(IOException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return null;
+		}
+		return b.toString();
+	}
+	
+	/**
+	 * Export a tab as text, directly to the given {@link Appendable}, using all of the values defined in the {@link ZabSettings} of {@link ZabAppSettings#get()}.<br>
+	 * Each line of tab is built in one {@link StringBuilder} per string, which are reused for every line, 
+	 * 	so the full text of the tab is never held in memory unless out holds it
+	 * @param tab The {@link Tab} to export
+	 * @param out The place to write the exported text
+	 * @return true if the tab was exported, false if tab or out is null, in which case nothing is written
+	 * @throws IOException If out fails to write
+	 */
+	public static boolean export(Tab tab, Appendable out) throws IOException{
+		if(tab == null || out == null) return false;
 		
 		TabTextSettings settings = ZabAppSettings.get().text();
 		int measuresPerLine = settings.measuresPerLine();
 		
-		// String for the final result of the tab
-		String result = "";
+		// The text of each string of the current line
+		StringBuilder[] lines = createLines(tab.getStrings().size());
 		
 		// Generate each line of tab
 		double length = tab.length();
 		double checkLength = length;
 		for(int i = 0; i <= checkLength; i += measuresPerLine){
 			// Add the line
-			result = result.concat(exportLine(tab, i, i + measuresPerLine, false));
+			writeLine(tab, i, i + measuresPerLine, false, lines, out);
 			// Add an extra new line if this is not the last line
-			if(i + measuresPerLine < checkLength) result = result.concat("\n");
+			if(i + measuresPerLine < checkLength) out.append('\n');
 		}
-		
-		// Return the final tab string
-		return result;
+		return true;
+	}
+	
+	/**
+	 * Export a tab as text, directly to the given {@link Appendable}, in the same way as {@link #export(Tab, Appendable)}.<br>
+	 * The lines of large tabs are made in parallel, and written in order as soon as each one is done, see {@link ParallelTextExporter}
+	 * @param tab The {@link Tab} to export
+	 * @param out The place to write the exported text
+	 * @return true if the tab was exported, false if tab or out is null, in which case nothing is written
+	 * @throws IOException If out fails to write
+	 */
+	public static boolean exportParallel(Tab tab, Appendable out) throws IOException{
+		if(tab == null || out == null) return false;
+		ParallelTextExporter.export(tab, out);
+		return true;
 	}
 	
 	/**
@@ -65,6 +103,28 @@ public final class TabTextExporter{
 	public static String exportLine(Tab tab, double start, double end, boolean hardEnd){
 		if(tab == null) return null;
 		
+		StringBuilder b = new StringBuilder();
+		try{
+			writeLine(tab, start, end, hardEnd, createLines(tab.getStrings().size()), b);
+		}
+		catch(IOException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return null;
+		}
+		return b.toString();
+	}
+	
+	/**
+	 * Export all of the symbols in the specified area to a single line of tab, and write it to the given {@link Appendable}
+	 * @param tab The tab to export
+	 * @param start The position, in measures, to begin the region of export
+	 * @param end The position, in measures, to end the region of export
+	 * @param hardEnd true to include notes lining up with the exact end of the range, false otherwise
+	 * @param lines The builders to use for the text of each string, one per string of the tab. They are cleared before use
+	 * @param out The place to write the line
+	 * @throws IOException If out fails to write
+	 */
+	static void writeLine(Tab tab, double start, double end, boolean hardEnd, StringBuilder[] lines, Appendable out) throws IOException{
 		TabTextSettings settings = ZabAppSettings.get().text();
 		
 		// The text string added before each tab string
@@ -90,10 +150,8 @@ public final class TabTextExporter{
 		ArrayList<TabString> tabStrings = tab.getStrings();
 		int numStrings = tabStrings.size();
 		
-		// Make one text String for each of the TabStrings for exporting, and a list for adding the strings
-		String[] exportStrings = new String[numStrings];
+		// Find the note name of each string, and clear the text of each string for exporting
 		String[] toAdd = new String[numStrings];
-		// For each string, add the initial note name
 		for(int i = 0; i < numStrings; i++){
 			// Get the integer representing the pitch of the note
 			int pitch = tabStrings.get(i).getRootNote();
@@ -110,27 +168,21 @@ public final class TabTextExporter{
 			toAdd[i] = s;
 			
 			// Set the base string for exporting
-			exportStrings[i] = "";
+			lines[i].setLength(0);
 		}
 		
-		// Combine the strings, placing exportStrings after the toAdd strings
-		StringUtils.combineStringsWithFiller(exportStrings, toAdd, offset, afterNoteName, noteNameFiller, noteNameFillerBefore);
+		// Combine the strings, placing the lines after the toAdd strings
+		StringUtils.combineStringsWithFiller(lines, toAdd, offset, afterNoteName, noteNameFiller, noteNameFillerBefore);
 		
 		// Add all of the symbols with no extra space between them
-		if(useSpacing) appendSymbolsWithSpace(exportStrings, start, end, tabStrings, hardEnd);
+		if(useSpacing) appendSymbolsWithSpace(lines, start, end, tabStrings, hardEnd);
 		// Add all of the symbols with extra space based on their positions
-		else appendSymbolsNoSpace(exportStrings, start, end, tabStrings, hardEnd);
-		
-		// String for the final result of the tab
-		String result = "";
+		else appendSymbolsNoSpace(lines, start, end, tabStrings, hardEnd);
 		
-		// Combine all of the strings together, and add the final vertical bar
+		// Write all of the strings, and add the final vertical bar
 		for(int i = 0; i < numStrings; i++){
-			result = String.join("", result, exportStrings[i], tabEnd, "\n");
+			out.append(lines[i]).append(tabEnd).append('\n');
 		}
-		
-		// Return the final tab string
-		return result;
 	}
 	
 	/**
@@ -143,6 +195,20 @@ public final class TabTextExporter{
 	 * @param hardEnd true to include notes lining up with the exact end of the range, false otherwise
 	 */
 	public static void appendSymbolsNoSpace(String[] exportStrings, double start, double end, ArrayList<TabString> tabStrings, boolean hardEnd){
+		StringBuilder[] lines = createLines(exportStrings);
+		appendSymbolsNoSpace(lines, start, end, tabStrings, hardEnd);
+		copyLines(lines, exportStrings);
+	}
+	
+	/**
+	 * The same as {@link #appendSymbolsNoSpace(String[], double, double, ArrayList, boolean)}, but adding to the end of {@link StringBuilder} objects
+	 * @param lines The text to add to, must be the same size as tabStrings
+	 * @param start The starting note position in the TabStrings, symbols with a lower position value will not be included 
+	 * @param end The ending note position in the TabStrings, symbols with a higher position value will not be included 
+	 * @param tabStrings The strings which contain the symbols to place
+	 * @param hardEnd true to include notes lining up with the exact end of the range, false otherwise
+	 */
+	public static void appendSymbolsNoSpace(StringBuilder[] lines, double start, double end, ArrayList<TabString> tabStrings, boolean hardEnd){
 		TabTextSettings settings = ZabAppSettings.get().text();
 		// The text added before each symbol is added
 		String symbolBefore = settings.beforeSymbol();
@@ -155,59 +221,20 @@ public final class TabTextExporter{
 		
 		int numStrings = tabStrings.size();
 
-		// Create a list storing each symbol and its position in the region
-		ArrayList<IndexAndPos> symbols = new ArrayList<IndexAndPos>();
-		for(int i = 0; i < numStrings; i++){
-			TabString s = tabStrings.get(i);
-			
-			// Find the indexes of the positions
-			int startI = s.findIndex(start);
-			int endI = s.findIndex(end);
-			
-			for(int j = startI; j <= endI; j++){
-				// If the index would insert a note outside of the string, don't add it, 
-				//	otherwise this is needed to keep notes in the middle of a line being added, if it is at the exact edge of the bounds
-				if(j >= s.size()) continue;
-				// If an index is reached which is greater than the end point, then the end of the string has been reached
-				double p = s.get(j).getPos();
-				if(hardEnd && p > end || !hardEnd && p >= end) break;
-				symbols.add(new IndexAndPos(s.get(j), i));
-			}
-		}
-		// Sort all of the symbols in increasing order based on position
-		Collections.sort(symbols);
-		
 		String[] toAdd = new String[numStrings];
 		
 		// Add each note one at a time, placing a dash between each one
-		// Notes with the same position value are placed at the same character position
-		for(int s = 0; s < symbols.size(); s++){
-			// Initialize array to store all of the text Strings which will be added for the set of notes
+		// Notes with the same position value are placed at the same character position, so the notes of all strings are gone through one column at a time
+		ColumnIterator columns = new ColumnIterator(tabStrings).range(start, end, hardEnd);
+		while(columns.next()){
+			// Set the text of each string to that of its TabSymbol in the column, or nothing if the string has no note in the column
 			for(int i = 0; i < numStrings; i++){
-				toAdd[i] = "";
+				TabPosition p = columns.get(i);
+				toAdd[i] = (p == null) ? "" : p.getSymbol().getModifiedSymbol(tabStrings.get(i));
 			}
 			
-			// For each note at the same position, add it to the symbols to add
-			IndexAndPos stringObj;
-			double pos;
-			do{
-				// Get they symbol to add to the Text String
-				stringObj = symbols.get(s);
-				// Get the position of that to add
-				pos = stringObj.pos.getPos();
-				// Set the text to that of the TabSymbol
-				toAdd[stringObj.index] = stringObj.pos.getSymbol().getModifiedSymbol(tabStrings.get(stringObj.index));
-				// Increment the counter to the next symbol
-				s++;
-				
-				// Continue looping only if the position of the next symbol is the same
-			}while(s < symbols.size() && pos == symbols.get(s).pos.getPos());
-			
-			// Go back one symbol to account for the added symbol
-			s--;
-			
 			// Combine the export text strings with the text for the next tab character
-			StringUtils.combineStringsWithFiller(exportStrings, toAdd, symbolBefore, symbolAfter, tabFiller, tabFillerBefore);
+			StringUtils.combineStringsWithFiller(lines, toAdd, symbolBefore, symbolAfter, tabFiller, tabFillerBefore);
 		}
 	}
 
@@ -221,6 +248,22 @@ public final class TabTextExporter{
 	 * @param hardEnd true to include notes lining up with the exact end of the range, false otherwise
 	 */
 	public static void appendSymbolsWithSpace(String[] exportStrings, double lowPos, double highPos, ArrayList<TabString> tabStrings, boolean hardEnd){
+		StringBuilder[] lines = createLines(exportStrings);
+		appendSymbolsWithSpace(lines, lowPos, highPos, tabStrings, hardEnd);
+		copyLines(lines, exportStrings);
+	}
+	
+	/**
+	 * The same as {@link #appendSymbolsWithSpace(String[], double, double, ArrayList, boolean)}, but adding to the end of {@link StringBuilder} objects.<br>
+	 * The spaces and the notes are gone through together in one pass, see {@link ColumnIterator}, and each space is compared to the notes in ticks, 
+	 * 	so a note is placed on its space exactly, no matter how far into the tab it is
+	 * @param lines The text to add to, must be the same size as tabStrings
+	 * @param lowPos The beginning point to start looking for the symbols, any symbol with a position less than this value will not be included
+	 * @param highPos The ending point for looking for the symbols, any symbol with a position less greater than this value will not be included
+	 * @param tabStrings The list of {@link TabString} objects which contain the symbols at the desired export positions. 
+	 * @param hardEnd true to include notes lining up with the exact end of the range, false otherwise
+	 */
+	public static void appendSymbolsWithSpace(StringBuilder[] lines, double lowPos, double highPos, ArrayList<TabString> tabStrings, boolean hardEnd){
 		TabTextSettings settings = ZabAppSettings.get().text();
 		// The text added before each symbol is added
 		String symbolBefore = settings.beforeSymbol();
@@ -236,58 +279,130 @@ public final class TabTextExporter{
 		int numStrings = tabStrings.size();
 		String[] toAdd = new String[numStrings];
 		
-		// Find the maximum space between each symbol, in measures
-		double measureSpace = 1 / ZabAppSettings.get().tab().quantizeDivisor();
+		// The number of spaces in each measure
+		double divisor = ZabAppSettings.get().tab().quantizeDivisor();
+		// The range, in ticks, so each space can be compared exactly to the positions of the notes
+		long low = Ticks.fromMeasures(lowPos);
+		long high = Ticks.fromMeasures(highPos);
+		
+		// The notes of all strings in the range, in order of position, so each space only needs to check the next column of notes
+		ColumnIterator columns = new ColumnIterator(tabStrings).range(lowPos, highPos, hardEnd);
+		boolean hasColumn = columns.next();
 		
 		// Go through each space in the tab, adding notes if they are found, or an empty space if they are not
-		for(double p = lowPos; p < highPos || hardEnd && p == highPos; p += measureSpace){
+		// Each space is found from its number, rather than by adding the size of a space to the last one, so the spaces never drift on long tabs
+		long p = low;
+		for(long space = 1; p < high || hardEnd && p == high; space++){
+			long next = low + spaceTicks(space, divisor);
+			
+			// Skip any notes which are not on a space
+			while(hasColumn && columns.ticks() < p) hasColumn = columns.next();
+			boolean onSpace = hasColumn && columns.ticks() == p;
 			
 			// Find the symbol at each position, and place it in the list, or an empty string if there is no symbol
 			for(int i = 0; i < numStrings; i++){
-				TabString str = tabStrings.get(i);
-				TabPosition pos = str.findPosition(p);
-				toAdd[i] = (pos == null) ? "" : pos.getSymbol().getModifiedSymbol(str);
+				TabPosition pos = onSpace ? columns.get(i) : null;
+				toAdd[i] = (pos == null) ? "" : pos.getSymbol().getModifiedSymbol(tabStrings.get(i));
 			}
 			
 			// Combine the export text strings with the text for the next tab character
-			StringUtils.combineStringsWithFiller(exportStrings, toAdd, symbolBefore, symbolAfter, tabFiller, tabFillerBefore);
+			StringUtils.combineStringsWithFiller(lines, toAdd, symbolBefore, symbolAfter, tabFiller, tabFillerBefore);
 			
-			// If the next space will be a measure, add the measure separator to each line
-			// Mod a double by 1 to get its decimal remainder
-			double measurePos = p % 1 + measureSpace;
-			// If the next position will be on or after a measure, and it is not the end of the measure, add the line
-			if(measurePos >= 1 && p + measureSpace != highPos){
-				for(int i = 0; i < numStrings; i++) exportStrings[i] = exportStrings[i].concat(measureSeparator);
+			// If the next position will be on or after a measure, and it is not the end of the range, add the measure separator to each line
+			if(Ticks.measure(next) > Ticks.measure(p) && next != high){
+				for(int i = 0; i < numStrings; i++) lines[i].append(measureSeparator);
 			}
+			p = next;
 		}
 	}
 	
 	/**
-	 * Export a {@link Tab} to a file
+	 * Find the distance from the start of a line of tab to one of its spaces
+	 * @param space The number of the space, starting at zero
+	 * @param divisor The number of spaces in each measure
+	 * @return The distance, in ticks, rounded to the nearest tick
+	 */
+	private static long spaceTicks(long space, double divisor){
+		return Math.round(space * (double)Ticks.PER_MEASURE / divisor);
+	}
+	
+	/**
+	 * Create empty builders for the text of each string of a line of tab
+	 * @param count The number of strings
+	 * @return The builders
+	 */
+	static StringBuilder[] createLines(int count){
+		StringBuilder[] lines = new StringBuilder[count];
+		for(int i = 0; i < count; i++) lines[i] = new StringBuilder();
+		return lines;
+	}
+	
+	/**
+	 * Create builders for the text of each string of a line of tab, starting with the given text
+	 * @param strings The text of each string
+	 * @return The builders
+	 */
+	private static StringBuilder[] createLines(String[] strings){
+		StringBuilder[] lines = new StringBuilder[strings.length];
+		for(int i = 0; i < strings.length; i++) lines[i] = new StringBuilder(strings[i]);
+		return lines;
+	}
+	
+	/**
+	 * Replace each string with the text of its builder
+	 * @param lines The builders
+	 * @param strings The strings to replace, must be the same size as lines
+	 */
+	private static void copyLines(StringBuilder[] lines, String[] strings){
+		for(int i = 0; i < lines.length; i++) strings[i] = lines[i].toString();
+	}
+	
+	/**
+	 * Export a {@link Tab} to a file. The text is written to the file as it is made, see {@link #exportParallel(Tab, Appendable)}
 	 * @param tab The {@link Tab} to export
 	 * @param file The {@link File} to export the {@link Tab} to
 	 * @return true if the export was successful, false otherwise
 	 */
 	public static boolean exportToFile(Tab tab, File file){
+		return exportToFile(tab, null, file);
+	}
+	
+	/**
+	 * Export the {@link Tab} of a {@link TabTextCache} to a file, only making the lines which changed since the last export of the cache
+	 * @param cache The {@link TabTextCache} to export
+	 * @param file The {@link File} to export the {@link Tab} to
+	 * @return true if the export was successful, false otherwise
+	 */
+	public static boolean exportToFile(TabTextCache cache, File file){
+		return exportToFile((cache == null) ? null : cache.getTab(), cache, file);
+	}
+	
+	/**
+	 * Export a {@link Tab} to a file
+	 * @param tab The {@link Tab} to export
+	 * @param cache The {@link TabTextCache} of tab to export with, or null to export without one
+	 * @param file The {@link File} to export the {@link Tab} to
+	 * @return true if the export was successful, false otherwise
+	 */
+	private static boolean exportToFile(Tab tab, TabTextCache cache, File file){
 		if(file == null) return false;
-		boolean success = true;
+		// If there is no tab, then don't write anything to a file
+		if(tab == null){
+			if(ZabConstants.PRINT_ERRORS) System.err.println("Export of a tab failed");
+			return false;
+		}
 		// Ensure the parent path exists
 		FileUtilsUntested.ensureParentExists(file);
 		
-		// If the path was made, or already existed, continue saving
-		// Make the export string. If it fails to make, then don't write anything to a file
-		String s = export(tab);
-		if(s == null){
-			success = false;
-			if(ZabConstants.PRINT_ERRORS) System.err.println("Export of a tab failed");
+		// Write the tab to the file
+		try(Writer writer = new BufferedWriter(new FileWriter(file), BUFFER_SIZE)){
+			if(cache == null) return exportParallel(tab, writer);
+			return cache.export(writer);
 		}
-		// Otherwise write it to the file
-		else{
-			PrintWriter writer = FileUtilsUntested.createFilePrintWriter(file);
-			writer.print(s);
-			writer.close();
+		catch(IOException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return false;
 		}
-		return success;
 	}
 	
 	/**
@@ -305,27 +420,4 @@ public final class TabTextExporter{
 	/** Cannot instantiate {@link TabTextExporter} */
 	private TabTextExporter(){}
 	
-	/**
-	 * Helper object for storing both an index in a list of Strings, and an associated {@link TabSymbol}
-	 * @author zrona
-	 */
-	public static class IndexAndPos implements Comparable<IndexAndPos>{
-		public TabPosition pos;
-		public int index;
-		public IndexAndPos(TabPosition pos, int index){
-			this.pos = pos;
-			this.index = index;
-		}
-		/**
-		 * Sort the elements in increasing order of the position of the {@link TabSymbol}
-		 */
-		@Override
-		public int compareTo(IndexAndPos obj){
-			double p1 = this.pos.getPos();
-			double p2 = obj.pos.getPos();
-			if(p1 < p2) return -1;
-			return (p1 == p2) ? 0 : 1;
-		}
-	}
-	
 }
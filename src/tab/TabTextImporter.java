@@ -0,0 +1,408 @@
+package tab;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import appUtils.ZabAppSettings;
+import appUtils.ZabConstants;
+import appUtils.settings.TabTextSettings;
+import appUtils.settings.ZabSettings;
+import music.Music;
+import music.Pitch;
+import music.Ticks;
+import tab.symbol.SymbolPool;
+import tab.symbol.TabModifier;
+
+/**
+ * A utility class containing methods to convert text, in the layout made by {@link TabTextExporter}, back into a {@link Tab}.<br>
+ * The text is read one line of tab at a time, so only the text of one line of tab is held in memory, no matter how long the tab is.
+ * Each line of tab is read by going through the columns of all of its strings together, so every space, measure separator, and symbol lines up
+ * 	the same way it did when it was exported.<br>
+ * The text must use the same values in the {@link ZabSettings} of {@link ZabAppSettings#get()} that it was exported with,
+ * 	the text settings for the layout, the symbol settings for dead notes, and the quantize divisor for the size of each space.
+ * Any text before or after the fret number of a symbol is kept as its modifier, i.e. a hammer on or a harmonic
+ * @author zrona
+ */
+public final class TabTextImporter{
+
+	/** The octave given to the lowest string of a tab, when the names of its strings have no octave */
+	public static final int DEFAULT_OCTAVE = 2;
+
+	/** The layout of the name of the root note of a string, a note, an optional sharp or flat, and an optional octave */
+	private static final Pattern NOTE_NAME = Pattern.compile("([A-G](?:" + Pattern.quote(Music.SHARP) + "|" + Pattern.quote(Music.FLAT) + ")?)(-?[0-9]+)?");
+
+	/**
+	 * Read a tab from text
+	 * @param text The text
+	 * @return The tab, or null if the text does not have a valid tab
+	 */
+	public static Tab load(String text){
+		if(text == null) return null;
+		Tab tab = new Tab();
+		return load(new StringReader(text), tab) ? tab : null;
+	}
+
+	/**
+	 * Read a tab from a text file, replacing the strings of the given tab
+	 * @param file The file
+	 * @param tab The tab to load into, it is not changed if the file does not have a valid tab
+	 * @return true if the tab was loaded, false otherwise
+	 */
+	public static boolean load(File file, Tab tab){
+		if(file == null || tab == null) return false;
+		try(Reader reader = Files.newBufferedReader(file.toPath(), Charset.defaultCharset())){
+			return load(reader, tab);
+		}
+		catch(IOException | RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return false;
+		}
+	}
+
+	/**
+	 * Read a tab from the given {@link Reader}, replacing the strings of the given tab. The reader is not closed
+	 * @param reader The reader
+	 * @param tab The tab to load into, it is not changed if the text does not have a valid tab
+	 * @return true if the tab was loaded, false otherwise
+	 */
+	public static boolean load(Reader reader, Tab tab){
+		if(reader == null || tab == null) return false;
+		ZabSettings settings = ZabAppSettings.get();
+		TabTextSettings text = settings.text();
+		BufferedReader lines = (reader instanceof BufferedReader) ? (BufferedReader)reader : new BufferedReader(reader);
+		try{
+			// The first line of tab decides the number of strings and their tuning
+			String[] first = readFirstLine(lines);
+			if(first == null) return false;
+			String[] names = new String[first.length];
+			String[] bodies = new String[first.length];
+			for(int i = 0; i < first.length; i++){
+				String[] split = split(first[i], text);
+				names[i] = split[0];
+				bodies[i] = split[1];
+			}
+			int count = stringCount(names);
+			int[] tuning = tuning(names, count);
+			ArrayList<TabString> strings = new ArrayList<TabString>(count);
+			for(int i = 0; i < count; i++) strings.add(new TabString(new Pitch(tuning[i])));
+
+			// Read the lines of tab which were read with the first line, then every line after it
+			long start = 0;
+			int lineNumber = 0;
+			String[] line = new String[count];
+			for(int i = 0; i < first.length; i += count){
+				System.arraycopy(bodies, i, line, 0, count);
+				start = nextStart(start, readLine(line, strings, start, settings), ++lineNumber, text);
+			}
+			while(readLine(lines, line, text)) start = nextStart(start, readLine(line, strings, start, settings), ++lineNumber, text);
+
+			tab.setStrings(strings);
+			// The read notes have no rhythms, so they are guessed if the tab uses them
+			if(tab.usesRhythm()) tab.setUsesRhythm(true);
+			return true;
+		}
+		catch(IOException | RuntimeException e){
+			if(ZabConstants.PRINT_ERRORS) e.printStackTrace();
+			return false;
+		}
+	}
+
+	/**
+	 * Read the text of the first line of tab, every line of text up to the first blank line
+	 * @param reader The reader
+	 * @return The lines of text, or null if there are no lines
+	 * @throws IOException If the reader fails
+	 */
+	private static String[] readFirstLine(BufferedReader reader) throws IOException{
+		ArrayList<String> lines = new ArrayList<String>();
+		String s;
+		// Skip any blank lines before the tab
+		while((s = reader.readLine()) != null && isBlank(s));
+		while(s != null && !isBlank(s)){
+			lines.add(s);
+			s = reader.readLine();
+		}
+		return lines.isEmpty() ? null : lines.toArray(new String[lines.size()]);
+	}
+
+	/**
+	 * Read the text of the next line of tab, skipping any blank lines before it
+	 * @param reader The reader
+	 * @param bodies The array to put the text of each string in, after the name of the string, one element for each string
+	 * @param text The settings used for the layout of the text
+	 * @return true if a line of tab was read, false if there are no more lines
+	 * @throws IOException If the reader fails
+	 * @throws IllegalArgumentException If the text ends part of the way through a line of tab, or a line of text is not in the layout of a string
+	 */
+	private static boolean readLine(BufferedReader reader, String[] bodies, TabTextSettings text) throws IOException{
+		for(int i = 0; i < bodies.length; i++){
+			String s;
+			while((s = reader.readLine()) != null && isBlank(s));
+			if(s == null){
+				if(i == 0) return false;
+				throw new IllegalArgumentException("The text ended after " + i + " of " + bodies.length + " strings of a line of tab");
+			}
+			bodies[i] = split(s, text)[1];
+		}
+		return true;
+	}
+
+	/**
+	 * Split a line of text of one string into the name of the string, and the text of its symbols
+	 * @param line The line of text
+	 * @param text The settings used for the layout of the text
+	 * @return An array with the name of the string, then the text of the symbols, without the text placed at the end of every string
+	 * @throws IllegalArgumentException If the line is not in the layout of a string
+	 */
+	static String[] split(String line, TabTextSettings text){
+		String pre = text.preString();
+		if(!line.startsWith(pre)) throw new IllegalArgumentException("Expected \"" + pre + "\" at the beginning of the line: " + line);
+
+		// The name may have filler on either side of it
+		char filler = text.noteNameFiller();
+		int i = skip(line, pre.length(), filler);
+		Matcher m = NOTE_NAME.matcher(line);
+		m.region(i, line.length());
+		if(!m.lookingAt()) throw new IllegalArgumentException("Expected the name of a note at the beginning of the line: " + line);
+		String name = m.group();
+		i = skip(line, m.end(), filler);
+
+		String post = text.postNoteName();
+		if(!line.startsWith(post, i)) throw new IllegalArgumentException("Expected \"" + post + "\" after the name of the note: " + line);
+		String body = line.substring(i + post.length());
+		String end = text.textEnd();
+		if(body.endsWith(end)) body = body.substring(0, body.length() - end.length());
+		return new String[]{name, body};
+	}
+
+	/**
+	 * Find the number of strings in the first line of tab. Normally this is every line of text before the first blank line,
+	 * 	but if the tab ended exactly at the start of its second line of tab, there is no blank line between them,
+	 * 	so the number of strings is the number of names before they start to repeat
+	 * @param names The name of each line of text in the first line of tab
+	 * @return The number of strings
+	 */
+	static int stringCount(String[] names){
+		for(int count = 1; count < names.length; count++){
+			if(names.length % count != 0) continue;
+			boolean repeats = true;
+			for(int i = count; i < names.length && repeats; i++) repeats = names[i].equals(names[i - count]);
+			if(repeats) return count;
+		}
+		return names.length;
+	}
+
+	/**
+	 * Find the root note of each string from its name. A name without an octave is given the lowest note with its name
+	 * 	which is higher than the string below it, or the note in {@link #DEFAULT_OCTAVE} for the lowest string
+	 * @param names The name of each string, from the highest string to the lowest string
+	 * @param count The number of strings to find the root notes of
+	 * @return The note of each string, see {@link Pitch#note}
+	 * @throws IllegalArgumentException If a name is not a note
+	 */
+	static int[] tuning(String[] names, int count){
+		int[] notes = new int[count];
+		for(int i = count - 1; i >= 0; i--){
+			Matcher m = NOTE_NAME.matcher(names[i]);
+			if(!m.matches()) throw new IllegalArgumentException("Expected the name of a note: " + names[i]);
+			String note = m.group(1);
+			String octave = m.group(2);
+			if(octave != null) notes[i] = Music.createNote(note, Integer.parseInt(octave));
+			else if(i == count - 1) notes[i] = Music.createNote(note, DEFAULT_OCTAVE);
+			else{
+				int above = Math.floorMod(Music.createNote(note) - notes[i + 1], 12);
+				notes[i] = notes[i + 1] + ((above == 0) ? 12 : above);
+			}
+		}
+		return notes;
+	}
+
+	/**
+	 * Add the notes of one line of tab to the given strings, going through the columns of the text of every string at once
+	 * @param bodies The text of the symbols of each string
+	 * @param strings The strings to add the notes to, one for each element of bodies
+	 * @param start The position of the start of the line, in ticks
+	 * @param settings The settings used for the layout of the text
+	 * @return The length of the line, in ticks
+	 * @throws IllegalArgumentException If the text is not in the layout of a line of tab
+	 */
+	static long readLine(String[] bodies, ArrayList<TabString> strings, long start, ZabSettings settings){
+		TabTextSettings text = settings.text();
+		String before = text.beforeSymbol();
+		String after = text.afterSymbol();
+		String separator = text.measureSeparator();
+		char filler = text.filler();
+		String deadNote = settings.symbol().deadNote();
+		double divisor = settings.tab().quantizeDivisor();
+
+		int width = 0;
+		for(String s : bodies) width = Math.max(width, s.length());
+
+		// The number of measure separators found, and the number of spaces since the last one
+		long measures = 0;
+		long space = 0;
+		int col = 0;
+		while(col < width){
+			if(!separator.isEmpty() && matches(bodies, separator, col)){
+				measures++;
+				space = 0;
+				col += separator.length();
+				continue;
+			}
+			if(!matches(bodies, before, col)) throw new IllegalArgumentException("Expected \"" + before + "\" before a symbol at column " + col);
+
+			// The symbols of a space end at the first column with only filler, or where the text after the symbols begins
+			int symbolStart = col + before.length();
+			int symbolEnd = symbolStart;
+			while(symbolEnd < width && !isFiller(bodies, symbolEnd, filler)
+					&& !(!after.isEmpty() && matches(bodies, after, symbolEnd))
+					&& !(!separator.isEmpty() && matches(bodies, separator, symbolEnd))){
+				symbolEnd++;
+			}
+			if(!matches(bodies, after, symbolEnd)) throw new IllegalArgumentException("Expected \"" + after + "\" after a symbol at column " + symbolEnd);
+			int next = symbolEnd + after.length();
+
+			// With no text around the symbols, filler between them is not a space
+			if(next == col){
+				col++;
+				continue;
+			}
+
+			// Add the symbol of each string in the space
+			if(symbolEnd > symbolStart){
+				double pos = Ticks.toMeasures(start + measures * Ticks.PER_MEASURE + spaceTicks(space, divisor));
+				for(int i = 0; i < bodies.length; i++){
+					String s = trim(bodies[i], symbolStart, symbolEnd, filler);
+					if(!s.isEmpty()) strings.get(i).add(symbol(s, strings.get(i), pos, deadNote));
+				}
+			}
+			space++;
+			col = next;
+		}
+		return measures * Ticks.PER_MEASURE + spaceTicks(space, divisor);
+	}
+
+	/**
+	 * Find the position where the next line of tab starts. With spacing, a line of tab starts where the measures and spaces of the line before it end.
+	 * Without spacing, the positions of the symbols are not in the text, so each line of tab starts at the measure it was exported from,
+	 * 	and its symbols are placed one space apart
+	 * @param start The position of the start of the line before, in ticks
+	 * @param length The length of the line before, in ticks
+	 * @param lineNumber The number of lines of tab read so far
+	 * @param text The settings used for the layout of the text
+	 * @return The position, in ticks
+	 */
+	private static long nextStart(long start, long length, int lineNumber, TabTextSettings text){
+		if(text.useSpacing()) return start + length;
+		return (long)lineNumber * text.measuresPerLine() * Ticks.PER_MEASURE;
+	}
+
+	/**
+	 * Create the note for the text of one symbol
+	 * @param text The text of the symbol, with no filler
+	 * @param string The string the note is on
+	 * @param pos The position of the note, in measures
+	 * @param deadNote The text of a dead note
+	 * @return The note
+	 * @throws IllegalArgumentException If the text is not a dead note, and has no fret number
+	 */
+	static TabPosition symbol(String text, TabString string, double pos, String deadNote){
+		if(text.equals(deadNote)) return new TabPosition(SymbolPool.deadNote(), pos);
+
+		// The fret number is the first group of digits, any text around it is the modifier
+		int first = 0;
+		while(first < text.length() && !Character.isDigit(text.charAt(first))) first++;
+		if(first == text.length()) throw new IllegalArgumentException("Expected a fret number in the symbol: " + text);
+		int last = first;
+		while(last < text.length() && Character.isDigit(text.charAt(last))) last++;
+		int fret = Integer.parseInt(text.substring(first, last));
+		TabModifier mod = new TabModifier(text.substring(0, first), text.substring(last));
+		return new TabPosition(SymbolPool.note(string.getRootNote() + fret, mod), pos);
+	}
+
+	/**
+	 * Find the distance from the start of a line of tab to one of its spaces, the same as {@link TabTextExporter}
+	 * @param space The number of the space, starting at zero
+	 * @param divisor The number of spaces in each measure
+	 * @return The distance, in ticks, rounded to the nearest tick
+	 */
+	private static long spaceTicks(long space, double divisor){
+		return Math.round(space * (double)Ticks.PER_MEASURE / divisor);
+	}
+
+	/**
+	 * Determine if the text of every string has the given text at the given column
+	 * @param bodies The text of each string
+	 * @param s The text to look for
+	 * @param col The column
+	 * @return true if every string has the text, false otherwise
+	 */
+	private static boolean matches(String[] bodies, String s, int col){
+		for(String b : bodies){
+			if(!b.startsWith(s, col)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Determine if the text of every string has the filler at the given column. A string with no text at the column counts as filler
+	 * @param bodies The text of each string
+	 * @param col The column
+	 * @param filler The filler
+	 * @return true if every string has the filler, false otherwise
+	 */
+	private static boolean isFiller(String[] bodies, int col, char filler){
+		for(String b : bodies){
+			if(col < b.length() && b.charAt(col) != filler) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Get the text in the given columns of a string, without any filler before or after it
+	 * @param body The text of the string
+	 * @param start The first column, inclusive
+	 * @param end The last column, exclusive
+	 * @param filler The filler
+	 * @return The text
+	 */
+	private static String trim(String body, int start, int end, char filler){
+		end = Math.min(end, body.length());
+		while(start < end && body.charAt(start) == filler) start++;
+		while(end > start && body.charAt(end - 1) == filler) end--;
+		return body.substring(start, end);
+	}
+
+	/**
+	 * Find the first index in a string, at or after the given index, which is not the given character
+	 * @param s The string
+	 * @param i The index to start at
+	 * @param c The character to skip
+	 * @return The index
+	 */
+	private static int skip(String s, int i, char c){
+		while(i < s.length() && s.charAt(i) == c) i++;
+		return i;
+	}
+
+	/**
+	 * Determine if a line of text has nothing in it
+	 * @param s The line
+	 * @return true if the line is empty, or only white space, false otherwise
+	 */
+	private static boolean isBlank(String s){
+		return s.trim().isEmpty();
+	}
+
+	/** Cannot instantiate {@link TabTextImporter} */
+	private TabTextImporter(){}
+
+}
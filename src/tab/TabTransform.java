@@ -0,0 +1,194 @@
+package tab;
+
+import music.Rhythm;
+import music.Ticks;
+import music.TimeSignature;
+import tab.symbol.SymbolPool;
+import tab.symbol.TabSymbol;
+
+/**
+ * A change made to each note of a {@link TabString} on its own, such as quantizing it or giving it a rhythm.<br>
+ * Finding the new version of a note only reads the string, so the notes of many strings,
+ * 	or of different parts of one string, can be found at the same time by different threads, see {@link ParallelTransform}
+ * @author zrona
+ */
+abstract class TabTransform{
+
+	/**
+	 * Find the new version of the note at the given index of the given string. This must not modify the string
+	 * @param s The string
+	 * @param i The index of the note
+	 * @return The new note, or the note at index i itself if it does not change
+	 */
+	abstract TabPosition apply(TabString s, int i);
+
+	/**
+	 * Get a {@link TabTransform} which quantizes each note to the nearest place in a measure, see {@link Ticks#quantize(long, TimeSignature, int)}
+	 * @param sig The time signature to base the quantization off of
+	 * @param divisor The amount to divide up the units of a whole note
+	 * @return The {@link TabTransform}
+	 */
+	static TabTransform quantize(TimeSignature sig, int divisor){
+		return new Quantize(sig, divisor);
+	}
+
+	/**
+	 * Get a {@link TabTransform} which moves each note to the same number of whole notes in a new time signature, see {@link TimeSignature#retime(TimeSignature, double)}
+	 * @param newTime The {@link TimeSignature} to convert to
+	 * @param oldTime The {@link TimeSignature} which the notes were in
+	 * @return The {@link TabTransform}
+	 */
+	static TabTransform retime(TimeSignature newTime, TimeSignature oldTime){
+		return new Retime(newTime, oldTime, false);
+	}
+
+	/**
+	 * Get a {@link TabTransform} which moves each note to the same relative position in its measure in a new time signature,
+	 * 	see {@link TimeSignature#retimeMeasure(TimeSignature, double)}. This does not remove the notes which leave their measure
+	 * @param newTime The {@link TimeSignature} to convert to
+	 * @param oldTime The {@link TimeSignature} which the notes were in
+	 * @return The {@link TabTransform}
+	 */
+	static TabTransform retimeMeasure(TimeSignature newTime, TimeSignature oldTime){
+		return new Retime(newTime, oldTime, true);
+	}
+
+	/**
+	 * Get a {@link TabTransform} which gives each note the given rhythm, converting it to a rhythmic note where applicable
+	 * @param r The {@link Rhythm}
+	 * @return The {@link TabTransform}
+	 */
+	static TabTransform setRhythms(Rhythm r){
+		return new GuessRhythms(null, r);
+	}
+
+	/**
+	 * Get a {@link TabTransform} which gives each note a rhythm based on the space between it and the next note
+	 * @param sig The {@link TimeSignature} used to guess the rhythms
+	 * @param end The {@link Rhythm} to give to the last note on a string
+	 * @return The {@link TabTransform}
+	 */
+	static TabTransform guessRhythms(TimeSignature sig, Rhythm end){
+		return new GuessRhythms(sig, end);
+	}
+
+	/**
+	 * Get a {@link TabTransform} which removes the rhythmic information from each note
+	 * @return The {@link TabTransform}
+	 */
+	static TabTransform removeRhythms(){
+		return RemoveRhythms.INSTANCE;
+	}
+
+	/**
+	 * Get a version of the given note with the shared version of the given symbol, if it is different from the current symbol.
+	 * The position of the note is kept
+	 * @param p The note
+	 * @param s The new symbol
+	 * @return The new note, or p if the symbol is the same
+	 */
+	static TabPosition replaceSymbol(TabPosition p, TabSymbol s){
+		TabSymbol old = p.getSymbol();
+		if(s.getClass() == old.getClass() && s.equals(old)) return p;
+		return p.copySymbol(SymbolPool.intern(s));
+	}
+
+	/** The {@link TabTransform} for {@link TabTransform#quantize(TimeSignature, int)} */
+	private static final class Quantize extends TabTransform{
+		/** The time signature to base the quantization off of */
+		private TimeSignature sig;
+		/** The amount to divide up the units of a whole note */
+		private int divisor;
+
+		/**
+		 * Create a new {@link Quantize}
+		 * @param sig See {@link #sig}
+		 * @param divisor See {@link #divisor}
+		 */
+		private Quantize(TimeSignature sig, int divisor){
+			this.sig = sig;
+			this.divisor = divisor;
+		}
+
+		/***/
+		@Override
+		TabPosition apply(TabString s, int i){
+			TabPosition p = s.get(i);
+			// Quantizing by ticks puts the same place in a measure at exactly the same position every time
+			double q = Ticks.toMeasures(Ticks.quantize(p.getTicks(), this.sig, this.divisor));
+			return (q != p.getPos()) ? p.copyPosition(q) : p;
+		}
+	}
+
+	/** The {@link TabTransform} for {@link TabTransform#retime(TimeSignature, TimeSignature)} and {@link TabTransform#retimeMeasure(TimeSignature, TimeSignature)} */
+	private static final class Retime extends TabTransform{
+		/** The {@link TimeSignature} to convert to */
+		private TimeSignature newTime;
+		/** The {@link TimeSignature} which the notes were in */
+		private TimeSignature oldTime;
+		/** true to keep each note in its measure, false to keep the same number of whole notes */
+		private boolean measure;
+
+		/**
+		 * Create a new {@link Retime}
+		 * @param newTime See {@link #newTime}
+		 * @param oldTime See {@link #oldTime}
+		 * @param measure See {@link #measure}
+		 */
+		private Retime(TimeSignature newTime, TimeSignature oldTime, boolean measure){
+			this.newTime = newTime;
+			this.oldTime = oldTime;
+			this.measure = measure;
+		}
+
+		/***/
+		@Override
+		TabPosition apply(TabString s, int i){
+			TabPosition p = s.get(i);
+			double pos = p.getPos();
+			double r = this.measure ? this.newTime.retimeMeasure(this.oldTime, pos) : this.newTime.retime(this.oldTime, pos);
+			return (r != pos) ? p.copyPosition(r) : p;
+		}
+	}
+
+	/** The {@link TabTransform} for {@link TabTransform#guessRhythms(TimeSignature, Rhythm)} and {@link TabTransform#setRhythms(Rhythm)} */
+	private static final class GuessRhythms extends TabTransform{
+		/** The {@link TimeSignature} used to guess the rhythms, or null to give every note {@link #end} */
+		private TimeSignature sig;
+		/** The {@link Rhythm} to give to the last note on a string */
+		private Rhythm end;
+
+		/**
+		 * Create a new {@link GuessRhythms}
+		 * @param sig See {@link #sig}
+		 * @param end See {@link #end}
+		 */
+		private GuessRhythms(TimeSignature sig, Rhythm end){
+			this.sig = sig;
+			this.end = end;
+		}
+
+		/***/
+		@Override
+		TabPosition apply(TabString s, int i){
+			TabPosition p = s.get(i);
+			Rhythm r = (this.sig != null && i < s.size() - 1) ? this.sig.guessRhythmMeasures(s.get(i + 1).getPos() - p.getPos()) : this.end;
+			return replaceSymbol(p, p.getSymbol().convertToRhythm(r));
+		}
+	}
+
+	/** The {@link TabTransform} for {@link TabTransform#removeRhythms()} */
+	private static final class RemoveRhythms extends TabTransform{
+		/** The only {@link RemoveRhythms} needed, because it has no values */
+		private static final RemoveRhythms INSTANCE = new RemoveRhythms();
+
+		/***/
+		@Override
+		TabPosition apply(TabString s, int i){
+			TabPosition p = s.get(i);
+			// Symbols without rhythmic information would only be copied, so they can be skipped
+			return p.getSymbol().usesRhythm() ? replaceSymbol(p, p.getSymbol().removeRhythm()) : p;
+		}
+	}
+
+}
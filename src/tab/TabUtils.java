@@ -1,9 +1,7 @@
 package tab;
 
-import music.Rhythm;
-import tab.symbol.TabDeadNote;
-import tab.symbol.TabNote;
-import tab.symbol.TabNoteRhythm;
+import tab.symbol.SymbolPool;
+import tab.symbol.SymbolType;
 import tab.symbol.TabSymbol;
 
 /**
@@ -16,15 +14,11 @@ public class TabUtils{
 	 * Given the class name of a {@link TabSymbol}, return an object of that type.
 	 * @param type The string holding the type
 	 * @return The {@link TabSymbol}. This method makes no guarantees about the contents of the returned object,
-	 * 	only that it is of the desired type. If no valid type is found, returns null
+	 * 	only that it is of the desired type. If no valid type is found, returns null.<br>
+	 * 	The returned object is always a new object, never one from the {@link SymbolPool}, because it is intended to be loaded into
 	 */
 	public static TabSymbol stringToSymbol(String type){
-		switch(type){
-			case "TabDeadNote": return new TabDeadNote();
-			case "TabNote": return new TabNote(0);
-			case "TabNoteRhythm": return new TabNoteRhythm(0, new Rhythm(1, 1));
-			default: return null;
-		}
+		return SymbolType.create(SymbolType.code(type));
 	}
 
 	/** Cannot instantiate {@link TabUtils} */
@@ -0,0 +1,165 @@
+package tab.symbol;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import music.Pitch;
+import music.Rhythm;
+import util.Copyable;
+
+/**
+ * A utility class for sharing one instance of each distinct {@link TabSymbol}, {@link TabModifier}, {@link Pitch}, and {@link Rhythm}.<br>
+ * Most notes in a tab use only a few distinct combinations of pitch, modifier, and rhythm,
+ * so interning them lets identical notes share one object, and lets equals checks stop at an identity comparison.<br>
+ * The objects held by this pool are shared, so they must never be modified, meaning they must never be used for loading.
+ * An object given to this pool is never stored itself, only a copy of it, so the caller can continue to use the object it passed in.<br>
+ * This class can be used by multiple threads at once
+ * @author zrona
+ */
+public final class SymbolPool{
+
+	/** The only {@link TabDeadNote} needed, because a {@link TabDeadNote} has no values */
+	private static final TabDeadNote DEAD_NOTE = new TabDeadNote();
+
+	/** Every interned {@link Pitch}, mapped to itself */
+	private static final ConcurrentHashMap<Pitch, Pitch> PITCHES = new ConcurrentHashMap<Pitch, Pitch>();
+
+	/** Every interned {@link Rhythm}, mapped to itself */
+	private static final ConcurrentHashMap<Rhythm, Rhythm> RHYTHMS = new ConcurrentHashMap<Rhythm, Rhythm>();
+
+	/** Every interned {@link TabModifier}, mapped to itself */
+	private static final ConcurrentHashMap<TabModifier, TabModifier> MODIFIERS = new ConcurrentHashMap<TabModifier, TabModifier>();
+
+	/** Every interned {@link TabNote}, mapped to itself */
+	private static final ConcurrentHashMap<TabNote, TabNote> NOTES = new ConcurrentHashMap<TabNote, TabNote>();
+
+	/** Every interned {@link TabNoteRhythm}, mapped to itself */
+	private static final ConcurrentHashMap<TabNoteRhythm, TabNoteRhythm> RHYTHM_NOTES = new ConcurrentHashMap<TabNoteRhythm, TabNoteRhythm>();
+
+	/**
+	 * Get the shared {@link TabDeadNote}
+	 * @return The {@link TabDeadNote}
+	 */
+	public static TabDeadNote deadNote(){
+		return DEAD_NOTE;
+	}
+
+	/**
+	 * Get the shared {@link TabNote} with the given pitch and modifier
+	 * @param pitch The numerical value of the {@link Pitch}, see {@link Pitch#note}
+	 * @param mod The modifier of the note, this object is not kept
+	 * @return The shared {@link TabNote}
+	 */
+	public static TabNote note(int pitch, TabModifier mod){
+		return intern(new TabNote(new Pitch(pitch), mod));
+	}
+
+	/**
+	 * Get the shared version of the given {@link TabSymbol}.<br>
+	 * Only {@link TabDeadNote}, {@link TabNote}, and {@link TabNoteRhythm} are shared, any other type of symbol is returned unchanged
+	 * @param s The symbol
+	 * @return The shared symbol equal to s, or null if s is null
+	 */
+	public static TabSymbol intern(TabSymbol s){
+		if(s == null) return null;
+		Class<?> c = s.getClass();
+		if(c == TabNote.class) return intern((TabNote)s);
+		if(c == TabNoteRhythm.class) return intern((TabNoteRhythm)s);
+		if(c == TabDeadNote.class) return DEAD_NOTE;
+		return s;
+	}
+
+	/**
+	 * Get the shared version of the given {@link TabNote}
+	 * @param n The note
+	 * @return The shared note equal to n, or null if n is null
+	 */
+	public static TabNote intern(TabNote n){
+		if(n == null) return null;
+		TabNote found = NOTES.get(n);
+		if(found != null) return found;
+		TabNote shared = new TabNote(intern(n.getPitch()), intern(n.getModifier()));
+		found = NOTES.putIfAbsent(shared, shared);
+		return (found == null) ? shared : found;
+	}
+
+	/**
+	 * Get the shared version of the given {@link TabNoteRhythm}
+	 * @param n The note
+	 * @return The shared note equal to n, or null if n is null
+	 */
+	public static TabNoteRhythm intern(TabNoteRhythm n){
+		if(n == null) return null;
+		TabNoteRhythm found = RHYTHM_NOTES.get(n);
+		if(found != null) return found;
+		TabNoteRhythm shared = new TabNoteRhythm(intern(n.getPitch()), intern(n.getRhythm()), intern(n.getModifier()));
+		found = RHYTHM_NOTES.putIfAbsent(shared, shared);
+		return (found == null) ? shared : found;
+	}
+
+	/**
+	 * Get the shared version of the given {@link Pitch}
+	 * @param p The pitch
+	 * @return The shared pitch equal to p, or null if p is null
+	 */
+	public static Pitch intern(Pitch p){
+		return internCopy(PITCHES, p);
+	}
+
+	/**
+	 * Get the shared version of the given {@link Rhythm}
+	 * @param r The rhythm
+	 * @return The shared rhythm equal to r, or null if r is null
+	 */
+	public static Rhythm intern(Rhythm r){
+		return internCopy(RHYTHMS, r);
+	}
+
+	/**
+	 * Get the shared version of the given {@link TabModifier}
+	 * @param m The modifier
+	 * @return The shared modifier equal to m, or null if m is null
+	 */
+	public static TabModifier intern(TabModifier m){
+		return internCopy(MODIFIERS, m);
+	}
+
+	/**
+	 * Find the object in the given pool which is equal to the given object, adding a copy of the object if no such object exists
+	 * @param <E> The type of object
+	 * @param pool The pool to look in
+	 * @param e The object to find
+	 * @return The shared object, or null if e is null
+	 */
+	private static <E extends Copyable<E>> E internCopy(ConcurrentHashMap<E, E> pool, E e){
+		if(e == null) return null;
+		E found = pool.get(e);
+		if(found != null) return found;
+		E shared = e.copy();
+		found = pool.putIfAbsent(shared, shared);
+		return (found == null) ? shared : found;
+	}
+
+	/**
+	 * Get the total number of objects currently shared by this pool, not including the {@link TabDeadNote}
+	 * @return The number of objects
+	 */
+	public static int size(){
+		return PITCHES.size() + RHYTHMS.size() + MODIFIERS.size() + NOTES.size() + RHYTHM_NOTES.size();
+	}
+
+	/**
+	 * Remove every object from this pool. Objects which were already shared are not changed,
+	 * but objects interned after this call will not be the same objects as those interned before it
+	 */
+	public static void clear(){
+		PITCHES.clear();
+		RHYTHMS.clear();
+		MODIFIERS.clear();
+		NOTES.clear();
+		RHYTHM_NOTES.clear();
+	}
+
+	/** Cannot instantiate {@link SymbolPool} */
+	private SymbolPool(){}
+
+}
@@ -0,0 +1,144 @@
+package tab.symbol;
+
+import java.util.HashMap;
+
+import music.Rhythm;
+
+/**
+ * A registry giving every kind of {@link TabSymbol} a small, stable integer code, used in place of the class name of the symbol when it is saved.<br>
+ * The codes are the indexes of {@link #TYPES}, and each code has a {@link Factory} in {@link #FACTORIES} making a new symbol of that kind,
+ * 	so finding the kind of a saved symbol is an array lookup, rather than comparing strings.<br>
+ * A new kind of symbol is added by adding its class to the end of {@link #TYPES} and its factory to the end of {@link #FACTORIES}.
+ * Existing codes must never change, because they are stored in saved files.<br>
+ * The registry never changes after it is created, so this class can be used by multiple threads at once
+ * @author zrona
+ */
+public final class SymbolType{
+
+	/**
+	 * An object which makes a new {@link TabSymbol} of one kind
+	 * @author zrona
+	 */
+	public interface Factory{
+		/**
+		 * Make a new symbol
+		 * @return The symbol. It makes no guarantees about its contents, and is never a shared symbol from the {@link SymbolPool},
+		 * 	because it is intended to be loaded into
+		 */
+		public TabSymbol create();
+	}
+
+	/** The code of {@link TabDeadNote} */
+	public static final int DEAD_NOTE = 0;
+	/** The code of {@link TabNote} */
+	public static final int NOTE = 1;
+	/** The code of {@link TabNoteRhythm} */
+	public static final int NOTE_RHYTHM = 2;
+
+	/** The class of every kind of symbol, at the index of its code */
+	private static final Class<?>[] TYPES = new Class<?>[]{
+		TabDeadNote.class,
+		TabNote.class,
+		TabNoteRhythm.class
+	};
+
+	/** The factory for every kind of symbol, at the index of its code */
+	private static final Factory[] FACTORIES = new Factory[]{
+		new Factory(){
+			@Override
+			public TabSymbol create(){
+				return new TabDeadNote();
+			}
+		},
+		new Factory(){
+			@Override
+			public TabSymbol create(){
+				return new TabNote(0);
+			}
+		},
+		new Factory(){
+			@Override
+			public TabSymbol create(){
+				return new TabNoteRhythm(0, new Rhythm(1, 1));
+			}
+		}
+	};
+
+	/** The code of every kind of symbol, mapped by its class */
+	private static final HashMap<Class<?>, Integer> CODES = new HashMap<Class<?>, Integer>();
+
+	/** The code of every kind of symbol, mapped by the simple name of its class, for reading files saved before symbols had codes */
+	private static final HashMap<String, Integer> NAMES = new HashMap<String, Integer>();
+
+	static{
+		for(int i = 0; i < TYPES.length; i++){
+			CODES.put(TYPES[i], i);
+			NAMES.put(TYPES[i].getSimpleName(), i);
+		}
+	}
+
+	/** @return The number of kinds of symbols, the codes are from 0 up to, but not including, this number */
+	public static int count(){
+		return TYPES.length;
+	}
+
+	/**
+	 * Determine if the given code belongs to a kind of symbol
+	 * @param code The code
+	 * @return true if the code is valid, false otherwise
+	 */
+	public static boolean isCode(int code){
+		return code >= 0 && code < TYPES.length;
+	}
+
+	/**
+	 * Get the code of the kind of the given symbol
+	 * @param s The symbol
+	 * @return The code, or -1 if the symbol is null or not a registered kind
+	 */
+	public static int code(TabSymbol s){
+		return (s == null) ? -1 : code(s.getClass());
+	}
+
+	/**
+	 * Get the code of the given class of symbol
+	 * @param c The class
+	 * @return The code, or -1 if the class is not a registered kind
+	 */
+	public static int code(Class<?> c){
+		Integer code = CODES.get(c);
+		return (code == null) ? -1 : code;
+	}
+
+	/**
+	 * Get the code of the kind of symbol with the given class name
+	 * @param name The simple name of the class, as saved before symbols had codes
+	 * @return The code, or -1 if the name is not a registered kind
+	 */
+	public static int code(String name){
+		Integer code = NAMES.get(name);
+		return (code == null) ? -1 : code;
+	}
+
+	/**
+	 * Get the class of the kind of symbol with the given code
+	 * @param code The code
+	 * @return The class, or null if the code is not valid
+	 */
+	public static Class<?> type(int code){
+		return isCode(code) ? TYPES[code] : null;
+	}
+
+	/**
+	 * Make a new symbol of the kind with the given code, see {@link Factory#create()}
+	 * @param code The code
+	 * @return The symbol, or null if the code is not valid
+	 */
+	public static TabSymbol create(int code){
+		return isCode(code) ? FACTORIES[code].create() : null;
+	}
+
+	/** Cannot instantiate {@link SymbolType} */
+	private SymbolType(){}
+
+}
@@ -1,13 +1,13 @@
 package tab.symbol;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import appUtils.ZabAppSettings;
 import music.Rhythm;
 import tab.Tab;
 import tab.TabString;
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
  * A symbol for a {@link Tab} representing a dead note or muted note
@@ -67,7 +67,7 @@ public class TabDeadNote extends TabSymbol{
 	
 	/***/
 	@Override
-	public boolean load(Scanner reader){
+	public boolean load(ZabTokenReader reader){
 		// Dead notes have no fields, so they save no data
 		return Saveable.nextLine(reader);
 	}
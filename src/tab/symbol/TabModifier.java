@@ -1,11 +1,11 @@
 package tab.symbol;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import util.Copyable;
 import util.ObjectUtils;
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
  * An object tracking the modifier for a symbol, i.e. for hammer ons, pull offs, slides, and so on
@@ -98,7 +98,7 @@ public class TabModifier implements Copyable<TabModifier>, Saveable{
 
 	/***/
 	@Override
-	public boolean load(Scanner reader){
+	public boolean load(ZabTokenReader reader){
 		// Load the two strings needed for this object
 		String[] load = Saveable.loadStrings(reader, 2);
 		// If loading fails, return false
@@ -127,6 +127,12 @@ public class TabModifier implements Copyable<TabModifier>, Saveable{
 				this.getAfter().equals(m.getAfter());
 	}
 	
+	/***/
+	@Override
+	public int hashCode(){
+		return 31 * this.getBefore().hashCode() + this.getAfter().hashCode();
+	}
+	
 	/***/
 	@Override
 	public String toString(){
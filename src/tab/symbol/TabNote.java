@@ -1,12 +1,12 @@
 package tab.symbol;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import music.Pitch;
 import music.Rhythm;
 import util.ObjectUtils;
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
  * An instantiation of a {@link TabPitch} with no rhythmic information
@@ -92,7 +92,7 @@ public class TabNote extends TabPitch{
 	
 	/***/
 	@Override
-	public boolean load(Scanner reader){
+	public boolean load(ZabTokenReader reader){
 		// Load the pitch, position, and modifier
 		return Saveable.loadMultiple(reader, this.getSaveObjects());
 	}
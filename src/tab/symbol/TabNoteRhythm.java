@@ -1,13 +1,13 @@
 package tab.symbol;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import music.Pitch;
 import music.Rhythm;
 import music.TimeSignature;
 import util.ObjectUtils;
 import util.Saveable;
+import util.ZabTokenReader;
 
 /**
  * An instantiation of a {@link TabPitch} with rhythmic information
@@ -110,7 +110,7 @@ public class TabNoteRhythm extends TabPitch{
 	
 	/***/
 	@Override
-	public boolean load(Scanner reader){
+	public boolean load(ZabTokenReader reader){
 		// Save the pitch, position, rhythm, and modifier
 		return Saveable.loadMultiple(reader, this.getSaveObjects());
 	}
@@ -125,12 +125,20 @@ public class TabNoteRhythm extends TabPitch{
 	/***/
 	@Override
 	public boolean equals(Object obj){
+		// Symbols shared through the SymbolPool are usually the same object
+		if(this == obj) return true;
 		if(!ObjectUtils.isType(obj, TabNoteRhythm.class)) return false;
 		TabNoteRhythm n = (TabNoteRhythm)obj;
 		return	super.equals(obj) &&
 				this.getRhythm().equals(n.getRhythm());
 	}
 	
+	/***/
+	@Override
+	public int hashCode(){
+		return 31 * super.hashCode() + this.getRhythm().hashCode();
+	}
+	
 	/***/
 	@Override
 	public String toString(){
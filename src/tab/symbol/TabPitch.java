@@ -70,12 +70,20 @@ public abstract class TabPitch extends TabSymbol{
 	/***/
 	@Override
 	public boolean equals(Object obj){
+		// Symbols shared through the SymbolPool are usually the same object
+		if(this == obj) return true;
 		if(!ObjectUtils.isType(obj, TabPitch.class)) return false;
 		TabPitch p = (TabPitch)obj;
 		return	super.equals(obj) &&
 				this.getPitch().equals(p.getPitch());
 	}
 	
+	/***/
+	@Override
+	public int hashCode(){
+		return 31 * super.hashCode() + this.getPitch().hashCode();
+	}
+	
 	/***/
 	@Override
 	public String toString(){
@@ -127,6 +127,12 @@ public abstract class TabSymbol implements Copyable<TabSymbol>, Saveable{
 				m1.equals(m2);
 	}
 	
+	/***/
+	@Override
+	public int hashCode(){
+		return this.getModifier().hashCode();
+	}
+	
 	/***/
 	@Override
 	public String toString(){
@@ -0,0 +1,131 @@
+package util;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An object for reading the primitive values written by a {@link BinaryWriter} from a {@link ByteBuffer}.<br>
+ * If the bytes end before a value, or a value is not formatted correctly,
+ * 	the read throws a {@link BufferUnderflowException} or an {@link IllegalStateException}
+ * @author zrona
+ */
+public class BinaryReader{
+
+	/** The buffer being read, from its position up to its limit */
+	private ByteBuffer buffer;
+
+	/**
+	 * Create a new {@link BinaryReader} reading from the position of the given buffer up to its limit
+	 * @param buffer See {@link #buffer}. The buffer itself is not moved, reading uses its own position
+	 */
+	public BinaryReader(ByteBuffer buffer){
+		this.buffer = buffer.slice();
+	}
+
+	/** @return The position of the next byte to read, from the position of the buffer given to this {@link BinaryReader} */
+	public int position(){
+		return this.buffer.position();
+	}
+
+	/**
+	 * Move to the given byte
+	 * @param position The byte, from the position of the buffer given to this {@link BinaryReader}
+	 */
+	public void position(int position){
+		this.buffer.position(position);
+	}
+
+	/** @return The number of bytes left to read */
+	public int remaining(){
+		return this.buffer.remaining();
+	}
+
+	/**
+	 * Get a new {@link BinaryReader} for only some of the bytes of this reader, without moving this reader
+	 * @param offset The first byte, from the position of the buffer given to this {@link BinaryReader}
+	 * @param length The number of bytes
+	 * @return The reader
+	 * @throws BufferUnderflowException If the bytes go past the end of this reader
+	 */
+	public BinaryReader section(long offset, long length){
+		if(offset < 0 || length < 0 || offset + length > this.buffer.limit()) throw new BufferUnderflowException();
+		ByteBuffer b = this.buffer.duplicate();
+		b.position((int)offset);
+		b.limit((int)(offset + length));
+		return new BinaryReader(b);
+	}
+
+	/** @return The next byte, from 0 to 255 */
+	public int getByte(){
+		return this.buffer.get() & 0xFF;
+	}
+
+	/** @return The next boolean, written as one byte */
+	public boolean getBoolean(){
+		return this.getByte() != 0;
+	}
+
+	/** @return The next int, written as 4 bytes */
+	public int getInt(){
+		return this.buffer.getInt();
+	}
+
+	/** @return The next long, written as 8 bytes */
+	public long getLong(){
+		return this.buffer.getLong();
+	}
+
+	/** @return The next double, written as 8 bytes */
+	public double getDouble(){
+		return this.buffer.getDouble();
+	}
+
+	/**
+	 * Read a variable length integer, see {@link BinaryWriter#putVarLong(long)}
+	 * @return The long
+	 * @throws IllegalStateException If the integer is longer than a long
+	 */
+	public long getVarLong(){
+		long l = 0;
+		for(int shift = 0; shift < 64; shift += 7){
+			int b = this.buffer.get();
+			l |= (long)(b & 0x7F) << shift;
+			if((b & 0x80) == 0) return l;
+		}
+		throw new IllegalStateException("Variable length integer is too long");
+	}
+
+	/**
+	 * Read a variable length integer as an int
+	 * @return The int
+	 * @throws IllegalStateException If the integer is negative or too large for an int
+	 */
+	public int getVarInt(){
+		long l = this.getVarLong();
+		if(l < 0 || l > Integer.MAX_VALUE) throw new IllegalStateException("Variable length integer is not a valid int: " + l);
+		return (int)l;
+	}
+
+	/**
+	 * Read a signed variable length integer, see {@link BinaryWriter#putSignedVarLong(long)}
+	 * @return The long
+	 */
+	public long getSignedVarLong(){
+		long l = this.getVarLong();
+		return (l >>> 1) ^ -(l & 1);
+	}
+
+	/**
+	 * Read a String, see {@link BinaryWriter#putString(String)}
+	 * @return The String
+	 */
+	public String getString(){
+		int length = this.getVarInt();
+		if(length > this.buffer.remaining()) throw new BufferUnderflowException();
+		byte[] bytes = new byte[length];
+		this.buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,166 @@
+package util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An object for writing primitive values to a {@link ByteBuffer} which grows as values are written.<br>
+ * Numbers can be written at a fixed size, or as variable length integers, which use one byte for each 7 bits of the number,
+ * 	so small numbers take up only one byte. Values written by this object are read by a {@link BinaryReader}
+ * @author zrona
+ */
+public class BinaryWriter{
+
+	/** The buffer holding the written bytes, from its beginning up to its position */
+	private ByteBuffer buffer;
+
+	/**
+	 * Create a new empty {@link BinaryWriter} with the given starting capacity
+	 * @param capacity The number of bytes which can be written before the buffer must grow
+	 */
+	public BinaryWriter(int capacity){
+		this.buffer = ByteBuffer.allocate(Math.max(16, capacity));
+	}
+
+	/**
+	 * Create a new empty {@link BinaryWriter}
+	 */
+	public BinaryWriter(){
+		this(256);
+	}
+
+	/** @return The number of bytes written so far */
+	public int size(){
+		return this.buffer.position();
+	}
+
+	/**
+	 * Ensure at least the given number of bytes can be written without growing the buffer
+	 * @param bytes The number of bytes
+	 */
+	private void ensure(int bytes){
+		if(this.buffer.remaining() >= bytes) return;
+		int capacity = Math.max(this.buffer.capacity() * 2, this.buffer.position() + bytes);
+		ByteBuffer grown = ByteBuffer.allocate(capacity);
+		this.buffer.flip();
+		grown.put(this.buffer);
+		this.buffer = grown;
+	}
+
+	/**
+	 * Write one byte
+	 * @param b The byte, only the lowest 8 bits are used
+	 */
+	public void putByte(int b){
+		this.ensure(1);
+		this.buffer.put((byte)b);
+	}
+
+	/**
+	 * Write a boolean as one byte
+	 * @param b The boolean
+	 */
+	public void putBoolean(boolean b){
+		this.putByte(b ? 1 : 0);
+	}
+
+	/**
+	 * Write an int as 4 bytes
+	 * @param i The int
+	 */
+	public void putInt(int i){
+		this.ensure(4);
+		this.buffer.putInt(i);
+	}
+
+	/**
+	 * Write a long as 8 bytes
+	 * @param l The long
+	 */
+	public void putLong(long l){
+		this.ensure(8);
+		this.buffer.putLong(l);
+	}
+
+	/**
+	 * Write a double as 8 bytes, exactly as it is stored
+	 * @param d The double
+	 */
+	public void putDouble(double d){
+		this.ensure(8);
+		this.buffer.putDouble(d);
+	}
+
+	/**
+	 * Write a long as a variable length integer, best for numbers which are usually small and never negative
+	 * @param l The long, negative numbers always take 10 bytes, use {@link #putSignedVarLong(long)} for them instead
+	 */
+	public void putVarLong(long l){
+		this.ensure(10);
+		while((l & ~0x7FL) != 0){
+			this.buffer.put((byte)((l & 0x7F) | 0x80));
+			l >>>= 7;
+		}
+		this.buffer.put((byte)l);
+	}
+
+	/**
+	 * Write a long as a variable length integer, where numbers close to zero, positive or negative, take the fewest bytes
+	 * @param l The long
+	 */
+	public void putSignedVarLong(long l){
+		// Zig zag encoding, the sign becomes the lowest bit
+		this.putVarLong((l << 1) ^ (l >> 63));
+	}
+
+	/**
+	 * Write a String as its length in bytes, followed by its UTF-8 bytes
+	 * @param s The String
+	 */
+	public void putString(String s){
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		this.putVarLong(bytes.length);
+		this.putBytes(bytes);
+	}
+
+	/**
+	 * Write every byte of the given array
+	 * @param bytes The bytes
+	 */
+	public void putBytes(byte[] bytes){
+		this.ensure(bytes.length);
+		this.buffer.put(bytes);
+	}
+
+	/**
+	 * Write the remaining bytes of the given buffer. The position of the given buffer is moved to its limit
+	 * @param bytes The buffer
+	 */
+	public void putBytes(ByteBuffer bytes){
+		this.ensure(bytes.remaining());
+		this.buffer.put(bytes);
+	}
+
+	/**
+	 * Get a buffer holding every byte written so far. Writing more bytes to this {@link BinaryWriter} does not change the returned buffer
+	 * @return A read only buffer, with its position at zero and its limit at {@link #size()}
+	 */
+	public ByteBuffer toBuffer(){
+		ByteBuffer b = this.buffer.duplicate();
+		b.flip();
+		return b.asReadOnlyBuffer();
+	}
+
+	/**
+	 * Write every byte written so far to the given channel
+	 * @param channel The channel
+	 * @throws IOException If the channel cannot be written to
+	 */
+	public void writeTo(WritableByteChannel channel) throws IOException{
+		ByteBuffer b = this.toBuffer();
+		while(b.hasRemaining()) channel.write(b);
+	}
+
+}
@@ -1,6 +1,13 @@
 package util;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * A class containing methods for operating on, and using, File objects 
@@ -11,6 +18,9 @@ public final class FileUtils{
 	/** The file extension representing a .zab file, not including the dot */
 	public static final String ZAB_EXTENSION = "zab";
 	
+	/** The extension added to the name of a file for the temporary file written before replacing it, see {@link #writeAtomic(File, ByteBuffer)} */
+	public static final String TEMP_EXTENSION = ".tmp";
+	
 	/**
 	 * Create a String which can be used to create a new {@link File}
 	 * @param path The path to the file, no name
@@ -67,6 +77,80 @@ public final class FileUtils{
 		return extendTo(f, ZAB_EXTENSION);
 	}
 	
+	/**
+	 * Get the file which {@link #writeAtomic(File, ByteBuffer)} writes to before moving it in place of the given file
+	 * @param file The file
+	 * @return The temporary file, in the same folder as file
+	 */
+	public static File tempFile(File file){
+		return new File(file.getPath().concat(TEMP_EXTENSION));
+	}
+	
+	/**
+	 * Read every byte of the given file
+	 * @param file The file
+	 * @return The bytes, or null if the file does not exist, or is too large to hold in a {@link ByteBuffer}
+	 * @throws IOException If the file cannot be read
+	 */
+	public static ByteBuffer read(File file) throws IOException{
+		if(file == null || !file.isFile()) return null;
+		try(FileChannel c = FileChannel.open(file.toPath(), StandardOpenOption.READ)){
+			long size = c.size();
+			if(size > Integer.MAX_VALUE) return null;
+			ByteBuffer bytes = ByteBuffer.allocate((int)size);
+			while(bytes.hasRemaining() && c.read(bytes) >= 0);
+			bytes.flip();
+			return bytes;
+		}
+	}
+	
+	/**
+	 * Write the given bytes as the only contents of the given file, and wait until they are stored on the disk
+	 * @param file The file
+	 * @param bytes The bytes, from their position to their limit. The position is moved to the limit
+	 * @throws IOException If the file cannot be written
+	 */
+	public static void write(File file, ByteBuffer bytes) throws IOException{
+		try(FileChannel c = FileChannel.open(file.toPath(),
+				StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)){
+			while(bytes.hasRemaining()) c.write(bytes);
+			c.force(true);
+		}
+	}
+	
+	/**
+	 * Replace the contents of the given file with the given bytes, so that the file either has its old contents, or all of the new bytes, 
+	 * 	even if writing is stopped part way. The bytes are written to {@link #tempFile(File)}, which is then moved in place of the file
+	 * @param file The file
+	 * @param bytes The bytes, from their position to their limit. The position is moved to the limit
+	 * @throws IOException If the file cannot be written, in which case the file is not changed
+	 */
+	public static void writeAtomic(File file, ByteBuffer bytes) throws IOException{
+		File temp = tempFile(file);
+		try{
+			write(temp, bytes);
+			move(temp, file);
+		}
+		finally{
+			Files.deleteIfExists(temp.toPath());
+		}
+	}
+	
+	/**
+	 * Move the given file in place of another, replacing it in one step if the file system allows it
+	 * @param from The file to move
+	 * @param to The file to replace
+	 * @throws IOException If the file cannot be moved
+	 */
+	public static void move(File from, File to) throws IOException{
+		try{
+			Files.move(from.toPath(), to.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch(AtomicMoveNotSupportedException e){
+			Files.move(from.toPath(), to.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+	
 	/** Cannot instantiate FileUtils */
 	private FileUtils(){}
 	
@@ -1,12 +1,11 @@
 package util;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import appUtils.ZabConstants;
 
 /**
- * An interface representing an object which can be saved to a file using {@link Scanner} and {@link PrintWriter} objects.<br>
+ * An interface representing an object which can be saved to a file using {@link ZabTokenReader} and {@link PrintWriter} objects.<br>
  * Also contains static utility methods for loading in values and handling error checking.<br>
  * When using the utility methods, be sure to put new lines between different objects in the same file.<br>
  * For example, if multiple integers are stored on one line, and a string on the next line, a new line must be added so that 
@@ -16,14 +15,14 @@ import appUtils.ZabConstants;
 public interface Saveable{
 	
 	/**
-	 * Load in all values for this object from the given {@link Scanner}<br>
+	 * Load in all values for this object from the given {@link ZabTokenReader}<br>
 	 * Must ensure that the associated save method will save the object in an exact format which can be loaded by this save method.<br>
-	 * After this method is called, no artifacts from this {@link Saveable} should be left in the {@link Scanner}
-	 * @param reader The {@link Scanner}, usually a file.<br>
+	 * After this method is called, no artifacts from this {@link Saveable} should be left in the {@link ZabTokenReader}
+	 * @param reader The {@link ZabTokenReader}, usually a file.<br>
 	 * 	Do not close this object, that should be handled by the creator of the object
 	 * @return true if the load was successful, false otherwise
 	 */
-	public boolean load(Scanner reader);
+	public boolean load(ZabTokenReader reader);
 	
 	/**
 	 * Save all values for this object to the given {@link PrintWriter}<br>
@@ -53,7 +52,7 @@ public interface Saveable{
 	 * @return null if any error occurred with loading the value, otherwise the resulting array of values of the given size. 
 	 * 	This method guarantees that the returned object will be of the type specified
 	 */
-	public static Object loadObject(Scanner reader, int type){
+	public static Object loadObject(ZabTokenReader reader, int type){
 		if(reader == null) return null;
 		try{
 			switch(type){
@@ -90,7 +89,7 @@ public interface Saveable{
 	 * 	</ul>
 	 * @return null if any error occurred with loading the values, otherwise the resulting array of values of the given size
 	 */
-	public static Object[] loadObjects(Scanner reader, int size, int type){
+	public static Object[] loadObjects(ZabTokenReader reader, int size, int type){
 		Object[] arr = new Object[size];
 		for(int i = 0; i < size; i++){
 			arr[i] = loadObject(reader, type);
@@ -104,7 +103,7 @@ public interface Saveable{
 	 * @param writer The {@link PrintWriter} to use to save the object
 	 * @return null if any error occurred with loading the values, otherwise the value
 	 */
-	public static Boolean loadBool(Scanner reader){
+	public static Boolean loadBool(ZabTokenReader reader){
 		return (Boolean)loadObject(reader, 0);
 	}
 	
@@ -114,7 +113,7 @@ public interface Saveable{
 	 * @param size The number of values to be loaded
 	 * @return null if any error occurred with loading the values, otherwise the resulting array of values of the given size
 	 */
-	public static Boolean[] loadBools(Scanner reader, int size){
+	public static Boolean[] loadBools(ZabTokenReader reader, int size){
 		Boolean[] bools = new Boolean[size];
 		for(int i = 0; i < size; i++){
 			bools[i] = loadBool(reader);
@@ -128,7 +127,7 @@ public interface Saveable{
 	 * @param writer The {@link PrintWriter} to use to save the object
 	 * @return null if any error occurred with loading the values, otherwise the resulting value
 	 */
-	public static Integer loadInt(Scanner reader){
+	public static Integer loadInt(ZabTokenReader reader){
 		return (Integer)loadObject(reader, 1);
 	}
 	
@@ -138,7 +137,7 @@ public interface Saveable{
 	 * @param size The number of values to be loaded
 	 * @return null if any error occurred with loading the values, otherwise the resulting array of values of the given size
 	 */
-	public static Integer[] loadInts(Scanner reader, int size){
+	public static Integer[] loadInts(ZabTokenReader reader, int size){
 		Integer[] ints = new Integer[size];
 		for(int i = 0; i < size; i++){
 			ints[i] = loadInt(reader);
@@ -152,7 +151,7 @@ public interface Saveable{
 	 * @param writer The {@link PrintWriter} to use to save the object
 	 * @return null if any error occurred with loading the values, otherwise the resulting value
 	 */
-	public static Long loadLong(Scanner reader){
+	public static Long loadLong(ZabTokenReader reader){
 		return (Long)loadObject(reader, 2);
 	}
 	
@@ -162,7 +161,7 @@ public interface Saveable{
 	 * @param size The number of values to be loaded
 	 * @return null if any error occurred with loading the values, otherwise the resulting array of values of the given size
 	 */
-	public static Long[] loadLongs(Scanner reader, int size){
+	public static Long[] loadLongs(ZabTokenReader reader, int size){
 		Long[] longs = new Long[size];
 		for(int i = 0; i < size; i++){
 			longs[i] = loadLong(reader);
@@ -176,7 +175,7 @@ public interface Saveable{
 	 * @param writer The {@link PrintWriter} to use to save the object
 	 * @return null if any error occurred with loading the values, otherwise the resulting value
 	 */
-	public static Float loadFloat(Scanner reader){
+	public static Float loadFloat(ZabTokenReader reader){
 		return (Float)loadObject(reader, 3);
 	}
 	
@@ -186,7 +185,7 @@ public interface Saveable{
 	 * @param size The number of values to be loaded
 	 * @return null if any error occurred with loading the values, otherwise the resulting array of values of the given size
 	 */
-	public static Float[] loadFloats(Scanner reader, int size){
+	public static Float[] loadFloats(ZabTokenReader reader, int size){
 		Float[] floats = new Float[size];
 		for(int i = 0; i < size; i++){
 			floats[i] = loadFloat(reader);
@@ -200,7 +199,7 @@ public interface Saveable{
 	 * @param writer The {@link PrintWriter} to use to save the object
 	 * @return null if any error occurred with loading the values, otherwise the resulting value
 	 */
-	public static Double loadDouble(Scanner reader){
+	public static Double loadDouble(ZabTokenReader reader){
 		return (Double)loadObject(reader, 4);
 	}
 	
@@ -210,7 +209,7 @@ public interface Saveable{
 	 * @param size The number of values to be loaded
 	 * @return null if any error occurred with loading the values, otherwise the resulting array of values of the given size
 	 */
-	public static Double[] loadDoubles(Scanner reader, int size){
+	public static Double[] loadDoubles(ZabTokenReader reader, int size){
 		Double[] dubs = new Double[size];
 		for(int i = 0; i < size; i++){
 			dubs[i] = loadDouble(reader);
@@ -224,7 +223,7 @@ public interface Saveable{
 	 * @param writer The {@link PrintWriter} to use to save the object
 	 * @return null if any error occurred with loading the values, otherwise the resulting value
 	 */
-	public static String loadString(Scanner reader){
+	public static String loadString(ZabTokenReader reader){
 		return (String)loadObject(reader, 5);
 	}
 	
@@ -234,7 +233,7 @@ public interface Saveable{
 	 * @param size The number of values to be loaded
 	 * @return null if any error occurred with loading the values, otherwise the resulting array of values of the given size
 	 */
-	public static String[] loadStrings(Scanner reader, int size){
+	public static String[] loadStrings(ZabTokenReader reader, int size){
 		String[] strs = new String[size];
 		for(int i = 0; i < size; i++){
 			strs[i] = loadString(reader);
@@ -246,11 +245,11 @@ public interface Saveable{
 	/**
 	 * Load a single {@link Saveable} object.<br>
 	 * Automatically checks for null values and errors and returns false on either.
-	 * @param reader The {@link Scanner} to use for loading
+	 * @param reader The {@link ZabTokenReader} to use for loading
 	 * @return toLoad The object to load
 	 * @return true if loading was successful, false otherwise.
 	 */
-	public static boolean load(Scanner reader, Saveable toLoad){
+	public static boolean load(ZabTokenReader reader, Saveable toLoad){
 		if(reader == null || toLoad == null) return false;
 		try{
 			if(!toLoad.load(reader)) return false;
@@ -265,11 +264,11 @@ public interface Saveable{
 	/**
 	 * Load an array of {@link Saveable} objects.<br>
 	 * Automatically checks for null values and errors and returns false on either.
-	 * @param reader The {@link Scanner} to use for loading
+	 * @param reader The {@link ZabTokenReader} to use for loading
 	 * @return toLoad The list of objects to load
 	 * @return true if loading was successful, false otherwise.
 	 */
-	public static boolean loadMultiple(Scanner reader, Saveable[] toLoad){
+	public static boolean loadMultiple(ZabTokenReader reader, Saveable[] toLoad){
 		if(reader == null || toLoad == null) return false;
 		for(Saveable s : toLoad){
 			if(s == null) return false;
@@ -382,11 +381,11 @@ public interface Saveable{
 	}
 	
 	/**
-	 * Utility method for advancing a {@link Scanner} by one line and handling error checking.
-	 * @param reader The {@link Scanner} to advance
+	 * Utility method for advancing a {@link ZabTokenReader} by one line and handling error checking.
+	 * @param reader The {@link ZabTokenReader} to advance
 	 * @return true if no error occurred, false otherwise
 	 */
-	public static boolean nextLine(Scanner reader){
+	public static boolean nextLine(ZabTokenReader reader){
 		try{
 			reader.nextLine();
 			return true;
@@ -397,7 +396,7 @@ public interface Saveable{
 	}
 	
 	/**
-	 * Utility method for writing a new line with a {@link Scanner} and handling error checking.
+	 * Utility method for writing a new line with a {@link ZabTokenReader} and handling error checking.
 	 * @param writer The {@link PrintWriter} to write the new line
 	 * @return true if no error occurred, false otherwise
 	 */
@@ -56,19 +56,77 @@ public final class StringUtils{
 			String before, String after,
 			char fill, boolean fillBefore){
 		
-		String addMid = String.valueOf(fill);
+		StringBuilder b = new StringBuilder(String.valueOf(main));
+		appendWithFiller(b, add, totalLength, before, after, fill, fillBefore);
+		return b.toString();
+	}
+	
+	/**
+	 * The same as {@link #combineStringsWithFiller(String[], String[], String, String, char, boolean)}, 
+	 * but each add string is appended directly to the end of a {@link StringBuilder}, so that no new strings are made
+	 * @param main The builders holding the source strings, each is changed to hold its combined string
+	 * @param add The strings to add
+	 * @param before The text to add before the add strings are added
+	 * @param after The text to add after the add strings are added
+	 * @param fill The text to fill the length of each add string
+	 * @param fillBefore true to add the filler at the beginning of the string, false to add it at the end
+	 */
+	public static void combineStringsWithFiller(
+			StringBuilder[] main, String[] add,
+			String before, String after, 
+			char fill, boolean fillBefore){
+		
+		int size = main.length;
+		if(size != add.length) throw new IllegalArgumentException("main and add arrays must be the same length");
+		
+		// Find the longest string in add
+		int longest = 0;
+		for(int i = 0; i < size; i++){
+			int length = add[i].length();
+			if(longest < length) longest = length;
+		}
+		
+		// Combine add strings with the main strings
+		for(int i = 0; i < size; i++){
+			appendWithFiller(main[i], add[i], longest, before, after, fill, fillBefore);
+		}
+	}
+	
+	/**
+	 * Append the string add to the end of a {@link StringBuilder}, with fill added until it reaches length totalLength, and with before and after around it
+	 * @param main The builder to append to
+	 * @param add The string to add
+	 * @param totalLength The length of the add string with its filler, if add.length is larger than this value,
+	 * 	it is not reduced, it remains the same length.
+	 * @param before The text to add before the add string is added
+	 * @param after The text to add after the add string is added
+	 * @param fill The text to fill the length of the add string
+	 * @param fillBefore true to add the filler at the beginning of the string, false to add it at the end
+	 */
+	public static void appendWithFiller(
+			StringBuilder main, String add, int totalLength,
+			String before, String after,
+			char fill, boolean fillBefore){
 		
 		// Null checking for initial string
 		String s = String.valueOf(add);
-		// Ensure the string is the desired length
-		while(s.length() < totalLength){
-			if(fillBefore) s = addMid.concat(s);
-			else s = s.concat(addMid);
-		}
-		add = s;
+		int filler = totalLength - s.length();
 		
-		// Combine add string with the main string, as well as the before and after
-		return String.join("", main, before, add, after);
+		main.append(before);
+		if(fillBefore) appendFiller(main, fill, filler);
+		main.append(s);
+		if(!fillBefore) appendFiller(main, fill, filler);
+		main.append(after);
+	}
+	
+	/**
+	 * Append the same character to the end of a {@link StringBuilder} multiple times
+	 * @param main The builder to append to
+	 * @param fill The character to add
+	 * @param count The number of times to add the character, nothing is added if this is not positive
+	 */
+	private static void appendFiller(StringBuilder main, char fill, int count){
+		for(int i = 0; i < count; i++) main.append(fill);
 	}
 	
 	/** Cannot instantiate {@link StringUtils} */
@@ -0,0 +1,511 @@
+package util;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+/**
+ * An object for reading the text saved by {@link Saveable} objects, one token or one line at a time.<br>
+ * This is used in place of a {@link java.util.Scanner}, and each method behaves the same as the method of the same name in {@link java.util.Scanner}:
+ * 	tokens are separated by whitespace, a token which cannot be read as the requested type is left to be read again,
+ * 	and reading a line returns the rest of the current line.<br>
+ * Unlike a {@link java.util.Scanner}, numbers and booleans are parsed directly from a buffer of characters, without regular expressions,
+ * 	and usually without making a String for the token. Numbers must be written the way {@link String#valueOf(double)} and similar methods write them,
+ * 	meaning without grouping characters or hexadecimal digits
+ * @author zrona
+ */
+public class ZabTokenReader implements Closeable{
+
+	/** The number of characters read from {@link #source} at a time, unless a single token or line needs more */
+	private static final int BUFFER_SIZE = 8192;
+
+	/** Every power of ten which a double can hold exactly */
+	private static final double[] POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+			1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+	/**
+	 * The most significant digits a decimal can have to be parsed without {@link Double#parseDouble(String)}.
+	 * Any number with this many digits can be held exactly by a double, so multiplying or dividing it by one of {@link #POWERS_OF_TEN} rounds only once,
+	 * 	giving the same result as {@link Double#parseDouble(String)}
+	 */
+	private static final int MAX_FAST_DIGITS = 15;
+
+	/** The source of characters which have not yet been put in {@link #buffer}, or null if every character is already in the buffer */
+	private Reader source;
+
+	/** true if every character of {@link #source} has been put in {@link #buffer}, false otherwise */
+	private boolean ended;
+
+	/** The characters read from {@link #source}, from {@link #position} up to {@link #limit} are not yet read by this {@link ZabTokenReader} */
+	private char[] buffer;
+
+	/** The index in {@link #buffer} of the next character to read */
+	private int position;
+
+	/** The number of characters in {@link #buffer} */
+	private int limit;
+
+	/** true if this {@link ZabTokenReader} has been closed, false otherwise */
+	private boolean closed;
+
+	/**
+	 * Create a new {@link ZabTokenReader} which reads the given text
+	 * @param text The text
+	 */
+	public ZabTokenReader(String text){
+		this.source = null;
+		this.ended = true;
+		this.buffer = text.toCharArray();
+		this.position = 0;
+		this.limit = this.buffer.length;
+		this.closed = false;
+	}
+
+	/**
+	 * Create a new {@link ZabTokenReader} which reads from the given {@link Reader}
+	 * @param source See {@link #source}
+	 */
+	public ZabTokenReader(Reader source){
+		if(source == null) throw new NullPointerException();
+		this.source = source;
+		this.ended = false;
+		this.buffer = new char[BUFFER_SIZE];
+		this.position = 0;
+		this.limit = 0;
+		this.closed = false;
+	}
+
+	/**
+	 * Create a new {@link ZabTokenReader} which reads from the given {@link InputStream}, using the default character set
+	 * @param in The {@link InputStream}
+	 */
+	public ZabTokenReader(InputStream in){
+		this(new InputStreamReader(in, Charset.defaultCharset()));
+	}
+
+	/**
+	 * Create a new {@link ZabTokenReader} which reads the given file, using the default character set
+	 * @param file The file
+	 * @throws FileNotFoundException If the file cannot be opened
+	 */
+	public ZabTokenReader(File file) throws FileNotFoundException{
+		this(new FileInputStream(file));
+	}
+
+	/**
+	 * Determine if there is another token to read
+	 * @return true if there is another token, false otherwise
+	 * @throws IllegalStateException If this {@link ZabTokenReader} is closed
+	 */
+	public boolean hasNext(){
+		this.ensureOpen();
+		return this.tokenStart() >= 0;
+	}
+
+	/**
+	 * Determine if there is another line to read
+	 * @return true if there is another line, false otherwise
+	 * @throws IllegalStateException If this {@link ZabTokenReader} is closed
+	 */
+	public boolean hasNextLine(){
+		this.ensureOpen();
+		return this.available(0);
+	}
+
+	/**
+	 * Read the next token
+	 * @return The token
+	 * @throws NoSuchElementException If there are no tokens left
+	 * @throws IllegalStateException If this {@link ZabTokenReader} is closed
+	 */
+	public String next(){
+		int start = this.requireToken();
+		int end = this.tokenEnd(start);
+		String s = new String(this.buffer, this.position + start, end - start);
+		this.position += end;
+		return s;
+	}
+
+	/**
+	 * Read the rest of the current line, and move to the start of the next line
+	 * @return The line, not including the line separator
+	 * @throws NoSuchElementException If there are no characters left
+	 * @throws IllegalStateException If this {@link ZabTokenReader} is closed
+	 */
+	public String nextLine(){
+		this.ensureOpen();
+		int i = 0;
+		while(this.available(i)){
+			char c = this.buffer[this.position + i];
+			if(isLineSeparator(c)){
+				String line = new String(this.buffer, this.position, i);
+				// A carriage return followed by a line feed is one separator
+				int separator = (c == '\r' && this.available(i + 1) && this.buffer[this.position + i + 1] == '\n') ? 2 : 1;
+				this.position += i + separator;
+				return line;
+			}
+			i++;
+		}
+		if(i == 0) throw new NoSuchElementException("No line found");
+		String line = new String(this.buffer, this.position, i);
+		this.position += i;
+		return line;
+	}
+
+	/**
+	 * Read the next token as a boolean, ignoring case
+	 * @return The boolean
+	 * @throws InputMismatchException If the token is not true or false, the token is not read
+	 * @throws NoSuchElementException If there are no tokens left
+	 * @throws IllegalStateException If this {@link ZabTokenReader} is closed
+	 */
+	public boolean nextBoolean(){
+		int start = this.requireToken();
+		int end = this.tokenEnd(start);
+		boolean b;
+		if(this.tokenEquals(start, end, "true")) b = true;
+		else if(this.tokenEquals(start, end, "false")) b = false;
+		else throw this.mismatch(start);
+		this.position += end;
+		return b;
+	}
+
+	/**
+	 * Read the next token as an int
+	 * @return The int
+	 * @throws InputMismatchException If the token is not an int, the token is not read
+	 * @throws NoSuchElementException If there are no tokens left
+	 * @throws IllegalStateException If this {@link ZabTokenReader} is closed
+	 */
+	public int nextInt(){
+		return (int)this.nextInteger(Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Read the next token as a long
+	 * @return The long
+	 * @throws InputMismatchException If the token is not a long, the token is not read
+	 * @throws NoSuchElementException If there are no tokens left
+	 * @throws IllegalStateException If this {@link ZabTokenReader} is closed
+	 */
+	public long nextLong(){
+		return this.nextInteger(Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Read the next token as a float
+	 * @return The float
+	 * @throws InputMismatchException If the token is not a decimal number, the token is not read
+	 * @throws NoSuchElementException If there are no tokens left
+	 * @throws IllegalStateException If this {@link ZabTokenReader} is closed
+	 */
+	public float nextFloat(){
+		int start = this.requireToken();
+		int end = this.tokenEnd(start);
+		int from = this.position + start;
+		if(!this.isDecimal(from, this.position + end)) throw this.mismatch(start);
+		float f = Float.parseFloat(new String(this.buffer, from, end - start));
+		this.position += end;
+		return f;
+	}
+
+	/**
+	 * Read the next token as a double
+	 * @return The double
+	 * @throws InputMismatchException If the token is not a decimal number, the token is not read
+	 * @throws NoSuchElementException If there are no tokens left
+	 * @throws IllegalStateException If this {@link ZabTokenReader} is closed
+	 */
+	public double nextDouble(){
+		int start = this.requireToken();
+		int end = this.tokenEnd(start);
+		int from = this.position + start;
+		int to = this.position + end;
+		if(!this.isDecimal(from, to)) throw this.mismatch(start);
+		double d = this.parseFastDouble(from, to);
+		if(Double.isNaN(d)) d = Double.parseDouble(new String(this.buffer, from, end - start));
+		this.position += end;
+		return d;
+	}
+
+	/**
+	 * Close this {@link ZabTokenReader}, and its {@link #source}. After this, every method other than this one throws an {@link IllegalStateException}
+	 */
+	@Override
+	public void close(){
+		if(this.closed) return;
+		this.closed = true;
+		if(this.source == null) return;
+		try{
+			this.source.close();
+		}catch(IOException e){
+			// The source is no longer used, so a failure to close it is ignored, the same as a Scanner
+		}
+		this.source = null;
+	}
+
+	/**
+	 * Read the next token as a whole number
+	 * @param min The smallest allowed value
+	 * @param max The largest allowed value
+	 * @return The number
+	 * @throws InputMismatchException If the token is not a whole number from min to max, the token is not read
+	 */
+	private long nextInteger(long min, long max){
+		int start = this.requireToken();
+		int end = this.tokenEnd(start);
+		int i = this.position + start;
+		int to = this.position + end;
+
+		boolean negative = this.buffer[i] == '-';
+		if(negative || this.buffer[i] == '+') i++;
+		if(i == to) throw this.mismatch(start);
+
+		// The number is added up as a negative number, so that the smallest value does not overflow
+		long lowest = negative ? min : -max;
+		long multiplyLowest = lowest / 10;
+		long n = 0;
+		for(; i < to; i++){
+			int digit = Character.digit(this.buffer[i], 10);
+			if(digit < 0 || n < multiplyLowest) throw this.mismatch(start);
+			n *= 10;
+			if(n < lowest + digit) throw this.mismatch(start);
+			n -= digit;
+		}
+		this.position += end;
+		return negative ? n : -n;
+	}
+
+	/**
+	 * Determine if the given characters of {@link #buffer} are a decimal number, written as a sign, digits with an optional decimal point,
+	 * 	and an optional exponent, or as NaN or Infinity
+	 * @param from The index of the first character, inclusive
+	 * @param to The index of the last character, exclusive
+	 * @return true if the characters are a decimal number, false otherwise
+	 */
+	private boolean isDecimal(int from, int to){
+		int i = from;
+		if(this.buffer[i] == '-' || this.buffer[i] == '+') i++;
+		if(this.regionEquals(i, to, "NaN") || this.regionEquals(i, to, "Infinity")) return true;
+
+		boolean digits = false;
+		boolean point = false;
+		for(; i < to; i++){
+			char c = this.buffer[i];
+			if(c >= '0' && c <= '9') digits = true;
+			else if(c == '.' && !point) point = true;
+			else break;
+		}
+		if(!digits) return false;
+		if(i == to) return true;
+
+		// The exponent
+		if(this.buffer[i] != 'e' && this.buffer[i] != 'E') return false;
+		i++;
+		if(i < to && (this.buffer[i] == '-' || this.buffer[i] == '+')) i++;
+		if(i == to) return false;
+		for(; i < to; i++){
+			if(this.buffer[i] < '0' || this.buffer[i] > '9') return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Parse the given characters of {@link #buffer} as a double, if it can be done exactly without {@link Double#parseDouble(String)},
+	 * 	meaning the number has at most {@link #MAX_FAST_DIGITS} significant digits, and a small enough exponent
+	 * @param from The index of the first character, inclusive, the characters must be a decimal number, see {@link #isDecimal(int, int)}
+	 * @param to The index of the last character, exclusive
+	 * @return The double, or {@link Double#NaN} if it cannot be parsed this way
+	 */
+	private double parseFastDouble(int from, int to){
+		int i = from;
+		boolean negative = this.buffer[i] == '-';
+		if(negative || this.buffer[i] == '+') i++;
+
+		long digits = 0;
+		int count = 0;
+		int exponent = 0;
+		boolean point = false;
+		for(; i < to; i++){
+			char c = this.buffer[i];
+			if(c == '.'){
+				point = true;
+				continue;
+			}
+			if(c == 'e' || c == 'E') break;
+			// The letters of NaN and Infinity
+			if(c < '0' || c > '9') return Double.NaN;
+			if(point) exponent--;
+			// Leading zeros are not significant
+			if(digits == 0 && c == '0') continue;
+			if(++count > MAX_FAST_DIGITS) return Double.NaN;
+			digits = digits * 10 + (c - '0');
+		}
+		if(i < to){
+			i++;
+			boolean negativeExponent = this.buffer[i] == '-';
+			if(negativeExponent || this.buffer[i] == '+') i++;
+			int e = 0;
+			for(; i < to; i++){
+				e = e * 10 + (this.buffer[i] - '0');
+				if(e >= POWERS_OF_TEN.length + MAX_FAST_DIGITS) return Double.NaN;
+			}
+			exponent += negativeExponent ? -e : e;
+		}
+
+		if(digits == 0) return negative ? -0.0 : 0.0;
+		if(exponent < -(POWERS_OF_TEN.length - 1) || exponent > POWERS_OF_TEN.length - 1) return Double.NaN;
+		double d = (exponent < 0) ? digits / POWERS_OF_TEN[-exponent] : digits * POWERS_OF_TEN[exponent];
+		return negative ? -d : d;
+	}
+
+	/**
+	 * Find the next token, throwing an exception if there is none
+	 * @return The offset from {@link #position} of the first character of the token
+	 * @throws NoSuchElementException If there are no tokens left
+	 * @throws IllegalStateException If this {@link ZabTokenReader} is closed
+	 */
+	private int requireToken(){
+		this.ensureOpen();
+		int start = this.tokenStart();
+		if(start < 0) throw new NoSuchElementException();
+		return start;
+	}
+
+	/**
+	 * Find the first character after {@link #position} which is not whitespace, without reading any characters
+	 * @return The offset from {@link #position} of the character, or -1 if there are only whitespace characters left
+	 */
+	private int tokenStart(){
+		int i = 0;
+		while(this.available(i)){
+			if(!Character.isWhitespace(this.buffer[this.position + i])) return i;
+			i++;
+		}
+		return -1;
+	}
+
+	/**
+	 * Find the end of the token starting at the given offset, without reading any characters
+	 * @param start The offset from {@link #position} of the first character of the token
+	 * @return The offset from {@link #position} of the first character after the token
+	 */
+	private int tokenEnd(int start){
+		int i = start + 1;
+		while(this.available(i) && !Character.isWhitespace(this.buffer[this.position + i])) i++;
+		return i;
+	}
+
+	/**
+	 * Determine if the token at the given offsets is the given word, ignoring case
+	 * @param start The offset from {@link #position} of the first character of the token
+	 * @param end The offset from {@link #position} of the first character after the token
+	 * @param word The word, in lower case
+	 * @return true if the token is the word, false otherwise
+	 */
+	private boolean tokenEquals(int start, int end, String word){
+		if(end - start != word.length()) return false;
+		for(int i = 0; i < word.length(); i++){
+			char c = this.buffer[this.position + start + i];
+			if(c >= 'A' && c <= 'Z') c += 'a' - 'A';
+			if(c != word.charAt(i)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Determine if the given characters of {@link #buffer} are exactly the given word
+	 * @param from The index of the first character, inclusive
+	 * @param to The index of the last character, exclusive
+	 * @param word The word
+	 * @return true if the characters are the word, false otherwise
+	 */
+	private boolean regionEquals(int from, int to, String word){
+		if(to - from != word.length()) return false;
+		for(int i = 0; i < word.length(); i++){
+			if(this.buffer[from + i] != word.charAt(i)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Skip the whitespace before a token which could not be read, leaving the token itself to be read again
+	 * @param start The offset from {@link #position} of the first character of the token
+	 * @return The exception to throw
+	 */
+	private InputMismatchException mismatch(int start){
+		this.position += start;
+		return new InputMismatchException();
+	}
+
+	/**
+	 * Ensure the character at the given offset from {@link #position} is in {@link #buffer}, reading more characters if needed
+	 * @param offset The offset
+	 * @return true if the character is in the buffer, false if the text ends before it
+	 */
+	private boolean available(int offset){
+		while(this.position + offset >= this.limit){
+			if(!this.fill()) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Read more characters from {@link #source} into {@link #buffer}, moving the unread characters to the start of the buffer,
+	 * 	or making the buffer larger if every character in it is unread
+	 * @return true if any characters were read, false if there are no characters left
+	 */
+	private boolean fill(){
+		if(this.ended) return false;
+		int unread = this.limit - this.position;
+		if(this.position > 0) System.arraycopy(this.buffer, this.position, this.buffer, 0, unread);
+		else if(unread == this.buffer.length) this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+		this.position = 0;
+		this.limit = unread;
+
+		try{
+			int read;
+			do{
+				read = this.source.read(this.buffer, this.limit, this.buffer.length - this.limit);
+			}while(read == 0);
+			if(read < 0){
+				this.ended = true;
+				return false;
+			}
+			this.limit += read;
+			return true;
+		}catch(IOException e){
+			// The same as a Scanner, a source which cannot be read is treated as the end of the text
+			this.ended = true;
+			return false;
+		}
+	}
+
+	/**
+	 * Ensure this {@link ZabTokenReader} is not closed
+	 * @throws IllegalStateException If this {@link ZabTokenReader} is closed
+	 */
+	private void ensureOpen(){
+		if(this.closed) throw new IllegalStateException("Reader closed");
+	}
+
+	/**
+	 * Determine if the given character ends a line
+	 * @param c The character
+	 * @return true if c is a line separator, false otherwise
+	 */
+	private static boolean isLineSeparator(char c){
+		return c == '\n' || c == '\r' || c == '\u2028' || c == '\u2029' || c == '\u0085';
+	}
+
+}
@@ -20,6 +20,7 @@ import appMain.gui.dropMenu.FileMenu.SaveListener;
 import appMain.gui.editor.paint.TabPainter;
 import appUtils.ZabAppSettings;
 import appUtils.ZabFileSaver;
+import appUtils.ZabJournal;
 import gui.ConfirmNotSavedPopup;
 import tab.InstrumentFactory;
 import tab.Tab;
@@ -151,6 +152,13 @@ public class TestFileMenu{
 		assertEquals(null, menu.getLoadedFile(), "Checking loaded file set to null");
 		assertEquals(InstrumentFactory.guitarStandard(), gui.getEditorFrame().getOpenedTab(), "Checking tab reset");
 		
+		File file = new File(UtilsTest.UNIT_PATH + "/newFileJournal.zab");
+		assertTrue(gui.getEditorFrame().save(file), "Checking the tab saved with a journal");
+		ZabJournal journal = gui.getEditorFrame().getTabScreen().getUndoStack().getJournal();
+		assertTrue(menu.newFile(), "Checking a new file created after a save");
+		assertEquals(null, gui.getEditorFrame().getTabScreen().getUndoStack().getJournal(), "Checking the journal of the saved file is not used for the new file");
+		assertFalse(journal.isOpen(), "Checking the journal of the saved file closed");
+		
 		ConfirmNotSavedPopup.setDisableState(false);
 		gui.getEditorFrame().getTabScreen().getUndoStack().markNotSaved();
 		assertFalse(menu.newFile(), "Checking file is not created with failed pop up confirm");
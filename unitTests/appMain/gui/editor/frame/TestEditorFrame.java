@@ -2,6 +2,7 @@ package appMain.gui.editor.frame;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -18,6 +19,7 @@ import appMain.gui.editor.paint.AbstractTestTabPainter;
 import appMain.gui.editor.paint.TabPainter;
 import appMain.gui.editor.paint.event.EditorEventStack;
 import appUtils.ZabAppSettings;
+import appUtils.ZabJournal;
 import appUtils.settings.ZabSettings;
 import tab.InstrumentFactory;
 import tab.Tab;
@@ -104,6 +106,16 @@ public class TestEditorFrame{
 		frame.setOpenedTab(guitar);
 		assertEquals(guitar, frame.getOpenedTab(), "Checking tab is set");
 		assertEquals(guitar, frame.getTabScreen().getTab(), "Checking painter tab is set");
+		
+		File file = new File(UtilsTest.UNIT_PATH + "/EditorFrameJournalTest.zab");
+		assertTrue(frame.save(file), "Checking save successful");
+		ZabJournal journal = stack.getJournal();
+		assertTrue(journal.isOpen(), "Checking a journal started for the saved file");
+		frame.setOpenedTab(guitar);
+		assertEquals(journal, stack.getJournal(), "Checking the journal kept when the same tab is set");
+		frame.setOpenedTab(InstrumentFactory.guitarStandard());
+		assertNull(stack.getJournal(), "Checking the journal removed when a different tab is set");
+		assertFalse(journal.isOpen(), "Checking the journal of the old tab closed");
 	}
 	
 	@Test
@@ -63,6 +63,29 @@ public class TestFileStatusLabel{
 		assertEquals("b", label.getText(), "Checking fail text updated");
 	}
 	
+	@Test
+	public void updateFileStatusClear(){
+		label.updateFileStatus("text", false);
+		assertEquals("text", label.getText(), "Checking text set");
+		assertEquals(null, label.getFileStatusTask(), "Checking no task to clear the text");
+		assertEquals(null, label.getFileStatusTimer(), "Checking no timer to clear the text");
+		
+		label.updateFileStatus("cleared", true);
+		assertEquals("cleared", label.getText(), "Checking text set");
+		assertNotEquals(null, label.getFileStatusTask(), "Checking task not null");
+		
+		label.updateFileStatus(null, false);
+		assertEquals(" ", label.getText(), "Checking text set after using null");
+		assertEquals(null, label.getFileStatusTask(), "Checking task set to null");
+	}
+	
+	@Test
+	public void updateSavingStatus(){
+		label.updateSavingStatus();
+		assertEquals("Saving...", label.getText(), "Checking saving text");
+		assertEquals(null, label.getFileStatusTask(), "Checking the text is not cleared");
+	}
+	
 	@Test
 	public void updateSaveStatus(){
 		label.updateSaveStatus(true);
@@ -81,6 +104,13 @@ public class TestFileStatusLabel{
 		assertEquals("Load failed", label.getText(), "Checking fail text");
 	}
 
+	@Test
+	public void updateLoadingStatus(){
+		label.updateLoadingStatus();
+		assertEquals("Loading...", label.getText(), "Checking loading text");
+		assertEquals(null, label.getFileStatusTask(), "Checking the text is not cleared");
+	}
+
 	@Test
 	public void updateExportStatus(){
 		label.updateExportStatus(true);
@@ -500,6 +500,17 @@ public class TestTabPainter extends AbstractTestTabPainter{
 		assertTrue(paint.undo(), "Checking undo succeeds");
 		assertNotEquals(null, str0.findPosition(3.5), "Checking note added back in");
 		assertNotEquals(null, str2.findPosition(3), "Checking note added back in");
+		
+		stack.markSaved();
+		// A selection list cannot hold the same note twice, but any other list can
+		ArrayList<Selection> twice = new ArrayList<Selection>();
+		twice.add(s0);
+		twice.add(new Selection(s0.getPos(), str0, 0));
+		removed = paint.removeSelections(twice, true);
+		assertEquals(1, removed.size(), "Checking a note selected twice is only removed once");
+		assertEquals(0, str0.size(), "Checking TabPosition removed");
+		assertTrue(paint.undo(), "Checking undo succeeds");
+		assertEquals(1, str0.size(), "Checking note added back in only once");
 	}
 	
 	@Test
@@ -1338,6 +1349,18 @@ public class TestTabPainter extends AbstractTestTabPainter{
 		Tab t = InstrumentFactory.bassStandard();
 		paint.setTab(t);
 		assertEquals(t, paint.getTab(), "Checking tab set");
+		
+		t.placeQuantizedNote(0, 0, 20);
+		assertEquals(paint.lineNumberFromPos(20) + 2, paint.getLineTabCount(), "Checking line count updated when the new tab changes length");
+	}
+	
+	@Test
+	public void extentChanged(){
+		tab.clearNotes();
+		paint.setTab(tab);
+		assertEquals(2, paint.getLineTabCount(), "Checking line count with no notes");
+		tab.getStrings().get(0).add(TabFactory.modifiedFret(tab.getStrings().get(0), 0, 20));
+		assertEquals(paint.lineNumberFromPos(20) + 2, paint.getLineTabCount(), "Checking line count updated without calling update");
 	}
 	
 	@Test
@@ -2,8 +2,12 @@ package appMain.gui.editor.paint.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
+import java.nio.ByteBuffer;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,7 +15,10 @@ import org.junit.jupiter.api.Test;
 
 import appMain.gui.editor.paint.AbstractTestTabPainter;
 import appUtils.ZabAppSettings;
+import appUtils.ZabBinaryFormat;
+import appUtils.ZabJournal;
 import settings.SettingInt;
+import util.testUtils.UtilsTest;
 
 public class TestEditorEventStack extends AbstractTestTabPainter{
 
@@ -134,6 +141,48 @@ public class TestEditorEventStack extends AbstractTestTabPainter{
 		assertEquals(0, stack.redoSize(), "Checking size zero after clear");
 	}
 	
+	@Test
+	public void closeJournal(){
+		UtilsTest.createUnitFolder();
+		File file = new File(UtilsTest.UNIT_PATH + "/EventStackJournal.zab");
+		ByteBuffer bytes = ZabBinaryFormat.encode(paint.getTab(), false);
+		ZabBinaryFormat.write(file, bytes);
+		ZabJournal journal = new ZabJournal(file);
+		journal.start(bytes);
+		stack.setJournal(journal);
+		
+		stack.closeJournal();
+		assertNull(stack.getJournal(), "Checking the journal removed");
+		assertFalse(journal.isOpen(), "Checking the journal closed");
+		assertTrue(journal.getFile().exists(), "Checking the journal file kept");
+		
+		stack.addEvent(new PlaceNotesEvent(paint.stringSelection(0, 0)));
+		assertEquals(0, journal.size(), "Checking events are no longer written to the journal");
+		stack.closeJournal();
+		assertNull(stack.getJournal(), "Checking closing without a journal does nothing");
+		UtilsTest.deleteUnitFolder();
+	}
+	
+	@Test
+	public void discardJournal(){
+		UtilsTest.createUnitFolder();
+		File file = new File(UtilsTest.UNIT_PATH + "/EventStackJournal.zab");
+		ByteBuffer bytes = ZabBinaryFormat.encode(paint.getTab(), false);
+		ZabBinaryFormat.write(file, bytes);
+		ZabJournal journal = new ZabJournal(file);
+		journal.start(bytes);
+		stack.setJournal(journal);
+		stack.addEvent(new PlaceNotesEvent(paint.stringSelection(0, 0)));
+		
+		stack.discardJournal();
+		assertNull(stack.getJournal(), "Checking the journal removed");
+		assertFalse(journal.isOpen(), "Checking the journal closed");
+		assertFalse(journal.getFile().exists(), "Checking the journal file deleted");
+		stack.discardJournal();
+		assertNull(stack.getJournal(), "Checking discarding without a journal does nothing");
+		UtilsTest.deleteUnitFolder();
+	}
+	
 	@Test
 	public void clearStack(){
 		stack.addEvent(new DummyEditorEvent());
@@ -11,7 +11,6 @@ import java.awt.geom.Ellipse2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import java.util.Scanner;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -20,6 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import appUtils.ZabAppSettings;
 import util.Size2D;
+import util.ZabTokenReader;
 import util.testUtils.Assert;
 import util.testUtils.UtilsTest;
 
@@ -1068,7 +1068,7 @@ public class TestCamera{
 	
 	@Test
 	public void load(){
-		Scanner scan = new Scanner("1.0 2.3 3.4 4.4 5.4 6.7 6.8 7.8 8.6 9.3 0.2 false 0 1 2 \n");
+		ZabTokenReader scan = new ZabTokenReader("1.0 2.3 3.4 4.4 5.4 6.7 6.8 7.8 8.6 9.3 0.2 false 0 1 2 \n");
 		assertTrue(cam.load(scan), "Checking load succeeds");
 		assertEquals(1.0, cam.getX(), "Checking x loaded");
 		assertEquals(2.3, cam.getY(), "Checking y loaded");
@@ -1087,15 +1087,15 @@ public class TestCamera{
 		assertEquals(2, cam.getStringYAlignment(), "Checking string y alignment loaded");
 		
 		scan.close();
-		scan = new Scanner("a 2.3 3.4 4.4 5.4 6.7 6.8 7.8 8.6 9.3 0.2 false \n");
+		scan = new ZabTokenReader("a 2.3 3.4 4.4 5.4 6.7 6.8 7.8 8.6 9.3 0.2 false \n");
 		assertFalse(cam.load(scan), "Checking load fails with invalid doubles");
 		
 		scan.close();
-		scan = new Scanner("1.0 2.3 3.4 4.4 5.4 6.7 6.8 7.8 8.6 9.3 0.2 g \n");
+		scan = new ZabTokenReader("1.0 2.3 3.4 4.4 5.4 6.7 6.8 7.8 8.6 9.3 0.2 g \n");
 		assertFalse(cam.load(scan), "Checking load fails with invalid boolean");
 		
 		scan.close();
-		scan = new Scanner("1.0 2.3 3.4 4.4 5.4 6.7 6.8 7.8 8.6 9.3 0.2 true 1.0 0 0 \n");
+		scan = new ZabTokenReader("1.0 2.3 3.4 4.4 5.4 6.7 6.8 7.8 8.6 9.3 0.2 true 1.0 0 0 \n");
 		assertFalse(cam.load(scan), "Checking load fails with invalid ints");
 		
 		scan.close();
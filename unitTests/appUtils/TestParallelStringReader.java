@@ -0,0 +1,78 @@
+package appUtils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tab.InstrumentFactory;
+import tab.Tab;
+import tab.TabFactory;
+import tab.TabString;
+import tab.symbol.TabModifier;
+import util.BinaryReader;
+
+public class TestParallelStringReader{
+
+	private Tab guitar;
+	private List<BinaryReader> sections;
+	private TabModifier[] mods;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+
+	@BeforeEach
+	public void setup(){
+		guitar = InstrumentFactory.guitarStandard();
+		Random r = new Random(16);
+		// Enough notes on the strings for the sections to pass the threshold
+		for(int i = 0; i < 4; i++){
+			TabString s = guitar.getStrings().get(i);
+			double pos = 0;
+			for(int j = 0; j < ParallelStringReader.PARALLEL_THRESHOLD / 8; j++){
+				pos += 0.25 + r.nextInt(8) * 0.125;
+				if(j % 3 == 0) s.add(TabFactory.modifiedFret(s, r.nextInt(20), pos, new TabModifier("", "h")));
+				else s.add(TabFactory.modifiedFret(s, r.nextInt(20), pos));
+			}
+		}
+		ByteBuffer b = ZabBinaryFormat.encode(guitar, false);
+		sections = ZabBinaryFormat.findSections(b, ZabBinaryFormat.SECTION_STRING);
+		mods = ZabBinaryFormat.readTabHeader(ZabBinaryFormat.findSection(b, ZabBinaryFormat.SECTION_TAB)).getModifiers();
+	}
+
+	@Test
+	public void read(){
+		TabString[] expected = guitar.getStrings().toArray(new TabString[6]);
+		assertArrayEquals(expected, ParallelStringReader.read(sections, mods), "Checking every string read");
+		assertEquals(0, ParallelStringReader.read(new ArrayList<BinaryReader>(), mods).length, "Checking no strings read from no sections");
+
+		assertNull(ParallelStringReader.read(sections, new TabModifier[0]), "Checking sections using missing modifiers are not read");
+	}
+
+	@Test
+	public void parallel(){
+		BinaryReader[] readers = sections.toArray(new BinaryReader[sections.size()]);
+		boolean threads = ForkJoinPool.getCommonPoolParallelism() > 1;
+		assertEquals(threads, ParallelStringReader.parallel(readers), "Checking large sections are read in parallel when threads are available");
+		assertFalse(ParallelStringReader.parallel(new BinaryReader[]{readers[0]}), "Checking one section is not read in parallel");
+		assertFalse(ParallelStringReader.parallel(new BinaryReader[]{readers[4], readers[5]}), "Checking small sections are not read in parallel");
+		assertFalse(ParallelStringReader.parallel(new BinaryReader[0]), "Checking no sections are not read in parallel");
+	}
+
+	@AfterEach
+	public void end(){}
+
+}
@@ -0,0 +1,411 @@
+package appUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import music.Rhythm;
+import music.TimeSignature;
+import tab.InstrumentFactory;
+import tab.Tab;
+import tab.TabFactory;
+import tab.TabPosition;
+import tab.TabString;
+import tab.TabSummary;
+import tab.symbol.SymbolPool;
+import tab.symbol.TabModifier;
+import util.BinaryReader;
+import util.BinaryWriter;
+import util.testUtils.UtilsTest;
+
+public class TestZabBinaryFormat{
+
+	private Tab guitar;
+	private File file;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+
+	@BeforeEach
+	public void setup(){
+		ZabAppSettings.init();
+		guitar = InstrumentFactory.guitarStandard();
+		guitar.setTimeSignature(new TimeSignature(7, 8));
+		guitar.setUsesRhythm(true);
+		TabString high = guitar.getStrings().get(0);
+		TabString low = guitar.getStrings().get(5);
+		high.add(TabFactory.modifiedFret(high, 3, 0.25));
+		high.add(TabFactory.hammerOn(high, 5, 1.5));
+		high.add(TabFactory.modifiedFretRhythm(high, 7, new Rhythm(3, 8), 2.0 / 3, new TabModifier("(", ")")));
+		high.add(SymbolPool.deadNote(), 4);
+		low.add(TabFactory.modifiedFret(low, 0, -1.5));
+		low.add(TabFactory.modifiedFret(low, 12, 0.1 + 0.2));
+		low.add(TabFactory.modifiedFret(low, 2, 1234.123456789));
+
+		UtilsTest.createUnitFolder();
+		file = new File(ZabFileSaver.makeFileName(UtilsTest.UNIT_PATH, UtilsTest.UNIT_NAME));
+	}
+
+	@Test
+	public void isBinary(){
+		assertTrue(ZabBinaryFormat.isBinary(ZabBinaryFormat.encode(guitar, false)), "Checking encoded bytes are binary");
+		assertFalse(ZabBinaryFormat.isBinary(ByteBuffer.wrap("false 4 4 \n".getBytes())), "Checking text is not binary");
+		assertFalse(ZabBinaryFormat.isBinary(ByteBuffer.allocate(2)), "Checking too few bytes are not binary");
+
+		ByteBuffer b = ZabBinaryFormat.encode(guitar, false);
+		assertTrue(ZabBinaryFormat.isBinary(b), "Checking bytes are binary");
+		assertEquals(0, b.position(), "Checking the position is not moved");
+	}
+
+	@Test
+	public void isBinaryFile() throws Exception{
+		assertFalse(ZabBinaryFormat.isBinary((File)null), "Checking a null file is not binary");
+		assertFalse(ZabBinaryFormat.isBinary(new File(UtilsTest.UNIT_PATH)), "Checking a folder is not binary");
+
+		assertTrue(ZabBinaryFormat.save(file, guitar, true), "Checking save successful");
+		assertTrue(ZabBinaryFormat.isBinary(file), "Checking a binary file is binary");
+
+		PrintWriter w = new PrintWriter(file);
+		guitar.save(w);
+		w.close();
+		assertFalse(ZabBinaryFormat.isBinary(file), "Checking a text file is not binary");
+	}
+
+	@Test
+	public void encode(){
+		assertNull(ZabBinaryFormat.encode(null, false), "Checking nothing encoded with no tab or settings");
+		assertTrue(ZabBinaryFormat.encode(null, true).remaining() > 0, "Checking settings encoded");
+
+		guitar.getStrings().add(0, null);
+		assertNull(ZabBinaryFormat.encode(guitar, false), "Checking an invalid tab is not encoded");
+	}
+
+	@Test
+	public void decode(){
+		Tab t = new Tab();
+		assertTrue(ZabBinaryFormat.decode(ZabBinaryFormat.encode(guitar, false), t, false), "Checking decode successful");
+		assertEquals(guitar, t, "Checking the decoded tab matches the encoded tab");
+		assertEquals(1234.123456789, t.getStrings().get(5).get(2).getPos(), "Checking a position between ticks is exact");
+		assertEquals(0.1 + 0.2, t.getStrings().get(5).get(1).getPos(), "Checking a position close to a tick is exact");
+
+		assertFalse(ZabBinaryFormat.decode(ZabBinaryFormat.encode(guitar, false), null, false), "Checking decode fails with nothing to load");
+		assertFalse(ZabBinaryFormat.decode(ZabBinaryFormat.encode(guitar, false), new Tab(), true), "Checking decode fails with no settings section");
+		assertFalse(ZabBinaryFormat.decode(ZabBinaryFormat.encode(null, true), new Tab(), false), "Checking decode fails with no tab section");
+		assertFalse(ZabBinaryFormat.decode(ByteBuffer.wrap("false 4 4 \n".getBytes()), new Tab(), false), "Checking decode fails with text");
+
+		// Every shorter version of the bytes should fail without an error
+		ByteBuffer full = ZabBinaryFormat.encode(guitar, true);
+		for(int i = 0; i < full.remaining(); i += 7){
+			ByteBuffer part = full.duplicate();
+			part.limit(i);
+			assertFalse(ZabBinaryFormat.decode(part, new Tab(), true), "Checking decode fails with cut off bytes");
+		}
+
+		// A file from a later version cannot be loaded
+		ByteBuffer later = ByteBuffer.allocate(full.remaining());
+		later.put(full.duplicate());
+		later.putInt(4, ZabBinaryFormat.VERSION + 1);
+		later.flip();
+		assertFalse(ZabBinaryFormat.decode(later, new Tab(), false), "Checking decode fails with a later version");
+	}
+
+	@Test
+	public void decodeSettings(){
+		ByteBuffer b = ZabBinaryFormat.encode(null, true);
+		ZabAppSettings.get().tab().getQuantizeDivisor().set(3.0);
+		assertTrue(ZabBinaryFormat.decode(b, null, true), "Checking settings decoded");
+		assertNotEquals(3.0, ZabAppSettings.get().tab().quantizeDivisor(), "Checking settings were loaded");
+	}
+
+	@Test
+	public void save(){
+		assertFalse(ZabBinaryFormat.save(null, guitar, true), "Checking save fails with a null file");
+		assertFalse(ZabBinaryFormat.save(file, null, false), "Checking save fails with nothing to save");
+		assertFalse(ZabBinaryFormat.save(new File(UtilsTest.UNIT_PATH + "/path/" + UtilsTest.UNIT_NAME), guitar, true), "Checking save fails with an invalid folder");
+		assertTrue(ZabBinaryFormat.save(file, guitar, true), "Checking save successful");
+		assertTrue(file.length() > 0, "Checking file written");
+	}
+
+	@Test
+	public void write(){
+		ByteBuffer bytes = ZabBinaryFormat.encode(guitar, false);
+		assertFalse(ZabBinaryFormat.write(null, bytes), "Checking write fails with a null file");
+		assertFalse(ZabBinaryFormat.write(file, null), "Checking write fails without bytes");
+		assertTrue(ZabBinaryFormat.write(file, bytes), "Checking write successful");
+		assertEquals(0, bytes.position(), "Checking the position not moved");
+		Tab t = new Tab();
+		ZabBinaryFormat.load(file, t, false);
+		assertEquals(guitar, t, "Checking the written tab loads");
+	}
+
+	@Test
+	public void load(){
+		assertFalse(ZabBinaryFormat.load(null, guitar, true), "Checking load fails with a null file");
+		assertFalse(ZabBinaryFormat.load(file, new Tab(), false), "Checking load fails with no file");
+
+		ZabBinaryFormat.save(file, guitar, true);
+		Tab t = new Tab();
+		assertTrue(ZabBinaryFormat.load(file, t, true), "Checking load successful");
+		assertEquals(guitar, t, "Checking the loaded tab matches the saved tab");
+	}
+
+	@Test
+	public void findSection(){
+		ByteBuffer b = ZabBinaryFormat.encode(guitar, false);
+		assertNull(ZabBinaryFormat.findSection(b, ZabBinaryFormat.SECTION_SETTINGS), "Checking a missing section is not found");
+		assertNull(ZabBinaryFormat.findSection(ByteBuffer.wrap("false 4 4 \n".getBytes()), ZabBinaryFormat.SECTION_TAB), "Checking text has no sections");
+		BinaryReader r = ZabBinaryFormat.findSection(b, ZabBinaryFormat.SECTION_TAB);
+		ZabBinaryFormat.TabHeader header = ZabBinaryFormat.readTabHeader(r);
+		assertEquals(6, header.getStringCount(), "Checking the tab section was found");
+		r = ZabBinaryFormat.findSection(b, ZabBinaryFormat.SECTION_STRING);
+		assertEquals(guitar.getStrings().get(5), ZabBinaryFormat.readString(r, header.getModifiers()), "Checking the last string section was found");
+	}
+
+	@Test
+	public void findSections(){
+		ByteBuffer b = ZabBinaryFormat.encode(guitar, false);
+		assertTrue(ZabBinaryFormat.findSections(b, ZabBinaryFormat.SECTION_SETTINGS).isEmpty(), "Checking a missing section is not found");
+		assertNull(ZabBinaryFormat.findSections(ByteBuffer.wrap("false 4 4 \n".getBytes()), ZabBinaryFormat.SECTION_TAB), "Checking text has no sections");
+		List<BinaryReader> sections = ZabBinaryFormat.findSections(b, ZabBinaryFormat.SECTION_STRING);
+		assertEquals(6, sections.size(), "Checking a section for every string");
+		TabModifier[] mods = ZabBinaryFormat.readTabHeader(ZabBinaryFormat.findSection(b, ZabBinaryFormat.SECTION_TAB)).getModifiers();
+		for(int i = 0; i < sections.size(); i++){
+			assertEquals(guitar.getStrings().get(i), ZabBinaryFormat.readString(sections.get(i), mods), "Checking the sections are in the order of the strings");
+		}
+	}
+
+	@Test
+	public void version(){
+		assertEquals(ZabBinaryFormat.VERSION, ZabBinaryFormat.version(ZabBinaryFormat.encode(guitar, false)), "Checking version of encoded bytes");
+		assertEquals(-1, ZabBinaryFormat.version(ByteBuffer.wrap("false 4 4 \n".getBytes())), "Checking text has no version");
+		assertEquals(1, ZabBinaryFormat.version(versionOne(guitar)), "Checking version of old bytes");
+	}
+
+	@Test
+	public void deltaTicks(){
+		assertEquals(0, ZabBinaryFormat.deltaTicks(0), "Checking no ticks");
+		assertEquals(0, ZabBinaryFormat.deltaTicks(1), "Checking no ticks with an exact position");
+		assertEquals(-1, ZabBinaryFormat.deltaTicks(2), "Checking negative ticks");
+		assertEquals(1, ZabBinaryFormat.deltaTicks(4), "Checking positive ticks");
+		assertEquals(1, ZabBinaryFormat.deltaTicks(5), "Checking positive ticks with an exact position");
+	}
+
+	@Test
+	public void isExact(){
+		assertTrue(ZabBinaryFormat.isExact(4), "Checking a position on a tick");
+		assertFalse(ZabBinaryFormat.isExact(5), "Checking a position between ticks");
+	}
+
+	@Test
+	public void readSymbol(){
+		BinaryWriter w = new BinaryWriter();
+		w.putByte(1);
+		w.putSignedVarLong(4);
+		w.putVarLong(0);
+		w.putByte(0);
+		w.putByte(9);
+		BinaryReader r = new BinaryReader(w.toBuffer());
+		TabModifier[] mods = new TabModifier[]{new TabModifier()};
+		assertEquals(SymbolPool.note(4, mods[0]), ZabBinaryFormat.readSymbol(r, mods), "Checking note read");
+		assertEquals(SymbolPool.deadNote(), ZabBinaryFormat.readSymbol(r, mods), "Checking dead note read");
+		assertNull(ZabBinaryFormat.readSymbol(r, mods), "Checking an unknown symbol is not read");
+	}
+
+	@Test
+	public void writePosition(){
+		BinaryWriter w = new BinaryWriter();
+		TabPosition first = new TabPosition(SymbolPool.deadNote(), 0.5);
+		TabPosition second = new TabPosition(SymbolPool.deadNote(), 0.1 + 0.2);
+		long ticks = ZabBinaryFormat.writePosition(w, first, 0);
+		assertEquals(first.getTicks(), ticks, "Checking the ticks of the note returned");
+		assertEquals(second.getTicks(), ZabBinaryFormat.writePosition(w, second, ticks), "Checking the ticks of the note returned");
+
+		BinaryReader r = new BinaryReader(w.toBuffer());
+		long code = r.getVarLong();
+		assertTrue(ZabBinaryFormat.isExact(code), "Checking a position on a tick has no exact value");
+		assertEquals(first.getTicks(), ZabBinaryFormat.deltaTicks(code), "Checking ticks written");
+		code = r.getVarLong();
+		assertFalse(ZabBinaryFormat.isExact(code), "Checking a position between ticks has an exact value");
+		assertEquals(second.getTicks() - first.getTicks(), ZabBinaryFormat.deltaTicks(code), "Checking ticks written relative to the last note");
+		assertEquals(0.1 + 0.2, r.getDouble(), "Checking the exact position written");
+		assertEquals(0, r.remaining(), "Checking every position read");
+	}
+
+	@Test
+	public void writeNote(){
+		BinaryWriter w = new BinaryWriter();
+		TabString high = guitar.getStrings().get(0);
+		assertTrue(ZabBinaryFormat.writeNote(w, high.get(0)), "Checking note written");
+		assertTrue(ZabBinaryFormat.writeNote(w, high.get(2)), "Checking note with a rhythm and modifier written");
+		assertTrue(ZabBinaryFormat.writeNote(w, high.get(3)), "Checking dead note written");
+	}
+
+	@Test
+	public void readNote(){
+		BinaryWriter w = new BinaryWriter();
+		TabString high = guitar.getStrings().get(0);
+		TabString low = guitar.getStrings().get(5);
+		ZabBinaryFormat.writeNote(w, high.get(2));
+		ZabBinaryFormat.writeNote(w, low.get(1));
+		ZabBinaryFormat.writeNote(w, high.get(3));
+		w.putVarLong(0);
+		w.putByte(7);
+		BinaryReader r = new BinaryReader(w.toBuffer());
+		assertEquals(high.get(2), ZabBinaryFormat.readNote(r), "Checking note with a rhythm and modifier read");
+		assertEquals(low.get(1), ZabBinaryFormat.readNote(r), "Checking note between ticks read");
+		assertEquals(high.get(3), ZabBinaryFormat.readNote(r), "Checking dead note read");
+		assertNull(ZabBinaryFormat.readNote(r), "Checking a note with an unknown symbol is not read");
+	}
+
+	@Test
+	public void readSummaryFile(){
+		ZabBinaryFormat.save(file, guitar, true);
+		assertEquals(new TabSummary(guitar), ZabBinaryFormat.readSummary(file), "Checking summary read");
+		ZabBinaryFormat.save(file, null, true);
+		assertNull(ZabBinaryFormat.readSummary(file), "Checking a file without a tab has no summary");
+		ZabFileSaver.save(file, guitar, false);
+		assertNull(ZabBinaryFormat.readSummary(file), "Checking a text file has no summary");
+		assertNull(ZabBinaryFormat.readSummary((File)null), "Checking null file has no summary");
+	}
+
+	@Test
+	public void writeSummary(){
+		BinaryWriter w = new BinaryWriter();
+		ZabBinaryFormat.writeSummary(w, new TabSummary(guitar));
+		assertTrue(w.size() < 30, "Checking summary is stored compactly");
+	}
+
+	@Test
+	public void readSummary(){
+		BinaryWriter w = new BinaryWriter();
+		ZabBinaryFormat.writeSummary(w, new TabSummary(guitar));
+		BinaryReader r = new BinaryReader(w.toBuffer());
+		assertEquals(new TabSummary(guitar), ZabBinaryFormat.readSummary(r), "Checking summary read");
+		assertEquals(0, r.remaining(), "Checking the whole summary read");
+	}
+
+	@Test
+	public void writeTabHeader(){
+		BinaryWriter w = new BinaryWriter();
+		HashMap<TabModifier, Integer> mods = ZabBinaryFormat.writeTabHeader(w, guitar);
+		assertEquals(3, mods.size(), "Checking every modifier found once");
+		assertEquals(Integer.valueOf(0), mods.get(new TabModifier()), "Checking the first modifier used has the first index");
+		assertTrue(w.size() < 20, "Checking header is stored compactly");
+	}
+
+	@Test
+	public void writeString(){
+		BinaryWriter w = new BinaryWriter();
+		HashMap<TabModifier, Integer> mods = ZabBinaryFormat.writeTabHeader(new BinaryWriter(), guitar);
+		assertTrue(ZabBinaryFormat.writeString(w, guitar.getStrings().get(0), mods), "Checking string written");
+		assertTrue(w.size() < 40, "Checking string is stored compactly");
+	}
+
+	@Test
+	public void readTab(){
+		Tab t = new Tab();
+		assertTrue(ZabBinaryFormat.readTab(ZabBinaryFormat.encode(guitar, false), t), "Checking tab read");
+		assertEquals(guitar, t, "Checking the read tab matches the written tab");
+		assertEquals(new TimeSignature(7, 8), t.getTimeSignature(), "Checking time signature read");
+		assertTrue(t.usesRhythm(), "Checking uses rhythm read");
+
+		t = new Tab();
+		assertTrue(ZabBinaryFormat.readTab(versionOne(guitar), t), "Checking a tab with every string in the tab section read");
+		assertEquals(guitar, t, "Checking the old tab matches the written tab");
+
+		assertFalse(ZabBinaryFormat.readTab(ZabBinaryFormat.encode(null, true), new Tab()), "Checking bytes with no tab section not read");
+		// The tab section has every string, but only one string section
+		BinaryWriter header = new BinaryWriter();
+		HashMap<TabModifier, Integer> mods = ZabBinaryFormat.writeTabHeader(header, guitar);
+		BinaryWriter string = new BinaryWriter();
+		ZabBinaryFormat.writeString(string, guitar.getStrings().get(0), mods);
+		ByteBuffer missing = container(ZabBinaryFormat.VERSION, new int[]{ZabBinaryFormat.SECTION_TAB, ZabBinaryFormat.SECTION_STRING}, header, string);
+		assertFalse(ZabBinaryFormat.readTab(missing, new Tab()), "Checking a tab missing a string section not read");
+	}
+
+	@Test
+	public void readTabHeader(){
+		BinaryWriter w = new BinaryWriter();
+		ZabBinaryFormat.writeTabHeader(w, guitar);
+		BinaryReader r = new BinaryReader(w.toBuffer());
+		ZabBinaryFormat.TabHeader header = ZabBinaryFormat.readTabHeader(r);
+		assertTrue(header.usesRhythm(), "Checking uses rhythm read");
+		assertEquals(new TimeSignature(7, 8), header.getTimeSignature(), "Checking time signature read");
+		assertEquals(3, header.getModifiers().length, "Checking modifiers read");
+		assertEquals(6, header.getStringCount(), "Checking string count read");
+		assertEquals(0, r.remaining(), "Checking the whole header read");
+	}
+
+	@Test
+	public void readString(){
+		BinaryWriter w = new BinaryWriter();
+		HashMap<TabModifier, Integer> indexes = ZabBinaryFormat.writeTabHeader(w, guitar);
+		TabModifier[] mods = ZabBinaryFormat.readTabHeader(new BinaryReader(w.toBuffer())).getModifiers();
+		w = new BinaryWriter();
+		ZabBinaryFormat.writeString(w, guitar.getStrings().get(0), indexes);
+		ZabBinaryFormat.writeString(w, guitar.getStrings().get(5), indexes);
+		BinaryReader r = new BinaryReader(w.toBuffer());
+		assertEquals(guitar.getStrings().get(0), ZabBinaryFormat.readString(r, mods), "Checking string read");
+		assertEquals(guitar.getStrings().get(5), ZabBinaryFormat.readString(r, mods), "Checking the next string read");
+		assertEquals(0, r.remaining(), "Checking every string read");
+
+		r = new BinaryReader(w.toBuffer());
+		assertNull(ZabBinaryFormat.readString(r, new TabModifier[0]), "Checking a string with a missing modifier is not read");
+	}
+
+	/**
+	 * Encode the given tab in version 1 of the binary format, with every string in the tab section
+	 * @param tab The tab
+	 * @return The bytes
+	 */
+	private static ByteBuffer versionOne(Tab tab){
+		BinaryWriter section = new BinaryWriter();
+		HashMap<TabModifier, Integer> mods = ZabBinaryFormat.writeTabHeader(section, tab);
+		for(TabString s : tab.getStrings()) ZabBinaryFormat.writeString(section, s, mods);
+		return container(1, new int[]{ZabBinaryFormat.SECTION_TAB}, section);
+	}
+
+	/**
+	 * Put the given sections in a binary file
+	 * @param version The version of the file
+	 * @param ids The id of each section
+	 * @param sections The bytes of each section
+	 * @return The bytes of the file
+	 */
+	private static ByteBuffer container(int version, int[] ids, BinaryWriter... sections){
+		BinaryWriter w = new BinaryWriter();
+		w.putBytes(new byte[]{(byte)0x89, 'Z', 'A', 'B'});
+		w.putInt(version);
+		w.putInt(sections.length);
+		long offset = 12 + 20 * sections.length;
+		for(int i = 0; i < sections.length; i++){
+			w.putInt(ids[i]);
+			w.putLong(offset);
+			w.putLong(sections[i].size());
+			offset += sections[i].size();
+		}
+		for(BinaryWriter s : sections) w.putBytes(s.toBuffer());
+		return w.toBuffer();
+	}
+
+	@AfterEach
+	public void end(){
+		UtilsTest.deleteUnitFolder();
+	}
+
+}
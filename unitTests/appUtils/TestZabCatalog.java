@@ -0,0 +1,178 @@
+package appUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tab.InstrumentFactory;
+import tab.Tab;
+import tab.TabFactory;
+import tab.TabString;
+import tab.TabSummary;
+import util.testUtils.UtilsTest;
+
+public class TestZabCatalog{
+
+	private Tab guitar;
+	private File folder;
+	private File binary;
+	private File text;
+	private ZabCatalog catalog;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+
+	@BeforeEach
+	public void setup(){
+		guitar = InstrumentFactory.guitarStandard();
+		TabString high = guitar.getStrings().get(0);
+		high.add(TabFactory.modifiedFret(high, 3, 1));
+		high.add(TabFactory.modifiedFret(high, 5, 2.5));
+
+		UtilsTest.createUnitFolder();
+		folder = new File(UtilsTest.UNIT_PATH);
+		binary = new File(folder, "binary.zab");
+		text = new File(folder, "text.zab");
+		ZabBinaryFormat.save(binary, guitar, true);
+		ZabFileSaver.save(text, guitar, true);
+		catalog = new ZabCatalog(new File(folder, "cache/catalog.bin"));
+	}
+
+	@Test
+	public void getFile(){
+		assertEquals(new File(folder, "cache/catalog.bin"), catalog.getFile(), "Checking file set");
+	}
+
+	@Test
+	public void size(){
+		assertEquals(0, catalog.size(), "Checking a new catalog is empty");
+		catalog.get(binary);
+		assertEquals(1, catalog.size(), "Checking entry stored");
+	}
+
+	@Test
+	public void isChanged(){
+		assertFalse(catalog.isChanged(), "Checking a new catalog is not changed");
+		catalog.get(binary);
+		assertTrue(catalog.isChanged(), "Checking an entry changes the catalog");
+		catalog.save();
+		assertFalse(catalog.isChanged(), "Checking a saved catalog is not changed");
+		catalog.get(binary);
+		assertFalse(catalog.isChanged(), "Checking a stored entry does not change the catalog");
+	}
+
+	@Test
+	public void clear(){
+		catalog.get(binary);
+		catalog.save();
+		catalog.clear();
+		assertEquals(0, catalog.size(), "Checking entries removed");
+		assertTrue(catalog.isChanged(), "Checking the catalog changed");
+	}
+
+	@Test
+	public void get(){
+		TabSummary s = catalog.get(binary);
+		assertEquals(new TabSummary(guitar), s, "Checking summary read");
+		assertSame(s, catalog.get(binary), "Checking a stored summary is not read again");
+		assertEquals(new TabSummary(guitar), catalog.get(text), "Checking summary read from a text file");
+		assertNull(catalog.get(new File(folder, "missing.zab")), "Checking a missing file has no summary");
+		assertNull(catalog.get(null), "Checking null has no summary");
+	}
+
+	@Test
+	public void entry() throws IOException{
+		ZabCatalog.Entry e = catalog.entry(binary);
+		assertEquals(binary.getAbsoluteFile(), e.getFile(), "Checking file stored");
+
+		// A file which changed is read again
+		guitar.getStrings().get(1).add(TabFactory.modifiedFret(guitar.getStrings().get(1), 2, 7));
+		ZabBinaryFormat.save(binary, guitar, true);
+		binary.setLastModified(e.getModified() + 2000);
+		assertEquals(3, catalog.entry(binary).getSummary().getNoteCount(), "Checking a changed file read again");
+
+		// A file which no longer has a tab is removed
+		Files.write(binary.toPath(), "broken".getBytes());
+		assertNull(catalog.entry(binary), "Checking a broken file has no entry");
+		assertEquals(0, catalog.size(), "Checking the old entry removed");
+	}
+
+	@Test
+	public void scan() throws IOException{
+		Files.write(new File(folder, "notes.txt").toPath(), "not a tab".getBytes());
+		Files.write(new File(folder, "broken.zab").toPath(), "broken".getBytes());
+		List<ZabCatalog.Entry> entries = catalog.scan(folder);
+		assertEquals(2, entries.size(), "Checking only valid tabs found");
+		assertEquals(binary.getAbsoluteFile(), entries.get(0).getFile(), "Checking entries in order");
+		assertEquals(text.getAbsoluteFile(), entries.get(1).getFile(), "Checking entries in order");
+		assertNull(catalog.scan(new File(folder, "missing")), "Checking a missing folder cannot be scanned");
+		assertNull(catalog.scan(null), "Checking null cannot be scanned");
+	}
+
+	@Test
+	public void load() throws IOException{
+		assertFalse(catalog.load(), "Checking a missing catalog not loaded");
+		catalog.scan(folder);
+		catalog.save();
+
+		ZabCatalog loaded = new ZabCatalog(catalog.getFile());
+		assertTrue(loaded.load(), "Checking catalog loaded");
+		assertEquals(2, loaded.size(), "Checking every entry loaded");
+		assertFalse(loaded.isChanged(), "Checking a loaded catalog is not changed");
+		ZabCatalog.Entry e = loaded.entry(binary);
+		assertEquals(new TabSummary(guitar), e.getSummary(), "Checking the summary loaded");
+		assertFalse(loaded.isChanged(), "Checking the loaded entry used");
+
+		Files.write(catalog.getFile().toPath(), new byte[]{1, 2, 3});
+		assertFalse(loaded.load(), "Checking an invalid catalog not loaded");
+		assertEquals(2, loaded.size(), "Checking the entries kept");
+	}
+
+	@Test
+	public void save(){
+		catalog.get(binary);
+		assertTrue(catalog.save(), "Checking catalog saved");
+		assertTrue(catalog.getFile().isFile(), "Checking the folder of the catalog made");
+		assertFalse(new ZabCatalog(null).save(), "Checking a catalog without a file not saved");
+	}
+
+	@Test
+	public void entryGetFile(){
+		assertEquals(binary.getAbsoluteFile(), catalog.entry(binary).getFile(), "Checking file");
+	}
+
+	@Test
+	public void entryGetSize(){
+		assertEquals(binary.length(), catalog.entry(binary).getSize(), "Checking size");
+	}
+
+	@Test
+	public void entryGetModified(){
+		assertEquals(binary.lastModified(), catalog.entry(binary).getModified(), "Checking modified time");
+	}
+
+	@Test
+	public void entryGetSummary(){
+		assertEquals(new TabSummary(guitar), catalog.entry(binary).getSummary(), "Checking summary");
+	}
+
+	@AfterEach
+	public void end(){
+		UtilsTest.deleteUnitFolder();
+	}
+
+}
@@ -0,0 +1,138 @@
+package appUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.zip.Deflater;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tab.InstrumentFactory;
+import tab.Tab;
+import tab.TabFactory;
+import tab.TabString;
+import tab.symbol.TabModifier;
+import util.FileUtils;
+import util.testUtils.UtilsTest;
+
+public class TestZabCompressedFormat{
+
+	private Tab guitar;
+	private File file;
+	private File text;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+
+	@BeforeEach
+	public void setup(){
+		ZabAppSettings.init();
+		guitar = InstrumentFactory.guitarStandard();
+		TabString high = guitar.getStrings().get(0);
+		for(int i = 0; i < 500; i++){
+			high.add(TabFactory.modifiedFret(high, i % 12, i * 0.5, new TabModifier("", "h")));
+		}
+
+		UtilsTest.createUnitFolder();
+		file = new File(ZabFileSaver.makeFileName(UtilsTest.UNIT_PATH, UtilsTest.UNIT_NAME));
+		text = new File(ZabFileSaver.makeFileName(UtilsTest.UNIT_PATH, UtilsTest.UNIT_NAME + "Text"));
+		ZabFileSaver.save(text, guitar, true);
+	}
+
+	@Test
+	public void isCompressedBytes(){
+		assertFalse(ZabCompressedFormat.isCompressed(ByteBuffer.wrap("false 4 4 \n".getBytes())), "Checking text not compressed");
+		assertFalse(ZabCompressedFormat.isCompressed(ZabBinaryFormat.encode(guitar, false)), "Checking binary not compressed");
+		assertFalse(ZabCompressedFormat.isCompressed(ByteBuffer.allocate(0)), "Checking no bytes not compressed");
+		assertTrue(ZabCompressedFormat.isCompressed(ByteBuffer.wrap(new byte[]{(byte)0x89, 'Z', 'A', 'C', 1})), "Checking compressed bytes");
+	}
+
+	@Test
+	public void isCompressedFile(){
+		assertFalse(ZabCompressedFormat.isCompressed(text), "Checking text file not compressed");
+		ZabCompressedFormat.save(file, guitar, true);
+		assertTrue(ZabCompressedFormat.isCompressed(file), "Checking compressed file");
+		assertFalse(ZabCompressedFormat.isCompressed((File)null), "Checking null file not compressed");
+		assertFalse(ZabCompressedFormat.isCompressed(new File(UtilsTest.UNIT_PATH)), "Checking folder not compressed");
+	}
+
+	@Test
+	public void isLevel(){
+		assertTrue(ZabCompressedFormat.isLevel(ZabCompressedFormat.DEFAULT_LEVEL), "Checking default level");
+		assertTrue(ZabCompressedFormat.isLevel(Deflater.NO_COMPRESSION), "Checking no compression");
+		assertTrue(ZabCompressedFormat.isLevel(Deflater.BEST_COMPRESSION), "Checking best compression");
+		assertFalse(ZabCompressedFormat.isLevel(10), "Checking level too high");
+		assertFalse(ZabCompressedFormat.isLevel(-2), "Checking level too low");
+	}
+
+	@Test
+	public void save(){
+		assertTrue(ZabCompressedFormat.save(file, guitar, true, Deflater.BEST_COMPRESSION), "Checking save successful");
+		assertTrue(file.length() * 5 < text.length(), "Checking the file is much smaller than the text");
+		assertFalse(FileUtils.tempFile(file).exists(), "Checking temporary file removed");
+		long best = file.length();
+		assertTrue(ZabCompressedFormat.save(file, guitar, true, Deflater.NO_COMPRESSION), "Checking save successful without compression");
+		assertTrue(file.length() > best, "Checking the level is used");
+
+		assertTrue(ZabCompressedFormat.save(file, guitar, false), "Checking save successful with the default level");
+		assertFalse(ZabCompressedFormat.save(null, guitar, true), "Checking null file not saved");
+		assertFalse(ZabCompressedFormat.save(file, null, false), "Checking nothing to save not saved");
+		assertFalse(ZabCompressedFormat.save(file, guitar, true, 10), "Checking invalid level not saved");
+		assertFalse(ZabCompressedFormat.save(new File(UtilsTest.UNIT_PATH + "/missing/file.zab"), guitar, true), "Checking file in missing folder not saved");
+	}
+
+	@Test
+	public void load(){
+		ZabCompressedFormat.save(file, guitar, false);
+		Tab t = new Tab();
+		assertTrue(ZabCompressedFormat.load(file, t, false), "Checking load successful");
+		assertEquals(guitar, t, "Checking tab loaded");
+
+		ZabCompressedFormat.save(file, null, true);
+		assertTrue(ZabCompressedFormat.load(file, null, true), "Checking settings loaded");
+
+		assertFalse(ZabCompressedFormat.load(text, new Tab(), true), "Checking text file not loaded");
+		assertFalse(ZabCompressedFormat.load(null, new Tab(), true), "Checking null file not loaded");
+		assertFalse(ZabCompressedFormat.load(new File(UtilsTest.UNIT_PATH + "/missing"), new Tab(), true), "Checking missing file not loaded");
+	}
+
+	@Test
+	public void loadTruncated() throws IOException{
+		ZabCompressedFormat.save(file, guitar, true);
+		RandomAccessFile f = new RandomAccessFile(file, "rw");
+		f.setLength(f.length() / 2);
+		f.close();
+		assertFalse(ZabCompressedFormat.load(file, new Tab(), true), "Checking a file cut short is not loaded");
+
+		byte[] bytes = Files.readAllBytes(file.toPath());
+		bytes[4] = 2;
+		Files.write(file.toPath(), bytes);
+		assertFalse(ZabCompressedFormat.load(file, new Tab(), true), "Checking a newer version is not loaded");
+	}
+
+	@Test
+	public void readHeader() throws IOException{
+		assertTrue(ZabCompressedFormat.readHeader(new ByteArrayInputStream(new byte[]{(byte)0x89, 'Z', 'A', 'C', 1})), "Checking header read");
+		assertFalse(ZabCompressedFormat.readHeader(new ByteArrayInputStream(new byte[]{(byte)0x89, 'Z', 'A', 'B', 1})), "Checking binary header not read");
+		assertFalse(ZabCompressedFormat.readHeader(new ByteArrayInputStream(new byte[]{(byte)0x89, 'Z', 'A', 'C', 2})), "Checking newer version not read");
+		assertFalse(ZabCompressedFormat.readHeader(new ByteArrayInputStream(new byte[]{(byte)0x89, 'Z'})), "Checking short header not read");
+	}
+
+	@AfterEach
+	public void end(){
+		UtilsTest.deleteUnitFolder();
+	}
+
+}
@@ -0,0 +1,277 @@
+package appUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tab.InstrumentFactory;
+import tab.Tab;
+import tab.TabFactory;
+import tab.TabString;
+import tab.TabTextExporter;
+import util.testUtils.UtilsTest;
+
+public class TestZabConverter{
+
+	private Tab guitar;
+	private File input;
+	private File output;
+	private File first;
+	private File second;
+	private File nested;
+	private ZabConverter converter;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+
+	@BeforeEach
+	public void setup() throws IOException{
+		guitar = InstrumentFactory.guitarStandard();
+		TabString high = guitar.getStrings().get(0);
+		high.add(TabFactory.modifiedFret(high, 3, 1));
+		high.add(TabFactory.modifiedFret(high, 5, 2.5));
+
+		UtilsTest.createUnitFolder();
+		input = new File(UtilsTest.UNIT_PATH + "/in");
+		output = new File(UtilsTest.UNIT_PATH + "/out");
+		new File(input, "folder").mkdirs();
+		first = new File(input, "first.zab");
+		second = new File(input, "second.zab");
+		nested = new File(input, "folder/nested.zab");
+		ZabFileSaver.save(first, guitar, false);
+		ZabFileSaver.save(second, guitar, true);
+		ZabBinaryFormat.save(nested, guitar, true);
+		Files.write(new File(input, "notes.txt").toPath(), "not a tab".getBytes());
+		converter = new ZabConverter(input, output, ZabConverter.FORMAT_TEXT, 2);
+	}
+
+	@Test
+	public void getInput(){
+		assertEquals(input, converter.getInput(), "Checking input set");
+	}
+
+	@Test
+	public void getOutput(){
+		assertEquals(output, converter.getOutput(), "Checking output set");
+	}
+
+	@Test
+	public void getFormat(){
+		assertEquals(ZabConverter.FORMAT_TEXT, converter.getFormat(), "Checking format set");
+	}
+
+	@Test
+	public void getThreads(){
+		assertEquals(2, converter.getThreads(), "Checking threads set");
+	}
+
+	@Test
+	public void findFiles(){
+		List<File> files = converter.findFiles();
+		assertEquals(3, files.size(), "Checking only zab files found");
+		assertTrue(files.contains(nested), "Checking files inside folders found");
+
+		converter = new ZabConverter(first, output, ZabConverter.FORMAT_TEXT, 1);
+		assertEquals(1, converter.findFiles().size(), "Checking a single file found");
+		converter = new ZabConverter(new File(UtilsTest.UNIT_PATH + "/missing"), output, ZabConverter.FORMAT_TEXT, 1);
+		assertNull(converter.findFiles(), "Checking a missing input has no files");
+	}
+
+	@Test
+	public void outputFile(){
+		assertEquals(new File(output, "first.txt"), converter.outputFile(first), "Checking file in the input folder");
+		assertEquals(new File(output, "folder/nested.txt"), converter.outputFile(nested), "Checking file keeps its folders");
+		converter = new ZabConverter(nested, output, ZabConverter.FORMAT_BINARY, 1);
+		assertEquals(new File(output, "nested.zab"), converter.outputFile(nested), "Checking a single file is put directly in the output");
+	}
+
+	@Test
+	public void convertFile() throws IOException{
+		assertTrue(converter.convert(second), "Checking a text file with settings converted");
+		String text = new String(Files.readAllBytes(converter.outputFile(second).toPath()));
+		assertEquals(TabTextExporter.export(guitar), text, "Checking the tab exported");
+
+		converter = new ZabConverter(input, output, ZabConverter.FORMAT_BINARY, 1);
+		assertTrue(converter.convert(first), "Checking file converted to binary");
+		File out = converter.outputFile(first);
+		assertTrue(ZabBinaryFormat.isBinary(out), "Checking file saved as binary");
+		Tab t = new Tab();
+		ZabFileSaver.load(out, t, false);
+		assertEquals(guitar, t, "Checking the tab saved");
+
+		converter = new ZabConverter(input, output, ZabConverter.FORMAT_COMPRESSED, 1);
+		assertTrue(converter.convert(nested), "Checking binary file converted to compressed");
+		assertTrue(ZabCompressedFormat.isCompressed(converter.outputFile(nested)), "Checking file saved as compressed");
+
+		File compressed = new File(input, "compressed.zab");
+		ZabFileSaver.saveCompressed(compressed, guitar, true, 6);
+		converter = new ZabConverter(input, output, ZabConverter.FORMAT_TEXT, 1);
+		assertTrue(converter.convert(compressed), "Checking a compressed file with settings converted");
+		assertEquals(TabTextExporter.export(guitar), new String(Files.readAllBytes(converter.outputFile(compressed).toPath())), "Checking the compressed tab exported");
+
+		assertFalse(converter.convert(new File(input, "notes.txt")), "Checking a file without a tab not converted");
+
+		File exported = new File(input, "exported.txt");
+		Files.write(exported.toPath(), TabTextExporter.export(guitar).getBytes());
+		converter = new ZabConverter(input, output, ZabConverter.FORMAT_ZAB, 1);
+		assertTrue(converter.convert(exported), "Checking an exported text file converted to zab");
+		t = new Tab();
+		ZabFileSaver.load(converter.outputFile(exported), t, false);
+		assertEquals(TabTextExporter.export(guitar), TabTextExporter.export(t), "Checking the text read as a tab");
+
+		converter = new ZabConverter(input, output, "pdf", 1);
+		assertFalse(converter.convert(first), "Checking an invalid format not converted");
+	}
+
+	@Test
+	public void convert() throws IOException{
+		ZabConverter.Result r = converter.convert();
+		assertEquals(3, r.getTotal(), "Checking every file found");
+		assertEquals(3, r.getConverted(), "Checking every file converted");
+		assertTrue(new File(output, "folder/nested.txt").isFile(), "Checking nested file exported");
+
+		Files.write(new File(input, "broken.zab").toPath(), "broken".getBytes());
+		r = new ZabConverter(input, output, ZabConverter.FORMAT_ZAB, 1).convert();
+		assertEquals(1, r.getFailed().size(), "Checking broken file failed");
+		assertEquals(new File(input, "broken.zab"), r.getFailed().get(0), "Checking the failed file listed");
+
+		assertNull(new ZabConverter(new File(UtilsTest.UNIT_PATH + "/missing"), output, ZabConverter.FORMAT_ZAB, 1).convert(), "Checking a missing input not converted");
+	}
+
+	@Test
+	public void isConvert(){
+		assertTrue(ZabConverter.isConvert(new String[]{"--convert", "in"}), "Checking convert argument found");
+		assertFalse(ZabConverter.isConvert(new String[]{"in"}), "Checking other arguments");
+		assertFalse(ZabConverter.isConvert(new String[0]), "Checking no arguments");
+		assertFalse(ZabConverter.isConvert(null), "Checking null arguments");
+	}
+
+	@Test
+	public void parse(){
+		ZabConverter c = ZabConverter.parse(new String[]{"--convert", "in", "out", "--to", "zab-binary", "--threads", "3"});
+		assertNotNull(c, "Checking arguments parsed");
+		assertEquals(new File("in"), c.getInput(), "Checking input parsed");
+		assertEquals(new File("out"), c.getOutput(), "Checking output parsed");
+		assertEquals(ZabConverter.FORMAT_BINARY, c.getFormat(), "Checking format parsed");
+		assertEquals(3, c.getThreads(), "Checking threads parsed");
+		c = ZabConverter.parse(new String[]{"--convert", "in", "out", "--to", "txt"});
+		assertEquals(Runtime.getRuntime().availableProcessors(), c.getThreads(), "Checking default threads");
+
+		assertNull(ZabConverter.parse(new String[]{"--convert", "in", "out"}), "Checking missing format");
+		assertNull(ZabConverter.parse(new String[]{"--convert", "in", "out", "--to", "pdf"}), "Checking invalid format");
+		assertNull(ZabConverter.parse(new String[]{"--convert", "in", "out", "--to"}), "Checking format without a value");
+		assertNull(ZabConverter.parse(new String[]{"--convert", "in", "out", "--to", "txt", "--threads", "0"}), "Checking too few threads");
+		assertNull(ZabConverter.parse(new String[]{"--convert", "in", "out", "--to", "txt", "--threads", "a"}), "Checking threads not a number");
+		assertNull(ZabConverter.parse(new String[]{"--convert", "in", "out", "--to", "txt", "--other", "1"}), "Checking unknown argument");
+		assertNull(ZabConverter.parse(new String[]{"--convert", "in"}), "Checking missing output");
+	}
+
+	@Test
+	public void run(){
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ByteArrayOutputStream err = new ByteArrayOutputStream();
+		String[] args = new String[]{"--convert", input.getPath(), output.getPath(), "--to", "txt"};
+		assertEquals(0, ZabConverter.run(args, new PrintStream(out), new PrintStream(err)), "Checking every file converted");
+		assertTrue(out.toString().startsWith("Converted 3 of 3 files"), "Checking report printed");
+
+		assertEquals(2, ZabConverter.run(new String[]{"--convert"}, new PrintStream(out), new PrintStream(err)), "Checking invalid arguments");
+		assertTrue(err.toString().startsWith(ZabConverter.USAGE), "Checking usage printed");
+		args[1] = UtilsTest.UNIT_PATH + "/missing";
+		assertEquals(2, ZabConverter.run(args, new PrintStream(out), new PrintStream(err)), "Checking missing input");
+	}
+
+	@Test
+	public void main(){
+		ZabConverter.main(new String[]{"--convert", input.getPath(), output.getPath(), "--to", "zab"});
+		assertTrue(new File(output, "first.zab").isFile(), "Checking files converted");
+	}
+
+	@Test
+	public void isFormat(){
+		for(String f : ZabConverter.FORMATS) assertTrue(ZabConverter.isFormat(f), "Checking format valid");
+		assertFalse(ZabConverter.isFormat("pdf"), "Checking invalid format");
+		assertFalse(ZabConverter.isFormat(null), "Checking null format");
+	}
+
+	@Test
+	public void isText(){
+		assertTrue(ZabConverter.isText(new File(input, "notes.txt")), "Checking text file");
+		assertFalse(ZabConverter.isText(first), "Checking other file");
+	}
+
+	@Test
+	public void isZab(){
+		assertTrue(ZabConverter.isZab(first), "Checking zab file");
+		assertFalse(ZabConverter.isZab(new File(input, "notes.txt")), "Checking other file");
+	}
+
+	@Test
+	public void resultGetTotal(){
+		assertEquals(4, result().getTotal(), "Checking total");
+	}
+
+	@Test
+	public void resultGetFailed(){
+		assertEquals(1, result().getFailed().size(), "Checking failed files");
+	}
+
+	@Test
+	public void resultGetConverted(){
+		assertEquals(3, result().getConverted(), "Checking converted files");
+	}
+
+	@Test
+	public void resultGetBytes(){
+		assertEquals(1024, result().getBytes(), "Checking bytes");
+	}
+
+	@Test
+	public void resultGetNanos(){
+		assertEquals(2000000000L, result().getNanos(), "Checking time");
+	}
+
+	@Test
+	public void resultFilesPerSecond(){
+		assertEquals(1.5, result().filesPerSecond(), "Checking rate");
+		assertEquals(0, new ZabConverter.Result(1, new ArrayList<File>(), 0, 0).filesPerSecond(), "Checking no time taken");
+	}
+
+	@Test
+	public void resultReport(){
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		result().report(new PrintStream(bytes));
+		String text = UtilsTest.removeSlashR(bytes.toString());
+		assertTrue(text.startsWith("Converted 3 of 4 files in 2.000 s, 1.5 files/s"), "Checking throughput reported");
+		assertTrue(text.endsWith("Failed 1 files:\n" + first.getPath() + "\n"), "Checking failures reported");
+	}
+
+	/** @return A result with one failed file out of four, taking two seconds */
+	private ZabConverter.Result result(){
+		ArrayList<File> failed = new ArrayList<File>();
+		failed.add(first);
+		return new ZabConverter.Result(4, failed, 1024, 2000000000L);
+	}
+
+	@AfterEach
+	public void end(){
+		UtilsTest.deleteUnitFolder();
+	}
+
+}
@@ -2,23 +2,29 @@ package appUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
-import java.util.Scanner;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import appUtils.settings.ZabSettings;
 import settings.Setting;
 import tab.InstrumentFactory;
 import tab.Tab;
+import tab.TabSummary;
+import util.FileUtils;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestZabFileSaver{
@@ -156,13 +162,13 @@ public class TestZabFileSaver{
 	public void load(){
 		init();
 		
-		Scanner scan = new Scanner(STANDARD_GUITAR);
+		ZabTokenReader scan = new ZabTokenReader(STANDARD_GUITAR);
 
-		assertFalse(ZabFileSaver.load(new Scanner(""), guitar, true), "Checking load fails with invalid scanner");
+		assertFalse(ZabFileSaver.load(new ZabTokenReader(""), guitar, true), "Checking load fails with invalid scanner");
 		assertFalse(ZabFileSaver.load(scan, null, false), "Checking load fails with null tab and not saving settings");
 		
 		scan.close();
-		scan = new Scanner(""
+		scan = new ZabTokenReader(""
 				+ DEFAULT_SETTINGS
 				+ STANDARD_GUITAR
 				+ DEFAULT_SETTINGS);
@@ -178,7 +184,7 @@ public class TestZabFileSaver{
 		assertEquals(settingsCopy, settings, "Checking correct settings loaded in");
 
 		scan.close();
-		scan = new Scanner(STANDARD_GUITAR);
+		scan = new ZabTokenReader(STANDARD_GUITAR);
 		settingsCopy = new ArrayList<>();
 		settingsCopy.addAll(settings);
 		tunedGuitar = InstrumentFactory.guitarEbStandard();
@@ -189,7 +195,7 @@ public class TestZabFileSaver{
 		assertFalse(ZabFileSaver.load(scan, null, true), "Checking load fails with nothing left to load");
 		
 		scan.close();
-		scan = new Scanner(""
+		scan = new ZabTokenReader(""
 				+ STANDARD_GUITAR
 				+ "false 4 4 \n"
 				+ "6\n");
@@ -197,7 +203,7 @@ public class TestZabFileSaver{
 		assertFalse(ZabFileSaver.load(scan, new Tab(), true), "Checking load fails with invalid formatted tab save file");
 		
 		scan.close();
-		scan = new Scanner(""
+		scan = new ZabTokenReader(""
 				+ "false 5 4 4 \n"
 				+ "6\n"
 				+ "4 \n"
@@ -232,6 +238,94 @@ public class TestZabFileSaver{
 		
 		assertFalse(ZabFileSaver.load((File)null, guitar, false), "Checking load fails with null file");
 		assertFalse(ZabFileSaver.load(new File(UtilsTest.UNIT_PATH), guitar, false), "Checking load fails with file not found");
+		
+		File file = new File(ZabFileSaver.makeFileName(UtilsTest.UNIT_PATH, UtilsTest.UNIT_NAME));
+		ZabFileSaver.save(file, guitar, true, true);
+		Tab binaryGuitar = InstrumentFactory.guitarEbStandard();
+		assertTrue(ZabFileSaver.load(file, binaryGuitar, true), "Checking load successful from a binary file");
+		assertEquals(guitar, binaryGuitar, "Checking correct tab loaded in from a binary file");
+		
+		ZabFileSaver.saveCompressed(file, guitar, true, 9);
+		Tab compressedGuitar = InstrumentFactory.guitarEbStandard();
+		assertTrue(ZabFileSaver.load(file, compressedGuitar, true), "Checking load successful from a compressed file");
+		assertEquals(guitar, compressedGuitar, "Checking correct tab loaded in from a compressed file");
+	}
+	
+	@Test
+	public void loadTab(){
+		File file = new File(ZabFileSaver.makeFileName(UtilsTest.UNIT_PATH, UtilsTest.UNIT_NAME));
+		ZabFileSaver.save(file, guitar, true);
+		Tab t = new Tab();
+		assertTrue(ZabFileSaver.loadTab(file, t), "Checking tab loaded after settings");
+		assertEquals(guitar, t, "Checking the tab loaded");
+		ZabFileSaver.save(file, guitar, false);
+		assertTrue(ZabFileSaver.loadTab(file, new Tab()), "Checking tab loaded without settings");
+		ZabFileSaver.saveCompressed(file, guitar, true, 6);
+		t = new Tab();
+		assertTrue(ZabFileSaver.loadTab(file, t), "Checking tab loaded after settings in a compressed file");
+		assertEquals(guitar, t, "Checking the compressed tab loaded");
+		ZabFileSaver.saveCompressed(file, guitar, false, 6);
+		assertTrue(ZabFileSaver.loadTab(file, new Tab()), "Checking compressed tab loaded without settings");
+		ZabFileSaver.save(file, null, true);
+		assertFalse(ZabFileSaver.loadTab(file, new Tab()), "Checking a file with only settings has no tab");
+		assertFalse(ZabFileSaver.loadTab(null, new Tab()), "Checking null file not loaded");
+	}
+	
+	@Test
+	public void decode() throws IOException{
+		File file = new File(ZabFileSaver.makeFileName(UtilsTest.UNIT_PATH, UtilsTest.UNIT_NAME));
+		ZabFileSaver.save(file, guitar, true);
+		Tab t = new Tab();
+		assertTrue(ZabFileSaver.decode(FileUtils.read(file), t, new ZabSettings()), "Checking load successful from text");
+		assertEquals(guitar, t, "Checking the tab loaded from text");
+		ZabFileSaver.saveCompressed(file, guitar, true, 6);
+		t = new Tab();
+		assertTrue(ZabFileSaver.decode(FileUtils.read(file), t, new ZabSettings()), "Checking load successful from a compressed file");
+		assertEquals(guitar, t, "Checking the tab loaded from a compressed file");
+		ZabFileSaver.save(file, guitar, true, true);
+		ByteBuffer bytes = FileUtils.read(file);
+		t = new Tab();
+		assertTrue(ZabFileSaver.decode(bytes, t, new ZabSettings()), "Checking load successful from a binary file");
+		assertEquals(guitar, t, "Checking the tab loaded from a binary file");
+		assertEquals(0, bytes.position(), "Checking the position not moved");
+		assertFalse(ZabFileSaver.decode(bytes, null, null), "Checking nothing loaded without a tab or settings");
+		assertFalse(ZabFileSaver.decode(null, t, null), "Checking null bytes not loaded");
+	}
+	
+	@Test
+	public void decodeTab() throws IOException{
+		File file = new File(ZabFileSaver.makeFileName(UtilsTest.UNIT_PATH, UtilsTest.UNIT_NAME));
+		ZabFileSaver.save(file, guitar, true);
+		Tab t = new Tab();
+		assertTrue(ZabFileSaver.decodeTab(FileUtils.read(file), t), "Checking tab loaded after settings");
+		assertEquals(guitar, t, "Checking the tab loaded");
+		ZabFileSaver.saveCompressed(file, guitar, false, 6);
+		assertTrue(ZabFileSaver.decodeTab(FileUtils.read(file), new Tab()), "Checking compressed tab loaded without settings");
+		ZabFileSaver.save(file, null, true);
+		assertFalse(ZabFileSaver.decodeTab(FileUtils.read(file), new Tab()), "Checking a file with only settings has no tab");
+		assertFalse(ZabFileSaver.decodeTab(null, new Tab()), "Checking null bytes not loaded");
+	}
+	
+	@Test
+	public void readHeader(){
+		File file = new File(ZabFileSaver.makeFileName(UtilsTest.UNIT_PATH, UtilsTest.UNIT_NAME));
+		ZabFileSaver.save(file, guitar, true, true);
+		assertEquals(new TabSummary(guitar), ZabFileSaver.readHeader(file), "Checking summary read from a binary file");
+		ZabFileSaver.save(file, guitar, true);
+		assertEquals(new TabSummary(guitar), ZabFileSaver.readHeader(file), "Checking summary read from a text file");
+		ZabFileSaver.saveCompressed(file, guitar, true, 6);
+		assertEquals(new TabSummary(guitar), ZabFileSaver.readHeader(file), "Checking summary read from a compressed file with settings");
+		ZabFileSaver.save(file, null, true);
+		assertNull(ZabFileSaver.readHeader(file), "Checking a file with no tab has no summary");
+		assertNull(ZabFileSaver.readHeader(null), "Checking null file has no summary");
+	}
+	
+	@Test
+	public void saveCompressed(){
+		File file = new File(ZabFileSaver.makeFileName(UtilsTest.UNIT_PATH, UtilsTest.UNIT_NAME));
+		assertTrue(ZabFileSaver.saveCompressed(file, guitar, true, 1), "Checking save successful");
+		assertTrue(ZabCompressedFormat.isCompressed(file), "Checking file compressed");
+		assertFalse(ZabFileSaver.saveCompressed(file, guitar, true, 10), "Checking save fails with an invalid level");
 	}
 	
 	@Test
@@ -287,6 +381,12 @@ public class TestZabFileSaver{
 		assertTrue(ZabFileSaver.save(UtilsTest.UNIT_PATH, UtilsTest.UNIT_NAME, guitar), "Checking save to file successful with only tab");
 		
 		assertFalse(ZabFileSaver.save((File)null, guitar, false), "Checking save to file fails with null file");
+		
+		File file = new File(ZabFileSaver.makeFileName(UtilsTest.UNIT_PATH, UtilsTest.UNIT_NAME));
+		assertTrue(ZabFileSaver.save(file, guitar, true, true), "Checking save to file successful in the binary format");
+		assertTrue(ZabBinaryFormat.isBinary(file), "Checking file saved in the binary format");
+		assertTrue(ZabFileSaver.save(file, guitar, true, false), "Checking save to file successful in the text format");
+		assertFalse(ZabBinaryFormat.isBinary(file), "Checking file saved in the text format");
 	}
 	
 	@AfterEach
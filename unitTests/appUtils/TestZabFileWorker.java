@@ -0,0 +1,283 @@
+package appUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import appUtils.settings.ZabSettings;
+import tab.InstrumentFactory;
+import tab.Tab;
+import tab.TabFactory;
+import tab.TabPosition;
+import tab.TabString;
+import util.FileUtils;
+import util.testUtils.UtilsTest;
+
+public class TestZabFileWorker{
+
+	private Tab guitar;
+	private File file;
+	private ZabFileWorker worker;
+	private ZabFileWorker background;
+	private ArrayList<Boolean> saves;
+	private ArrayList<Tab> loads;
+	private ArrayList<ZabSettings> loadedSettings;
+	private ZabFileWorker.SaveListener saveListener;
+	private ZabFileWorker.LoadListener loadListener;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+
+	@BeforeEach
+	public void setup(){
+		guitar = InstrumentFactory.guitarStandard();
+		TabString high = guitar.getStrings().get(0);
+		high.add(TabFactory.modifiedFret(high, 3, 1));
+		high.add(TabFactory.modifiedFret(high, 5, 2.5));
+
+		UtilsTest.createUnitFolder();
+		file = new File(ZabFileSaver.makeFileName(UtilsTest.UNIT_PATH, UtilsTest.UNIT_NAME));
+		worker = new ZabFileWorker(false);
+		background = new ZabFileWorker(true);
+
+		saves = new ArrayList<Boolean>();
+		loads = new ArrayList<Tab>();
+		loadedSettings = new ArrayList<ZabSettings>();
+		saveListener = new ZabFileWorker.SaveListener(){
+			@Override
+			public void saved(File f, boolean success){
+				synchronized(saves){
+					saves.add(success);
+				}
+			}
+		};
+		loadListener = new ZabFileWorker.LoadListener(){
+			@Override
+			public void loaded(File f, Tab tab, ZabSettings settings){
+				synchronized(loads){
+					loads.add(tab);
+					loadedSettings.add(settings);
+				}
+			}
+		};
+	}
+
+	@Test
+	public void isBackground(){
+		assertFalse(worker.isBackground(), "Checking worker without a thread");
+		assertTrue(background.isBackground(), "Checking worker with a thread");
+	}
+
+	@Test
+	public void hasPendingSave() throws InterruptedException{
+		assertFalse(background.hasPendingSave(), "Checking no save asked for");
+		CountDownLatch blocked = block(background);
+		background.save(file, guitar, false, null);
+		assertTrue(background.hasPendingSave(), "Checking save waiting to start");
+		blocked.countDown();
+		background.waitForAll();
+		assertFalse(background.hasPendingSave(), "Checking save finished");
+	}
+
+	@Test
+	public void save(){
+		assertTrue(worker.save(file, guitar, false, saveListener), "Checking save successful");
+		assertEquals(1, saves.size(), "Checking listener told");
+		assertTrue(saves.get(0), "Checking listener told of success");
+		Tab t = new Tab();
+		ZabFileSaver.load(file, t, false);
+		assertEquals(guitar, t, "Checking the saved tab loads");
+		assertFalse(FileUtils.tempFile(file).exists(), "Checking temporary file removed");
+
+		assertFalse(worker.save(null, guitar, false, saveListener), "Checking null file not saved");
+		assertFalse(worker.save(file, null, false, saveListener), "Checking null tab not saved");
+		assertFalse(saves.get(2), "Checking listener told of failure");
+	}
+
+	@Test
+	public void saveBackground() throws InterruptedException{
+		CountDownLatch blocked = block(background);
+		assertTrue(background.save(file, guitar, false, saveListener), "Checking save started");
+
+		// The save happens after the tab is modified, but the snapshot from the request is saved
+		TabString high = guitar.getStrings().get(0);
+		Tab expected = guitar.copy();
+		high.add(TabFactory.modifiedFret(high, 7, 4));
+		blocked.countDown();
+		background.waitForAll();
+		assertEquals(1, saves.size(), "Checking listener told");
+		Tab t = new Tab();
+		ZabFileSaver.load(file, t, false);
+		assertEquals(expected, t, "Checking the tab from when the save was asked for was saved");
+	}
+
+	@Test
+	public void saveCoalesced() throws InterruptedException{
+		CountDownLatch blocked = block(background);
+		background.save(file, guitar, false, saveListener);
+		TabString high = guitar.getStrings().get(0);
+		high.add(TabFactory.modifiedFret(high, 7, 4));
+		assertTrue(background.save(file, guitar, false, saveListener), "Checking second save accepted");
+		blocked.countDown();
+		background.waitForAll();
+
+		assertEquals(2, saves.size(), "Checking both listeners told");
+		assertTrue(saves.get(0) && saves.get(1), "Checking both listeners told of success");
+		assertTrue(file.isFile(), "Checking file written");
+		Tab t = new Tab();
+		ZabFileSaver.load(file, t, false);
+		assertEquals(guitar, t, "Checking the newest tab was saved");
+	}
+
+	@Test
+	public void saveJournal(){
+		ZabJournal journal = new ZabJournal(file);
+		assertTrue(worker.save(file, guitar, false, journal, saveListener), "Checking save successful");
+		assertTrue(journal.isOpen(), "Checking the journal started for the saved file");
+
+		// A change made after the save is recovered when the file is loaded with its journal
+		ZabJournal.Change c = new ZabJournal.Change();
+		TabString high = guitar.getStrings().get(0);
+		TabPosition first = high.get(0);
+		c.remove(0, first);
+		journal.append(c);
+		journal.close();
+		ZabJournal loaded = new ZabJournal(file);
+		assertTrue(worker.load(file, loaded, loadListener), "Checking load successful");
+		assertEquals(guitar, loads.get(0), "Checking the loaded tab is the saved tab");
+		assertEquals(1, loaded.getRecovered().getRemoved(0).size(), "Checking the change recovered");
+		assertEquals(first, loaded.getRecovered().getRemoved(0).get(0), "Checking the removed note recovered");
+		loaded.close();
+
+		assertFalse(worker.save(null, guitar, false, journal, saveListener), "Checking a null file not saved");
+		assertFalse(journal.isOpen(), "Checking the journal not started without a save");
+	}
+
+	@Test
+	public void load(){
+		ZabFileSaver.save(file, guitar, false);
+		assertTrue(worker.load(file, loadListener), "Checking load successful");
+		assertEquals(guitar, loads.get(0), "Checking tab loaded");
+		assertNull(loadedSettings.get(0), "Checking no settings loaded from a file without settings");
+
+		assertFalse(worker.load(new File(UtilsTest.UNIT_PATH + "/missing"), loadListener), "Checking a missing file not loaded");
+		assertNull(loads.get(1), "Checking listener told of failure");
+		assertNull(loadedSettings.get(1), "Checking no settings given for a failure");
+		assertFalse(worker.load(null, loadListener), "Checking null file not loaded");
+	}
+
+	@Test
+	public void loadWithSettings(){
+		// A text file with settings, the format every file was saved in before files were saved in the background
+		ZabAppSettings.get().text().getMeasuresPerLine().set(3);
+		ZabFileSaver.save(file, guitar, true);
+		ZabAppSettings.get().text().getMeasuresPerLine().set(5);
+
+		assertTrue(worker.load(file, loadListener), "Checking a text file with settings loaded");
+		assertEquals(guitar, loads.get(0), "Checking tab loaded");
+		assertEquals(3, loadedSettings.get(0).text().measuresPerLine(), "Checking the settings of the file loaded");
+		assertEquals(5, ZabAppSettings.get().text().measuresPerLine(), "Checking the static settings not changed");
+
+		ZabFileSaver.save(file, guitar, true, true);
+		assertTrue(worker.load(file, loadListener), "Checking a binary file with settings loaded");
+		assertEquals(guitar, loads.get(1), "Checking binary tab loaded");
+		assertEquals(5, loadedSettings.get(1).text().measuresPerLine(), "Checking the binary settings loaded");
+		ZabAppSettings.init();
+	}
+
+	@Test
+	public void loadBackground(){
+		ZabFileSaver.save(file, guitar, false, true);
+		assertTrue(background.load(file, loadListener), "Checking load started");
+		background.waitForAll();
+		assertEquals(guitar, loads.get(0), "Checking tab loaded");
+
+		ZabFileSaver.save(file, guitar, true);
+		assertTrue(background.load(file, loadListener), "Checking load of a text file with settings started");
+		background.waitForAll();
+		assertEquals(guitar, loads.get(1), "Checking tab with settings loaded");
+		assertEquals(ZabAppSettings.get(), loadedSettings.get(1), "Checking settings loaded");
+	}
+
+	@Test
+	public void execute() throws InterruptedException{
+		final ArrayList<String> order = new ArrayList<String>();
+		Runnable task = new Runnable(){
+			@Override
+			public void run(){
+				synchronized(order){
+					order.add("task");
+				}
+			}
+		};
+		assertTrue(worker.execute(task), "Checking task run");
+		assertEquals(1, order.size(), "Checking task run on this thread");
+		assertFalse(worker.execute(null), "Checking null task not run");
+
+		CountDownLatch blocked = block(background);
+		background.save(file, guitar, false, new ZabFileWorker.SaveListener(){
+			@Override
+			public void saved(File f, boolean success){
+				synchronized(order){
+					order.add("save");
+				}
+			}
+		});
+		assertTrue(background.execute(task), "Checking task started");
+		blocked.countDown();
+		background.waitForAll();
+		assertEquals("save", order.get(1), "Checking the save asked for first finished first");
+		assertEquals("task", order.get(2), "Checking the task ran after the save");
+	}
+
+	@Test
+	public void waitForAll(){
+		assertTrue(worker.waitForAll(), "Checking nothing to wait for");
+		background.save(file, guitar, false, saveListener);
+		background.load(file, loadListener);
+		assertTrue(background.waitForAll(), "Checking every task finished");
+		assertEquals(1, saves.size(), "Checking save finished");
+		assertEquals(guitar, loads.get(0), "Checking load finished after the save");
+	}
+
+	/**
+	 * Make the background thread of the given worker wait until the returned latch counts down
+	 * @param w The worker
+	 * @return The latch
+	 * @throws InterruptedException If interrupted while waiting for the thread to start waiting
+	 */
+	private static CountDownLatch block(ZabFileWorker w) throws InterruptedException{
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch blocked = new CountDownLatch(1);
+		w.load(new File(UtilsTest.UNIT_PATH + "/missing"), new ZabFileWorker.LoadListener(){
+			@Override
+			public void loaded(File f, Tab tab, ZabSettings settings){
+				started.countDown();
+				try{
+					blocked.await();
+				}catch(InterruptedException e){}
+			}
+		});
+		started.await();
+		return blocked;
+	}
+
+	@AfterEach
+	public void end(){
+		background.waitForAll();
+		UtilsTest.deleteUnitFolder();
+	}
+
+}
@@ -0,0 +1,503 @@
+package appUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tab.InstrumentFactory;
+import tab.Tab;
+import tab.TabFactory;
+import tab.TabPosition;
+import tab.TabSnapshot;
+import tab.TabString;
+import tab.symbol.TabModifier;
+import util.FileUtils;
+import util.testUtils.UtilsTest;
+
+public class TestZabJournal{
+
+	private Tab guitar;
+	private File file;
+	private ZabJournal journal;
+	private TabPosition placed;
+	private TabPosition removed;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+
+	@BeforeEach
+	public void setup(){
+		guitar = InstrumentFactory.guitarStandard();
+		TabString high = guitar.getStrings().get(0);
+		high.add(TabFactory.modifiedFret(high, 3, 1));
+		high.add(TabFactory.modifiedFret(high, 5, 2));
+		removed = high.get(0);
+		placed = TabFactory.modifiedFret(high, 7, 0.1 + 0.2, new TabModifier("", "h"));
+
+		UtilsTest.createUnitFolder();
+		file = new File(ZabFileSaver.makeFileName(UtilsTest.UNIT_PATH, UtilsTest.UNIT_NAME));
+		ZabBinaryFormat.save(file, guitar, false);
+		journal = new ZabJournal(file);
+	}
+
+	/**
+	 * Make a change which removes {@link #removed} and places {@link #placed} on the first string
+	 * @return The change
+	 */
+	private ZabJournal.Change change(){
+		ZabJournal.Change c = new ZabJournal.Change();
+		c.remove(0, removed);
+		c.place(0, placed);
+		return c;
+	}
+
+	/**
+	 * Read every byte of {@link #file}
+	 * @return The bytes
+	 */
+	private ByteBuffer bytes(){
+		try{
+			return FileUtils.read(file);
+		}
+		catch(IOException e){
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Load the tab in {@link #file} and replay {@link #journal} on it with a new journal, applying the recovered changes
+	 * @return The tab
+	 */
+	private Tab reopen(){
+		journal.close();
+		Tab t = new Tab();
+		ZabFileSaver.load(file, t, false);
+		journal = new ZabJournal(file);
+		journal.replay(bytes(), t);
+		recover(t);
+		return t;
+	}
+
+	/**
+	 * Apply the changes recovered by {@link #journal} to the given tab
+	 * @param t The tab, which {@link #journal} was just replayed on
+	 */
+	private void recover(Tab t){
+		ZabJournal.Recovery r = journal.getRecovered();
+		for(int s = 0; s < r.getStringCount(); s++){
+			for(TabPosition p : r.getRemoved(s)) t.getStrings().get(s).remove(p);
+			for(TabPosition p : r.getPlaced(s)) t.getStrings().get(s).add(p);
+		}
+	}
+
+	@Test
+	public void getBase(){
+		assertEquals(file, journal.getBase(), "Checking base file set");
+	}
+
+	@Test
+	public void getFile(){
+		assertEquals(ZabJournal.journalFile(file), journal.getFile(), "Checking journal file found");
+	}
+
+	@Test
+	public void isOpen(){
+		assertFalse(journal.isOpen(), "Checking journal not open");
+		journal.start(bytes());
+		assertTrue(journal.isOpen(), "Checking journal open");
+		journal.close();
+		assertFalse(journal.isOpen(), "Checking journal closed");
+	}
+
+	@Test
+	public void size(){
+		assertEquals(0, journal.size(), "Checking a closed journal has no size");
+		journal.start(bytes());
+		long size = journal.size();
+		assertTrue(size > 0, "Checking the header counted");
+		journal.append(change());
+		assertTrue(journal.size() > size, "Checking the change counted");
+		assertEquals(journal.getFile().length(), journal.size(), "Checking size matches the file");
+	}
+
+	@Test
+	public void position(){
+		journal.start(bytes());
+		long position = journal.position();
+		journal.append(change());
+		long appended = journal.position();
+		assertTrue(appended > position, "Checking the position moved by the change");
+		guitar.getStrings().get(0).remove(removed);
+		guitar.getStrings().get(0).add(placed);
+		journal.compact(guitar.snapshot(), appended);
+		assertEquals(appended, journal.position(), "Checking the position kept after compacting");
+		journal.append(change());
+		assertTrue(journal.position() > appended, "Checking the position moved after compacting");
+	}
+
+	@Test
+	public void getRecovered(){
+		assertTrue(journal.getRecovered().isEmpty(), "Checking nothing recovered");
+		journal.start(bytes());
+		journal.append(change());
+		reopen();
+		ZabJournal.Recovery r = journal.getRecovered();
+		assertEquals(guitar.getStrings().size(), r.getStringCount(), "Checking a list for each string");
+		assertEquals(1, r.getRemoved(0).size(), "Checking one note removed");
+		assertEquals(removed, r.getRemoved(0).get(0), "Checking the removed note");
+		assertEquals(1, r.getPlaced(0).size(), "Checking one note placed");
+		assertEquals(placed, r.getPlaced(0).get(0), "Checking the placed note");
+		assertTrue(r.getRemoved(1).isEmpty(), "Checking nothing removed from another string");
+		assertTrue(r.getPlaced(1).isEmpty(), "Checking nothing placed on another string");
+	}
+
+	@Test
+	public void recoveryIsEmpty(){
+		journal.start(bytes());
+		journal.append(change());
+		ZabJournal.Change undo = new ZabJournal.Change();
+		undo.remove(0, placed);
+		undo.place(0, removed);
+		journal.append(undo);
+		reopen();
+		assertTrue(journal.getRecovered().isEmpty(), "Checking changes which undo each other recover nothing");
+
+		journal.append(change());
+		reopen();
+		assertFalse(journal.getRecovered().isEmpty(), "Checking a change is recovered");
+	}
+
+	@Test
+	public void start(){
+		assertTrue(journal.start(bytes()), "Checking journal started");
+		assertTrue(journal.getFile().isFile(), "Checking journal file created");
+		journal.append(change());
+		assertTrue(journal.start(bytes()), "Checking journal started again");
+		assertEquals(0, reopen().getStrings().get(0).size() - 2, "Checking the old changes were removed");
+
+		assertFalse(journal.start(null), "Checking a journal cannot start without the bytes of the base file");
+	}
+
+	@Test
+	public void replay(){
+		journal.start(bytes());
+		journal.append(change());
+		ZabJournal.Change undo = new ZabJournal.Change();
+		undo.remove(0, placed);
+		journal.append(undo);
+		ZabJournal.Change redo = new ZabJournal.Change();
+		redo.place(0, placed);
+		journal.append(redo);
+
+		journal.close();
+		Tab t = new Tab();
+		ZabFileSaver.load(file, t, false);
+		journal = new ZabJournal(file);
+		assertEquals(3, journal.replay(bytes(), t), "Checking every change replayed");
+		assertEquals(guitar, t, "Checking the loaded tab was not changed");
+		recover(t);
+		TabString high = t.getStrings().get(0);
+		assertEquals(2, high.size(), "Checking one note removed and one placed");
+		assertTrue(high.contains(placed), "Checking note placed");
+		assertFalse(high.contains(removed), "Checking note removed");
+		assertTrue(journal.isOpen(), "Checking the journal is open after replaying");
+
+		assertEquals(0, new ZabJournal(file).replay(bytes(), new Tab()), "Checking a journal which is open can be replayed");
+	}
+
+	@Test
+	public void replayTorn() throws IOException{
+		journal.start(bytes());
+		journal.append(change());
+		long size = journal.size();
+		ZabJournal.Change c = new ZabJournal.Change();
+		c.remove(0, placed);
+		journal.append(c);
+		journal.close();
+
+		// Cut off the end of the last change, as if the application closed while writing it
+		RandomAccessFile f = new RandomAccessFile(journal.getFile(), "rw");
+		f.setLength(f.length() - 1);
+		f.close();
+
+		Tab t = new Tab();
+		ZabFileSaver.load(file, t, false);
+		journal = new ZabJournal(file);
+		assertEquals(1, journal.replay(bytes(), t), "Checking only the whole change replayed");
+		recover(t);
+		assertTrue(t.getStrings().get(0).contains(placed), "Checking the torn change not applied");
+		assertEquals(size, journal.getFile().length(), "Checking the torn change removed from the file");
+	}
+
+	@Test
+	public void replayOtherBase(){
+		journal.start(bytes());
+		journal.append(change());
+		journal.close();
+
+		// Saving the file without the journal means the journal is for a different file
+		guitar.getStrings().get(1).add(TabFactory.modifiedFret(guitar.getStrings().get(1), 1, 4));
+		ZabBinaryFormat.save(file, guitar, false);
+		Tab t = new Tab();
+		ZabFileSaver.load(file, t, false);
+		journal = new ZabJournal(file);
+		assertEquals(0, journal.replay(bytes(), t), "Checking no changes replayed");
+		assertEquals(guitar, t, "Checking the tab was not changed");
+		assertTrue(journal.isOpen(), "Checking a new journal started");
+
+		journal = new ZabJournal(new File(UtilsTest.UNIT_PATH + "/missing"));
+		assertEquals(-1, journal.replay(null, t), "Checking a journal without a base file cannot be replayed");
+	}
+
+	@Test
+	public void saved(){
+		assertTrue(journal.saved(bytes(), 0), "Checking a new journal started");
+		journal.append(change());
+		long position = journal.position();
+		Tab snapshot = guitar.copy();
+		snapshot.getStrings().get(0).remove(removed);
+		snapshot.getStrings().get(0).add(placed);
+
+		// A change made while the file was being saved is kept in the new journal
+		ZabJournal.Change c = new ZabJournal.Change();
+		c.remove(0, placed);
+		journal.append(c);
+		ZabBinaryFormat.save(file, snapshot, false);
+		assertTrue(journal.saved(bytes(), position), "Checking the journal started for the saved file");
+		Tab t = reopen();
+		assertEquals(1, journal.getRecovered().getRemoved(0).size(), "Checking only the change made while saving replayed");
+		assertFalse(t.getStrings().get(0).contains(placed), "Checking the change made while saving applied");
+
+		journal.close();
+		assertFalse(journal.saved(bytes(), journal.position()), "Checking a closed journal is not started again");
+		assertFalse(journal.saved(null, 0), "Checking a journal is not started without bytes");
+	}
+
+	@Test
+	public void append(){
+		assertFalse(journal.append(change()), "Checking a closed journal cannot be appended to");
+		journal.start(bytes());
+		assertFalse(journal.append(null), "Checking null not appended");
+		assertFalse(journal.append(new ZabJournal.Change()), "Checking an empty change not appended");
+		assertTrue(journal.append(change()), "Checking change appended");
+		assertTrue(reopen().getStrings().get(0).contains(placed), "Checking the change is replayed");
+	}
+
+	@Test
+	public void discard(){
+		journal.start(bytes());
+		journal.append(change());
+		journal.discard();
+		assertFalse(journal.isOpen(), "Checking journal closed");
+		assertFalse(journal.getFile().exists(), "Checking journal file deleted");
+		assertFalse(ZabJournal.compactedFile(file).exists(), "Checking compacted file deleted");
+		assertEquals(guitar, reopen(), "Checking no changes replayed");
+	}
+
+	@Test
+	public void shouldCompact(){
+		assertFalse(journal.shouldCompact(), "Checking a closed journal is not compacted");
+		journal.start(bytes());
+		assertFalse(journal.shouldCompact(), "Checking a small journal is not compacted");
+		while(journal.size() < ZabJournal.COMPACT_SIZE) journal.append(change());
+		assertTrue(journal.shouldCompact(), "Checking a large journal is compacted");
+	}
+
+	@Test
+	public void compact(){
+		ZabFileWorker worker = new ZabFileWorker(true);
+		assertFalse(journal.compact(guitar, worker), "Checking a closed journal is not compacted");
+		journal.start(bytes());
+		assertFalse(journal.compact(guitar, null), "Checking a journal is not compacted without a worker");
+		journal.append(change());
+		guitar.getStrings().get(0).remove(removed);
+		guitar.getStrings().get(0).add(placed);
+
+		long saved = file.length();
+		assertTrue(journal.compact(guitar, worker), "Checking compaction started");
+		worker.waitForAll();
+		assertEquals(saved, file.length(), "Checking the saved file was not changed");
+		assertTrue(ZabJournal.compactedFile(file).isFile(), "Checking the compacted file written");
+		assertEquals(guitar, reopen(), "Checking the compacted tab loads");
+		assertTrue(journal.size() < 40, "Checking the replayed changes were removed from the journal");
+	}
+
+	@Test
+	public void compactAfterSave(){
+		ZabFileWorker worker = new ZabFileWorker(true);
+		journal.start(bytes());
+		journal.append(change());
+		guitar.getStrings().get(0).remove(removed);
+		guitar.getStrings().get(0).add(placed);
+		Tab compacted = guitar.copy();
+		journal.compact(guitar, worker);
+
+		// A save asked for after the compaction is the one which stays in the file
+		TabString high = guitar.getStrings().get(0);
+		high.add(TabFactory.modifiedFret(high, 9, 7));
+		worker.save(file, guitar, false, null);
+		worker.waitForAll();
+		Tab t = new Tab();
+		ZabFileSaver.load(file, t, false);
+		assertEquals(guitar, t, "Checking the newer save kept");
+		assertNotEquals(compacted, t, "Checking the compacted tab did not replace the save");
+		assertFalse(FileUtils.tempFile(file).exists(), "Checking the temporary file removed");
+	}
+
+	@Test
+	public void compactSnapshot() throws IOException{
+		journal.start(bytes());
+		journal.append(change());
+		guitar.getStrings().get(0).remove(removed);
+		guitar.getStrings().get(0).add(placed);
+		TabSnapshot snapshot = guitar.snapshot();
+		long offset = journal.position();
+
+		// A change made while the compaction was running is kept
+		ZabJournal.Change c = new ZabJournal.Change();
+		c.remove(0, placed);
+		journal.append(c);
+		long before = file.length();
+		assertTrue(journal.compact(snapshot, offset), "Checking compacted");
+		assertEquals(before, file.length(), "Checking the base file not replaced");
+		assertTrue(ZabJournal.compactedFile(file).isFile(), "Checking the compacted file written");
+		assertFalse(ZabJournal.nextFile(file).exists(), "Checking the new journal moved into place");
+
+		Tab t = reopen();
+		assertFalse(t.getStrings().get(0).contains(placed), "Checking the later change replayed");
+		assertEquals(1, t.getStrings().get(0).size(), "Checking only the later change replayed");
+
+		journal.close();
+		assertFalse(journal.compact(snapshot, journal.position()), "Checking a closed journal is not compacted");
+		assertFalse(FileUtils.tempFile(ZabJournal.compactedFile(file)).exists(), "Checking the temporary file removed");
+	}
+
+	@Test
+	public void compactInterrupted() throws IOException{
+		journal.start(bytes());
+		journal.append(change());
+		guitar.getStrings().get(0).remove(removed);
+		guitar.getStrings().get(0).add(placed);
+		journal.compact(guitar.snapshot(), journal.position());
+
+		// Move the new journal back, as if the application closed after replacing the compacted file, but before moving the journal
+		journal.close();
+		FileUtils.move(journal.getFile(), ZabJournal.nextFile(file));
+		Files.write(journal.getFile().toPath(), new byte[]{1, 2, 3});
+		assertEquals(guitar, reopen(), "Checking the new journal found");
+		assertFalse(ZabJournal.nextFile(file).exists(), "Checking the new journal moved into place");
+	}
+
+	@Test
+	public void compactThenSave(){
+		journal.start(bytes());
+		journal.append(change());
+		guitar.getStrings().get(0).remove(removed);
+		guitar.getStrings().get(0).add(placed);
+		journal.compact(guitar.snapshot(), journal.position());
+
+		// Saving the file starts a new journal, which no longer needs the compacted file
+		ZabBinaryFormat.save(file, guitar, false);
+		assertTrue(journal.start(bytes()), "Checking the journal started for the saved file");
+		assertFalse(ZabJournal.compactedFile(file).exists(), "Checking the compacted file removed");
+		assertEquals(guitar, reopen(), "Checking the saved file loads without the compacted file");
+	}
+
+	@Test
+	public void replayOtherCompacted() throws IOException{
+		journal.start(bytes());
+		journal.append(change());
+		guitar.getStrings().get(0).remove(removed);
+		guitar.getStrings().get(0).add(placed);
+		journal.compact(guitar.snapshot(), journal.position());
+		journal.close();
+
+		// A compacted file which does not match the journal is never used
+		Files.write(ZabJournal.compactedFile(file).toPath(), new byte[]{1, 2, 3});
+		Tab t = new Tab();
+		ZabFileSaver.load(file, t, false);
+		journal = new ZabJournal(file);
+		assertEquals(0, journal.replay(bytes(), t), "Checking no changes replayed");
+		assertEquals(2, t.getStrings().get(0).size(), "Checking the saved tab kept");
+		assertTrue(t.getStrings().get(0).contains(removed), "Checking the saved tab not changed");
+	}
+
+	@Test
+	public void close(){
+		journal.start(bytes());
+		journal.append(change());
+		journal.close();
+		assertFalse(journal.isOpen(), "Checking journal closed");
+		assertTrue(journal.getFile().isFile(), "Checking the journal file kept");
+		journal.close();
+	}
+
+	@Test
+	public void journalFile(){
+		assertEquals(new File(file.getPath() + ZabJournal.EXTENSION), ZabJournal.journalFile(file), "Checking journal file name");
+	}
+
+	@Test
+	public void nextFile(){
+		assertNotEquals(ZabJournal.journalFile(file), ZabJournal.nextFile(file), "Checking the new journal has its own file");
+	}
+
+	@Test
+	public void compactedFile(){
+		assertNotEquals(ZabJournal.journalFile(file), ZabJournal.compactedFile(file), "Checking the compacted file has its own file");
+		assertNotEquals(file, ZabJournal.compactedFile(file), "Checking the compacted file is not the saved file");
+	}
+
+	@Test
+	public void changeIsEmpty(){
+		ZabJournal.Change c = new ZabJournal.Change();
+		assertTrue(c.isEmpty(), "Checking a new change is empty");
+		c.place(0, placed);
+		assertFalse(c.isEmpty(), "Checking change not empty");
+	}
+
+	@Test
+	public void changeSize(){
+		assertEquals(2, change().size(), "Checking notes counted");
+	}
+
+	@Test
+	public void changeRemove(){
+		ZabJournal.Change c = new ZabJournal.Change();
+		assertTrue(c.remove(0, removed), "Checking note added");
+		assertFalse(c.remove(-1, removed), "Checking an invalid string not added");
+		assertFalse(c.remove(0, null), "Checking null not added");
+		assertEquals(1, c.size(), "Checking only one note added");
+	}
+
+	@Test
+	public void changePlace(){
+		ZabJournal.Change c = new ZabJournal.Change();
+		assertTrue(c.place(5, placed), "Checking note added");
+		assertFalse(c.place(-1, placed), "Checking an invalid string not added");
+		assertFalse(c.place(0, null), "Checking null not added");
+		assertEquals(1, c.size(), "Checking only one note added");
+	}
+
+	@AfterEach
+	public void end(){
+		journal.close();
+		UtilsTest.deleteUnitFolder();
+	}
+
+}
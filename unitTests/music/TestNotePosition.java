@@ -2,16 +2,16 @@ package music;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Scanner;
-
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import appUtils.ZabAppSettings;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestNotePosition{
@@ -47,6 +47,13 @@ public class TestNotePosition{
 		assertEquals(3, pos.getValue(), "Checking value is initialized");
 	}
 
+	@Test
+	public void getTicks(){
+		assertEquals(Ticks.PER_MEASURE * 3, pos.getTicks(), "Checking ticks are initialized");
+		assertEquals(Ticks.PER_MEASURE / 8, new NotePosition(0.125).getTicks(), "Checking ticks for part of a measure");
+		assertEquals(new NotePosition(0.3).getTicks(), new NotePosition(0.1 + 0.2).getTicks(), "Checking rounding errors give the same ticks");
+	}
+	
 	@Test
 	public void sameMeasure(){
 		assertTrue(pos.sameMeasure(3), "Checking same measure when equal");
@@ -116,7 +123,7 @@ public class TestNotePosition{
 	
 	@Test
 	public void load(){
-		Scanner scan = new Scanner("1.2 \n2 \n1");
+		ZabTokenReader scan = new ZabTokenReader("1.2 \n2 \n1");
 		assertTrue(pos.load(scan), "Checking load successful");
 		assertEquals(1.2, pos.getValue(), "Checking correct value loaded");
 		
@@ -165,6 +172,13 @@ public class TestNotePosition{
 		assertFalse(p.equals(pos), "Checking objects are not equal");
 	}
 	
+	@Test
+	public void testHashCode(){
+		assertEquals(new NotePosition(3).hashCode(), pos.hashCode(), "Checking equal positions have the same hash code");
+		assertEquals(new NotePosition(0.3).hashCode(), new NotePosition(0.1 + 0.2).hashCode(), "Checking positions with rounding errors have the same hash code");
+		assertNotEquals(new NotePosition(4).hashCode(), pos.hashCode(), "Checking different positions have different hash codes");
+	}
+	
 	@Test
 	public void testToString(){
 		assertEquals("[NotePosition, position: 3.0]", pos.toString(), "Checking correct string");
@@ -2,16 +2,16 @@ package music;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Scanner;
-
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import appUtils.ZabAppSettings;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestPitch{
@@ -68,7 +68,7 @@ public class TestPitch{
 	
 	@Test
 	public void load(){
-		Scanner scan = new Scanner("0 \n3 \n5 \n1");
+		ZabTokenReader scan = new ZabTokenReader("0 \n3 \n5 \n1");
 		assertTrue(c5.load(scan), "Checking loading succeeded");
 		assertEquals(0, c5.getNote(), "Checking correct note loaded");
 		
@@ -105,6 +105,12 @@ public class TestPitch{
 		assertFalse(c.equals(c4), "Checking objects are not equal");
 	}
 	
+	@Test
+	public void testHashCode(){
+		assertEquals(new Pitch(0).hashCode(), c4.hashCode(), "Checking equal pitches have the same hash code");
+		assertNotEquals(new Pitch(-1).hashCode(), c4.hashCode(), "Checking different pitches have different hash codes");
+	}
+	
 	@Test
 	public void testToString(){
 		assertEquals("[Pitch: C4]", c4.toString(), "Checking correct string");
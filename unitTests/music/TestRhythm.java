@@ -2,16 +2,16 @@ package music;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Scanner;
-
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import appUtils.ZabAppSettings;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestRhythm{
@@ -86,6 +86,14 @@ public class TestRhythm{
 		assertEquals(0.4, fives.getLength(), UtilsTest.DELTA, "Checking correct length");
 	}
 	
+	@Test
+	public void getTicks(){
+		assertEquals(Ticks.PER_MEASURE, whole.getTicks(new TimeSignature(4, 4)), "Checking a whole note in 4/4");
+		assertEquals(Ticks.PER_MEASURE * 2 / 3, half.getTicks(new TimeSignature(3, 4)), "Checking a half note in 3/4");
+		assertEquals(Ticks.PER_MEASURE / 3, third.getTicks(new TimeSignature(4, 4)), "Checking a triplet in 4/4");
+		assertEquals(Ticks.PER_MEASURE * 12 / 7, threeHalf.getTicks(new TimeSignature(7, 8)), "Checking a dotted whole note in 7/8");
+	}
+	
 	@Test
 	public void simplify(){
 		Rhythm r = new Rhythm(2, 4);
@@ -107,7 +115,7 @@ public class TestRhythm{
 	
 	@Test
 	public void load(){
-		Scanner scan = new Scanner("1 2 \n3 4 \n5 7\n1 2");
+		ZabTokenReader scan = new ZabTokenReader("1 2 \n3 4 \n5 7\n1 2");
 		assertTrue(whole.load(scan), "Checking load successful");
 		assertEquals(1, whole.getDuration(), "Checking duration loaded");
 		assertEquals(2, whole.getUnit(), "Checking unit loaded");
@@ -154,6 +162,13 @@ public class TestRhythm{
 		assertFalse(r.equals(half), "Checking objects are not equal");
 	}
 	
+	@Test
+	public void testHashCode(){
+		assertEquals(new Rhythm(1, 2).hashCode(), half.hashCode(), "Checking equal rhythms have the same hash code");
+		assertEquals(new Rhythm(2, 4).hashCode(), half.hashCode(), "Checking simplified rhythms have the same hash code");
+		assertNotEquals(threeHalf.hashCode(), half.hashCode(), "Checking different rhythms have different hash codes");
+	}
+	
 	@Test
 	public void testToString(){
 		assertEquals("[Rhythm: 3 2 notes]", threeHalf.toString(), "Checking correct string");
@@ -0,0 +1,96 @@
+package music;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import appUtils.ZabAppSettings;
+import util.testUtils.UtilsTest;
+
+public class TestTicks{
+
+	private TimeSignature four4;
+	private TimeSignature three4;
+	private TimeSignature seven8;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+
+	@BeforeEach
+	public void setup(){
+		four4 = new TimeSignature(4, 4);
+		three4 = new TimeSignature(3, 4);
+		seven8 = new TimeSignature(7, 8);
+	}
+
+	@Test
+	public void fromMeasures(){
+		assertEquals(0, Ticks.fromMeasures(0), "Checking zero measures");
+		assertEquals(Ticks.PER_MEASURE * 3, Ticks.fromMeasures(3), "Checking whole measures");
+		assertEquals(Ticks.PER_MEASURE / 4, Ticks.fromMeasures(0.25), "Checking part of a measure");
+		assertEquals(-Ticks.PER_MEASURE / 2, Ticks.fromMeasures(-0.5), "Checking negative measures");
+		assertEquals(Ticks.fromMeasures(0.3), Ticks.fromMeasures(0.1 + 0.2), "Checking positions with rounding errors have the same ticks");
+		assertEquals(Ticks.PER_MEASURE * 2 / 3, Ticks.fromMeasures(2.0 / 3), "Checking a third of a measure rounds to an exact tick");
+	}
+
+	@Test
+	public void toMeasures(){
+		assertEquals(0, Ticks.toMeasures(0), "Checking zero ticks");
+		assertEquals(2.5, Ticks.toMeasures(Ticks.PER_MEASURE * 5 / 2), "Checking measures converted");
+		assertEquals(-1, Ticks.toMeasures(-Ticks.PER_MEASURE), "Checking negative ticks");
+		assertEquals(2.0 / 3, Ticks.toMeasures(Ticks.PER_MEASURE * 2 / 3), UtilsTest.DELTA, "Checking a third of a measure");
+	}
+
+	@Test
+	public void measure(){
+		assertEquals(0, Ticks.measure(0), "Checking start of the first measure");
+		assertEquals(0, Ticks.measure(Ticks.PER_MEASURE - 1), "Checking end of the first measure");
+		assertEquals(1, Ticks.measure(Ticks.PER_MEASURE), "Checking start of the second measure");
+		assertEquals(-1, Ticks.measure(-1), "Checking negative ticks are in a negative measure");
+	}
+
+	@Test
+	public void fromWholeNotes(){
+		assertEquals(Ticks.PER_MEASURE, Ticks.fromWholeNotes(1, 1, four4), "Checking a whole note in 4/4");
+		assertEquals(Ticks.PER_MEASURE / 4, Ticks.fromWholeNotes(1, 4, four4), "Checking a quarter note in 4/4");
+		assertEquals(Ticks.PER_MEASURE / 3, Ticks.fromWholeNotes(1, 4, three4), "Checking a quarter note in 3/4");
+		assertEquals(Ticks.PER_MEASURE / 7, Ticks.fromWholeNotes(1, 8, seven8), "Checking an eighth note in 7/8");
+		assertEquals(Ticks.PER_MEASURE / 12, Ticks.fromWholeNotes(1, 12, four4), "Checking an eighth note triplet in 4/4");
+		assertEquals(Ticks.PER_MEASURE * 3, Ticks.fromWholeNotes(9, 4, three4), "Checking many notes in 3/4");
+	}
+
+	@Test
+	public void fromRhythm(){
+		assertEquals(Ticks.PER_MEASURE / 2, Ticks.fromRhythm(new Rhythm(1, 2), four4), "Checking a half note in 4/4");
+		assertEquals(Ticks.PER_MEASURE * 3 / 8, Ticks.fromRhythm(new Rhythm(3, 8), four4), "Checking a dotted quarter note in 4/4");
+		assertEquals(Ticks.PER_MEASURE * 2 / 7, Ticks.fromRhythm(new Rhythm(1, 4), seven8), "Checking a quarter note in 7/8");
+		assertEquals(Ticks.PER_MEASURE * 4 / 9, Ticks.fromRhythm(new Rhythm(1, 3), three4), "Checking a half note triplet in 3/4");
+	}
+
+	@Test
+	public void quantize(){
+		long q = Ticks.PER_MEASURE / 4;
+		assertEquals(0, Ticks.quantize(Ticks.fromMeasures(0.1), four4, 4), "Checking quantized down to a quarter note");
+		assertEquals(q, Ticks.quantize(Ticks.fromMeasures(0.2), four4, 4), "Checking quantized up to a quarter note");
+		assertEquals(q * 9, Ticks.quantize(Ticks.fromMeasures(2.21), four4, 4), "Checking quantized to a quarter note in a later measure");
+		assertEquals(q * 4, Ticks.quantize(q * 4 - 1, four4, 4), "Checking quantized up to the next measure");
+		assertEquals(-q, Ticks.quantize(-q - 1, four4, 4), "Checking quantized negative ticks");
+		assertEquals(q, Ticks.quantize(q / 2, four4, 4), "Checking a half way tick is rounded up, like rounding measures");
+
+		assertEquals(Ticks.PER_MEASURE * 2 / 3, Ticks.quantize(Ticks.fromMeasures(0.7), four4, 6), "Checking quantized dotted quarter note");
+		assertEquals(Ticks.PER_MEASURE * 6 / 7, Ticks.quantize(Ticks.fromMeasures(0.85), seven8, 8), "Checking quantized eighth note in 7/8");
+
+		TimeSignature seventeen = new TimeSignature(17, 16);
+		assertEquals(Ticks.fromMeasures(seventeen.quantize(0.5, 16)), Ticks.quantize(Ticks.fromMeasures(0.5), seventeen, 16),
+				"Checking quantized when the places are not a whole number of ticks apart");
+	}
+
+	@AfterEach
+	public void end(){}
+
+}
@@ -5,8 +5,6 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Scanner;
-
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
 import appUtils.ZabAppSettings;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestTimeSignature{
@@ -163,6 +162,14 @@ public class TestTimeSignature{
 		assertEquals(1.16666666666667, three2.retime(five4, 1.4), UtilsTest.DELTA, "Checking equal retiming 5/4 to 3/2");
 	}
 	
+	@Test
+	public void retimeMeasure(){
+		assertEquals(1.5, three2.retimeMeasure(six4, 1.5), UtilsTest.DELTA, "Checking equal retiming with same ratio time signatures");
+		assertEquals(2.6, five4.retimeMeasure(four4, 2.75), UtilsTest.DELTA, "Checking retiming 4/4 to 5/4 stays in the measure");
+		assertEquals(1.3333333333333333, new TimeSignature(3, 4).retimeMeasure(four4, 1.25), UtilsTest.DELTA, "Checking retiming 4/4 to 3/4 stays in the measure");
+		assertEquals(1, new TimeSignature(3, 4).retimeMeasure(four4, 0.75), UtilsTest.DELTA, "Checking retiming 4/4 to 3/4 can move a note to the next measure");
+	}
+	
 	@Test
 	public void toMeasures(){
 		assertEquals(2, four4.toMeasures(2), UtilsTest.DELTA, "Checking whole notes to measures is the same for 4/4");
@@ -248,7 +255,7 @@ public class TestTimeSignature{
 	
 	@Test
 	public void load(){
-		Scanner scan = new Scanner("3 4 \n2 5 \n9 8 \n1 2");
+		ZabTokenReader scan = new ZabTokenReader("3 4 \n2 5 \n9 8 \n1 2");
 		assertTrue(four4.load(scan), "Checking load is successful");
 		assertEquals(3, four4.getUpper(), "Checking upper value loaded");
 		assertEquals(4, four4.getLower(), "Checking lower value loaded");
@@ -4,7 +4,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -13,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
 import appUtils.ZabAppSettings;
+import util.ZabTokenReader;
 
 public class TestNotNullSetting{
 	
@@ -24,7 +24,7 @@ public class TestNotNullSetting{
 		public NotNullTest(Integer value){super(value);}
 		public NotNullTest(Integer value, Integer defaultValue){super(value, defaultValue);}
 		@Override
-		public boolean loadValues(Scanner reader) throws Exception{return false;}
+		public boolean loadValues(ZabTokenReader reader) throws Exception{return false;}
 		@Override
 		public boolean saveValues(PrintWriter writer) throws Exception{return false;}
 	}
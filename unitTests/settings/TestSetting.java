@@ -6,7 +6,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -14,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import appUtils.ZabAppSettings;
+import util.ZabTokenReader;
 
 public class TestSetting{
 
@@ -28,7 +28,7 @@ public class TestSetting{
 			super(value, defaultValue);
 		}
 		@Override
-		public boolean loadValues(Scanner reader) throws Exception{
+		public boolean loadValues(ZabTokenReader reader) throws Exception{
 			if(this.get().equals("error")) throw new Exception();
 			return !this.get().equals("break");
 		}
@@ -74,6 +74,17 @@ public class TestSetting{
 		assertEquals("e", settingNoDefault.getDefault(), "Checking default value set");
 	}
 	
+	@Test
+	public void copy(){
+		assertTrue(settingNoDefault.copy(setting), "Checking setting copied");
+		assertEquals("b", settingNoDefault.get(), "Checking value copied");
+		assertEquals("c", settingNoDefault.getDefault(), "Checking default value copied");
+		
+		assertFalse(settingNoDefault.copy(null), "Checking null not copied");
+		assertFalse(settingNoDefault.copy(new SettingInt(2)), "Checking a different type not copied");
+		assertEquals("b", settingNoDefault.get(), "Checking value unchanged");
+	}
+	
 	@Test
 	public void loadDefault(){
 		setting.loadDefault();
@@ -82,19 +93,19 @@ public class TestSetting{
 	
 	@Test
 	public void load(){
-		Scanner scan;
+		ZabTokenReader scan;
 		assertFalse(setting.load(null), "Checking load detects errors on null");
 		
-		scan = new Scanner("");
+		scan = new ZabTokenReader("");
 		assertTrue(setting.load(scan), "Checking load detects good loading");
 		
 		scan.close();
-		scan = new Scanner("");
+		scan = new ZabTokenReader("");
 		setting.set("break");
 		assertFalse(setting.load(scan), "Checking load detects bad loading");
 
 		scan.close();
-		scan = new Scanner("");
+		scan = new ZabTokenReader("");
 		setting.set("error");
 		assertFalse(setting.load(scan), "Checking load detects error in loading");
 		
@@ -4,14 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Scanner;
-
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import appUtils.ZabAppSettings;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestSettingBoolean{
@@ -40,7 +39,7 @@ public class TestSettingBoolean{
 	
 	@Test
 	public void loadValues(){
-		Scanner scan = new Scanner(""
+		ZabTokenReader scan = new ZabTokenReader(""
 				+ "false true \n"
 				+ "true false \n"
 				+ "false a \n");
@@ -5,8 +5,6 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Scanner;
-
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
 import appUtils.ZabAppSettings;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestSettingChar{
@@ -82,7 +81,7 @@ public class TestSettingChar{
 	
 	@Test
 	public void loadValues(){
-		Scanner scan = new Scanner(""
+		ZabTokenReader scan = new ZabTokenReader(""
 				+ "a\n"
 				+ "s\n"
 				+ "c\n"
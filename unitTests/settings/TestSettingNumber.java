@@ -7,7 +7,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -15,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import appUtils.ZabAppSettings;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestSettingNumber{
@@ -141,7 +141,7 @@ public class TestSettingNumber{
 	
 	@Test
 	public void loadValues(){
-		Scanner scan = new Scanner(""
+		ZabTokenReader scan = new ZabTokenReader(""
 				+ "1 2 0 3 \n"
 				+ "-1 3 -1 5 \n"
 				+ "1 2 null 3 \n"
@@ -167,15 +167,15 @@ public class TestSettingNumber{
 		assertFalse(setting.load(scan), "Checking load fails with invalid value");
 		
 		scan.close();
-		scan = new Scanner("1 a a a \n");
+		scan = new ZabTokenReader("1 a a a \n");
 		assertFalse(setting.load(scan), "Checking load fails with invalid default value");
 		
 		scan.close();
-		scan = new Scanner("1 \n");
+		scan = new ZabTokenReader("1 \n");
 		assertFalse(setting.load(scan), "Checking load fails with not enough data");
 		
 		scan.close();
-		scan = new Scanner(""
+		scan = new ZabTokenReader(""
 				+ "1 2 0 10 \n"
 				+ "a 1");
 		assertTrue(setting.load(scan), "Checking normal load succeeds");
@@ -183,7 +183,7 @@ public class TestSettingNumber{
 		assertEquals("1", scan.next(), "Checking next in scan is the correct value");
 		
 		scan.close();
-		scan = new Scanner(""
+		scan = new ZabTokenReader(""
 				+ "1 2 0 10 \n"
 				+ "a 1");
 		assertTrue(setting.load(scan), "Checking normal load succeeds");
@@ -4,8 +4,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Scanner;
-
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import appUtils.ZabAppSettings;
 import music.Rhythm;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestSettingRhythm{
@@ -62,7 +61,7 @@ public class TestSettingRhythm{
 	
 	@Test
 	public void loadValues(){
-		Scanner scan = new Scanner(""
+		ZabTokenReader scan = new ZabTokenReader(""
 				+ "7 8 \n"
 				+ "3 5 \n"
 				+ "2 3 \n"
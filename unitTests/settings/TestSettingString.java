@@ -5,8 +5,6 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Scanner;
-
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
 import appUtils.ZabAppSettings;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestSettingString{
@@ -62,7 +61,7 @@ public class TestSettingString{
 	
 	@Test
 	public void loadValues(){
-		Scanner scan = new Scanner("word z\ndefault z\n123\nsdf\nk");
+		ZabTokenReader scan = new ZabTokenReader("word z\ndefault z\n123\nsdf\nk");
 		assertTrue(setting.load(scan), "Checking load successful");
 		assertEquals("word z", setting.get(), "Checking value loaded from scanner");
 		assertEquals("default z", setting.getDefault(), "Checking default value loaded from scanner");
@@ -5,7 +5,6 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
-import java.util.Scanner;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -13,6 +12,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import appUtils.ZabAppSettings;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestSettings{
@@ -63,6 +63,21 @@ public class TestSettings{
 		assertTrue(settings.equals(newSettings), "Checking settings are equal after loading defaults");
 	}
 	
+	@Test
+	public void copy(){
+		ArrayList<Setting<?>> s = newSettings.getAll();
+		((SettingString)s.get(0)).set("set y");
+		assertTrue(settings.copy(newSettings), "Checking settings copied");
+		assertEquals("set y", settings.getAll().get(0).get(), "Checking the value copied");
+		assertTrue(settings.equals(newSettings), "Checking settings are equal after copying");
+		
+		assertFalse(settings.copy(null), "Checking null not copied");
+		assertFalse(settings.copy(intSettings), "Checking settings of a different size not copied");
+		intSettings.addInt(3);
+		assertFalse(settings.copy(intSettings), "Checking settings of different types not copied");
+		assertEquals("set y", settings.getAll().get(0).get(), "Checking the values unchanged");
+	}
+	
 	@Test
 	public void load(){
 		// Changing settings to all different values
@@ -71,7 +86,7 @@ public class TestSettings{
 		((SettingString)s.get(1)).set("set z");
 		
 		String saved = UtilsTest.testSave(settings);
-		Scanner scan = new Scanner(saved);
+		ZabTokenReader scan = new ZabTokenReader(saved);
 		assertFalse(newSettings.equals(settings), "Checking new settings is different from the main one");
 		
 		boolean success = newSettings.load(scan);
@@ -79,7 +94,7 @@ public class TestSettings{
 		assertTrue(newSettings.equals(settings), "Checking new settings are the same as the main one after loading");
 		
 		scan.close();
-		scan = new Scanner("a");
+		scan = new ZabTokenReader("a");
 		assertFalse(intSettings.load(scan), "Checking load fails with invalid data for the setting");
 		
 		scan.close();
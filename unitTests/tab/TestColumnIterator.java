@@ -0,0 +1,165 @@
+package tab;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import appUtils.ZabAppSettings;
+import music.Music;
+import music.Pitch;
+import music.Ticks;
+import util.testUtils.UtilsTest;
+
+public class TestColumnIterator{
+
+	private ColumnIterator columns;
+	private ArrayList<TabString> strings;
+	private TabString high;
+	private TabString mid;
+	private TabString low;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+
+	@BeforeEach
+	public void setup(){
+		high = new TabString(new Pitch(Music.createNote(Music.E, 4)));
+		mid = new TabString(new Pitch(Music.createNote(Music.A, 3)));
+		low = new TabString(new Pitch(Music.createNote(Music.E, 3)));
+		strings = new ArrayList<TabString>();
+		strings.add(high);
+		strings.add(mid);
+		strings.add(low);
+		high.add(TabFactory.modifiedFret(high, 0, 0));
+		high.add(TabFactory.modifiedFret(high, 1, 1));
+		high.add(TabFactory.modifiedFret(high, 2, 2.5));
+		mid.add(TabFactory.modifiedFret(mid, 3, 1));
+		mid.add(TabFactory.modifiedFret(mid, 4, 1.25));
+		low.add(TabFactory.modifiedFret(low, 5, 0));
+		low.add(TabFactory.modifiedFret(low, 6, 1));
+		low.add(TabFactory.modifiedFret(low, 7, 3));
+		columns = new ColumnIterator(strings);
+	}
+
+	@Test
+	public void getStrings(){
+		assertEquals(strings, columns.getStrings(), "Checking strings initialized");
+	}
+
+	@Test
+	public void all(){
+		columns.next();
+		columns.next();
+		assertTrue(columns == columns.all(), "Checking the iterator is returned");
+		assertTrue(columns.next(), "Checking first column found after restarting");
+		assertEquals(0, columns.position(), UtilsTest.DELTA, "Checking first column found after restarting");
+		
+		int found = 0;
+		while(columns.next()) found++;
+		assertEquals(4, found, "Checking every other column found");
+	}
+
+	@Test
+	public void range(){
+		assertTrue(columns == columns.range(1, 2.5, false), "Checking the iterator is returned");
+		assertTrue(columns.next(), "Checking first column found");
+		assertEquals(1, columns.position(), UtilsTest.DELTA, "Checking first column position");
+		assertTrue(columns.next(), "Checking second column found");
+		assertEquals(1.25, columns.position(), UtilsTest.DELTA, "Checking second column position");
+		assertFalse(columns.next(), "Checking column at the end not found");
+		
+		columns.range(1.1, 2.5, true);
+		assertTrue(columns.next(), "Checking first column found");
+		assertEquals(1.25, columns.position(), UtilsTest.DELTA, "Checking first column position");
+		assertTrue(columns.next(), "Checking column at the end found");
+		assertEquals(2.5, columns.position(), UtilsTest.DELTA, "Checking column at the end position");
+		assertFalse(columns.next(), "Checking no more columns");
+		
+		strings.add(new TabString(new Pitch(Music.createNote(Music.D, 3))));
+		columns.range(0, 1, false);
+		assertTrue(columns.next(), "Checking column found after adding a string");
+		assertEquals(null, columns.get(3), "Checking new string has no note");
+	}
+
+	@Test
+	public void next(){
+		double[] positions = new double[]{0, 1, 1.25, 2.5, 3};
+		for(int i = 0; i < positions.length; i++){
+			assertTrue(columns.next(), "Checking column " + i + " found");
+			assertEquals(positions[i], columns.position(), UtilsTest.DELTA, "Checking column " + i + " in order");
+		}
+		assertFalse(columns.next(), "Checking no more columns");
+		assertFalse(columns.next(), "Checking iterator stays ended");
+		assertEquals(0, columns.size(), "Checking column is empty after ending");
+	}
+
+	@Test
+	public void position(){
+		columns.next();
+		assertEquals(0, columns.position(), UtilsTest.DELTA, "Checking first position");
+		columns.next();
+		assertEquals(1, columns.position(), UtilsTest.DELTA, "Checking second position");
+	}
+
+	@Test
+	public void ticks(){
+		columns.next();
+		assertEquals(0, columns.ticks(), "Checking first position");
+		columns.next();
+		columns.next();
+		assertEquals(Ticks.fromMeasures(1.25), columns.ticks(), "Checking position of a later column");
+	}
+	
+	@Test
+	public void get(){
+		columns.next();
+		assertEquals(high.get(0), columns.get(0), "Checking note on first string");
+		assertEquals(null, columns.get(1), "Checking no note on second string");
+		assertEquals(low.get(0), columns.get(2), "Checking note on third string");
+		
+		columns.next();
+		assertEquals(high.get(1), columns.get(0), "Checking note on first string");
+		assertEquals(mid.get(0), columns.get(1), "Checking note on second string");
+		assertEquals(low.get(1), columns.get(2), "Checking note on third string");
+		
+		columns.next();
+		assertEquals(null, columns.get(0), "Checking previous note removed from column");
+		assertEquals(mid.get(1), columns.get(1), "Checking note on second string");
+		assertEquals(null, columns.get(2), "Checking previous note removed from column");
+	}
+
+	@Test
+	public void size(){
+		columns.next();
+		assertEquals(2, columns.size(), "Checking size of a column with 2 notes");
+		columns.next();
+		assertEquals(3, columns.size(), "Checking size of a column with 3 notes");
+		columns.next();
+		assertEquals(1, columns.size(), "Checking size of a column with 1 note");
+	}
+
+	@Test
+	public void stringIndex(){
+		columns.next();
+		columns.next();
+		boolean[] found = new boolean[3];
+		for(int i = 0; i < columns.size(); i++) found[columns.stringIndex(i)] = true;
+		assertTrue(found[0] && found[1] && found[2], "Checking every string is in the column");
+		
+		columns.next();
+		assertEquals(1, columns.stringIndex(0), "Checking only string in column");
+	}
+
+	@AfterEach
+	public void end(){}
+
+}
@@ -0,0 +1,170 @@
+package tab;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import appUtils.ZabAppSettings;
+import music.Music;
+import music.Pitch;
+
+public class TestMeasureIndex{
+
+	private MeasureIndex index;
+	private ArrayList<TabString> strings;
+	private TabString high;
+	private TabString low;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+
+	@BeforeEach
+	public void setup(){
+		high = new TabString(new Pitch(Music.createNote(Music.E, 4)));
+		low = new TabString(new Pitch(Music.createNote(Music.E, 3)));
+		strings = new ArrayList<TabString>();
+		strings.add(high);
+		strings.add(low);
+		high.add(TabFactory.modifiedFret(high, 0, 0));
+		high.add(TabFactory.modifiedFret(high, 1, 1));
+		high.add(TabFactory.modifiedFret(high, 2, 1.5));
+		high.add(TabFactory.modifiedFret(high, 3, 4));
+		low.add(TabFactory.modifiedFret(low, 4, 1.25));
+		low.add(TabFactory.modifiedFret(low, 5, 2));
+		low.add(TabFactory.modifiedFret(low, 6, 3.75));
+		index = new MeasureIndex(strings);
+	}
+
+	@Test
+	public void getStrings(){
+		assertEquals(strings, index.getStrings(), "Checking strings initialized");
+		assertFalse(index.next(), "Checking no search is in progress after creation");
+	}
+
+	@Test
+	public void measureStart(){
+		assertEquals(0, index.measureStart(0, 0), "Checking start of the first measure");
+		assertEquals(1, index.measureStart(0, 1), "Checking start of a measure with notes");
+		assertEquals(3, index.measureStart(0, 2), "Checking start of an empty measure");
+		assertEquals(4, index.measureStart(0, 5), "Checking start of a measure after the last note");
+		assertEquals(0, index.measureStart(1, 1), "Checking start of a measure on another string");
+	}
+
+	@Test
+	public void measureEnd(){
+		assertEquals(1, index.measureEnd(0, 0), "Checking end of the first measure");
+		assertEquals(3, index.measureEnd(0, 1), "Checking end of a measure with notes");
+		assertEquals(3, index.measureEnd(0, 2), "Checking end of an empty measure");
+		assertEquals(1, index.measureEnd(1, 1), "Checking end of a measure on another string");
+	}
+
+	@Test
+	public void count(){
+		assertEquals(7, index.count(0, 4, true), "Checking count of all notes");
+		assertEquals(6, index.count(0, 4, false), "Checking count without the end note");
+		assertEquals(4, index.count(1, 2, true), "Checking count in one measure, including the end");
+		assertEquals(0, index.count(2.5, 3.5, true), "Checking count of a range without notes");
+		assertEquals(0, index.count(3, 1, true), "Checking count of a backwards range");
+	}
+
+	@Test
+	public void notesInRange(){
+		assertTrue(index == index.notesInRange(1, 2), "Checking the index is returned as the cursor");
+		assertTrue(index.next(), "Checking first note found");
+		assertEquals(high.get(1), index.position(), "Checking first note");
+		assertTrue(index.next(), "Checking second note found");
+		assertEquals(high.get(2), index.position(), "Checking second note");
+		assertTrue(index.next(), "Checking third note found");
+		assertEquals(low.get(0), index.position(), "Checking third note");
+		assertFalse(index.next(), "Checking note at the end of the range is not found");
+
+		index.notesInRange(1, 2, true);
+		int found = 0;
+		while(index.next()) found++;
+		assertEquals(4, found, "Checking note at the end of the range is found");
+		
+		index.notesInRange(2.5, 3.5, true);
+		assertFalse(index.next(), "Checking no notes found in an empty range");
+		
+		index.notesInRange(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, true);
+		found = 0;
+		while(index.next()) found++;
+		assertEquals(7, found, "Checking every note found in an unbounded range");
+	}
+
+	@Test
+	public void next(){
+		index.notesInRange(3.5, 10);
+		assertTrue(index.next(), "Checking first note found");
+		assertEquals(3, index.index(), "Checking note on the first string");
+		assertTrue(index.next(), "Checking second note found");
+		assertEquals(2, index.index(), "Checking note on the second string");
+		assertFalse(index.next(), "Checking search ended");
+		assertFalse(index.next(), "Checking search stays ended");
+	}
+
+	@Test
+	public void stringIndex(){
+		index.notesInRange(3.5, 10);
+		index.next();
+		assertEquals(0, index.stringIndex(), "Checking first string");
+		index.next();
+		assertEquals(1, index.stringIndex(), "Checking second string");
+	}
+
+	@Test
+	public void index(){
+		index.notesInRange(1.25, 2, true);
+		index.next();
+		assertEquals(2, index.index(), "Checking index of first note");
+		index.next();
+		assertEquals(0, index.index(), "Checking index of second note");
+		index.next();
+		assertEquals(1, index.index(), "Checking index of third note");
+	}
+
+	@Test
+	public void string(){
+		index.notesInRange(3.5, 10);
+		index.next();
+		assertTrue(high == index.string(), "Checking first string");
+		index.next();
+		assertTrue(low == index.string(), "Checking second string");
+	}
+
+	@Test
+	public void position(){
+		index.notesInRange(3.5, 10);
+		index.next();
+		assertEquals(high.get(3), index.position(), "Checking first note");
+		index.next();
+		assertEquals(low.get(2), index.position(), "Checking second note");
+	}
+
+	@Test
+	public void notesFollowEdits(){
+		index.notesInRange(2, 3);
+		assertTrue(index.next(), "Checking note found before editing");
+		assertFalse(index.next(), "Checking only one note found before editing");
+		
+		high.add(TabFactory.modifiedFret(high, 7, 2.5));
+		low.remove(1);
+		index.notesInRange(2, 3);
+		assertTrue(index.next(), "Checking placed note found");
+		assertEquals(high.get(3), index.position(), "Checking placed note found");
+		assertFalse(index.next(), "Checking removed note not found");
+	}
+
+	@AfterEach
+	public void end(){}
+
+}
@@ -0,0 +1,70 @@
+package tab;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import appUtils.ZabAppSettings;
+import music.Ticks;
+import util.testUtils.Assert;
+
+public class TestMeasureVersions{
+
+	private MeasureVersions versions;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+
+	@BeforeEach
+	public void setup(){
+		versions = new MeasureVersions();
+	}
+
+	@Test
+	public void version(){
+		long v = versions.version(0, 4);
+		assertEquals(v, versions.version(10, 20), "Checking every measure has the same version before any change");
+		Assert.greaterThan(new MeasureVersions().version(0, 4), v);
+
+		versions.changed(2 * Ticks.PER_MEASURE + 1);
+		Assert.greaterThan(versions.version(0, 4), v);
+		assertEquals(v, versions.version(0, 2), "Checking the measures before the change are unchanged");
+		assertEquals(v, versions.version(3, 8), "Checking the measures after the change are unchanged");
+		assertEquals(versions.version(2, 3), versions.version(-5, 100), "Checking a range includes its greatest version");
+	}
+
+	@Test
+	public void changed(){
+		long v = versions.version(0, 1);
+		versions.changed(100 * Ticks.PER_MEASURE);
+		assertEquals(v, versions.version(0, 100), "Checking measures before a far change are unchanged");
+		Assert.greaterThan(versions.version(100, 101), v);
+
+		long far = versions.version(100, 101);
+		versions.changed(-1);
+		Assert.greaterThan(versions.version(0, 1), far);
+		assertEquals(versions.version(0, 1), versions.version(100, 101), "Checking a negative position changes every measure");
+
+		v = versions.version(0, 1);
+		versions.changed((long)MeasureStarts.MAX_MEASURES * Ticks.PER_MEASURE);
+		Assert.greaterThan(versions.version(0, 1), v);
+	}
+
+	@Test
+	public void changedAll(){
+		versions.changed(Ticks.PER_MEASURE);
+		long v = versions.version(0, 4);
+		versions.changedAll();
+		Assert.greaterThan(versions.version(0, 1), v);
+		assertEquals(versions.version(0, 1), versions.version(1, 2), "Checking every measure has the same version");
+	}
+
+	@AfterEach
+	public void end(){}
+
+}
@@ -0,0 +1,120 @@
+package tab;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import appUtils.ZabAppSettings;
+import appUtils.settings.TabTextSettings;
+
+public class TestParallelTextExporter{
+
+	private Tab guitar;
+	private ForkJoinPool pool;
+
+	private static TabTextSettings text;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+		text = ZabAppSettings.get().text();
+	}
+
+	@BeforeEach
+	public void setup(){
+		init();
+		guitar = InstrumentFactory.guitarStandard();
+		Random r = new Random(22);
+		// Enough measures for the tab to pass the threshold
+		int measures = ParallelTextExporter.PARALLEL_THRESHOLD * text.measuresPerLine() + 3;
+		for(int i = 0; i < guitar.getStrings().size(); i++){
+			TabString s = guitar.getStrings().get(i);
+			for(double pos = r.nextInt(4) * 0.25; pos < measures; pos += 0.25 + r.nextInt(8) * 0.125){
+				if(r.nextInt(5) == 0) s.add(TabFactory.pullOff(s, r.nextInt(15), pos));
+				else s.add(TabFactory.modifiedFret(s, r.nextInt(15), pos));
+			}
+		}
+		pool = new ForkJoinPool(4);
+	}
+
+	@Test
+	public void export() throws IOException{
+		StringBuilder b = new StringBuilder();
+		ParallelTextExporter.export(guitar, b, pool);
+		assertEquals(TabTextExporter.export(guitar), b.toString(), "Checking the same text exported with many threads");
+
+		text.getUseSpacing().set(false);
+		text.getMeasuresPerLine().set(3);
+		text.getAlignSymbolsEnd().set(true);
+		b = new StringBuilder();
+		ParallelTextExporter.export(guitar, b, pool);
+		assertEquals(TabTextExporter.export(guitar), b.toString(), "Checking the same text exported with other settings");
+
+		b = new StringBuilder();
+		ParallelTextExporter.export(guitar, b, new ForkJoinPool(1));
+		assertEquals(TabTextExporter.export(guitar), b.toString(), "Checking the same text exported with one thread");
+
+		b = new StringBuilder();
+		ParallelTextExporter.export(guitar, b);
+		assertEquals(TabTextExporter.export(guitar), b.toString(), "Checking the same text exported with the common pool");
+
+		Tab empty = InstrumentFactory.guitarStandard();
+		b = new StringBuilder();
+		ParallelTextExporter.export(empty, b, pool);
+		assertEquals(TabTextExporter.export(empty), b.toString(), "Checking an empty tab exported");
+
+		assertThrows(IOException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				ParallelTextExporter.export(guitar, new Appendable(){
+					@Override
+					public Appendable append(CharSequence csq) throws IOException{
+						throw new IOException();
+					}
+					@Override
+					public Appendable append(CharSequence csq, int start, int end) throws IOException{
+						throw new IOException();
+					}
+					@Override
+					public Appendable append(char c) throws IOException{
+						throw new IOException();
+					}
+				}, pool);
+			}
+		}, "Checking a failed write is thrown");
+	}
+
+	@Test
+	public void lineCount(){
+		assertEquals(0, ParallelTextExporter.lineCount(-1, 4), "Checking no lines with no notes");
+		assertEquals(1, ParallelTextExporter.lineCount(0, 4), "Checking one line with a note at the start");
+		assertEquals(1, ParallelTextExporter.lineCount(3.5, 4), "Checking one line for a short tab");
+		assertEquals(2, ParallelTextExporter.lineCount(4, 4), "Checking a note at exactly the end of a line");
+		assertEquals(3, ParallelTextExporter.lineCount(9, 4), "Checking many lines");
+	}
+
+	@Test
+	public void parallel(){
+		boolean threads = ForkJoinPool.getCommonPoolParallelism() > 1;
+		assertEquals(threads, ParallelTextExporter.parallel(guitar), "Checking a long tab is exported in parallel when threads are available");
+		assertFalse(ParallelTextExporter.parallel(InstrumentFactory.guitarStandard()), "Checking an empty tab is not exported in parallel");
+		text.getMeasuresPerLine().set(1000);
+		assertFalse(ParallelTextExporter.parallel(guitar), "Checking a tab with few lines is not exported in parallel");
+	}
+
+	@AfterEach
+	public void end(){
+		pool.shutdown();
+	}
+
+}
@@ -0,0 +1,121 @@
+package tab;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import appUtils.ZabAppSettings;
+import music.Music;
+import music.Pitch;
+import music.Rhythm;
+import music.TimeSignature;
+import tab.symbol.TabModifier;
+
+public class TestParallelTransform{
+
+	private ArrayList<TabString> strings;
+	private ArrayList<TabString> expected;
+	private TimeSignature four4;
+	private TimeSignature three4;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+
+	@BeforeEach
+	public void setup(){
+		four4 = new TimeSignature(4, 4);
+		three4 = new TimeSignature(3, 4);
+		strings = new ArrayList<TabString>();
+		Random r = new Random(4);
+		// Enough notes on each string for several chunks, with one string smaller than one chunk
+		int[] sizes = new int[]{ParallelTransform.CHUNK_SIZE * 3 + 17, ParallelTransform.CHUNK_SIZE * 2, 100};
+		for(int i = 0; i < sizes.length; i++){
+			TabString s = new TabString(new Pitch(Music.createNote(Music.E, 3 + i)));
+			double pos = 0;
+			for(int j = 0; j < sizes[i]; j++){
+				pos += 0.01 + r.nextInt(40) * 0.0137;
+				if(j % 5 == 0) s.add(TabFactory.modifiedFretRhythm(s, r.nextInt(12), new Rhythm(1, 8), pos, new TabModifier()));
+				else s.add(TabFactory.modifiedFret(s, r.nextInt(12), pos));
+			}
+			strings.add(s);
+		}
+		expected = new ArrayList<TabString>();
+		for(TabString s : strings) expected.add(s.copy());
+	}
+
+	/**
+	 * Find the new notes of every string in parallel and put them on the strings, then check they match the strings transformed on one thread
+	 * @param t The transform to use
+	 */
+	private void checkSame(TabTransform t){
+		for(TabString s : expected) s.transform(t);
+		TabString[] strs = strings.toArray(new TabString[strings.size()]);
+		TabPosition[][] results = ParallelTransform.find(t, strs);
+		for(int i = 0; i < strs.length; i++) strs[i].applyTransformed(results[i]);
+		assertEquals(expected, strings, "Checking the parallel transform matches the transform on one thread");
+	}
+
+	@Test
+	public void find(){
+		checkSame(TabTransform.quantize(four4, 8));
+		checkSame(TabTransform.retime(three4, four4));
+		checkSame(TabTransform.guessRhythms(three4, new Rhythm(1, 4)));
+		checkSame(TabTransform.setRhythms(new Rhythm(3, 16)));
+		checkSame(TabTransform.removeRhythms());
+
+		TabPosition[][] results = ParallelTransform.find(TabTransform.removeRhythms(), new TabString[0]);
+		assertEquals(0, results.length, "Checking no results for no strings");
+	}
+
+	@Test
+	public void transform(){
+		ArrayList<TabString> small = new ArrayList<TabString>();
+		small.add(strings.get(2));
+		TabString smallExpected = strings.get(2).copy();
+		smallExpected.replaceRhythms(new Rhythm(1, 2));
+		ParallelTransform.transform(TabTransform.setRhythms(new Rhythm(1, 2)), small);
+		assertEquals(smallExpected, small.get(0), "Checking a small tab is transformed");
+		
+		expected.set(2, smallExpected.copy());
+		for(TabString s : expected) s.quantize(four4, 6);
+		ParallelTransform.transform(TabTransform.quantize(four4, 6), strings);
+		assertEquals(expected, strings, "Checking the strings are quantized");
+	}
+
+	@Test
+	public void retimeMeasure(){
+		for(TabString s : expected) s.replaceRetimedInMeasure(three4, four4);
+		TabString[] strs = strings.toArray(new TabString[strings.size()]);
+		TabTransform t = TabTransform.retimeMeasure(three4, four4);
+		TabPosition[][] results = ParallelTransform.find(t, strs);
+		for(int i = 0; i < strs.length; i++) strs[i].replaceRetimedInMeasure(t, results[i]);
+		assertEquals(expected, strings, "Checking the parallel retime matches the retime on one thread");
+
+		ParallelTransform.retimeMeasure(TabTransform.retimeMeasure(four4, three4), strings);
+		for(TabString s : expected) s.replaceRetimedInMeasure(four4, three4);
+		assertEquals(expected, strings, "Checking the strings are retimed");
+	}
+
+	@Test
+	public void parallel(){
+		TabString[] strs = strings.toArray(new TabString[strings.size()]);
+		boolean threads = ForkJoinPool.getCommonPoolParallelism() > 1;
+		assertEquals(threads, ParallelTransform.parallel(strs), "Checking a large tab is transformed in parallel when threads are available");
+		assertFalse(ParallelTransform.parallel(new TabString[]{strings.get(2)}), "Checking a small tab is not transformed in parallel");
+		assertFalse(ParallelTransform.parallel(new TabString[0]), "Checking no strings are not transformed in parallel");
+	}
+
+	@AfterEach
+	public void end(){}
+
+}
@@ -5,7 +5,6 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
-import java.util.Scanner;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -21,6 +20,7 @@ import tab.symbol.TabModifier;
 import tab.symbol.TabNote;
 import tab.symbol.TabNoteRhythm;
 import tab.symbol.TabSymbol;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestTab{
@@ -95,6 +95,51 @@ public class TestTab{
 		assertFalse(copy.isEmpty(), "Checking source tab hasn't been cleared");
 	}
 	
+	@Test
+	public void snapshot(){
+		TabSnapshot snap = tabForRhythms.snapshot();
+		assertEquals(2, snap.stringCount(), "Checking all strings are in the snapshot");
+		assertEquals(tabForRhythms, snap.toTab(), "Checking snapshot holds the same notes");
+		
+		Tab copy = tabForRhythms.copy();
+		highRhythms.clear();
+		tabForRhythms.getStrings().remove(lowRhythms);
+		tabForRhythms.setTimeSignature(three4);
+		assertEquals(copy, snap.toTab(), "Checking snapshot is unchanged after the tab is modified");
+	}
+	
+	@Test
+	public void getMeasureIndex(){
+		MeasureIndex index = tabForRhythms.getMeasureIndex();
+		assertTrue(index == tabForRhythms.getMeasureIndex(), "Checking the same index is reused");
+		assertTrue(tabForRhythms.getStrings() == index.getStrings(), "Checking index uses the strings of the tab");
+		
+		ArrayList<TabString> newStrings = new ArrayList<TabString>();
+		tabForRhythms.setStrings(newStrings);
+		assertTrue(newStrings == tabForRhythms.getMeasureIndex().getStrings(), "Checking index is remade after the strings are replaced");
+	}
+	
+	@Test
+	public void notesInRange(){
+		MeasureIndex notes = tabForRhythms.notesInRange(1, 2.25);
+		assertTrue(notes.next(), "Checking first note found");
+		assertEquals(highRhythms.get(1), notes.position(), "Checking first note");
+		assertTrue(notes.next(), "Checking second note found");
+		assertEquals(highRhythms.get(2), notes.position(), "Checking second note");
+		assertTrue(notes.next(), "Checking third note found");
+		assertEquals(lowRhythms.get(0), notes.position(), "Checking third note");
+		assertFalse(notes.next(), "Checking note at the end is not included");
+	}
+	
+	@Test
+	public void columns(){
+		ColumnIterator columns = tabForRhythms.columns();
+		assertTrue(tabForRhythms.getStrings() == columns.getStrings(), "Checking iterator uses the strings of the tab");
+		int found = 0;
+		while(columns.next()) found++;
+		assertEquals(6, found, "Checking every column found");
+	}
+	
 	@Test
 	public void getStrings(){
 		assertEquals(strings, tab.getStrings(), "Checking strings initialized");
@@ -105,6 +150,8 @@ public class TestTab{
 		ArrayList<TabString> newStrings = new ArrayList<TabString>();
 		tab.setStrings(newStrings);
 		assertEquals(newStrings, tab.getStrings(), "Checking strings set");
+		assertFalse(highString.removeListener(tab), "Checking the tab stopped listening to a replaced string");
+		assertFalse(lowString.removeListener(tab), "Checking the tab stopped listening to a replaced string");
 	}
 	
 	@Test
@@ -141,6 +188,83 @@ public class TestTab{
 		assertEquals(tab.getStrings().get(0).get(1), tab.lastPosition(), "Checking last position is on the first string again");
 	}
 	
+	@Test
+	public void lastPositionStringsChanged(){
+		highString.add(TabFactory.modifiedFret(highString, 0, 3));
+		assertEquals(highString.get(0), tab.lastPosition(), "Checking last position found");
+		
+		TabString newString = new TabString(new Pitch(0));
+		newString.add(TabFactory.modifiedFret(newString, 0, 4));
+		tab.getStrings().add(newString);
+		assertEquals(newString.get(0), tab.lastPosition(), "Checking last position found on an added string");
+		
+		tab.getStrings().remove(newString);
+		assertEquals(highString.get(0), tab.lastPosition(), "Checking last position found after removing a string");
+		
+		highString.clear();
+		assertEquals(null, tab.lastPosition(), "Checking last position removed after clearing a string");
+	}
+	
+	@Test
+	public void addExtentListener(){
+		double[] lengths = new double[]{-2, -2};
+		TabExtentListener listener = new TabExtentListener(){
+			@Override
+			public void extentChanged(Tab t, double oldLength, double newLength){
+				lengths[0] = oldLength;
+				lengths[1] = newLength;
+			}
+		};
+		tab.addExtentListener(listener);
+		
+		lowString.add(TabFactory.modifiedFret(lowString, 0, 2));
+		assertEquals(-1, lengths[0], UtilsTest.DELTA, "Checking old length given to the listener");
+		assertEquals(2, lengths[1], UtilsTest.DELTA, "Checking new length given to the listener");
+		
+		highString.add(TabFactory.modifiedFret(highString, 0, 1));
+		assertEquals(2, lengths[1], UtilsTest.DELTA, "Checking listener not told when the length is the same");
+		
+		lowString.remove(0);
+		assertEquals(2, lengths[0], UtilsTest.DELTA, "Checking old length given after removing the last note");
+		assertEquals(1, lengths[1], UtilsTest.DELTA, "Checking new length found on another string");
+		
+		tab.getStrings().remove(lowString);
+		lowString.add(TabFactory.modifiedFret(lowString, 0, 5));
+		assertEquals(1, lengths[1], UtilsTest.DELTA, "Checking listener not told about a note on a removed string");
+		assertEquals(highString.get(0), tab.lastPosition(), "Checking last position not on a removed string");
+		assertFalse(lowString.removeListener(tab), "Checking the tab stopped listening to a removed string");
+	}
+	
+	@Test
+	public void removeExtentListener(){
+		double[] lengths = new double[]{-2};
+		TabExtentListener listener = new TabExtentListener(){
+			@Override
+			public void extentChanged(Tab t, double oldLength, double newLength){
+				lengths[0] = newLength;
+			}
+		};
+		assertFalse(tab.removeExtentListener(listener), "Checking a listener which was not added is not removed");
+		tab.addExtentListener(listener);
+		assertTrue(tab.removeExtentListener(listener), "Checking listener removed");
+		highString.add(TabFactory.modifiedFret(highString, 0, 1));
+		assertEquals(-2, lengths[0], UtilsTest.DELTA, "Checking removed listener is not told");
+	}
+	
+	@Test
+	public void lastChanged(){
+		tab.lastPosition();
+		highString.add(TabFactory.modifiedFret(highString, 0, 1));
+		lowString.add(TabFactory.modifiedFret(lowString, 0, 1));
+		assertEquals(highString.get(0), tab.lastPosition(), "Checking the first string is used for a tie");
+		
+		highString.remove(0);
+		assertEquals(lowString.get(0), tab.lastPosition(), "Checking other string used after the last note is removed");
+		
+		highString.add(TabFactory.modifiedFret(highString, 0, 1));
+		assertEquals(highString.get(0), tab.lastPosition(), "Checking the first string is used after tying the last note");
+	}
+	
 	@Test
 	public void length(){
 		assertEquals(-1, tab.length(), "Checking a tab with no notes finds -1 length");
@@ -410,7 +534,7 @@ public class TestTab{
 	
 	@Test
 	public void load(){
-		Scanner scan = new Scanner(""
+		ZabTokenReader scan = new ZabTokenReader(""
 				+ "false 4 4 \n"
 				+ "0\n"
 				
@@ -460,25 +584,25 @@ public class TestTab{
 		assertFalse(t.load(scan), "Checking load fails with invalid data");
 		
 		scan.close();
-		scan = new Scanner(""
+		scan = new ZabTokenReader(""
 				+ "false a 4 \n"
 				+ "0\n");
 		assertFalse(t.load(scan), "Checking load fails on invalid time signature");
 		
 		scan.close();
-		scan = new Scanner(""
+		scan = new ZabTokenReader(""
 				+ "false 4 4 \n"
 				+ "a\n");
 		assertFalse(t.load(scan), "Checking load fails on invalid number of strings");
 		
 		scan.close();
-		scan = new Scanner(""
+		scan = new ZabTokenReader(""
 				+ "false 4 4 \n"
 				+ "1");
 		assertFalse(t.load(scan), "Checking load fails on not having a new line");
 		
 		scan.close();
-		scan = new Scanner(""
+		scan = new ZabTokenReader(""
 				+ "false 4 4 \n"
 				+ "2\n"
 				+ "1\n"
@@ -488,7 +612,7 @@ public class TestTab{
 		assertTrue(t.load(scan), "Checking load succeeds loading multiple strings");
 		
 		scan.close();
-		scan = new Scanner(""
+		scan = new ZabTokenReader(""
 				+ "false 4 4 \n"
 				+ "2\n"
 				+ "1\n"
@@ -526,17 +650,17 @@ public class TestTab{
 				+ "1\n"
 				+ "-20 \n"
 				+ "3\n"
-				+ "TabNote\n"
+				+ "1\n"
 				+ "-20 \n"
 				+ "\n"
 				+ "\n"
 				+ "2.0 \n"
-				+ "TabNote\n"
+				+ "1\n"
 				+ "-20 \n"
 				+ "\n"
 				+ "\n"
 				+ "2.25 \n"
-				+ "TabNote\n"
+				+ "1\n"
 				+ "-20 \n"
 				+ "\n"
 				+ "\n"
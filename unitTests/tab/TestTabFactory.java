@@ -75,6 +75,7 @@ public class TestTabFactory{
 		assertEquals(Music.createNote(Music.E, octave), n.getPitch().getNote(), "Checking note has correct pitch");
 		assertEquals(pos, p.getPosition().getValue(), "Checking note has correct position");
 		assertEquals(new TabModifier(), n.getModifier(), "Checking note has empty modifier");
+		assertTrue(n == TabFactory.modifiedFret(string, fret, pos + 1).getSymbol(), "Checking notes with the same values share a symbol");
 	}
 	
 	@Test
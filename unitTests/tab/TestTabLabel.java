@@ -4,8 +4,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Scanner;
-
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import appUtils.ZabAppSettings;
 import music.NotePosition;
 import music.TimeSignature;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestTabLabel{
@@ -184,7 +183,7 @@ public class TestTabLabel{
 	public void load(){
 		assertFalse(label.load(null), "Checking load fails with invalid reader");
 		
-		Scanner scan = new Scanner("z label\n3.2\n-2.1\n2.3 \nh");
+		ZabTokenReader scan = new ZabTokenReader("z label\n3.2\n-2.1\n2.3 \nh");
 		assertTrue(label.load(scan), "Checking load successful");
 		assertEquals("z label", label.getText(), "Checking text loaded");
 		assertEquals(3.2, label.getLength(), "Checking length loaded");
@@ -193,7 +192,7 @@ public class TestTabLabel{
 		assertFalse(label.load(scan), "Checking load fails without enough data");
 		
 		scan.close();
-		scan = new Scanner("a\na\na\na\na");
+		scan = new ZabTokenReader("a\na\na\na\na");
 		assertFalse(label.load(scan), "Checking load fails with invalid numbers");
 		
 		scan.close();
@@ -5,8 +5,6 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Scanner;
-
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,11 +14,13 @@ import org.junit.jupiter.api.function.Executable;
 import appUtils.ZabAppSettings;
 import music.NotePosition;
 import music.Pitch;
+import music.Ticks;
 import music.TimeSignature;
 import tab.symbol.TabModifier;
 import tab.symbol.TabNote;
 import tab.symbol.TabSymbol;
 import util.Saveable;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestTabPosition{
@@ -84,6 +84,7 @@ public class TestTabPosition{
 		assertEquals(symbol, note.getSymbol(), "Checking old symbol unchanged");
 		assertEquals(pos, newPos.getPosition(), "Checking new position set");
 		assertEquals(pos, note.getPosition(), "Checking old position unchanged");
+		assertTrue(note.getPosition() == newPos.getPosition(), "Checking the unchanged position is shared");
 	}
 	
 	@Test
@@ -96,6 +97,11 @@ public class TestTabPosition{
 		assertEquals(3, note.getPos(), "Checking position value obtained");
 	}
 	
+	@Test
+	public void getTicks(){
+		assertEquals(Ticks.PER_MEASURE * 3, note.getTicks(), "Checking position ticks obtained");
+	}
+	
 	@Test
 	public void copyPosition(){
 		TabPosition newPos = note.copyPosition(2.3);
@@ -107,6 +113,7 @@ public class TestTabPosition{
 		assertFalse(note == newPos, "Checking new tab position is not the original object");
 		assertEquals(new NotePosition(4.3), newPos.getPosition(), "Checking new position set");
 		assertEquals(pos, note.getPosition(), "Checking old position unchanged");
+		assertTrue(note.getSymbol() == newPos.getSymbol(), "Checking the unchanged symbol is shared");
 	}
 	
 	@Test
@@ -171,7 +178,7 @@ public class TestTabPosition{
 	
 	@Test
 	public void load(){
-		Scanner scan = new Scanner(""
+		ZabTokenReader scan = new ZabTokenReader(""
 				+ "TabNote\n"
 				+ "2 \n"
 				+ "\n"
@@ -187,6 +194,19 @@ public class TestTabPosition{
 		assertFalse(newNote.load(scan), "Checking load fails with invalid symbol type");
 		assertFalse(newNote.load(scan), "Checking load fails with not enough data");
 		
+		scan.close();
+		scan = new ZabTokenReader(""
+				+ "1\n"
+				+ "2 \n"
+				+ "\n"
+				+ "\n"
+				+ "3.0 \n"
+				+ "7\n");
+		newNote = new TabPosition(new TabNote(10), 0);
+		assertTrue(newNote.load(scan), "Checking load successful with a symbol code");
+		assertEquals(newNote, note, "Checking loaded note values correct with a symbol code");
+		assertFalse(newNote.load(scan), "Checking load fails with invalid symbol code");
+		
 		scan.close();
 		
 		assertFalse(newNote.load(null), "Checking load fails with invalid reader");
@@ -197,7 +217,7 @@ public class TestTabPosition{
 		assertFalse(note.save(null), "Checking save fails with invalid writer");
 		
 		assertEquals(""
-				+ "TabNote\n"
+				+ "1\n"
 				+ "2 \n"
 				+ "\n"
 				+ "\n"
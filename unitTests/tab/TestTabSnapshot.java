@@ -0,0 +1,87 @@
+package tab;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import appUtils.ZabAppSettings;
+import music.Pitch;
+import music.Rhythm;
+import music.TimeSignature;
+import tab.symbol.TabNote;
+import util.ZabTokenReader;
+
+public class TestTabSnapshot{
+	
+	private Tab tab;
+	private TabSnapshot snap;
+	
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+	
+	@BeforeEach
+	public void setup(){
+		tab = InstrumentFactory.guitarStandard();
+		tab.placeQuantizedNote(0, 3, 1);
+		tab.placeQuantizedNote(2, 5, 2);
+		snap = tab.snapshot();
+	}
+	
+	@Test
+	public void stringCount(){
+		assertEquals(6, snap.stringCount(), "Checking string count obtained");
+		tab.getStrings().remove(0);
+		assertEquals(6, snap.stringCount(), "Checking string count unchanged after a string is removed");
+	}
+	
+	@Test
+	public void getString(){
+		assertEquals(1, snap.getString(0).size(), "Checking string snapshot obtained");
+		assertEquals(0, snap.getString(1).size(), "Checking string snapshot obtained");
+		tab.getStrings().get(0).clear();
+		assertEquals(1, snap.getString(0).size(), "Checking string snapshot unchanged after the string is modified");
+	}
+	
+	@Test
+	public void getTimeSignature(){
+		assertEquals(new TimeSignature(4, 4), snap.getTimeSignature(), "Checking time signature obtained");
+		tab.getTimeSignature().load(new ZabTokenReader("3 4"));
+		assertEquals(new TimeSignature(4, 4), snap.getTimeSignature(), "Checking time signature unchanged after the tab's time signature is loaded");
+	}
+	
+	@Test
+	public void usesRhythm(){
+		assertFalse(snap.usesRhythm(), "Checking rhythm use obtained");
+		tab.setRhythmAll(new Rhythm(1, 4));
+		assertFalse(snap.usesRhythm(), "Checking rhythm use unchanged");
+		assertTrue(tab.snapshot().usesRhythm(), "Checking rhythm use obtained");
+	}
+	
+	@Test
+	public void toTab(){
+		Tab copy = tab.copy();
+		assertEquals(copy, snap.toTab(), "Checking tab created with the same notes");
+		
+		tab.placeQuantizedNote(1, 2, 3);
+		tab.setRhythmAll(new Rhythm(1, 4));
+		Tab t = snap.toTab();
+		assertEquals(copy, t, "Checking tab created is unchanged after the tab is modified");
+		assertTrue(tab.getStrings().get(2).get(0).getSymbol() != t.getStrings().get(2).get(0).getSymbol(), 
+				"Checking replaced notes are not shared");
+		
+		t.placeQuantizedNote(0, 1, 4);
+		assertEquals(copy, snap.toTab(), "Checking modifying a created tab doesn't modify the snapshot");
+		assertEquals(new TabNote(new Pitch(copy.getRootNote(0) + 3)), snap.getString(0).get(0).getSymbol(), "Checking note kept");
+	}
+	
+	@AfterEach
+	public void end(){}
+	
+}
@@ -6,7 +6,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Scanner;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -18,6 +17,7 @@ import music.Music;
 import music.NotePosition;
 import music.Pitch;
 import music.Rhythm;
+import music.Ticks;
 import music.TimeSignature;
 import tab.symbol.TabDeadNote;
 import tab.symbol.TabModifier;
@@ -25,6 +25,7 @@ import tab.symbol.TabNote;
 import tab.symbol.TabNoteRhythm;
 import tab.symbol.TabPitch;
 import tab.symbol.TabSymbol;
+import util.ZabTokenReader;
 import util.testUtils.Assert;
 import util.testUtils.UtilsTest;
 
@@ -87,6 +88,42 @@ public class TestTabString{
 		TabString copy = string.copy();
 		assertTrue(copy.equals(string), "Checking copy is equal to the source object");
 		assertTrue(copy != string, "Checking copy is not the same as the source object");
+		assertTrue(copy.get(0) == string.get(0), "Checking the notes are shared with the copy");
+		
+		copy.remove(0);
+		assertEquals(3, string.size(), "Checking modifying the copy doesn't modify the source object");
+	}
+	
+	@Test
+	public void snapshot(){
+		string.add(notes[0]);
+		string.add(notes[1]);
+		TabStringSnapshot snap = string.snapshot();
+		assertTrue(snap == string.snapshot(), "Checking the same snapshot is reused when the string has not changed");
+		
+		string.add(notes[2]);
+		assertFalse(snap == string.snapshot(), "Checking a new snapshot is made after the string changes");
+		assertEquals(2, snap.size(), "Checking snapshot is unchanged by adding a note");
+		
+		snap = string.snapshot();
+		string.remove(notes[0]);
+		assertEquals(3, snap.size(), "Checking snapshot is unchanged by removing a note");
+		
+		snap = string.snapshot();
+		string.set(0, notes[3]);
+		assertEquals(notes[1], snap.get(0), "Checking snapshot is unchanged by setting a note");
+		
+		snap = string.snapshot();
+		string.subList(0, 1).clear();
+		assertEquals(2, snap.size(), "Checking snapshot is unchanged by modifying a sub list");
+		
+		snap = string.snapshot();
+		string.setRootPitch(newPitch);
+		assertEquals(pitch, snap.getRootPitch(), "Checking snapshot is unchanged by setting the root pitch");
+		
+		snap = string.snapshot();
+		string.clear();
+		assertEquals(1, snap.size(), "Checking snapshot is unchanged by clearing the string");
 	}
 	
 	@Test
@@ -214,6 +251,46 @@ public class TestTabString{
 		assertFalse(string.remove(notes[5]), "Checking fails to remove a note which would be added to the end of the list, but is not in the list");
 	}
 	
+	@Test
+	public void removeAll(){
+		string.add(notes[1]);
+		string.add(notes[2]);
+		string.add(notes[4]);
+		
+		assertFalse(string.removeAll(Arrays.asList(notes[0], new TabPosition(pitches[4], notes[2].getPos()))), "Checking nothing removed for notes not on the string");
+		assertTrue(string.removeAll(Arrays.asList(notes[4], notes[1], "not a note")), "Checking notes removed from an unsorted list");
+		Assert.listSame(string, notes[2]);
+	}
+	
+	@Test
+	public void addAllSorted(){
+		string.add(notes[1]);
+		string.add(notes[4]);
+		
+		assertEquals(3, string.addAllSorted(Arrays.asList(notes[0], notes[2], notes[5])), "Checking notes added");
+		Assert.listSame(string, notes[0], notes[1], notes[2], notes[4], notes[5]);
+		
+		TabPosition samePos = new TabPosition(pitches[6], notes[3].getPos());
+		assertEquals(2, string.addAllSorted(Arrays.asList(notes[6], notes[3], samePos, notes[1], null)), "Checking duplicates not added from an unsorted list");
+		Assert.listSame(string, notes[0], notes[1], notes[2], notes[3], notes[4], notes[5], notes[6]);
+		assertEquals(0, string.addAllSorted(new ArrayList<TabPosition>()), "Checking nothing added from an empty list");
+		assertEquals(3, string.measureStart(3), "Checking measures updated after adding");
+	}
+	
+	@Test
+	public void removeAllSorted(){
+		string.addAllSorted(Arrays.asList(notes));
+		
+		assertEquals(3, string.removeAllSorted(Arrays.asList(notes[1], notes[3], notes[6])), "Checking notes removed");
+		Assert.listSame(string, notes[0], notes[2], notes[4], notes[5]);
+		
+		assertEquals(0, string.removeAllSorted(Arrays.asList(new TabPosition(pitches[0], notes[2].getPos()), notes[1])), 
+				"Checking notes not on the string are not removed");
+		assertEquals(2, string.removeAllSorted(Arrays.asList(notes[5], notes[0])), "Checking notes removed from an unsorted list");
+		Assert.listSame(string, notes[2], notes[4]);
+		assertEquals(1, string.measureStart(3), "Checking measures updated after removing");
+	}
+	
 	@Test
 	public void findIndex(){
 		string.add(notes[1]);
@@ -242,6 +319,238 @@ public class TestTabString{
 		assertEquals(null, string.findPosition(100), "Checking null found for invalid note after the last note");
 	}
 	
+	@Test
+	public void findIndexTicks(){
+		string.add(notes[1]);
+		string.add(notes[2]);
+		string.add(notes[4]);
+		
+		assertEquals(0, string.findIndexTicks(-Ticks.PER_MEASURE), "Checking correct index found for inserting note at the beginning");
+		assertEquals(1, string.findIndexTicks(notes[2].getTicks()), "Checking correct index found for existing note");
+		assertEquals(2, string.findIndexTicks(notes[2].getTicks() + 1), "Checking correct index found for after a note");
+		assertEquals(3, string.findIndexTicks(Ticks.PER_MEASURE * 100), "Checking correct index found for inserting note at the end");
+		assertEquals(1, string.findIndex(1.9999999999999), "Checking a position with a rounding error finds the existing note");
+	}
+	
+	@Test
+	public void findPositionTicks(){
+		string.add(notes[1]);
+		string.add(notes[2]);
+		
+		assertEquals(notes[1], string.findPositionTicks(notes[1].getTicks()), "Checking correct position found for existing note");
+		assertEquals(null, string.findPositionTicks(notes[1].getTicks() + 1), "Checking null found one tick after a note");
+		assertEquals(notes[2], string.findPosition(0.1 * 3 * 2 / 0.3), "Checking position with a rounding error is found");
+		assertFalse(string.add(new TabPosition(pitches[3], 1.0000000000001)), "Checking a note cannot be added at a position with a rounding error");
+	}
+	
+	@Test
+	public void getVersion(){
+		long version = string.getVersion();
+		string.add(notes[0]);
+		assertTrue(version != string.getVersion(), "Checking version changed after adding a note");
+		
+		version = string.getVersion();
+		string.remove(notes[0]);
+		assertTrue(version != string.getVersion(), "Checking version changed after removing a note");
+		
+		version = string.getVersion();
+		string.setRootPitch(newPitch);
+		assertTrue(version != string.getVersion(), "Checking version changed after setting the root pitch");
+		
+		version = string.getVersion();
+		string.remove(notes[0]);
+		assertEquals(version, string.getVersion(), "Checking version unchanged when nothing is removed");
+	}
+	
+	@Test
+	public void getVersionRange(){
+		string.add(notes[1]);
+		string.add(notes[4]);
+		long low = string.getVersion(0, 2);
+		long high = string.getVersion(4, 6);
+		
+		string.add(notes[5]);
+		assertEquals(low, string.getVersion(0, 2), "Checking version unchanged after adding a note in other measures");
+		Assert.greaterThan(string.getVersion(4, 6), high);
+		
+		high = string.getVersion(4, 6);
+		string.set(0, new TabPosition(pitches[2], 1.5));
+		Assert.greaterThan(string.getVersion(0, 2), low);
+		assertEquals(high, string.getVersion(4, 6), "Checking version unchanged after replacing a note in other measures");
+		
+		low = string.getVersion(0, 2);
+		string.remove(notes[5]);
+		assertEquals(low, string.getVersion(0, 2), "Checking version unchanged after removing a note in other measures");
+		Assert.greaterThan(string.getVersion(4, 6), high);
+		
+		TabString other = new TabString(pitch);
+		Assert.greaterThan(other.getVersion(0, 2), string.getVersion(0, 6));
+		
+		low = string.getVersion(0, 2);
+		high = string.getVersion(4, 6);
+		string.setRootPitch(newPitch);
+		Assert.greaterThan(string.getVersion(0, 2), low);
+		Assert.greaterThan(string.getVersion(4, 6), high);
+		
+		low = string.getVersion(0, 2);
+		string.clear();
+		Assert.greaterThan(string.getVersion(0, 2), low);
+	}
+	
+	@Test
+	public void addListener(){
+		TabPosition[] old = new TabPosition[1];
+		int[] calls = new int[1];
+		string.addListener(new TabStringListener(){
+			@Override
+			public void lastChanged(TabString s, TabPosition oldLast){
+				old[0] = oldLast;
+				calls[0]++;
+			}
+		});
+		
+		string.add(notes[1]);
+		assertEquals(1, calls[0], "Checking listener told about first note");
+		assertEquals(null, old[0], "Checking old last note was null");
+		
+		string.add(notes[0]);
+		assertEquals(1, calls[0], "Checking listener not told about a note before the last note");
+		
+		string.add(notes[2]);
+		assertEquals(2, calls[0], "Checking listener told about a new last note");
+		assertEquals(notes[1], old[0], "Checking old last note given");
+		
+		string.clear();
+		assertEquals(3, calls[0], "Checking listener told after clearing");
+		assertEquals(notes[2], old[0], "Checking old last note given");
+	}
+	
+	@Test
+	public void removeListener(){
+		int[] calls = new int[1];
+		TabStringListener listener = new TabStringListener(){
+			@Override
+			public void lastChanged(TabString s, TabPosition oldLast){
+				calls[0]++;
+			}
+		};
+		assertFalse(string.removeListener(listener), "Checking listener not removed before being added");
+		string.addListener(listener);
+		assertTrue(string.removeListener(listener), "Checking listener removed");
+		string.add(notes[0]);
+		assertEquals(0, calls[0], "Checking removed listener not told");
+	}
+	
+	@Test
+	public void last(){
+		assertEquals(null, string.last(), "Checking empty string has no last note");
+		string.add(notes[1]);
+		string.add(notes[0]);
+		assertEquals(notes[1], string.last(), "Checking last note found");
+	}
+	
+	@Test
+	public void measureStart(){
+		assertEquals(0, string.measureStart(0), "Checking an empty string starts every measure at 0");
+		assertEquals(0, string.measureStart(5), "Checking an empty string starts every measure at 0");
+		
+		string.add(notes[1]);
+		string.add(notes[4]);
+		string.add(new TabPosition(pitches[2], 1.5));
+		assertEquals(0, string.measureStart(0), "Checking start of a measure before the first note");
+		assertEquals(0, string.measureStart(1), "Checking start of the first measure with notes");
+		assertEquals(2, string.measureStart(2), "Checking start of an empty measure is the next note");
+		assertEquals(2, string.measureStart(4), "Checking start of a measure with a note");
+		assertEquals(3, string.measureStart(5), "Checking start of a measure after the last note");
+		assertEquals(3, string.measureStart(100), "Checking start of a measure far after the last note");
+		assertEquals(0, string.measureStart(-2), "Checking start of a negative measure");
+		
+		string.add(notes[2]);
+		assertEquals(2, string.measureStart(2), "Checking measure start updated after placing a note");
+		assertEquals(3, string.measureStart(3), "Checking measure start updated after placing a note");
+		assertEquals(3, string.measureStart(4), "Checking measure start updated after placing a note");
+		
+		string.add(new TabPosition(pitches[0], 10.25));
+		assertEquals(4, string.measureStart(10), "Checking measure start after placing a note past the last measure");
+		assertEquals(5, string.measureStart(11), "Checking measure start after placing a note past the last measure");
+		
+		string.remove(notes[1]);
+		assertEquals(0, string.measureStart(1), "Checking measure start updated after removing a note");
+		assertEquals(1, string.measureStart(2), "Checking measure start updated after removing a note");
+		assertEquals(3, string.measureStart(10), "Checking measure start updated after removing a note");
+		
+		string.remove(0);
+		assertEquals(0, string.measureStart(2), "Checking measure start updated after removing a note by index");
+		
+		string.set(1, notes[6]);
+		assertEquals(1, string.measureStart(5), "Checking measure start updated after moving a note");
+		assertEquals(1, string.measureStart(6), "Checking measure start updated after moving a note");
+		assertEquals(2, string.measureStart(7), "Checking measure start updated after moving a note");
+		
+		string.removeIf(p -> p.getPos() > 6);
+		assertEquals(2, string.size(), "Checking note removed");
+		assertEquals(2, string.measureStart(10), "Checking measure start rebuilt after removing many notes");
+		
+		string.add(new TabPosition(pitches[0], 300.5));
+		assertEquals(2, string.measureStart(200), "Checking measure start before a note added far past the stored measures");
+		assertEquals(2, string.measureStart(300), "Checking measure start of a note added far past the stored measures");
+		assertEquals(3, string.measureStart(301), "Checking measure start after a note added far past the stored measures");
+		
+		string.add(new TabPosition(pitches[0], -1.5));
+		assertEquals(1, string.measureStart(0), "Checking measure start after placing a note in a negative measure");
+		assertEquals(3, string.measureStart(300), "Checking measure start after placing a note in a negative measure");
+		string.remove(0);
+		assertEquals(0, string.measureStart(0), "Checking measure start after removing a note in a negative measure");
+		
+		string.clear();
+		assertEquals(0, string.measureStart(6), "Checking measure start after clearing the string");
+	}
+	
+	@Test
+	public void firstIndexFrom(){
+		string.add(notes[1]);
+		string.add(new TabPosition(pitches[2], 1.5));
+		string.add(notes[4]);
+		
+		assertEquals(0, string.firstIndexFrom(-1), "Checking index before the first note");
+		assertEquals(0, string.firstIndexFrom(1), "Checking index of an existing note");
+		assertEquals(1, string.firstIndexFrom(1.25), "Checking index between notes in the same measure");
+		assertEquals(1, string.firstIndexFrom(1.5), "Checking index of an existing note");
+		assertEquals(2, string.firstIndexFrom(2.5), "Checking index in an empty measure");
+		assertEquals(2, string.firstIndexFrom(4), "Checking index of an existing note");
+		assertEquals(3, string.firstIndexFrom(4.5), "Checking index after the last note");
+		assertEquals(3, string.firstIndexFrom(Double.POSITIVE_INFINITY), "Checking index after the last note");
+		assertEquals(0, string.firstIndexFrom(Double.NEGATIVE_INFINITY), "Checking index before the first note");
+	}
+	
+	@Test
+	public void firstIndexFromTicks(){
+		string.add(notes[1]);
+		string.add(new TabPosition(pitches[2], 1.5));
+		string.add(notes[4]);
+		
+		assertEquals(0, string.firstIndexFromTicks(Ticks.PER_MEASURE), "Checking index of an existing note");
+		assertEquals(1, string.firstIndexFromTicks(Ticks.PER_MEASURE + 1), "Checking index one tick after a note");
+		assertEquals(2, string.firstIndexFromTicks(Ticks.PER_MEASURE * 2), "Checking index in an empty measure");
+		assertEquals(3, string.firstIndexFromTicks(Long.MAX_VALUE), "Checking index after the last note");
+		assertEquals(0, string.firstIndexFromTicks(Long.MIN_VALUE), "Checking index before the first note");
+		assertEquals(2, string.firstIndexFrom(4.0000000000001), "Checking a position with a rounding error includes the note");
+	}
+	
+	@Test
+	public void firstIndexAfter(){
+		string.add(notes[1]);
+		string.add(new TabPosition(pitches[2], 1.5));
+		string.add(notes[4]);
+		
+		assertEquals(0, string.firstIndexAfter(-1), "Checking index before the first note");
+		assertEquals(1, string.firstIndexAfter(1), "Checking index after an existing note");
+		assertEquals(1, string.firstIndexAfter(1.25), "Checking index between notes in the same measure");
+		assertEquals(2, string.firstIndexAfter(1.5), "Checking index after an existing note");
+		assertEquals(2, string.firstIndexAfter(3), "Checking index in an empty measure");
+		assertEquals(3, string.firstIndexAfter(4), "Checking index after the last note");
+	}
+	
 	@Test
 	public void contains(){
 		string.add(notes[1]);
@@ -339,6 +648,91 @@ public class TestTabString{
 		string.quantize(new TimeSignature(4, 4), 1);
 		
 		assertQuantized(string, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0);
+		
+		TabPosition p = string.get(0);
+		string.quantize(new TimeSignature(4, 4), 1);
+		assertTrue(p == string.get(0), "Checking notes which are already quantized are not replaced");
+		
+		string.add(notes[0].copyPosition(7.3));
+		string.quantize(new TimeSignature(4, 4), 4);
+		assertEquals(7.25, string.get(7).getPos(), "Checking note quantized");
+		assertTrue(notes[0].getSymbol() == string.get(7).getSymbol(), "Checking quantized note keeps its symbol");
+	}
+	
+	@Test
+	public void replaceRetimed(){
+		string.add(notes[0].copyPosition(0.5));
+		string.add(notes[1].copyPosition(1.25));
+		string.replaceRetimed(new TimeSignature(3, 4), new TimeSignature(4, 4));
+		assertEquals(2, string.size(), "Checking no notes removed");
+		assertEquals(0.6666666666666666, string.get(0).getPos(), UtilsTest.DELTA, "Checking note retimed");
+		assertEquals(1.6666666666666667, string.get(1).getPos(), UtilsTest.DELTA, "Checking note retimed");
+		assertEquals(notes[1].getSymbol(), string.symbol(1), "Checking note keeps its symbol");
+	}
+	
+	@Test
+	public void replaceRetimedInMeasure(){
+		string.add(notes[0].copyPosition(0));
+		string.add(notes[1].copyPosition(0.75));
+		string.add(notes[2].copyPosition(1.25));
+		string.add(notes[3].copyPosition(2.5));
+		string.add(notes[4].copyPosition(2.8));
+		assertEquals(2, string.replaceRetimedInMeasure(new TimeSignature(3, 4), new TimeSignature(4, 4)), "Checking notes outside their measure removed");
+		assertEquals(3, string.size(), "Checking notes removed");
+		assertEquals(0, string.get(0).getPos(), UtilsTest.DELTA, "Checking note retimed");
+		assertEquals(1.3333333333333333, string.get(1).getPos(), UtilsTest.DELTA, "Checking note retimed");
+		assertEquals(2.6666666666666665, string.get(2).getPos(), UtilsTest.DELTA, "Checking note retimed");
+		assertEquals(notes[3].getSymbol(), string.symbol(2), "Checking notes kept in order");
+		
+		string.clear();
+		string.add(notes[0].copyPosition(0.75));
+		string.add(notes[0].copyPosition(1));
+		assertEquals(2, string.replaceRetimedInMeasure(new TimeSignature(3, 4), new TimeSignature(4, 4)), 
+				"Checking a note landing on an identical note removes both");
+		assertTrue(string.isEmpty(), "Checking notes removed");
+	}
+	
+	@Test
+	public void replaceRhythms(){
+		string.add(notes[0]);
+		string.add(new TabDeadNote(), 2);
+		Rhythm r = new Rhythm(1, 4);
+		string.replaceRhythms(r);
+		assertEquals(new TabNoteRhythm(pitches[0].getPitch(), r), string.symbol(0), "Checking note given a rhythm");
+		assertEquals(new TabDeadNote(), string.symbol(1), "Checking dead note unchanged");
+		
+		TabSymbol s = string.symbol(0);
+		string.replaceRhythms(r);
+		assertTrue(s == string.symbol(0), "Checking notes which don't change are not replaced");
+	}
+	
+	@Test
+	public void replaceGuessedRhythms(){
+		TimeSignature four4 = new TimeSignature(4, 4);
+		string.add(notes[0].copyPosition(0));
+		string.add(notes[1].copyPosition(0.25));
+		string.add(notes[2].copyPosition(0.75));
+		Rhythm end = new Rhythm(1, 1);
+		string.replaceGuessedRhythms(four4, end);
+		assertEquals(new Rhythm(1, 4), ((TabNoteRhythm)string.symbol(0)).getRhythm(), "Checking rhythm guessed");
+		assertEquals(new Rhythm(1, 2), ((TabNoteRhythm)string.symbol(1)).getRhythm(), "Checking rhythm guessed");
+		assertEquals(end, ((TabNoteRhythm)string.symbol(2)).getRhythm(), "Checking last note given the end rhythm");
+		assertEquals(0.25, string.get(1).getPos(), "Checking positions unchanged");
+		
+		string.clear();
+		string.replaceGuessedRhythms(four4, end);
+		assertTrue(string.isEmpty(), "Checking no notes added to an empty string");
+	}
+	
+	@Test
+	public void replaceWithoutRhythms(){
+		string.add(new TabNoteRhythm(new Pitch(3), new Rhythm(1, 4)), 0.5);
+		string.add(notes[1]);
+		TabPosition p = string.get(1);
+		string.replaceWithoutRhythms();
+		assertEquals(new TabNote(3), string.symbol(0), "Checking rhythm removed");
+		Assert.isInstance(TabNote.class, string.symbol(0), "Checking note converted");
+		assertTrue(p == string.get(1), "Checking notes without a rhythm are not replaced");
 	}
 	
 	/**
@@ -354,7 +748,7 @@ public class TestTabString{
 	
 	@Test
 	public void load(){
-		Scanner scan = new Scanner("2 \n0\n2 \n1\nTabNote\n2 \n\n\n1.0 \n");
+		ZabTokenReader scan = new ZabTokenReader("2 \n0\n2 \n1\nTabNote\n2 \n\n\n1.0 \n");
 		assertTrue(string.load(scan), "Checking load successful");
 		assertEquals(2, string.getRootNote(), "Checking root note set");
 		assertEquals(0, string.size(), "Checking no notes exist");
@@ -366,20 +760,20 @@ public class TestTabString{
 		assertFalse(string.load(scan), "Checking load failed with not enough data");
 		
 		scan.close();
-		scan = new Scanner(""
+		scan = new ZabTokenReader(""
 				+ "1 \n"
 				+ "a \n");
 		assertFalse(string.load(scan), "Checking load fails with invalid note count");
 		
 		scan.close();
-		scan = new Scanner("0 \n0");
+		scan = new ZabTokenReader("0 \n0");
 		assertFalse(string.load(scan), "Checking load fails with no new line to load");
 		
-		scan = new Scanner("0 \n1 \n a");
+		scan = new ZabTokenReader("0 \n1 \n a");
 		assertFalse(string.load(scan), "Checking load fails with invalid symbols");
 		
 		scan.close();
-		scan = new Scanner("4 \n"
+		scan = new ZabTokenReader("4 \n"
 				+ "3\n"
 				+ "TabNote\n"
 				+ "1 \n"
@@ -429,7 +823,7 @@ public class TestTabString{
 		
 		string.setRootPitch(new Pitch(2));
 		string.add(new TabNote(2), 1);
-		assertEquals("2 \n1\nTabNote\n2 \n\n\n1.0 \n", UtilsTest.testSave(string), "Checking save successful, one note");
+		assertEquals("2 \n1\n1\n2 \n\n\n1.0 \n", UtilsTest.testSave(string), "Checking save successful, one note");
 		
 		string.clear();
 		string.setRootPitch(new Pitch(4));
@@ -439,15 +833,15 @@ public class TestTabString{
 		assertEquals(
 				"4 \n"
 				+ "3\n"
-				+ "TabNote\n"
+				+ "1\n"
 				+ "1 \n"
 				+ "\n"
 				+ "\n"
 				+ "2.0 \n"
-				+ "TabDeadNote\n"
+				+ "0\n"
 				+ "\n"
 				+ "3.0 \n"
-				+ "TabNoteRhythm\n"
+				+ "2\n"
 				+ "2 \n"
 				+ "3 4 \n"
 				+ "q\n"
@@ -0,0 +1,78 @@
+package tab;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import appUtils.ZabAppSettings;
+import music.Pitch;
+import tab.symbol.TabDeadNote;
+import tab.symbol.TabNote;
+
+public class TestTabStringSnapshot{
+	
+	private TabString string;
+	private Pitch pitch;
+	private TabPosition first;
+	private TabPosition second;
+	private TabStringSnapshot snap;
+	
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+	
+	@BeforeEach
+	public void setup(){
+		pitch = new Pitch(4);
+		string = new TabString(pitch);
+		first = new TabPosition(new TabNote(5), 1);
+		second = new TabPosition(new TabDeadNote(), 2);
+		string.add(first);
+		string.add(second);
+		snap = string.snapshot();
+	}
+	
+	@Test
+	public void getRootPitch(){
+		assertEquals(pitch, snap.getRootPitch(), "Checking root pitch obtained");
+		assertFalse(pitch == snap.getRootPitch(), "Checking root pitch is a copy");
+	}
+	
+	@Test
+	public void size(){
+		assertEquals(2, snap.size(), "Checking size obtained");
+		string.clear();
+		assertEquals(2, snap.size(), "Checking size unchanged after the string is modified");
+	}
+	
+	@Test
+	public void get(){
+		assertTrue(first == snap.get(0), "Checking positions are shared with the string");
+		assertTrue(second == snap.get(1), "Checking positions are shared with the string");
+		string.remove(0);
+		assertTrue(first == snap.get(0), "Checking position unchanged after the string is modified");
+	}
+	
+	@Test
+	public void toTabString(){
+		TabString s = snap.toTabString();
+		assertEquals(string, s, "Checking string created with the same notes");
+		assertFalse(string == s, "Checking a new string is created");
+		
+		string.add(new TabNote(2), 3);
+		assertEquals(2, snap.toTabString().size(), "Checking the created string is unchanged after the string is modified");
+		
+		s.clear();
+		assertEquals(2, snap.size(), "Checking modifying the created string doesn't modify the snapshot");
+	}
+	
+	@AfterEach
+	public void end(){}
+	
+}
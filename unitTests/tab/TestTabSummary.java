@@ -0,0 +1,121 @@
+package tab;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import appUtils.ZabAppSettings;
+import music.Pitch;
+import music.TimeSignature;
+
+public class TestTabSummary{
+
+	private Tab guitar;
+	private TabSummary summary;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+
+	@BeforeEach
+	public void setup(){
+		guitar = InstrumentFactory.guitarStandard();
+		guitar.setTimeSignature(new TimeSignature(3, 4));
+		guitar.setUsesRhythm(true);
+		TabString high = guitar.getStrings().get(0);
+		TabString low = guitar.getStrings().get(5);
+		high.add(TabFactory.modifiedFret(high, 3, 1));
+		high.add(TabFactory.modifiedFret(high, 5, 2.5));
+		low.add(TabFactory.modifiedFret(low, 0, 4.25));
+		summary = new TabSummary(guitar);
+	}
+
+	@Test
+	public void constructor(){
+		TabSummary s = new TabSummary(true, new TimeSignature(3, 4), tuning(), 4.25, 3);
+		assertEquals(summary, s, "Checking summary made from values matches the summary made from the tab");
+
+		TabSummary empty = new TabSummary(new Tab());
+		assertEquals(-1, empty.getLength(), "Checking an empty tab has no length");
+		assertEquals(0, empty.getNoteCount(), "Checking an empty tab has no notes");
+	}
+
+	@Test
+	public void usesRhythm(){
+		assertTrue(summary.usesRhythm(), "Checking uses rhythm");
+	}
+
+	@Test
+	public void getTimeSignature(){
+		assertEquals(new TimeSignature(3, 4), summary.getTimeSignature(), "Checking time signature");
+	}
+
+	@Test
+	public void getTuning(){
+		int[] t = summary.getTuning();
+		assertEquals(6, t.length, "Checking a pitch for every string");
+		t[0] = 100;
+		assertNotEquals(100, summary.getTuning()[0], "Checking the tuning cannot be changed");
+	}
+
+	@Test
+	public void stringCount(){
+		assertEquals(6, summary.stringCount(), "Checking string count");
+	}
+
+	@Test
+	public void getRootPitch(){
+		for(int i = 0; i < 6; i++){
+			assertEquals(guitar.getStrings().get(i).getRootPitch(), summary.getRootPitch(i), "Checking root pitch");
+		}
+	}
+
+	@Test
+	public void getLength(){
+		assertEquals(4.25, summary.getLength(), "Checking length");
+	}
+
+	@Test
+	public void getNoteCount(){
+		assertEquals(3, summary.getNoteCount(), "Checking note count");
+	}
+
+	@Test
+	public void equals(){
+		assertEquals(summary, new TabSummary(guitar), "Checking equal summaries");
+		guitar.setTimeSignature(new TimeSignature(4, 4));
+		assertNotEquals(summary, new TabSummary(guitar), "Checking different time signature");
+		assertFalse(summary.equals(null), "Checking not equal to null");
+	}
+
+	@Test
+	public void testHashCode(){
+		assertEquals(summary.hashCode(), new TabSummary(guitar).hashCode(), "Checking equal summaries have the same hash");
+	}
+
+	@Test
+	public void testToString(){
+		assertEquals("[TabSummary, 6 strings, " + new TimeSignature(3, 4) + ", length: 4.25, notes: 3]", summary.toString(), "Checking string");
+	}
+
+	/** @return The root pitch of each string of {@link #guitar} */
+	private int[] tuning(){
+		int[] t = new int[6];
+		for(int i = 0; i < 6; i++){
+			Pitch p = guitar.getStrings().get(i).getRootPitch();
+			t[i] = p.getNote();
+		}
+		return t;
+	}
+
+	@AfterEach
+	public void end(){}
+
+}
@@ -0,0 +1,115 @@
+package tab;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import appUtils.ZabAppSettings;
+import appUtils.settings.TabTextSettings;
+import music.Pitch;
+
+public class TestTabTextCache{
+
+	private Tab guitar;
+	private TabString high;
+	private TabTextCache cache;
+
+	private static TabTextSettings text;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+		text = ZabAppSettings.get().text();
+	}
+
+	@BeforeEach
+	public void setup(){
+		init();
+		text.getMeasuresPerLine().set(2);
+		guitar = InstrumentFactory.guitarStandard();
+		high = guitar.getStrings().get(0);
+		for(int i = 0; i < 10; i++) high.add(TabFactory.modifiedFret(high, i, i + 0.5));
+		cache = new TabTextCache(guitar);
+	}
+
+	@Test
+	public void getTab(){
+		assertEquals(guitar, cache.getTab(), "Checking tab set");
+	}
+
+	@Test
+	public void getMade(){
+		assertEquals(0, cache.getMade(), "Checking no lines made before exporting");
+		cache.export();
+		assertEquals(5, cache.getMade(), "Checking every line made");
+		cache.export();
+		assertEquals(0, cache.getMade(), "Checking no lines made when nothing changed");
+	}
+
+	@Test
+	public void clear(){
+		cache.export();
+		cache.clear();
+		assertEquals(0, cache.getMade(), "Checking made lines reset");
+		cache.export();
+		assertEquals(5, cache.getMade(), "Checking every line made after clearing");
+	}
+
+	@Test
+	public void export(){
+		assertEquals(TabTextExporter.export(guitar), cache.export(), "Checking the same text exported");
+
+		high.add(TabFactory.modifiedFret(high, 12, 3.25));
+		assertEquals(TabTextExporter.export(guitar), cache.export(), "Checking text updated after adding a note");
+		assertEquals(1, cache.getMade(), "Checking only the line of the new note made");
+
+		high.remove(high.size() - 1);
+		assertEquals(TabTextExporter.export(guitar), cache.export(), "Checking text updated after removing the last note");
+		assertEquals(1, cache.getMade(), "Checking only the line of the removed note made");
+
+		high.add(TabFactory.modifiedFret(high, 3, 14));
+		assertEquals(TabTextExporter.export(guitar), cache.export(), "Checking text updated with new lines");
+		assertEquals(3, cache.getMade(), "Checking only the new lines made");
+
+		high.setRootPitch(new Pitch(2));
+		assertEquals(TabTextExporter.export(guitar), cache.export(), "Checking text updated after changing the tuning");
+		assertEquals(8, cache.getMade(), "Checking every line made after changing the tuning");
+
+		text.getFiller().set('=');
+		assertEquals(TabTextExporter.export(guitar), cache.export(), "Checking text updated after changing a setting");
+		assertEquals(8, cache.getMade(), "Checking every line made after changing a setting");
+
+		ZabAppSettings.get().symbol().getPullOff().set("^");
+		high.add(TabFactory.pullOff(high, 2, 0.25));
+		cache.export();
+		ZabAppSettings.get().symbol().getPullOff().set("*");
+		assertEquals(TabTextExporter.export(guitar), cache.export(), "Checking text updated after changing a symbol setting");
+
+		guitar.getStrings().add(new TabString(new Pitch(0)));
+		assertEquals(TabTextExporter.export(guitar), cache.export(), "Checking text updated after adding a string");
+		assertEquals(8, cache.getMade(), "Checking every line made after adding a string");
+
+		assertNull(new TabTextCache(null).export(), "Checking null returned with no tab");
+	}
+
+	@Test
+	public void exportAppendable() throws IOException{
+		StringBuilder b = new StringBuilder();
+		assertTrue(cache.export(b), "Checking export successful");
+		assertEquals(TabTextExporter.export(guitar), b.toString(), "Checking the same text exported");
+		assertFalse(cache.export(null), "Checking export fails with null output");
+		assertFalse(new TabTextCache(null).export(new StringBuilder()), "Checking export fails with no tab");
+	}
+
+	@AfterEach
+	public void end(){}
+
+}
@@ -4,6 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,9 +16,6 @@ import org.junit.jupiter.api.Test;
 
 import appUtils.ZabAppSettings;
 import appUtils.settings.TabTextSettings;
-import tab.TabTextExporter.IndexAndPos;
-import tab.symbol.TabNote;
-import util.testUtils.Assert;
 import util.testUtils.UtilsTest;
 
 public class TestTabTextExporter{
@@ -142,6 +144,41 @@ public class TestTabTextExporter{
 				"Checking exporting guitar with modified settings");
 	}
 	
+	@Test
+	public void exportAppendable() throws IOException{
+		StringBuilder b = new StringBuilder();
+		assertTrue(TabTextExporter.export(guitar, b), "Checking export successful");
+		assertEquals(TabTextExporter.export(guitar), b.toString(), "Checking the same text exported");
+		
+		StringWriter writer = new StringWriter();
+		assertTrue(TabTextExporter.export(guitar, writer), "Checking export to a writer successful");
+		assertEquals(b.toString(), writer.toString(), "Checking the same text written");
+		
+		b = new StringBuilder();
+		assertFalse(TabTextExporter.export(null, b), "Checking export fails with null tab");
+		assertEquals("", b.toString(), "Checking nothing written with null tab");
+		assertFalse(TabTextExporter.export(guitar, null), "Checking export fails with null output");
+		
+		Tab big = InstrumentFactory.guitarStandard();
+		TabString high = big.getStrings().get(0);
+		for(int i = 0; i < 2000; i++) high.add(TabFactory.modifiedFret(high, i % 12, i));
+		b = new StringBuilder();
+		assertTrue(TabTextExporter.export(big, b), "Checking a long tab exported");
+		assertEquals(TabTextExporter.export(big), b.toString(), "Checking the same long text exported");
+	}
+	
+	@Test
+	public void exportParallel() throws IOException{
+		StringBuilder b = new StringBuilder();
+		assertTrue(TabTextExporter.exportParallel(guitar, b), "Checking export successful");
+		assertEquals(TabTextExporter.export(guitar), b.toString(), "Checking the same text exported");
+		
+		b = new StringBuilder();
+		assertFalse(TabTextExporter.exportParallel(null, b), "Checking export fails with null tab");
+		assertEquals("", b.toString(), "Checking nothing written with null tab");
+		assertFalse(TabTextExporter.exportParallel(guitar, null), "Checking export fails with null output");
+	}
+	
 	@Test
 	public void exportLine(){
 		assertEquals(null, TabTextExporter.exportLine(null, 0, 1, false), "Checking null returned on null tab");
@@ -236,6 +273,15 @@ public class TestTabTextExporter{
 				String.join("\n", strs), "Checking correct text added with modifiers");
 	}
 	
+	@Test
+	public void appendSymbolsNoSpaceBuilder(){
+		StringBuilder[] lines = appendBuilders();
+		TabTextExporter.appendSymbolsNoSpace(lines, 7, 10.1, guitar.getStrings(), false);
+		String[] strs = appendBase();
+		TabTextExporter.appendSymbolsNoSpace(strs, 7, 10.1, guitar.getStrings(), false);
+		for(int i = 0; i < strs.length; i++) assertEquals(strs[i], lines[i].toString(), "Checking the same text added to a builder");
+	}
+	
 	@Test
 	public void appendSymbolsWithSpace(){
 		String[] strs = appendBase();
@@ -304,8 +350,43 @@ public class TestTabTextExporter{
 	}
 
 	@Test
-	public void exportToFile(){
+	public void appendSymbolsWithSpaceLong(){
+		ZabAppSettings.get().tab().getQuantizeDivisor().set(3.0);
+		TabString high = guitar.getStrings().get(0);
+		high.add(TabFactory.modifiedFret(high, 7, 1999 + 1.0 / 3));
+		String[] strs = appendBase();
+		TabTextExporter.appendSymbolsWithSpace(strs, 0, 2000, guitar.getStrings(), false);
+		assertTrue(strs[0].endsWith("|--7-"), "Checking a note far into the tab is placed on its space");
+		assertTrue(strs[1].endsWith("|----"), "Checking the other strings are filled");
+		assertEquals(strs[0].length(), strs[5].length(), "Checking every string has the same length");
+	}
+	
+	@Test
+	public void appendSymbolsWithSpaceBuilder(){
+		StringBuilder[] lines = appendBuilders();
+		TabTextExporter.appendSymbolsWithSpace(lines, 1, 3.25, guitar.getStrings(), true);
+		String[] strs = appendBase();
+		TabTextExporter.appendSymbolsWithSpace(strs, 1, 3.25, guitar.getStrings(), true);
+		for(int i = 0; i < strs.length; i++) assertEquals(strs[i], lines[i].toString(), "Checking the same text added to a builder");
+	}
+	
+	/**
+	 * Helper method for resetting a builder array for testing appendSymbolsNoSpace and appendSymbolsWithSpace
+	 * @return The builders
+	 */
+	private StringBuilder[] appendBuilders(){
+		String[] strs = appendBase();
+		StringBuilder[] lines = new StringBuilder[strs.length];
+		for(int i = 0; i < strs.length; i++) lines[i] = new StringBuilder(strs[i]);
+		return lines;
+	}
+	
+	@Test
+	public void exportToFile() throws IOException{
 		assertTrue(TabTextExporter.exportToFile(guitar, UtilsTest.UNIT_PATH, "test"), "Checking file export successful");
+		assertEquals(TabTextExporter.export(guitar),
+				new String(Files.readAllBytes(new File(UtilsTest.UNIT_PATH + "/test.txt").toPath())),
+				"Checking the exported text written to the file");
 
 		assertFalse(TabTextExporter.exportToFile(null, UtilsTest.UNIT_PATH, "test"), "Checking file export fails with null tab");
 		
@@ -320,22 +401,20 @@ public class TestTabTextExporter{
 	}
 	
 	@Test
-	public void constructorIndexAndSymbol(){
-		TabPosition note = new TabPosition(new TabNote(1), 2);
-		IndexAndPos i = new IndexAndPos(note, 3);
-		assertEquals(note, i.pos, "Checking symbol initialized");
-		assertEquals(3, i.index, "Checking index initialized");
-	}
-	
-	@Test
-	public void compareToIndexAndSymbol(){
-		IndexAndPos i1 = new IndexAndPos(new TabPosition(new TabNote(0), 0), 0);
-		IndexAndPos i2 = new IndexAndPos(new TabPosition(new TabNote(0), 0.2), 1);
-		IndexAndPos i3 = new IndexAndPos(new TabPosition(new TabNote(0), 0.2), 2);
-		Assert.lessThan(i1.compareTo(i2), 0);
-		Assert.greaterThan(i2.compareTo(i1), 0);
-		assertEquals(0, i2.compareTo(i3), "Checking value equal to 0");
-		assertEquals(0, i3.compareTo(i2), "Checking value equal to 0");
+	public void exportToFileCache() throws IOException{
+		File file = new File(UtilsTest.UNIT_PATH + "/cache/test.txt");
+		TabTextCache cache = new TabTextCache(guitar);
+		assertTrue(TabTextExporter.exportToFile(cache, file), "Checking file export successful");
+		assertEquals(TabTextExporter.export(guitar), new String(Files.readAllBytes(file.toPath())), "Checking the exported text written to the file");
+		
+		TabString high = guitar.getStrings().get(0);
+		high.add(TabFactory.modifiedFret(high, 9, 1.5));
+		assertTrue(TabTextExporter.exportToFile(cache, file), "Checking file export successful again");
+		assertEquals(1, cache.getMade(), "Checking only the changed line made");
+		assertEquals(TabTextExporter.export(guitar), new String(Files.readAllBytes(file.toPath())), "Checking the changed text written to the file");
+		
+		assertFalse(TabTextExporter.exportToFile((TabTextCache)null, file), "Checking file export fails with null cache");
+		assertFalse(TabTextExporter.exportToFile(cache, null), "Checking file export fails with null file");
 	}
 	
 	@AfterEach
@@ -0,0 +1,228 @@
+package tab;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import appUtils.ZabAppSettings;
+import appUtils.settings.TabTextSettings;
+import music.Music;
+import music.Ticks;
+import tab.symbol.TabDeadNote;
+import tab.symbol.TabNoteRhythm;
+import util.testUtils.UtilsTest;
+
+public class TestTabTextImporter{
+
+	private Tab guitar;
+
+	private static TabTextSettings text;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+		text = ZabAppSettings.get().text();
+		ZabAppSettings.get().tab().getQuantizeDivisor().set(8.0);
+	}
+
+	@BeforeEach
+	public void setup(){
+		init();
+		guitar = InstrumentFactory.guitarStandard();
+		TabString highE = guitar.getStrings().get(0);
+		TabString b = guitar.getStrings().get(1);
+		TabString a = guitar.getStrings().get(4);
+		TabString lowE = guitar.getStrings().get(5);
+		highE.add(TabFactory.modifiedFret(highE, 0, 0));
+		highE.add(TabFactory.hammerOn(highE, 3, 1));
+		highE.add(TabFactory.pullOff(highE, 12, 2.5));
+		b.add(TabFactory.harmonic(b, 5, 2.5));
+		b.add(new TabPosition(new TabDeadNote(), 3.125));
+		a.add(TabFactory.modifiedFret(a, 14, 6));
+		lowE.add(TabFactory.modifiedFret(lowE, 0, 6));
+		lowE.add(TabFactory.modifiedFret(lowE, 7, 11.375));
+	}
+
+	@Test
+	public void loadString(){
+		Tab t = TabTextImporter.load(TabTextExporter.export(guitar));
+		assertNotNull(t, "Checking a tab read");
+		assertEquals(TabTextExporter.export(guitar), TabTextExporter.export(t), "Checking the read tab exports the same text");
+		assertEquals(guitar.getStrings(), t.getStrings(), "Checking the notes and tuning read");
+		assertFalse(t.usesRhythm(), "Checking no rhythms used");
+
+		// Without spacing, the notes of each line are read one space apart from the start of the line
+		text.getUseSpacing().set(false);
+		TabString lowE = guitar.getStrings().get(5);
+		lowE.add(TabFactory.modifiedFret(lowE, 5, 11.5));
+		t = TabTextImporter.load(TabTextExporter.export(guitar));
+		assertEquals(TabTextExporter.export(guitar), TabTextExporter.export(t), "Checking text without spacing read");
+
+		init();
+		text.getMeasuresPerLine().set(4);
+		text.getPreString().set(">");
+		text.getNoteNameAlignEnd().set(true);
+		text.getBeforeSymbol().set("");
+		text.getAfterSymbol().set("-");
+		t = TabTextImporter.load(TabTextExporter.export(guitar));
+		assertEquals(TabTextExporter.export(guitar), TabTextExporter.export(t), "Checking text with other settings read");
+		assertEquals(guitar.getStrings(), t.getStrings(), "Checking the notes read with other settings");
+
+		init();
+		Tab ukulele = InstrumentFactory.ukuleleStandard();
+		TabString g = ukulele.getStrings().get(3);
+		g.add(TabFactory.modifiedFret(g, 2, 1));
+		text.getNoteNameOctave().set(true);
+		t = TabTextImporter.load(TabTextExporter.export(ukulele));
+		assertEquals(ukulele.getStrings(), t.getStrings(), "Checking a tuning with octaves read");
+
+		init();
+		Tab empty = InstrumentFactory.guitarStandard();
+		t = TabTextImporter.load(TabTextExporter.export(empty));
+		assertNull(t, "Checking a tab with no lines not read");
+
+		assertNull(TabTextImporter.load((String)null), "Checking null not read");
+		assertNull(TabTextImporter.load(""), "Checking empty text not read");
+		assertNull(TabTextImporter.load("not a tab"), "Checking other text not read");
+		assertNull(TabTextImporter.load("E|-x-|\nB|---|"), "Checking a symbol without a fret not read");
+		assertNull(TabTextImporter.load("E|-3-|\nB|---|\n\nE|---|"), "Checking a partial line of tab not read");
+	}
+
+	@Test
+	public void loadFile() throws IOException{
+		UtilsTest.createUnitFolder();
+		File file = new File(UtilsTest.UNIT_PATH + "/tab.txt");
+		assertTrue(TabTextExporter.exportToFile(guitar, file), "Checking file exported");
+		Tab t = new Tab();
+		assertTrue(TabTextImporter.load(file, t), "Checking file read");
+		assertEquals(guitar.getStrings(), t.getStrings(), "Checking the notes read");
+
+		assertFalse(TabTextImporter.load(new File(UtilsTest.UNIT_PATH + "/missing.txt"), t), "Checking a missing file not read");
+		assertEquals(guitar.getStrings(), t.getStrings(), "Checking the tab unchanged");
+		assertFalse(TabTextImporter.load((File)null, t), "Checking a null file not read");
+		assertFalse(TabTextImporter.load(file, null), "Checking a null tab not read");
+	}
+
+	@Test
+	public void loadReader(){
+		Tab t = new Tab();
+		t.setUsesRhythm(true);
+		assertTrue(TabTextImporter.load(new StringReader("\n\n" + TabTextExporter.export(guitar) + "\n\n"), t), "Checking text with blank lines read");
+		assertEquals(TabTextExporter.export(guitar), TabTextExporter.export(t), "Checking the read tab exports the same text");
+		assertTrue(t.usesRhythm(), "Checking rhythms still used");
+		assertTrue(t.getStrings().get(0).get(0).getSymbol() instanceof TabNoteRhythm, "Checking a note read with a rhythm");
+
+		ArrayList<TabString> strings = t.getStrings();
+		assertFalse(TabTextImporter.load(new StringReader("E|-3-|"), null), "Checking a null tab not read");
+		assertFalse(TabTextImporter.load((StringReader)null, t), "Checking a null reader not read");
+		assertFalse(TabTextImporter.load(new StringReader("E|-3h-|\nB|-x-|"), t), "Checking invalid text not read");
+		assertEquals(strings, t.getStrings(), "Checking the tab unchanged");
+
+		// A tab which ends exactly at the start of a line has no blank line before that line
+		TabString highE = guitar.getStrings().get(0);
+		highE.add(TabFactory.modifiedFret(highE, 1, 8));
+		highE.add(TabFactory.modifiedFret(highE, 2, 16));
+		guitar.getStrings().get(5).remove(guitar.getStrings().get(5).size() - 1);
+		t = new Tab();
+		assertTrue(TabTextImporter.load(new StringReader(TabTextExporter.export(guitar)), t), "Checking text with no blank line read");
+		assertEquals(guitar.getStrings(), t.getStrings(), "Checking the notes read with no blank line");
+	}
+
+	@Test
+	public void split(){
+		assertArrayEquals(new String[]{"E", "-3-"}, TabTextImporter.split("E|-3-|", text), "Checking a line split");
+		assertArrayEquals(new String[]{"C#", "--"}, TabTextImporter.split("C#|--", text), "Checking a line without an end split");
+		assertArrayEquals(new String[]{"Db", "-"}, TabTextImporter.split("Db |-|", text), "Checking a name with filler split");
+		assertThrows(IllegalArgumentException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				TabTextImporter.split("E-3-|", text);
+			}
+		}, "Checking a line without the text after the name");
+		assertThrows(IllegalArgumentException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				TabTextImporter.split("H|-3-|", text);
+			}
+		}, "Checking a line without a name");
+	}
+
+	@Test
+	public void stringCount(){
+		assertEquals(6, TabTextImporter.stringCount(new String[]{"E", "B", "G", "D", "A", "E"}), "Checking each name a string");
+		assertEquals(6, TabTextImporter.stringCount(new String[]{"E", "B", "G", "D", "A", "E", "E", "B", "G", "D", "A", "E"}), "Checking repeated names");
+		assertEquals(1, TabTextImporter.stringCount(new String[]{"E", "E"}), "Checking one repeated string");
+		assertEquals(3, TabTextImporter.stringCount(new String[]{"E", "E", "A"}), "Checking the same names on different strings");
+	}
+
+	@Test
+	public void tuning(){
+		assertArrayEquals(new int[]{
+				Music.createNote(Music.E, 4), Music.createNote(Music.B, 3), Music.createNote(Music.G, 3),
+				Music.createNote(Music.D, 3), Music.createNote(Music.A, 2), Music.createNote(Music.E, 2)
+			}, TabTextImporter.tuning(new String[]{"E", "B", "G", "D", "A", "E"}, 6), "Checking standard tuning guessed");
+		assertArrayEquals(new int[]{Music.createNote(Music.A, 4), Music.createNote(Music.G, 4)},
+				TabTextImporter.tuning(new String[]{"A4", "G4"}, 2), "Checking octaves used");
+		assertArrayEquals(new int[]{Music.createNote(Music.D, 3), Music.createNote(Music.D, 2)},
+				TabTextImporter.tuning(new String[]{"D", "D", "D"}, 2), "Checking the same name an octave higher");
+	}
+
+	@Test
+	public void readLine(){
+		TabString s = new TabString(Music.E, 2);
+		ArrayList<TabString> strings = new ArrayList<TabString>();
+		strings.add(s);
+		long length = TabTextImporter.readLine(new String[]{"-0--3-----|-"}, strings, 0, ZabAppSettings.get());
+		assertEquals(2, s.size(), "Checking notes added");
+		assertEquals(0, s.get(0).getPos(), "Checking the first note position");
+		assertEquals(0.25, s.get(1).getPos(), "Checking the second note position");
+		assertEquals(Ticks.PER_MEASURE + Ticks.PER_MEASURE / 8, length, "Checking the length of the line");
+
+		TabTextImporter.readLine(new String[]{"-5-"}, strings, length, ZabAppSettings.get());
+		assertEquals(1.125, s.get(2).getPos(), "Checking a note placed after the start");
+
+		assertThrows(IllegalArgumentException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				TabTextImporter.readLine(new String[]{"-0-", "+1-"}, strings, 0, ZabAppSettings.get());
+			}
+		}, "Checking symbols which do not line up");
+	}
+
+	@Test
+	public void symbol(){
+		TabString s = new TabString(Music.E, 2);
+		TabPosition p = TabTextImporter.symbol("3", s, 1, "X");
+		assertEquals(TabFactory.modifiedFret(s, 3, 1), p, "Checking a note read");
+		assertEquals(TabFactory.hammerOn(s, 12, 1), TabTextImporter.symbol("h12", s, 1, "X"), "Checking a modifier before read");
+		assertEquals(TabFactory.harmonic(s, 5, 1), TabTextImporter.symbol("<5>", s, 1, "X"), "Checking a modifier around read");
+		assertTrue(TabTextImporter.symbol("X", s, 1, "X").getSymbol() instanceof TabDeadNote, "Checking a dead note read");
+		assertThrows(IllegalArgumentException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				TabTextImporter.symbol("h", s, 1, "X");
+			}
+		}, "Checking a symbol without a fret");
+	}
+
+	@AfterEach
+	public void end(){
+		UtilsTest.deleteUnitFolder();
+	}
+
+}
@@ -0,0 +1,105 @@
+package tab;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import appUtils.ZabAppSettings;
+import music.Music;
+import music.Pitch;
+import music.Rhythm;
+import music.Ticks;
+import music.TimeSignature;
+import tab.symbol.TabModifier;
+import tab.symbol.TabNoteRhythm;
+import util.testUtils.UtilsTest;
+
+public class TestTabTransform{
+
+	private TabString string;
+	private TimeSignature four4;
+	private TimeSignature three4;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+
+	@BeforeEach
+	public void setup(){
+		string = new TabString(new Pitch(Music.createNote(Music.E, 4)));
+		string.add(TabFactory.modifiedFret(string, 0, 0.5));
+		string.add(TabFactory.modifiedFret(string, 1, 1.1));
+		string.add(TabFactory.modifiedFretRhythm(string, 2, new Rhythm(1, 4), 1.75, new TabModifier()));
+		four4 = new TimeSignature(4, 4);
+		three4 = new TimeSignature(3, 4);
+	}
+
+	@Test
+	public void quantize(){
+		TabTransform t = TabTransform.quantize(four4, 4);
+		assertSame(string.get(0), t.apply(string, 0), "Checking a quantized note is unchanged");
+		assertEquals(1, t.apply(string, 1).getPos(), UtilsTest.DELTA, "Checking a note is quantized");
+		assertSame(string.get(1).getSymbol(), t.apply(string, 1).getSymbol(), "Checking the symbol is kept");
+		
+		// A place which is not an exact double is found at the same tick every time
+		t = TabTransform.quantize(new TimeSignature(7, 11), 8);
+		string.set(1, t.apply(string, 1));
+		assertEquals(Ticks.quantize(Ticks.fromMeasures(1.1), new TimeSignature(7, 11), 8), string.get(1).getTicks(), "Checking a note is quantized by ticks");
+		assertSame(string.get(1), t.apply(string, 1), "Checking a note quantized by ticks is unchanged");
+	}
+
+	@Test
+	public void retime(){
+		TabTransform t = TabTransform.retime(three4, four4);
+		assertEquals(0.5 * 4 / 3, t.apply(string, 0).getPos(), UtilsTest.DELTA, "Checking a note is retimed");
+		assertSame(string.get(0), TabTransform.retime(four4, four4).apply(string, 0), "Checking an unchanged note is the same");
+	}
+
+	@Test
+	public void retimeMeasure(){
+		TabTransform t = TabTransform.retimeMeasure(three4, four4);
+		assertEquals(1.0 + 0.75 * 4 / 3, t.apply(string, 2).getPos(), UtilsTest.DELTA, "Checking a note is moved out of its measure without being removed");
+	}
+
+	@Test
+	public void setRhythms(){
+		TabTransform t = TabTransform.setRhythms(new Rhythm(1, 4));
+		assertTrue(t.apply(string, 0).getSymbol() instanceof TabNoteRhythm, "Checking a note is given a rhythm");
+		assertSame(string.get(2), t.apply(string, 2), "Checking a note which already has a rhythm is unchanged");
+	}
+
+	@Test
+	public void guessRhythms(){
+		TabTransform t = TabTransform.guessRhythms(four4, new Rhythm(1, 1));
+		assertEquals(four4.guessRhythmMeasures(1.1 - 0.5), ((TabNoteRhythm)t.apply(string, 0).getSymbol()).getRhythm(), "Checking a rhythm is guessed from the next note");
+		assertSame(string.get(2), t.apply(string, 2), "Checking a note which already has a rhythm is unchanged");
+		string.add(TabFactory.modifiedFret(string, 3, 3));
+		assertEquals(new Rhythm(1, 1), ((TabNoteRhythm)t.apply(string, 3).getSymbol()).getRhythm(), "Checking the last note is given the end rhythm");
+	}
+
+	@Test
+	public void removeRhythms(){
+		TabTransform t = TabTransform.removeRhythms();
+		assertSame(string.get(0), t.apply(string, 0), "Checking a note without a rhythm is unchanged");
+		assertEquals(TabFactory.modifiedFret(string, 2, 1.75), t.apply(string, 2), "Checking the rhythm is removed");
+	}
+
+	@Test
+	public void replaceSymbol(){
+		TabPosition p = string.get(0);
+		assertSame(p, TabTransform.replaceSymbol(p, p.getSymbol().copy()), "Checking an equal symbol keeps the note");
+		TabPosition r = TabTransform.replaceSymbol(p, string.get(1).getSymbol());
+		assertEquals(string.get(1).getSymbol(), r.getSymbol(), "Checking the symbol is replaced");
+		assertEquals(p.getPos(), r.getPos(), "Checking the position is kept");
+	}
+
+	@AfterEach
+	public void end(){}
+
+}
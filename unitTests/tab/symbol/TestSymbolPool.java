@@ -0,0 +1,141 @@
+package tab.symbol;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.PrintWriter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import appUtils.ZabAppSettings;
+import music.Pitch;
+import music.Rhythm;
+import tab.TabPosition;
+import tab.TabString;
+import util.ZabTokenReader;
+
+public class TestSymbolPool{
+	
+	private TabModifier mod;
+	private Rhythm rhythm;
+	
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+	
+	@BeforeEach
+	public void setup(){
+		SymbolPool.clear();
+		mod = new TabModifier("a", "b");
+		rhythm = new Rhythm(1, 4);
+	}
+	
+	@Test
+	public void deadNote(){
+		assertTrue(SymbolPool.deadNote() == SymbolPool.deadNote(), "Checking the same dead note is always used");
+		assertEquals(new TabDeadNote(), SymbolPool.deadNote(), "Checking dead note obtained");
+	}
+	
+	@Test
+	public void note(){
+		TabNote n = SymbolPool.note(3, mod);
+		assertEquals(new TabNote(new Pitch(3), mod), n, "Checking note has the correct values");
+		assertFalse(mod == n.getModifier(), "Checking the given modifier is not kept");
+		assertTrue(n == SymbolPool.note(3, new TabModifier("a", "b")), "Checking the same note is shared");
+		assertFalse(n == SymbolPool.note(4, mod), "Checking a different note is not shared");
+	}
+	
+	@Test
+	public void intern(){
+		TabNote note = new TabNote(new Pitch(2), mod);
+		TabSymbol s = SymbolPool.intern((TabSymbol)note);
+		assertEquals(note, s, "Checking interned note is equal");
+		assertFalse(note == s, "Checking the given note is not kept");
+		assertTrue(s == SymbolPool.intern((TabSymbol)note.copy()), "Checking equal notes are shared");
+		
+		TabNoteRhythm rNote = new TabNoteRhythm(new Pitch(2), rhythm, mod);
+		TabNoteRhythm r = SymbolPool.intern(rNote);
+		assertEquals(rNote, r, "Checking interned rhythm note is equal");
+		assertTrue(r == SymbolPool.intern((TabSymbol)rNote.copy()), "Checking equal rhythm notes are shared");
+		assertFalse(r == SymbolPool.intern(new TabNoteRhythm(new Pitch(2), new Rhythm(1, 2), mod)), "Checking rhythm notes with different rhythms are not shared");
+		assertTrue(((TabNote)s).getPitch() == r.getPitch(), "Checking notes share pitches");
+		assertTrue(s.getModifier() == r.getModifier(), "Checking notes share modifiers");
+		assertTrue(SymbolPool.intern(rhythm) == r.getRhythm(), "Checking notes share rhythms");
+		
+		assertTrue(SymbolPool.deadNote() == SymbolPool.intern((TabSymbol)new TabDeadNote()), "Checking dead notes are shared");
+		assertEquals(null, SymbolPool.intern((TabSymbol)null), "Checking null is not interned");
+		assertEquals(null, SymbolPool.intern((TabNote)null), "Checking null is not interned");
+		assertEquals(null, SymbolPool.intern((TabNoteRhythm)null), "Checking null is not interned");
+		
+		TabSymbol other = new TabSymbol(mod){
+			@Override
+			public TabSymbol copy(){return this;}
+			@Override
+			public String getSymbol(TabString string){return "";}
+			@Override
+			public TabSymbol convertToRhythm(Rhythm r){return this;}
+			@Override
+			public TabSymbol removeRhythm(){return this;}
+			@Override
+			public boolean usesRhythm(){return false;}
+			@Override
+			public TabSymbol movingToNewString(TabString oldStr, TabString newStr){return this;}
+			@Override
+			public boolean load(ZabTokenReader reader){return false;}
+			@Override
+			public boolean save(PrintWriter writer){return false;}
+		};
+		assertTrue(other == SymbolPool.intern(other), "Checking unknown symbol types are returned unchanged");
+		
+		Pitch p = new Pitch(5);
+		Pitch pShared = SymbolPool.intern(p);
+		assertEquals(p, pShared, "Checking interned pitch is equal");
+		assertFalse(p == pShared, "Checking the given pitch is not kept");
+		assertTrue(pShared == SymbolPool.intern(new Pitch(5)), "Checking equal pitches are shared");
+		assertEquals(null, SymbolPool.intern((Pitch)null), "Checking null is not interned");
+		
+		Rhythm rShared = SymbolPool.intern(new Rhythm(3, 8));
+		assertTrue(rShared == SymbolPool.intern(new Rhythm(3, 8)), "Checking equal rhythms are shared");
+		assertEquals(null, SymbolPool.intern((Rhythm)null), "Checking null is not interned");
+		
+		TabModifier mShared = SymbolPool.intern(mod);
+		assertTrue(mShared == SymbolPool.intern(new TabModifier("a", "b")), "Checking equal modifiers are shared");
+		assertEquals(null, SymbolPool.intern((TabModifier)null), "Checking null is not interned");
+	}
+	
+	@Test
+	public void loadedPositionsAreShared(){
+		TabString s = new TabString(new Pitch(0));
+		assertTrue(s.load(new ZabTokenReader("0 \n2\nTabNote\n2 \na\nb\n1.0 \nTabNote\n2 \na\nb\n2.0 \n")), "Checking load successful");
+		TabPosition first = s.get(0);
+		TabPosition second = s.get(1);
+		assertTrue(first.getSymbol() == second.getSymbol(), "Checking loaded notes share one symbol");
+		assertTrue(first.getSymbol() == SymbolPool.note(2, mod), "Checking loaded notes use the pool");
+	}
+	
+	@Test
+	public void size(){
+		assertEquals(0, SymbolPool.size(), "Checking pool is empty");
+		SymbolPool.note(1, mod);
+		assertEquals(3, SymbolPool.size(), "Checking note, pitch, and modifier are in the pool");
+		SymbolPool.note(1, new TabModifier("a", "b"));
+		assertEquals(3, SymbolPool.size(), "Checking an equal note is not added");
+	}
+	
+	@Test
+	public void clear(){
+		TabNote n = SymbolPool.note(1, mod);
+		SymbolPool.clear();
+		assertEquals(0, SymbolPool.size(), "Checking pool is empty");
+		assertFalse(n == SymbolPool.note(1, mod), "Checking notes from before the pool was cleared are not reused");
+	}
+	
+	@AfterEach
+	public void end(){}
+	
+}
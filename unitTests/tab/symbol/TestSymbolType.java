@@ -0,0 +1,82 @@
+package tab.symbol;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import appUtils.ZabAppSettings;
+import music.Rhythm;
+
+public class TestSymbolType{
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+
+	@BeforeEach
+	public void setup(){}
+
+	@Test
+	public void count(){
+		assertEquals(3, SymbolType.count(), "Checking every kind of symbol counted");
+	}
+
+	@Test
+	public void isCode(){
+		assertTrue(SymbolType.isCode(SymbolType.DEAD_NOTE), "Checking first code valid");
+		assertTrue(SymbolType.isCode(SymbolType.NOTE_RHYTHM), "Checking last code valid");
+		assertFalse(SymbolType.isCode(-1), "Checking negative code invalid");
+		assertFalse(SymbolType.isCode(SymbolType.count()), "Checking code past the end invalid");
+	}
+
+	@Test
+	public void codeSymbol(){
+		assertEquals(SymbolType.DEAD_NOTE, SymbolType.code(SymbolPool.deadNote()), "Checking dead note code");
+		assertEquals(SymbolType.NOTE, SymbolType.code(new TabNote(3)), "Checking note code");
+		assertEquals(SymbolType.NOTE_RHYTHM, SymbolType.code(new TabNoteRhythm(3, new Rhythm(1, 4))), "Checking rhythm note code");
+		assertEquals(-1, SymbolType.code((TabSymbol)null), "Checking null has no code");
+	}
+
+	@Test
+	public void codeClass(){
+		assertEquals(SymbolType.NOTE, SymbolType.code(TabNote.class), "Checking note code");
+		assertEquals(-1, SymbolType.code(TabPitch.class), "Checking a class without a code");
+	}
+
+	@Test
+	public void codeName(){
+		assertEquals(SymbolType.DEAD_NOTE, SymbolType.code("TabDeadNote"), "Checking dead note code");
+		assertEquals(SymbolType.NOTE, SymbolType.code("TabNote"), "Checking note code");
+		assertEquals(SymbolType.NOTE_RHYTHM, SymbolType.code("TabNoteRhythm"), "Checking rhythm note code");
+		assertEquals(-1, SymbolType.code("fake class"), "Checking invalid name has no code");
+	}
+
+	@Test
+	public void type(){
+		for(int i = 0; i < SymbolType.count(); i++){
+			assertEquals(i, SymbolType.code(SymbolType.type(i)), "Checking the class of a code has that code");
+		}
+		assertNull(SymbolType.type(-1), "Checking invalid code has no class");
+	}
+
+	@Test
+	public void create(){
+		for(int i = 0; i < SymbolType.count(); i++){
+			assertEquals(SymbolType.type(i), SymbolType.create(i).getClass(), "Checking the symbol is of the kind of the code");
+		}
+		assertNotSame(SymbolPool.deadNote(), SymbolType.create(SymbolType.DEAD_NOTE), "Checking a new symbol is made");
+		assertNull(SymbolType.create(SymbolType.count()), "Checking invalid code makes no symbol");
+	}
+
+	@AfterEach
+	public void end(){}
+
+}
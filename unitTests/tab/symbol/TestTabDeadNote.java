@@ -4,8 +4,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Scanner;
-
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import appUtils.ZabAppSettings;
 import music.Rhythm;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestTabDeadNote{
@@ -68,7 +67,7 @@ public class TestTabDeadNote{
 	
 	@Test
 	public void load(){
-		Scanner scan = new Scanner("\n");
+		ZabTokenReader scan = new ZabTokenReader("\n");
 		assertTrue(note.load(scan), "Checking load successful");
 		assertEquals(new TabModifier(), note.getModifier(), "Checking modifier unchanged after load");
 
@@ -2,16 +2,16 @@ package tab.symbol;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Scanner;
-
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import appUtils.ZabAppSettings;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestTabModifier{
@@ -74,7 +74,7 @@ public class TestTabModifier{
 	
 	@Test
 	public void load(){
-		Scanner scan = new Scanner("z\nq\n] [\n} {\n\n\n");
+		ZabTokenReader scan = new ZabTokenReader("z\nq\n] [\n} {\n\n\n");
 		assertTrue(mod.load(scan), "Checking load successful");
 		assertEquals("z", mod.getBefore(), "Checking before value loaded");
 		assertEquals("q", mod.getAfter(), "Checking after value loaded");
@@ -119,6 +119,12 @@ public class TestTabModifier{
 		assertFalse(m.equals(mod), "Checking objects are not equal");
 	}
 	
+	@Test
+	public void testHashCode(){
+		assertEquals(new TabModifier("(", ")").hashCode(), mod.hashCode(), "Checking equal modifiers have the same hash code");
+		assertNotEquals(empty.hashCode(), mod.hashCode(), "Checking different modifiers have different hash codes");
+	}
+	
 	@Test
 	public void testToString(){
 		assertEquals("[TabModifier: \"(\" \")\"]", mod.toString(), "Checking correct string");
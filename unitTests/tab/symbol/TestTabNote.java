@@ -4,8 +4,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Scanner;
-
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +13,7 @@ import appUtils.ZabAppSettings;
 import music.Pitch;
 import music.Rhythm;
 import util.Saveable;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestTabNote{
@@ -104,7 +103,7 @@ public class TestTabNote{
 	
 	@Test
 	public void load(){
-		Scanner scan = new Scanner("1 \n[\n]\n2 \no\np\n5");
+		ZabTokenReader scan = new ZabTokenReader("1 \n[\n]\n2 \no\np\n5");
 		assertTrue(note.load(scan), "Checking note loaded correctly");
 		assertEquals(1, note.getPitch().getNote(), "Checking pitch loaded correctly");
 		assertEquals("[", note.getModifier().getBefore(), "Checking before modifier loaded correctly");
@@ -2,11 +2,10 @@ package tab.symbol;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Scanner;
-
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +18,7 @@ import music.Rhythm;
 import music.TestTimeSignature;
 import music.TimeSignature;
 import util.Saveable;
+import util.ZabTokenReader;
 import util.testUtils.UtilsTest;
 
 public class TestTabNoteRhythm{
@@ -138,7 +138,7 @@ public class TestTabNoteRhythm{
 	
 	@Test
 	public void load(){
-		Scanner scan = new Scanner("4 \n3 2 \na\ns\nk");
+		ZabTokenReader scan = new ZabTokenReader("4 \n3 2 \na\ns\nk");
 		assertTrue(note.load(scan), "Checking load successful");
 		assertEquals(4, note.getPitch().getNote(), "Checking pitch correctly loaded");
 		assertEquals(new Rhythm(3, 2), note.getRhythm(), "Checking rhythm correctly loaded");
@@ -171,6 +171,13 @@ public class TestTabNoteRhythm{
 		assertFalse(n.equals(note), "Checking objects are not equal with different modifiers");
 	}
 	
+	@Test
+	public void testHashCode(){
+		assertEquals(new TabNoteRhythm(new Pitch(3), new Rhythm(1, 2), new TabModifier("[", "]")).hashCode(), note.hashCode(), 
+				"Checking equal notes have the same hash code");
+		assertNotEquals(new TabNoteRhythm(pitch, new Rhythm(20, 10), mod).hashCode(), note.hashCode(), "Checking notes with different rhythms have different hash codes");
+	}
+	
 	@Test
 	public void testToString(){
 		assertEquals(""
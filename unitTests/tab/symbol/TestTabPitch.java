@@ -2,11 +2,11 @@ package tab.symbol;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -19,6 +19,7 @@ import music.Music;
 import music.Pitch;
 import music.Rhythm;
 import tab.TabString;
+import util.ZabTokenReader;
 
 public class TestTabPitch{
 
@@ -46,7 +47,7 @@ public class TestTabPitch{
 		@Override
 		public boolean usesRhythm(){return false;}
 		@Override
-		public boolean load(Scanner reader){return false;}
+		public boolean load(ZabTokenReader reader){return false;}
 		@Override
 		public boolean save(PrintWriter writer){return false;}
 		@Override
@@ -149,6 +150,12 @@ public class TestTabPitch{
 		n = new TestPitchObject(note.getPitch(), new TabModifier("z", "x"));
 		assertFalse(note.equals(n), "Checking note not equal with different modifiers");
 	}
+	
+	@Test
+	public void testHashCode(){
+		assertEquals(new TestPitchObject(new Pitch(4), new TabModifier("{", "}")).hashCode(), note.hashCode(), "Checking equal notes have the same hash code");
+		assertNotEquals(new TestPitchObject(newPitch, mod).hashCode(), note.hashCode(), "Checking notes with different pitches have different hash codes");
+	}
 
 	@Test
 	public void testToString(){
@@ -2,11 +2,11 @@ package tab.symbol;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -19,6 +19,7 @@ import music.Pitch;
 import music.Rhythm;
 import tab.ModifierFactory;
 import tab.TabString;
+import util.ZabTokenReader;
 
 public class TestTabSymbol{
 	
@@ -46,7 +47,7 @@ public class TestTabSymbol{
 		@Override
 		public TabSymbol movingToNewString(TabString oldStr, TabString newStr){return this.copy();}
 		@Override
-		public boolean load(Scanner reader){return false;}
+		public boolean load(ZabTokenReader reader){return false;}
 		@Override
 		public boolean save(PrintWriter writer){return false;}
 		@Override
@@ -139,6 +140,12 @@ public class TestTabSymbol{
 		s = new TestSymbolObject(new TabModifier("a", "b"));
 		assertFalse(s.equals(symbol), "Checking objects are not equal");
 	}
+	
+	@Test
+	public void testHashCode(){
+		assertEquals(new TestSymbolObject(new TabModifier("[", "]")).hashCode(), symbol.hashCode(), "Checking equal symbols have the same hash code");
+		assertNotEquals(new TestSymbolObject(newMod).hashCode(), symbol.hashCode(), "Checking different symbols have different hash codes");
+	}
 
 	@Test
 	public void testToString(){
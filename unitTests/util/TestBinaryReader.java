@@ -0,0 +1,188 @@
+package util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import appUtils.ZabAppSettings;
+
+public class TestBinaryReader{
+
+	private BinaryWriter w;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+
+	@BeforeEach
+	public void setup(){
+		w = new BinaryWriter();
+	}
+
+	/** @return A reader of the bytes written to {@link #w} */
+	private BinaryReader reader(){
+		return new BinaryReader(w.toBuffer());
+	}
+
+	@Test
+	public void position(){
+		w.putInt(1);
+		w.putInt(2);
+		BinaryReader r = reader();
+		assertEquals(0, r.position(), "Checking reading starts at the beginning");
+		r.getInt();
+		assertEquals(4, r.position(), "Checking position moved");
+		r.position(0);
+		assertEquals(1, r.getInt(), "Checking position moved back");
+
+		ByteBuffer b = ByteBuffer.wrap(new byte[]{9, 1, 2});
+		b.position(1);
+		assertEquals(1, new BinaryReader(b).getByte(), "Checking reading starts at the position of the buffer");
+		assertEquals(1, b.position(), "Checking the given buffer is not moved");
+	}
+
+	@Test
+	public void remaining(){
+		w.putLong(1);
+		BinaryReader r = reader();
+		assertEquals(8, r.remaining(), "Checking bytes remaining");
+		r.getInt();
+		assertEquals(4, r.remaining(), "Checking bytes remaining after reading");
+	}
+
+	@Test
+	public void section(){
+		w.putInt(1);
+		w.putInt(2);
+		w.putInt(3);
+		BinaryReader r = reader();
+		BinaryReader s = r.section(4, 4);
+		assertEquals(4, s.remaining(), "Checking section length");
+		assertEquals(2, s.getInt(), "Checking section read");
+		assertEquals(0, r.position(), "Checking the reader is not moved");
+		assertThrows(BufferUnderflowException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				r.section(8, 8);
+			}
+		}, "Checking a section past the end fails");
+		assertThrows(BufferUnderflowException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				r.section(-1, 2);
+			}
+		}, "Checking a negative section fails");
+	}
+
+	@Test
+	public void getByte(){
+		w.putByte(200);
+		assertEquals(200, reader().getByte(), "Checking unsigned byte read");
+	}
+
+	@Test
+	public void getBoolean(){
+		w.putBoolean(true);
+		w.putBoolean(false);
+		BinaryReader r = reader();
+		assertTrue(r.getBoolean(), "Checking true read");
+		assertFalse(r.getBoolean(), "Checking false read");
+	}
+
+	@Test
+	public void getInt(){
+		w.putInt(-7);
+		assertEquals(-7, reader().getInt(), "Checking int read");
+		assertThrows(BufferUnderflowException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				new BinaryReader(ByteBuffer.allocate(2)).getInt();
+			}
+		}, "Checking reading past the end fails");
+	}
+
+	@Test
+	public void getLong(){
+		w.putLong(Long.MIN_VALUE);
+		assertEquals(Long.MIN_VALUE, reader().getLong(), "Checking long read");
+	}
+
+	@Test
+	public void getDouble(){
+		w.putDouble(0.1 + 0.2);
+		assertEquals(0.1 + 0.2, reader().getDouble(), "Checking double read exactly");
+	}
+
+	@Test
+	public void getVarLong(){
+		long[] values = new long[]{0, 1, 127, 128, 300, 1L << 40, Long.MAX_VALUE, -1};
+		for(long v : values) w.putVarLong(v);
+		BinaryReader r = reader();
+		for(long v : values) assertEquals(v, r.getVarLong(), "Checking variable length integer read");
+
+		byte[] tooLong = new byte[11];
+		for(int i = 0; i < tooLong.length; i++) tooLong[i] = (byte)0x80;
+		assertThrows(IllegalStateException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				new BinaryReader(ByteBuffer.wrap(tooLong)).getVarLong();
+			}
+		}, "Checking an integer which is too long fails");
+	}
+
+	@Test
+	public void getVarInt(){
+		w.putVarLong(12345);
+		w.putVarLong(1L << 40);
+		BinaryReader r = reader();
+		assertEquals(12345, r.getVarInt(), "Checking int read");
+		assertThrows(IllegalStateException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				r.getVarInt();
+			}
+		}, "Checking an integer too large for an int fails");
+	}
+
+	@Test
+	public void getSignedVarLong(){
+		long[] values = new long[]{0, -1, 1, -64, 64, Long.MIN_VALUE, Long.MAX_VALUE};
+		for(long v : values) w.putSignedVarLong(v);
+		BinaryReader r = reader();
+		for(long v : values) assertEquals(v, r.getSignedVarLong(), "Checking signed variable length integer read");
+	}
+
+	@Test
+	public void getString(){
+		w.putString("abc é\n");
+		w.putString("");
+		BinaryReader r = reader();
+		assertEquals("abc é\n", r.getString(), "Checking string read");
+		assertEquals("", r.getString(), "Checking empty string read");
+
+		w = new BinaryWriter();
+		w.putVarLong(5);
+		w.putByte('a');
+		assertThrows(BufferUnderflowException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				reader().getString();
+			}
+		}, "Checking a string longer than the bytes fails");
+	}
+
+	@AfterEach
+	public void end(){}
+
+}
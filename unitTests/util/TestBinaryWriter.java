@@ -0,0 +1,135 @@
+package util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import appUtils.ZabAppSettings;
+
+public class TestBinaryWriter{
+
+	private BinaryWriter w;
+
+	@BeforeAll
+	public static void init(){
+		ZabAppSettings.init();
+	}
+
+	@BeforeEach
+	public void setup(){
+		w = new BinaryWriter(1);
+	}
+
+	/** @return The bytes written to {@link #w} */
+	private byte[] written(){
+		ByteBuffer b = w.toBuffer();
+		byte[] bytes = new byte[b.remaining()];
+		b.get(bytes);
+		return bytes;
+	}
+
+	@Test
+	public void size(){
+		assertEquals(0, w.size(), "Checking no bytes written");
+		w.putInt(3);
+		w.putByte(1);
+		assertEquals(5, w.size(), "Checking bytes written");
+	}
+
+	@Test
+	public void putByte(){
+		w.putByte(0xAB);
+		w.putByte(0x1FF);
+		assertArrayEquals(new byte[]{(byte)0xAB, (byte)0xFF}, written(), "Checking the lowest 8 bits written");
+	}
+
+	@Test
+	public void putBoolean(){
+		w.putBoolean(true);
+		w.putBoolean(false);
+		assertArrayEquals(new byte[]{1, 0}, written(), "Checking booleans written");
+	}
+
+	@Test
+	public void putInt(){
+		w.putInt(0x01020304);
+		assertArrayEquals(new byte[]{1, 2, 3, 4}, written(), "Checking int written big endian");
+	}
+
+	@Test
+	public void putLong(){
+		w.putLong(-1);
+		assertEquals(8, w.size(), "Checking 8 bytes written");
+	}
+
+	@Test
+	public void putDouble(){
+		w.putDouble(1.5);
+		assertEquals(1.5, w.toBuffer().getDouble(), "Checking double written exactly");
+	}
+
+	@Test
+	public void putVarLong(){
+		w.putVarLong(0);
+		w.putVarLong(127);
+		w.putVarLong(128);
+		w.putVarLong(300);
+		assertArrayEquals(new byte[]{0, 127, (byte)0x80, 1, (byte)0xAC, 2}, written(), "Checking variable length integers written");
+		w = new BinaryWriter();
+		w.putVarLong(-1);
+		assertEquals(10, w.size(), "Checking a negative number uses 10 bytes");
+	}
+
+	@Test
+	public void putSignedVarLong(){
+		w.putSignedVarLong(0);
+		w.putSignedVarLong(-1);
+		w.putSignedVarLong(1);
+		w.putSignedVarLong(-64);
+		assertArrayEquals(new byte[]{0, 1, 2, 127}, written(), "Checking small signed numbers use one byte");
+	}
+
+	@Test
+	public void putString(){
+		w.putString("ab");
+		w.putString("");
+		assertArrayEquals(new byte[]{2, 'a', 'b', 0}, written(), "Checking strings written with their length");
+	}
+
+	@Test
+	public void putBytes(){
+		w.putBytes(new byte[]{1, 2});
+		w.putBytes(ByteBuffer.wrap(new byte[]{3, 4, 5}));
+		assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, written(), "Checking bytes written");
+	}
+
+	@Test
+	public void toBuffer(){
+		w.putByte(1);
+		ByteBuffer b = w.toBuffer();
+		w.putByte(2);
+		assertEquals(1, b.remaining(), "Checking later bytes are not in the buffer");
+		assertTrue(b.isReadOnly(), "Checking the buffer cannot be modified");
+	}
+
+	@Test
+	public void writeTo() throws Exception{
+		for(int i = 0; i < 1000; i++) w.putInt(i);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		w.writeTo(Channels.newChannel(out));
+		assertArrayEquals(written(), out.toByteArray(), "Checking every byte written to the channel");
+	}
+
+	@AfterEach
+	public void end(){}
+
+}
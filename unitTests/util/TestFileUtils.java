@@ -1,13 +1,20 @@
 package util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 
 import appUtils.ZabAppSettings;
 import util.testUtils.UtilsTest;
@@ -61,6 +68,62 @@ public class TestFileUtils{
 		assertEquals(null, FileUtils.extendToZab(null), "Checking null returned on null file");
 	}
 	
+	@Test
+	public void tempFile(){
+		File file = new File(UtilsTest.UNIT_PATH + "/temp.zab");
+		assertEquals(new File(UtilsTest.UNIT_PATH + "/temp.zab.tmp"), FileUtils.tempFile(file), "Checking temporary file next to the file");
+	}
+	
+	@Test
+	public void read() throws IOException{
+		UtilsTest.createUnitFolder();
+		File file = new File(UtilsTest.UNIT_PATH + "/read");
+		FileUtils.write(file, ByteBuffer.wrap(new byte[]{1, 2, 3}));
+		assertEquals(ByteBuffer.wrap(new byte[]{1, 2, 3}), FileUtils.read(file), "Checking bytes read");
+		assertEquals(null, FileUtils.read(new File(UtilsTest.UNIT_PATH + "/missing")), "Checking a missing file is not read");
+		assertEquals(null, FileUtils.read(null), "Checking null is not read");
+	}
+	
+	@Test
+	public void write() throws IOException{
+		UtilsTest.createUnitFolder();
+		File file = new File(UtilsTest.UNIT_PATH + "/write");
+		FileUtils.write(file, ByteBuffer.wrap(new byte[]{1, 2, 3}));
+		assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(file.toPath()), "Checking bytes written");
+		FileUtils.write(file, ByteBuffer.wrap(new byte[]{4}));
+		assertArrayEquals(new byte[]{4}, Files.readAllBytes(file.toPath()), "Checking old bytes replaced");
+	}
+	
+	@Test
+	public void writeAtomic() throws IOException{
+		UtilsTest.createUnitFolder();
+		File file = new File(UtilsTest.UNIT_PATH + "/write");
+		FileUtils.write(file, ByteBuffer.wrap(new byte[]{1, 2, 3}));
+		FileUtils.writeAtomic(file, ByteBuffer.wrap(new byte[]{4, 5}));
+		assertArrayEquals(new byte[]{4, 5}, Files.readAllBytes(file.toPath()), "Checking old bytes replaced");
+		assertFalse(FileUtils.tempFile(file).exists(), "Checking temporary file removed");
+		
+		final File missing = new File(UtilsTest.UNIT_PATH + "/missing/write");
+		assertThrows(IOException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				FileUtils.writeAtomic(missing, ByteBuffer.wrap(new byte[]{1}));
+			}
+		}, "Checking a file in a missing folder cannot be written");
+	}
+	
+	@Test
+	public void move() throws IOException{
+		UtilsTest.createUnitFolder();
+		File from = new File(UtilsTest.UNIT_PATH + "/from");
+		File to = new File(UtilsTest.UNIT_PATH + "/to");
+		FileUtils.write(from, ByteBuffer.wrap(new byte[]{1}));
+		FileUtils.write(to, ByteBuffer.wrap(new byte[]{2, 3}));
+		FileUtils.move(from, to);
+		assertFalse(from.exists(), "Checking the file moved");
+		assertArrayEquals(new byte[]{1}, Files.readAllBytes(to.toPath()), "Checking the file replaced");
+	}
+	
 	@AfterEach
 	public void end(){
 		UtilsTest.deleteUnitFolder();
@@ -8,7 +8,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintWriter;
-import java.util.Scanner;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -20,7 +19,7 @@ import util.testUtils.UtilsTest;
 
 public class TestSaveable{
 
-	private Scanner scan;
+	private ZabTokenReader scan;
 	private SingleLine saveObj;
 	private SingleLine[] saveObjs;
 	private DoubleLine saveLine;
@@ -32,7 +31,7 @@ public class TestSaveable{
 	private class SingleLine implements Saveable{
 		public int value = 0;
 		@Override
-		public boolean load(Scanner reader){
+		public boolean load(ZabTokenReader reader){
 			value = reader.nextInt();
 			
 			// Case for throwing exception
@@ -64,7 +63,7 @@ public class TestSaveable{
 		Boolean b = true;
 		String c = "";
 		@Override
-		public boolean load(Scanner reader){
+		public boolean load(ZabTokenReader reader){
 			a = Saveable.loadInt(reader);
 			b = Saveable.loadBool(reader);
 			reader.nextLine();
@@ -98,7 +97,7 @@ public class TestSaveable{
 	
 	@Test
 	public void loadObject(){
-		scan = new Scanner(""
+		scan = new ZabTokenReader(""
 				+ "true false 3 -2 3 387246587654 3.5345 -7.2345 2.1436543764765476 0\n"
 				+ "word\n"
 				+ "space word\n"
@@ -141,7 +140,7 @@ public class TestSaveable{
 	
 	@Test
 	public void loadObjects(){
-		scan = new Scanner("test\na big\nfinal line");
+		scan = new ZabTokenReader("test\na big\nfinal line");
 		Object[] load = Saveable.loadObjects(scan, 3, 5);
 		assertNotEquals(null, load, "Checking returned value is not null");
 		assertEquals("test", load[0], "Checking value loaded from list");
@@ -149,14 +148,14 @@ public class TestSaveable{
 		assertEquals("final line", load[2], "Checking value loaded from list");
 		
 		scan.close();
-		scan = new Scanner("test");
+		scan = new ZabTokenReader("test");
 		load = Saveable.loadObjects(scan, 2, 3);
 		assertEquals(null, load, "Checking null returned with size too large for values to load");
 	}
 	
 	@Test
 	public void loadBool(){
-		scan = new Scanner("false true 11");
+		scan = new ZabTokenReader("false true 11");
 		assertEquals(false, Saveable.loadBool(scan), "Checking boolean value loaded");
 		assertEquals(true, Saveable.loadBool(scan), "Checking boolean value loaded");
 		assertEquals(null, Saveable.loadBool(scan), "Checking null returned on invalid boolean value");
@@ -165,26 +164,26 @@ public class TestSaveable{
 	
 	@Test
 	public void loadBools(){
-		scan = new Scanner("false true");
+		scan = new ZabTokenReader("false true");
 		Object[] load = Saveable.loadBools(scan, 2);
 		assertNotEquals(null, load, "Checking returned value not null");
 		assertEquals(false, load[0], "Checking boolean value loaded");
 		assertEquals(true, load[1], "Checking boolean value loaded");
 		
 		scan.close();
-		scan = new Scanner("false");
+		scan = new ZabTokenReader("false");
 		load = Saveable.loadBools(scan, 2);
 		assertEquals(null, load, "Checking null returned with size too big");
 		
 		scan.close();
-		scan = new Scanner("false s");
+		scan = new ZabTokenReader("false s");
 		load = Saveable.loadBools(scan, 2);
 		assertEquals(null, load, "Checking null returned with invalid boolean value");
 	}
 	
 	@Test
 	public void loadInt(){
-		scan = new Scanner("1 -3 1.1 a");
+		scan = new ZabTokenReader("1 -3 1.1 a");
 		assertEquals(1, Saveable.loadInt(scan), "Checking integer value loaded");
 		assertEquals(-3, Saveable.loadInt(scan), "Checking integer value loaded");
 		assertEquals(null, Saveable.loadInt(scan), "Checking null returned on invalid integer value");
@@ -194,26 +193,26 @@ public class TestSaveable{
 	
 	@Test
 	public void loadInts(){
-		scan = new Scanner("1 2");
+		scan = new ZabTokenReader("1 2");
 		Object[] load = Saveable.loadInts(scan, 2);
 		assertNotEquals(null, load, "Checking returned value not null");
 		assertEquals(1, load[0], "Checking integer value loaded");
 		assertEquals(2, load[1], "Checking integer value loaded");
 		
 		scan.close();
-		scan = new Scanner("3");
+		scan = new ZabTokenReader("3");
 		load = Saveable.loadInts(scan, 2);
 		assertEquals(null, load, "Checking null returned with size too big");
 		
 		scan.close();
-		scan = new Scanner("1 s");
+		scan = new ZabTokenReader("1 s");
 		load = Saveable.loadInts(scan, 2);
 		assertEquals(null, load, "Checking null returned with invalid integer value");
 	}
 	
 	@Test
 	public void loadLong(){
-		scan = new Scanner("1 -3 1.1 a");
+		scan = new ZabTokenReader("1 -3 1.1 a");
 		assertEquals(1L, Saveable.loadLong(scan), "Checking long value loaded");
 		assertEquals(-3L, Saveable.loadLong(scan), "Checking long value loaded");
 		assertEquals(null, Saveable.loadLong(scan), "Checking null returned on invalid long value");
@@ -223,26 +222,26 @@ public class TestSaveable{
 	
 	@Test
 	public void loadLongs(){
-		scan = new Scanner("1 2");
+		scan = new ZabTokenReader("1 2");
 		Object[] load = Saveable.loadLongs(scan, 2);
 		assertNotEquals(null, load, "Checking returned value not null");
 		assertEquals(1L, load[0], "Checking integer value loaded");
 		assertEquals(2L, load[1], "Checking integer value loaded");
 		
 		scan.close();
-		scan = new Scanner("3");
+		scan = new ZabTokenReader("3");
 		load = Saveable.loadLongs(scan, 2);
 		assertEquals(null, load, "Checking null returned with size too big");
 		
 		scan.close();
-		scan = new Scanner("1 s");
+		scan = new ZabTokenReader("1 s");
 		load = Saveable.loadLongs(scan, 2);
 		assertEquals(null, load, "Checking null returned with invalid integer value");
 	}
 	
 	@Test
 	public void loadFloat(){
-		scan = new Scanner("1.1 -3.43 a");
+		scan = new ZabTokenReader("1.1 -3.43 a");
 		assertEquals(1.1F, Saveable.loadFloat(scan), "Checking float value loaded");
 		assertEquals(-3.43F, Saveable.loadFloat(scan), "Checking float value loaded");
 		assertEquals(null, Saveable.loadFloat(scan), "Checking null returned non number value");
@@ -251,26 +250,26 @@ public class TestSaveable{
 	
 	@Test
 	public void loadFloats(){
-		scan = new Scanner("1.6 2.2");
+		scan = new ZabTokenReader("1.6 2.2");
 		Object[] load = Saveable.loadFloats(scan, 2);
 		assertNotEquals(null, load, "Checking returned value not null");
 		assertEquals(1.6F, load[0], "Checking float value loaded");
 		assertEquals(2.2F, load[1], "Checking float value loaded");
 		
 		scan.close();
-		scan = new Scanner("-2.5");
+		scan = new ZabTokenReader("-2.5");
 		load = Saveable.loadFloats(scan, 2);
 		assertEquals(null, load, "Checking null returned with size too big");
 		
 		scan.close();
-		scan = new Scanner("1.7 s");
+		scan = new ZabTokenReader("1.7 s");
 		load = Saveable.loadFloats(scan, 2);
 		assertEquals(null, load, "Checking null returned with invalid float value");
 	}
 	
 	@Test
 	public void loadDouble(){
-		scan = new Scanner("1.0 -3.2 a");
+		scan = new ZabTokenReader("1.0 -3.2 a");
 		assertEquals(1.0, Saveable.loadDouble(scan), "Checking double value loaded");
 		assertEquals(-3.2, Saveable.loadDouble(scan), "Checking double value loaded");
 		assertEquals(null, Saveable.loadDouble(scan), "Checking null returned on invalid double value");
@@ -279,26 +278,26 @@ public class TestSaveable{
 	
 	@Test
 	public void loadDoubles(){
-		scan = new Scanner("1.2 2.4");
+		scan = new ZabTokenReader("1.2 2.4");
 		Object[] load = Saveable.loadDoubles(scan, 2);
 		assertNotEquals(null, load, "Checking returned value not null");
 		assertEquals(1.2, load[0], "Checking double value loaded");
 		assertEquals(2.4, load[1], "Checking double value loaded");
 		
 		scan.close();
-		scan = new Scanner("3.3");
+		scan = new ZabTokenReader("3.3");
 		load = Saveable.loadDoubles(scan, 2);
 		assertEquals(null, load, "Checking null returned with size too big");
 		
 		scan.close();
-		scan = new Scanner("1.3 s");
+		scan = new ZabTokenReader("1.3 s");
 		load = Saveable.loadDoubles(scan, 2);
 		assertEquals(null, load, "Checking null returned with invalid double value");
 	}
 	
 	@Test
 	public void loadString(){
-		scan = new Scanner("a\nword 1\nword big words\n\ntest\n");
+		scan = new ZabTokenReader("a\nword 1\nword big words\n\ntest\n");
 		scan.nextLine();
 		assertEquals("word 1", Saveable.loadString(scan), "Checking string loaded from next line");
 		assertEquals("word big words", Saveable.loadString(scan), "Checking string loaded");
@@ -309,7 +308,7 @@ public class TestSaveable{
 	
 	@Test
 	public void loadStrings(){
-		scan = new Scanner("a1 word\nbig boi words\n\n");
+		scan = new ZabTokenReader("a1 word\nbig boi words\n\n");
 		Object[] load = Saveable.loadStrings(scan, 3);
 		assertNotEquals(null, load, "Checking returned value not null");
 		assertEquals("a1 word", load[0], "Checking string loaded");
@@ -317,14 +316,14 @@ public class TestSaveable{
 		assertEquals("", load[2], "Checking empty string loaded");
 		
 		scan.close();
-		scan = new Scanner("yes w");
+		scan = new ZabTokenReader("yes w");
 		load = Saveable.loadStrings(scan, 2);
 		assertEquals(null, load, "Checking null returned with size too big");
 	}
 	
 	@Test
 	public void load(){
-		scan = new Scanner("1 2 -1");
+		scan = new ZabTokenReader("1 2 -1");
 		assertEquals(false, Saveable.load(null, saveObj), "Checking false returned on null scanner");
 		assertEquals(false, Saveable.load(scan, null), "Checking false returned on null object to save");
 		
@@ -333,7 +332,7 @@ public class TestSaveable{
 		assertEquals(false, Saveable.load(scan, saveObj), "Checking false returned on exception");
 		
 		scan.close();
-		scan = new Scanner("1 false\na b c");
+		scan = new ZabTokenReader("1 false\na b c");
 		assertTrue(saveLine.load(scan), "Checking multiple line object loads");
 		assertEquals(1, saveLine.a, "Checking values loaded correctly");
 		assertEquals(false, saveLine.b, "Checking values loaded correctly");
@@ -342,19 +341,19 @@ public class TestSaveable{
 	
 	@Test
 	public void loadMultiple(){
-		scan = new Scanner("1 10");
+		scan = new ZabTokenReader("1 10");
 		assertEquals(false, Saveable.loadMultiple(null, saveObjs), "Checking false returned on null scanner");
 		assertEquals(false, Saveable.loadMultiple(scan, null), "Checking false returned on null list to save");
 		assertEquals(false, Saveable.loadMultiple(scan, new Saveable[]{new SingleLine(), null}), "Checking false returned on list with a null value");
 		
 		scan.close();
-		scan = new Scanner("1 10");
+		scan = new ZabTokenReader("1 10");
 		assertEquals(true, Saveable.loadMultiple(scan, saveObjs), "Checking true returned with loading multiple objects"); 
 		assertEquals(1, saveObjs[0].value, "Checking values loaded in order"); 
 		assertEquals(10, saveObjs[1].value, "Checking values loaded in order");
 		
 		scan.close();
-		scan = new Scanner("2 10");
+		scan = new ZabTokenReader("2 10");
 		assertEquals(false, Saveable.loadMultiple(scan, saveObjs), "Checking false returned with invalid loaded value"); 
 	}
 	
@@ -431,7 +430,7 @@ public class TestSaveable{
 	
 	@Test
 	public void nextLine(){
-		scan = new Scanner("a");
+		scan = new ZabTokenReader("a");
 		assertTrue(Saveable.nextLine(scan), "Checking next line was advanced");
 		assertFalse(Saveable.nextLine(scan), "Checking false returned on error, nothing left to advance");
 	}
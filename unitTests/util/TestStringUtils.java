@@ -89,6 +89,43 @@ public class TestStringUtils{
 				"Checking add longer than fill length");
 	}
 	
+	@Test
+	public void combineStringsWithFillerBuilder(){
+		StringBuilder[] main = new StringBuilder[combineMain.length];
+		for(int i = 0; i < main.length; i++) main[i] = new StringBuilder(combineMain[i]);
+		StringUtils.combineStringsWithFiller(main, combineAdd, "<", ">", '-', true);
+		assertEquals("asd<---1>", main[0].toString(), "Checking builder filler before");
+		assertEquals("qwe<asdf>", main[1].toString(), "Checking builder longest string");
+		assertEquals("123<-car>", main[2].toString(), "Checking builder filler before");
+		assertEquals("zxc<---->", main[3].toString(), "Checking builder empty string");
+		
+		StringUtils.combineStringsWithFiller(main, combineAdd, "", "", ' ', false);
+		assertEquals("asd<---1>1   ", main[0].toString(), "Checking builder appended again, filler after");
+		assertEquals("123<-car>car ", main[2].toString(), "Checking builder appended again, filler after");
+		
+		final StringBuilder[] builders = main;
+		assertThrows(IllegalArgumentException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				StringUtils.combineStringsWithFiller(builders, new String[2], "", "", ' ', false);
+			}
+		}, "Checking error thrown with unequal list sizes");
+	}
+	
+	@Test
+	public void appendWithFiller(){
+		StringBuilder b = new StringBuilder("big word");
+		StringUtils.appendWithFiller(b, "z", 4, "(", ")", ' ', true);
+		assertEquals("big word(   z)", b.toString(), "Checking filler before");
+		
+		StringUtils.appendWithFiller(b, "z", 3, "", "", '-', false);
+		assertEquals("big word(   z)z--", b.toString(), "Checking filler after");
+		
+		b = new StringBuilder();
+		StringUtils.appendWithFiller(b, "ssss", 2, null, null, ' ', false);
+		assertEquals("nullssssnull", b.toString(), "Checking add longer than fill length, with null values");
+	}
+	
 	@AfterEach
 	public void end(){}
 	
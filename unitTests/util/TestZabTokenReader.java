@@ -0,0 +1,307 @@
+package util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import util.testUtils.UtilsTest;
+
+public class TestZabTokenReader{
+
+	private ZabTokenReader reader;
+
+	/**
+	 * Make a reader which only gives one character at a time, so that every token crosses the end of the buffer
+	 * @param text The text to read
+	 * @return The reader
+	 */
+	private static ZabTokenReader slow(String text){
+		return new ZabTokenReader(new StringReader(text){
+			@Override
+			public int read(char[] cbuf, int off, int len) throws IOException{
+				return super.read(cbuf, off, Math.min(1, len));
+			}
+		});
+	}
+
+	@BeforeEach
+	public void setup(){
+		reader = new ZabTokenReader("true 12 -3.5 \nline two\r\nend");
+	}
+
+	@Test
+	public void constructorString(){
+		assertEquals("true", reader.next(), "Checking text read");
+	}
+
+	@Test
+	public void constructorReader(){
+		reader = slow("a b\nc");
+		assertEquals("a", reader.next(), "Checking token read");
+		assertEquals(" b", reader.nextLine(), "Checking line read");
+		assertEquals("c", reader.next(), "Checking token read");
+		assertFalse(reader.hasNext(), "Checking nothing left");
+	}
+
+	@Test
+	public void constructorInputStream(){
+		reader = new ZabTokenReader(new ByteArrayInputStream("5 6".getBytes()));
+		assertEquals(5, reader.nextInt(), "Checking stream read");
+		assertEquals(6, reader.nextInt(), "Checking stream read");
+	}
+
+	@Test
+	public void constructorFile() throws FileNotFoundException{
+		UtilsTest.createUnitFolder();
+		File file = new File(UtilsTest.UNIT_PATH + "/" + UtilsTest.UNIT_NAME + ".txt");
+		PrintWriter w = new PrintWriter(file);
+		w.print("false 1.25\n");
+		w.close();
+		reader = new ZabTokenReader(file);
+		assertFalse(reader.nextBoolean(), "Checking file read");
+		assertEquals(1.25, reader.nextDouble(), "Checking file read");
+		reader.close();
+
+		assertThrows(FileNotFoundException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				new ZabTokenReader(new File(UtilsTest.UNIT_PATH + "/missing"));
+			}
+		}, "Checking a missing file cannot be read");
+	}
+
+	@Test
+	public void hasNext(){
+		assertTrue(reader.hasNext(), "Checking a token is left");
+		assertTrue(reader.hasNext(), "Checking hasNext does not read the token");
+		assertEquals("true", reader.next(), "Checking token not read");
+
+		reader = new ZabTokenReader(" \n \t ");
+		assertFalse(reader.hasNext(), "Checking only whitespace has no token");
+		assertEquals(" ", reader.nextLine(), "Checking hasNext does not read whitespace");
+	}
+
+	@Test
+	public void hasNextLine(){
+		assertTrue(reader.hasNextLine(), "Checking a line is left");
+		reader = new ZabTokenReader("\n");
+		assertTrue(reader.hasNextLine(), "Checking an empty line is left");
+		reader.nextLine();
+		assertFalse(reader.hasNextLine(), "Checking no line is left");
+	}
+
+	@Test
+	public void next(){
+		assertEquals("true", reader.next(), "Checking token read");
+		assertEquals("12", reader.next(), "Checking token read");
+		assertEquals("-3.5", reader.next(), "Checking token read");
+		assertEquals("line", reader.next(), "Checking token read over a new line");
+		assertEquals("two", reader.next(), "Checking token read");
+		assertEquals("end", reader.next(), "Checking the last token read");
+		assertThrows(NoSuchElementException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				reader.next();
+			}
+		}, "Checking no token left");
+
+		StringBuilder sb = new StringBuilder();
+		for(int i = 0; i < 20000; i++) sb.append((char)('a' + i % 26));
+		String longToken = sb.toString();
+		reader = slow("x " + longToken + " y");
+		assertEquals("x", reader.next(), "Checking token read");
+		assertEquals(longToken, reader.next(), "Checking a token longer than the buffer read");
+		assertEquals("y", reader.next(), "Checking token read");
+	}
+
+	@Test
+	public void nextLine(){
+		assertEquals("true 12 -3.5 ", reader.nextLine(), "Checking line read");
+		assertEquals("line two", reader.nextLine(), "Checking line ending with a carriage return read");
+		assertEquals("end", reader.nextLine(), "Checking last line without a separator read");
+		assertThrows(NoSuchElementException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				reader.nextLine();
+			}
+		}, "Checking no line left");
+
+		reader = slow("a\r\r\nb\rc d\n\n");
+		assertEquals("a", reader.nextLine(), "Checking line read");
+		assertEquals("", reader.nextLine(), "Checking carriage return and new line read as one separator");
+		assertEquals("b", reader.nextLine(), "Checking line read");
+		assertEquals("c", reader.nextLine(), "Checking line read");
+		assertEquals("d", reader.nextLine(), "Checking line read");
+		assertEquals("", reader.nextLine(), "Checking empty line read");
+		assertFalse(reader.hasNextLine(), "Checking no line left");
+
+		reader = new ZabTokenReader("5 \nnext");
+		reader.nextInt();
+		assertEquals(" ", reader.nextLine(), "Checking the rest of the line read after a token");
+		assertEquals("next", reader.nextLine(), "Checking next line read");
+	}
+
+	@Test
+	public void nextBoolean(){
+		assertTrue(reader.nextBoolean(), "Checking boolean read");
+		assertThrows(InputMismatchException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				reader.nextBoolean();
+			}
+		}, "Checking a number is not a boolean");
+		assertEquals(12, reader.nextInt(), "Checking the token was not read");
+
+		reader = new ZabTokenReader("FALSE True truer");
+		assertFalse(reader.nextBoolean(), "Checking case is ignored");
+		assertTrue(reader.nextBoolean(), "Checking case is ignored");
+		assertThrows(InputMismatchException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				reader.nextBoolean();
+			}
+		}, "Checking a longer word is not a boolean");
+	}
+
+	@Test
+	public void nextInt(){
+		reader = new ZabTokenReader("0 -12 +7 2147483647 -2147483648 2147483648 1.0 - 00012");
+		assertEquals(0, reader.nextInt(), "Checking int read");
+		assertEquals(-12, reader.nextInt(), "Checking negative int read");
+		assertEquals(7, reader.nextInt(), "Checking int with a plus sign read");
+		assertEquals(Integer.MAX_VALUE, reader.nextInt(), "Checking largest int read");
+		assertEquals(Integer.MIN_VALUE, reader.nextInt(), "Checking smallest int read");
+		assertThrows(InputMismatchException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				reader.nextInt();
+			}
+		}, "Checking an int which is too large fails");
+		assertEquals(2147483648L, reader.nextLong(), "Checking the token was not read");
+		assertThrows(InputMismatchException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				reader.nextInt();
+			}
+		}, "Checking a decimal is not an int");
+		reader.next();
+		assertThrows(InputMismatchException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				reader.nextInt();
+			}
+		}, "Checking a sign alone is not an int");
+		reader.next();
+		assertEquals(12, reader.nextInt(), "Checking leading zeros read");
+	}
+
+	@Test
+	public void nextLong(){
+		reader = new ZabTokenReader("9223372036854775807 -9223372036854775808 9223372036854775808");
+		assertEquals(Long.MAX_VALUE, reader.nextLong(), "Checking largest long read");
+		assertEquals(Long.MIN_VALUE, reader.nextLong(), "Checking smallest long read");
+		assertThrows(InputMismatchException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				reader.nextLong();
+			}
+		}, "Checking a long which is too large fails");
+	}
+
+	@Test
+	public void nextFloat(){
+		reader = new ZabTokenReader("1.5 -0.1 3 x");
+		assertEquals(1.5f, reader.nextFloat(), "Checking float read");
+		assertEquals(-0.1f, reader.nextFloat(), "Checking float read");
+		assertEquals(3f, reader.nextFloat(), "Checking whole number read as a float");
+		assertThrows(InputMismatchException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				reader.nextFloat();
+			}
+		}, "Checking a word is not a float");
+	}
+
+	@Test
+	public void nextDouble(){
+		String[] values = new String[]{
+				"0", "0.0", "-0.0", "1", "-3.5", ".5", "5.", "0.1", "0.30000000000000004", "123456789012345", "1234567890123456789",
+				"1.0E-4", "1.7976931348623157E308", "4.9E-324", "2.2250738585072014E-308", "1e22", "1e23", "9007199254740993",
+				"NaN", "Infinity", "-Infinity", "+2.5", "1E+2", "0.000000000000000000000000001", "3.141592653589793"};
+		StringBuilder sb = new StringBuilder();
+		for(String v : values) sb.append(v).append(' ');
+		reader = new ZabTokenReader(sb.toString());
+		Scanner scan = new Scanner(sb.toString());
+		for(String v : values){
+			assertEquals(scan.nextDouble(), reader.nextDouble(), "Checking " + v + " read the same as a Scanner");
+		}
+		scan.close();
+
+		// Every double written by String.valueOf reads back exactly
+		java.util.Random rand = new java.util.Random(1);
+		for(int i = 0; i < 2000; i++){
+			double d = (i % 2 == 0) ? rand.nextDouble() * Math.pow(10, rand.nextInt(20) - 10) : Math.round(rand.nextDouble() * 100000) / 1000.0;
+			reader = new ZabTokenReader(String.valueOf(d));
+			assertEquals(d, reader.nextDouble(), "Checking " + d + " read exactly");
+		}
+
+		reader = new ZabTokenReader("1.2.3 1e 1x e5 . 7");
+		for(int i = 0; i < 5; i++){
+			assertThrows(InputMismatchException.class, new Executable(){
+				@Override
+				public void execute() throws Throwable{
+					reader.nextDouble();
+				}
+			}, "Checking an invalid decimal fails");
+			reader.next();
+		}
+		assertEquals(7, reader.nextDouble(), UtilsTest.DELTA, "Checking the next decimal read");
+	}
+
+	@Test
+	public void close(){
+		reader.close();
+		assertThrows(IllegalStateException.class, new Executable(){
+			@Override
+			public void execute() throws Throwable{
+				reader.next();
+			}
+		}, "Checking a closed reader cannot be read");
+		reader.close();
+
+		final boolean[] closed = new boolean[]{false};
+		Reader r = new StringReader("a"){
+			@Override
+			public void close(){
+				closed[0] = true;
+				super.close();
+			}
+		};
+		reader = new ZabTokenReader(r);
+		reader.close();
+		assertTrue(closed[0], "Checking the source was closed");
+	}
+
+	@AfterEach
+	public void end(){
+		UtilsTest.deleteUnitFolder();
+	}
+
+}